@@ -224,6 +224,11 @@ public class BlockInStream extends InputStream implements BoundedStream, Seekabl
     } else {
       factory = new GrpcDataReader.Factory(context, address, builder);
     }
+    if (address.getSendfileDataPort() > 0
+        && conf.getBoolean(PropertyKey.USER_STREAMING_READER_SENDFILE_ENABLED)) {
+      // Blocks the worker cannot send with sendfile are read with gRPC
+      factory = new SendfileDataReader.Factory(context, address, builder, factory);
+    }
     return new BlockInStream(factory, address, blockSource, blockId, blockSize);
   }
 
@@ -355,6 +360,14 @@ public class BlockInStream extends InputStream implements BoundedStream, Seekabl
 
     int lenCopy = len;
     try (DataReader reader = mDataReaderFactory.create(pos, len)) {
+      if (reader instanceof SendfileDataReader) {
+        // reads straight from the socket into the destination, without intermediate chunks
+        SendfileDataReader sendfileReader = (SendfileDataReader) reader;
+        int toRead = (int) Math.min(len, sendfileReader.remaining());
+        sendfileReader.read(b, off, toRead);
+        len -= toRead;
+        off += toRead;
+      }
       // We try to read len bytes instead of returning after reading one chunk because
       // it is not free to create/close a DataReader.
       while (len > 0) {
@@ -387,6 +400,17 @@ public class BlockInStream extends InputStream implements BoundedStream, Seekabl
     return mEOF ? 0 : mLength - mPos;
   }
 
+  /**
+   * Starts reading the block from the current position ahead of the first read. Streaming data
+   * readers then receive the data into their bounded buffer while other blocks are being read.
+   */
+  public void prefetch() throws IOException {
+    checkIfClosed();
+    if (mDataReader == null && mPos < mLength) {
+      mDataReader = mDataReaderFactory.create(mPos, mLength - mPos);
+    }
+  }
+
   @Override
   public void seek(long pos) throws IOException {
     checkIfClosed();
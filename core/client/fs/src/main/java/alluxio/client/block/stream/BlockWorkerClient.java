@@ -24,12 +24,16 @@ import alluxio.grpc.LoadRequest;
 import alluxio.grpc.LoadResponse;
 import alluxio.grpc.MoveBlockRequest;
 import alluxio.grpc.MoveBlockResponse;
+import alluxio.grpc.MoveBlocksRequest;
+import alluxio.grpc.MoveBlocksResponse;
 import alluxio.grpc.OpenLocalBlockRequest;
 import alluxio.grpc.OpenLocalBlockResponse;
 import alluxio.grpc.ReadRequest;
 import alluxio.grpc.ReadResponse;
 import alluxio.grpc.RemoveBlockRequest;
 import alluxio.grpc.RemoveBlockResponse;
+import alluxio.grpc.RemoveBlocksRequest;
+import alluxio.grpc.RemoveBlocksResponse;
 import alluxio.grpc.WriteRequest;
 import alluxio.grpc.WriteResponse;
 import alluxio.security.user.UserState;
@@ -40,6 +44,7 @@ import io.grpc.stub.StreamObserver;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.UUID;
 
 /**
  * gRPC client for worker communication.
@@ -134,6 +139,22 @@ public interface BlockWorkerClient extends Closeable {
    */
   MoveBlockResponse moveBlock(MoveBlockRequest request);
 
+  /**
+   * Removes a batch of blocks from worker.
+   * @param request the remove blocks request
+   * @return the response from server, with the status of the blocks failed to be removed
+   * @throws StatusRuntimeException if any error occurs
+   */
+  RemoveBlocksResponse removeBlocks(RemoveBlocksRequest request);
+
+  /**
+   * Moves a batch of blocks on worker.
+   * @param request the move blocks request
+   * @return the response from server, with the status of the blocks failed to be moved
+   * @throws StatusRuntimeException if any error occurs
+   */
+  MoveBlocksResponse moveBlocks(MoveBlocksRequest request);
+
   /**
    * Clear the worker metrics.
    *
@@ -175,4 +196,10 @@ public interface BlockWorkerClient extends Closeable {
    * @return the grpc server address
    */
   GrpcServerAddress getAddress();
+
+  /**
+   * @return the id of the authenticated streaming channel of this client, which the other data
+   *         servers of the worker accept as a proof of authentication
+   */
+  UUID getChannelId();
 }
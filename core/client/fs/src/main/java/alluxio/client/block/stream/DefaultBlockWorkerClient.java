@@ -35,12 +35,16 @@ import alluxio.grpc.LoadRequest;
 import alluxio.grpc.LoadResponse;
 import alluxio.grpc.MoveBlockRequest;
 import alluxio.grpc.MoveBlockResponse;
+import alluxio.grpc.MoveBlocksRequest;
+import alluxio.grpc.MoveBlocksResponse;
 import alluxio.grpc.OpenLocalBlockRequest;
 import alluxio.grpc.OpenLocalBlockResponse;
 import alluxio.grpc.ReadRequest;
 import alluxio.grpc.ReadResponse;
 import alluxio.grpc.RemoveBlockRequest;
 import alluxio.grpc.RemoveBlockResponse;
+import alluxio.grpc.RemoveBlocksRequest;
+import alluxio.grpc.RemoveBlocksResponse;
 import alluxio.grpc.WriteRequest;
 import alluxio.grpc.WriteResponse;
 import alluxio.resource.AlluxioResourceLeakDetectorFactory;
@@ -58,6 +62,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
@@ -221,6 +226,18 @@ public class DefaultBlockWorkerClient implements BlockWorkerClient {
         .moveBlock(request);
   }
 
+  @Override
+  public RemoveBlocksResponse removeBlocks(RemoveBlocksRequest request) {
+    return mRpcBlockingStub.withDeadlineAfter(mRpcTimeoutMs, TimeUnit.MILLISECONDS)
+        .removeBlocks(request);
+  }
+
+  @Override
+  public MoveBlocksResponse moveBlocks(MoveBlocksRequest request) {
+    return mRpcBlockingStub.withDeadlineAfter(mRpcTimeoutMs, TimeUnit.MILLISECONDS)
+        .moveBlocks(request);
+  }
+
   @Override
   public ClearMetricsResponse clearMetrics(ClearMetricsRequest request) {
     return mRpcBlockingStub.withDeadlineAfter(mRpcTimeoutMs, TimeUnit.MILLISECONDS)
@@ -261,4 +278,9 @@ public class DefaultBlockWorkerClient implements BlockWorkerClient {
   public GrpcServerAddress getAddress() {
     return mAddress;
   }
+
+  @Override
+  public UUID getChannelId() {
+    return mStreamingChannel.getChannelKey().getChannelId();
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.grpc.ReadRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An authenticated connection to the sendfile data server of a worker, which serves one read
+ * request after another. A connection is reusable once all the data of its last request has been
+ * read, and must be closed otherwise.
+ *
+ * The data is read from the socket without intermediate buffering, straight into the buffers of
+ * the caller.
+ */
+@NotThreadSafe
+public final class SendfileConnection implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(SendfileConnection.class);
+
+  private final Socket mSocket;
+  private final DataInputStream mInput;
+  private final DataOutputStream mOutput;
+
+  /**
+   * Connects to a sendfile data server and authenticates with the id of a channel already
+   * authenticated with the gRPC data server of the same worker.
+   *
+   * @param address the address of the sendfile data server
+   * @param channelId the id of the authenticated channel
+   * @param connectTimeoutMs the connection timeout in milliseconds
+   * @param dataTimeoutMs the timeout to wait for data in milliseconds
+   * @return the connection
+   */
+  public static SendfileConnection open(InetSocketAddress address, UUID channelId,
+      int connectTimeoutMs, int dataTimeoutMs) throws IOException {
+    Socket socket = new Socket();
+    try {
+      socket.setTcpNoDelay(true);
+      socket.connect(address, connectTimeoutMs);
+      socket.setSoTimeout(dataTimeoutMs);
+      SendfileConnection connection = new SendfileConnection(socket);
+      connection.mOutput.writeLong(channelId.getMostSignificantBits());
+      connection.mOutput.writeLong(channelId.getLeastSignificantBits());
+      return connection;
+    } catch (IOException | RuntimeException e) {
+      socket.close();
+      throw e;
+    }
+  }
+
+  private SendfileConnection(Socket socket) throws IOException {
+    mSocket = socket;
+    mInput = new DataInputStream(socket.getInputStream());
+    mOutput = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+  }
+
+  /**
+   * Sends a read request and waits for the length of the data the server is about to send.
+   *
+   * @param request the read request
+   * @return the length of the data to read, or -1 if the server cannot send the requested range
+   */
+  public long sendRequest(ReadRequest request) throws IOException {
+    request.writeDelimitedTo(mOutput);
+    mOutput.flush();
+    long length = mInput.readLong();
+    if (length < 0) {
+      byte[] message = new byte[mInput.readInt()];
+      mInput.readFully(message);
+      LOG.debug("Sendfile data server {} cannot send block {}: {}",
+          mSocket.getRemoteSocketAddress(), request.getBlockId(),
+          new String(message, StandardCharsets.UTF_8));
+      return -1;
+    }
+    return length;
+  }
+
+  /**
+   * Reads data of the current request.
+   *
+   * @param b the buffer to read the data into
+   * @param off the offset in the buffer
+   * @param len the number of bytes to read
+   */
+  public void readFully(byte[] b, int off, int len) throws IOException {
+    mInput.readFully(b, off, len);
+  }
+
+  /**
+   * @return whether the connection is closed
+   */
+  public boolean isClosed() {
+    return mSocket.isClosed();
+  }
+
+  @Override
+  public void close() throws IOException {
+    mSocket.close();
+  }
+
+  @Override
+  public String toString() {
+    return "SendfileConnection{" + mSocket + "}";
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.resource.DynamicResourcePool;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Class for managing the connections to the sendfile data server of a worker, so that reads do
+ * not pay for a connection setup each. A connection released with unread data must be closed
+ * first, and is then discarded on the next acquire.
+ */
+@ThreadSafe
+public final class SendfileConnectionPool extends DynamicResourcePool<SendfileConnection> {
+  private static final Logger LOG = LoggerFactory.getLogger(SendfileConnectionPool.class);
+  private static final int SENDFILE_CONNECTION_POOL_GC_THREADPOOL_SIZE = 1;
+  private static final ScheduledExecutorService GC_EXECUTOR =
+      new ScheduledThreadPoolExecutor(SENDFILE_CONNECTION_POOL_GC_THREADPOOL_SIZE,
+          ThreadFactoryUtils.build("SendfileConnectionPoolGcThreads-%d", true));
+  private static final Counter COUNTER = MetricsSystem.counter(
+      MetricKey.CLIENT_SENDFILE_CONNECTION_COUNT.getName());
+
+  private final InetSocketAddress mAddress;
+  private final ChannelIdProvider mChannelIdProvider;
+  private final int mConnectTimeoutMs;
+  private final int mDataTimeoutMs;
+  private final AlluxioConfiguration mConf;
+
+  /**
+   * Provides the id of a channel authenticated with the gRPC data server of the worker.
+   */
+  @FunctionalInterface
+  public interface ChannelIdProvider {
+    /**
+     * @return the id of an authenticated channel
+     */
+    UUID getChannelId() throws IOException;
+  }
+
+  /**
+   * Creates a new sendfile connection pool.
+   *
+   * @param address address of the sendfile data server
+   * @param channelIdProvider provider of the channel id new connections authenticate with
+   * @param minCapacity the minimum capacity of the pool
+   * @param maxCapacity the maximum capacity of the pool
+   * @param alluxioConf Alluxio configuration
+   */
+  public SendfileConnectionPool(InetSocketAddress address, ChannelIdProvider channelIdProvider,
+      int minCapacity, int maxCapacity, AlluxioConfiguration alluxioConf) {
+    super(Options.defaultOptions().setMinCapacity(minCapacity).setMaxCapacity(maxCapacity)
+        .setGcExecutor(GC_EXECUTOR));
+    mAddress = Objects.requireNonNull(address);
+    mChannelIdProvider = Objects.requireNonNull(channelIdProvider);
+    mConf = Objects.requireNonNull(alluxioConf);
+    mConnectTimeoutMs =
+        (int) mConf.getMs(PropertyKey.NETWORK_CONNECTION_HEALTH_CHECK_TIMEOUT);
+    mDataTimeoutMs = (int) mConf.getMs(PropertyKey.USER_STREAMING_DATA_READ_TIMEOUT);
+  }
+
+  @Override
+  protected void closeResource(SendfileConnection connection) throws IOException {
+    LOG.debug("Sendfile connection to {} closed.", mAddress);
+    connection.close();
+  }
+
+  @Override
+  protected SendfileConnection createNewResource() throws IOException {
+    return SendfileConnection.open(mAddress, mChannelIdProvider.getChannelId(),
+        mConnectTimeoutMs, mDataTimeoutMs);
+  }
+
+  @Override
+  protected boolean isHealthy(SendfileConnection connection) {
+    return !connection.isClosed();
+  }
+
+  @Override
+  protected Counter getMetricCounter() {
+    return COUNTER;
+  }
+
+  @Override
+  protected boolean shouldGc(ResourceInternal<SendfileConnection> connectionResourceInternal) {
+    return System.currentTimeMillis() - connectionResourceInternal.getLastAccessTimeMs()
+        > mConf.getMs(PropertyKey.USER_BLOCK_WORKER_CLIENT_POOL_GC_THRESHOLD_MS);
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.client.file.FileSystemContext;
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.grpc.ReadRequest;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.network.protocol.databuffer.NioDataBuffer;
+import alluxio.resource.CloseableResource;
+import alluxio.wire.WorkerNetAddress;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A data reader that streams a region of a block from the sendfile data server of a worker,
+ * which sends the block file to the socket without copying it into user space.
+ *
+ * Protocol: Check {@code alluxio.worker.netty.SendfileReadHandler} for the server side.
+ * 1. The client takes a connection to the sendfile data server from the pool of the file system
+ *    context. A new connection first sends the id of a channel authenticated with the gRPC data
+ *    server of the worker.
+ * 2. The client sends a read request (id, offset, length).
+ * 3. The server replies with the length of the data followed by the data, which the client
+ *    reads in chunks, or straight into the destination buffer with {@link #read}.
+ * 4. If the server cannot send the block this way, e.g. because the block is not stored in a
+ *    local file of the worker, it replies with a negative length and a message, and the region
+ *    is read with the fallback data reader instead.
+ * 5. Once all the data is read, the connection is released to the pool for the next request.
+ *    The client cancels a read by closing the connection.
+ */
+@NotThreadSafe
+public final class SendfileDataReader implements DataReader {
+  private static final Logger LOG = LoggerFactory.getLogger(SendfileDataReader.class);
+
+  private final CloseableResource<SendfileConnection> mConnection;
+  private final long mChunkSize;
+  private final boolean mDetailedMetricsEnabled;
+  /** The end of the region sent by the server. */
+  private final long mEnd;
+
+  /** The next pos to read. */
+  private long mPosToRead;
+
+  private SendfileDataReader(CloseableResource<SendfileConnection> connection, long offset,
+      long length, long chunkSize, boolean detailedMetricsEnabled) {
+    mConnection = connection;
+    mPosToRead = offset;
+    mEnd = offset + length;
+    mChunkSize = chunkSize;
+    mDetailedMetricsEnabled = detailedMetricsEnabled;
+  }
+
+  @Override
+  public long pos() {
+    return mPosToRead;
+  }
+
+  @Override
+  public DataBuffer readChunk() throws IOException {
+    if (mDetailedMetricsEnabled) {
+      try (Timer.Context ignored = MetricsSystem
+          .timer(MetricKey.CLIENT_BLOCK_READ_CHUNK_REMOTE.getName()).time()) {
+        return readChunkInternal();
+      }
+    }
+    return readChunkInternal();
+  }
+
+  private DataBuffer readChunkInternal() throws IOException {
+    if (mPosToRead >= mEnd) {
+      return null;
+    }
+    int length = (int) Math.min(mEnd - mPosToRead, mChunkSize);
+    byte[] data = new byte[length];
+    read(data, 0, length);
+    return new NioDataBuffer(ByteBuffer.wrap(data), length);
+  }
+
+  /**
+   * Reads data straight from the connection into the given buffer.
+   *
+   * @param b the buffer to read the data into
+   * @param off the offset in the buffer
+   * @param len the number of bytes to read, no more than the bytes left to read
+   */
+  public void read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkArgument(len <= mEnd - mPosToRead,
+        "cannot read %s bytes with %s bytes left", len, mEnd - mPosToRead);
+    mConnection.get().readFully(b, off, len);
+    mPosToRead += len;
+  }
+
+  /**
+   * @return the number of bytes left to read
+   */
+  public long remaining() {
+    return mEnd - mPosToRead;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (mPosToRead < mEnd) {
+        // the rest of the data is still on the way, the connection cannot serve another request
+        mConnection.get().close();
+      }
+    } finally {
+      mConnection.close();
+    }
+  }
+
+  /**
+   * Factory class to create {@link SendfileDataReader}s, falling back to another factory when the
+   * worker cannot send the requested region with sendfile.
+   */
+  public static class Factory implements DataReader.Factory {
+    private final FileSystemContext mContext;
+    private final WorkerNetAddress mAddress;
+    private final ReadRequest.Builder mReadRequestBuilder;
+    private final DataReader.Factory mFallback;
+    private final long mChunkSize;
+    private final boolean mDetailedMetricsEnabled;
+
+    /**
+     * Creates an instance of {@link SendfileDataReader.Factory} for block reads.
+     *
+     * @param context the file system context
+     * @param address the worker address
+     * @param readRequestBuilder the builder of read request
+     * @param fallback the factory of the readers to use when sendfile is unavailable
+     */
+    public Factory(FileSystemContext context, WorkerNetAddress address,
+        ReadRequest.Builder readRequestBuilder, DataReader.Factory fallback) {
+      AlluxioConfiguration conf = context.getClusterConf();
+      mContext = context;
+      mAddress = address;
+      mReadRequestBuilder = readRequestBuilder;
+      mFallback = fallback;
+      mChunkSize = conf.getBytes(PropertyKey.USER_STREAMING_READER_CHUNK_SIZE_BYTES);
+      mDetailedMetricsEnabled = conf.getBoolean(PropertyKey.USER_BLOCK_READ_METRICS_ENABLED);
+    }
+
+    @Override
+    public DataReader create(long offset, long len) throws IOException {
+      ReadRequest request = mReadRequestBuilder.setOffset(offset).setLength(len).build();
+      CloseableResource<SendfileConnection> connection = null;
+      try {
+        connection = mContext.acquireSendfileConnection(mAddress);
+        long length = connection.get().sendRequest(request);
+        if (length >= 0) {
+          return new SendfileDataReader(connection, offset, length, mChunkSize,
+              mDetailedMetricsEnabled);
+        }
+        // the connection is left ready for the next request
+        connection.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to read block {} from the sendfile data server of worker {}, "
+            + "falling back", request.getBlockId(), mAddress, e);
+        if (connection != null) {
+          connection.get().close();
+          connection.close();
+        }
+      }
+      return mFallback.create(offset, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      mFallback.close();
+    }
+  }
+}
@@ -44,13 +44,17 @@ import io.netty.util.internal.OutOfDirectMemoryError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -83,6 +87,10 @@ public class AlluxioFileInStream extends FileInStream {
   private final FileSystemContext mContext;
   private final boolean mPassiveCachingEnabled;
   private final long mStatusOutdatedTime;
+  private final long mVectoredReadMergeGap;
+  private final long mVectoredReadMergeMaxSize;
+  /** Number of blocks to open ahead of the block being read. */
+  private final int mPrefetchBlocks;
 
   /* Convenience values derived from mStatus, use these instead of querying mStatus. */
   /** Length of the file in bytes. */
@@ -99,11 +107,17 @@ public class AlluxioFileInStream extends FileInStream {
   /** Cached block stream for the positioned read API. */
   private BlockInStream mCachedPositionedReadStream;
 
+  /** Streams opened ahead of the reads for the blocks following mBlockInStream, by index. */
+  private final TreeMap<Integer, BlockInStream> mPrefetchedStreams = new TreeMap<>();
+
   /** The last block id for which async cache was triggered. */
   private long mLastBlockIdCached;
 
-  /** A map of worker addresses to the most recent epoch time when client fails to read from it. */
-  private Map<WorkerNetAddress, Long> mFailedWorkers = new HashMap<>();
+  /**
+   * A map of worker addresses to the most recent epoch time when client fails to read from it.
+   * Concurrent as it is also updated by the reads of {@link #readVectored}.
+   */
+  private Map<WorkerNetAddress, Long> mFailedWorkers = new ConcurrentHashMap<>();
 
   private Closer mCloser;
 
@@ -133,6 +147,10 @@ public class AlluxioFileInStream extends FileInStream {
       mStatus = status;
       mStatusOutdatedTime = System.currentTimeMillis()
           + conf.getMs(PropertyKey.USER_FILE_IN_STREAM_STATUS_EXPIRATION_TIME);
+      mVectoredReadMergeGap = conf.getBytes(PropertyKey.USER_FILE_VECTORED_READ_MERGE_GAP);
+      mVectoredReadMergeMaxSize =
+          conf.getBytes(PropertyKey.USER_FILE_VECTORED_READ_MERGE_MAX_SIZE);
+      mPrefetchBlocks = conf.getInt(PropertyKey.USER_FILE_PREFETCH_BLOCKS);
       mOptions = options;
       mBlockStore = BlockStoreClient.create(mContext);
       mLength = mStatus.getLength();
@@ -268,6 +286,7 @@ public class AlluxioFileInStream extends FileInStream {
 
   @Override
   public void close() throws IOException {
+    closePrefetchedStreams(mPrefetchedStreams);
     closeBlockInStream(mBlockInStream);
     closeBlockInStream(mCachedPositionedReadStream);
     mCloser.close();
@@ -347,6 +366,98 @@ public class AlluxioFileInStream extends FileInStream {
     return lenCopy - len;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The merged ranges are read in parallel by a pool shared by all the streams of the context,
+   * each from its own block stream, so that ranges in different blocks are read from their
+   * workers at the same time.
+   */
+  @Override
+  public void readVectored(List<? extends FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    List<VectoredReadUtils.CombinedRange> combinedRanges = VectoredReadUtils.mergeRanges(
+        VectoredReadUtils.sortRanges(ranges, mLength), mVectoredReadMergeGap,
+        mVectoredReadMergeMaxSize, mBlockSize);
+    if (combinedRanges.isEmpty()) {
+      return;
+    }
+    if (mVectoredReadMergeMaxSize < mContext.getPathConf(new AlluxioURI(mStatus.getPath()))
+        .getBytes(PropertyKey.USER_FILE_SEQUENTIAL_PREAD_THRESHOLD)) {
+      mOptions.setPositionShort(true);
+    }
+    ExecutorService executor = mContext.getVectoredReadExecutor();
+    for (VectoredReadUtils.CombinedRange range : combinedRanges) {
+      executor.execute(() -> {
+        try {
+          VectoredReadUtils.completeRanges(range, readRange(range), allocate);
+        } catch (Throwable t) {
+          VectoredReadUtils.failRanges(range, t);
+        }
+      });
+    }
+  }
+
+  /**
+   * Reads a combined range of a vectored read. Unlike {@link #positionedReadInternal}, the block
+   * streams are not shared with other reads, so that several ranges can be read concurrently.
+   *
+   * @param range the combined range
+   * @return the data of the range
+   */
+  private byte[] readRange(VectoredReadUtils.CombinedRange range) throws IOException {
+    byte[] data = new byte[range.getLength()];
+    long pos = range.getOffset();
+    int off = 0;
+    RetryPolicy retry = mRetryPolicySupplier.get();
+    IOException lastException = null;
+    while (off < data.length && retry.attempt()) {
+      long blockId = mStatus.getBlockIds().get(Math.toIntExact(pos / mBlockSize));
+      BlockInStream stream = null;
+      try {
+        BlockInfo blockInfo = isStatusOutdated() || lastException != null
+            ? mBlockStore.getInfo(blockId) : mStatus.getBlockInfo(blockId);
+        stream = mBlockStore.getInStream(blockInfo, mOptions, mFailedWorkers);
+        long offset = pos % mBlockSize;
+        int bytesToRead = (int) Math.min(mBlockSize - offset, data.length - off);
+        while (bytesToRead > 0) {
+          int bytesRead = stream.positionedRead(offset, data, off, bytesToRead);
+          if (bytesRead <= 0) {
+            throw new EOFException(String.format(
+                "Block %d of file %s ended at offset %d before the range was read", blockId,
+                mStatus.getPath(), offset));
+          }
+          offset += bytesRead;
+          pos += bytesRead;
+          off += bytesRead;
+          bytesToRead -= bytesRead;
+        }
+        retry = mRetryPolicySupplier.get();
+        lastException = null;
+        BlockInStream.BlockInStreamSource source = stream.getSource();
+        if (source != BlockInStream.BlockInStreamSource.NODE_LOCAL
+            && source != BlockInStream.BlockInStreamSource.PROCESS_LOCAL) {
+          // best effort, a racing update of the last cached block only repeats a cache request
+          triggerAsyncCaching(stream);
+        }
+      } catch (IOException e) {
+        lastException = e;
+        if (stream != null) {
+          handleRetryableException(stream, e);
+          stream = null;
+        }
+      } finally {
+        if (stream != null) {
+          stream.close();
+        }
+      }
+    }
+    if (lastException != null) {
+      throw lastException;
+    }
+    return data;
+  }
+
   /* Seekable methods */
   @Override
   public long getPos() {
@@ -391,14 +502,34 @@ public class AlluxioFileInStream extends FileInStream {
 
     /* Create a new stream to read from mPosition. */
     // Calculate block id.
-    long blockId = mStatus.getBlockIds().get(Math.toIntExact(mPosition / mBlockSize));
+    int blockIndex = Math.toIntExact(mPosition / mBlockSize);
+    long blockId = mStatus.getBlockIds().get(blockIndex);
     BlockInfo blockInfo = mStatus.getBlockInfo(blockId);
     if (blockInfo == null) {
       throw new IOException("No BlockInfo for block(id=" + blockId + ") of file"
           + "(id=" + mStatus.getFileId() + ", path=" + mStatus.getPath() + ")");
     }
+    long offset = mPosition % mBlockSize;
+    BlockInStream prefetchedStream = mPrefetchedStreams.remove(blockIndex);
+    if (prefetchedStream != null) {
+      mBlockInStream = prefetchedStream;
+    } else {
+      mBlockInStream = openBlockInStream(blockId, blockInfo);
+    }
+    // Set the stream to the correct position.
+    mBlockInStream.seek(offset);
+    if (mPrefetchBlocks > 0) {
+      if (offset == 0) {
+        // the block is read from its start, which is likely a sequential read
+        prefetchBlocks(blockIndex);
+      } else {
+        closePrefetchedStreams(mPrefetchedStreams.headMap(blockIndex, true));
+      }
+    }
+  }
 
-    // Create stream
+  private BlockInStream openBlockInStream(long blockId, BlockInfo blockInfo)
+      throws IOException {
     boolean isBlockInfoOutdated = true;
     // blockInfo is "outdated" when all the locations in that blockInfo are failed workers,
     // if there is at least one location that is not a failed worker, then it's not outdated.
@@ -414,13 +545,68 @@ public class AlluxioFileInStream extends FileInStream {
       }
     }
     if (isBlockInfoOutdated || isStatusOutdated()) {
-      mBlockInStream = mBlockStore.getInStream(blockId, mOptions, mFailedWorkers);
-    } else {
-      mBlockInStream = mBlockStore.getInStream(blockInfo, mOptions, mFailedWorkers);
+      return mBlockStore.getInStream(blockId, mOptions, mFailedWorkers);
+    }
+    return mBlockStore.getInStream(blockInfo, mOptions, mFailedWorkers);
+  }
+
+  /**
+   * Opens the streams of the blocks following the given block and starts reading them, so that
+   * the blocks are streamed from their workers concurrently. Prefetched streams of other blocks
+   * are closed.
+   *
+   * @param blockIndex the index of the block being read
+   */
+  private void prefetchBlocks(int blockIndex) {
+    int lastBlockIndex =
+        Math.min(blockIndex + mPrefetchBlocks, mStatus.getBlockIds().size() - 1);
+    closePrefetchedStreams(mPrefetchedStreams.headMap(blockIndex, true));
+    closePrefetchedStreams(mPrefetchedStreams.tailMap(lastBlockIndex, false));
+    for (int i = blockIndex + 1; i <= lastBlockIndex; i++) {
+      if (mPrefetchedStreams.containsKey(i)) {
+        continue;
+      }
+      long blockId = mStatus.getBlockIds().get(i);
+      BlockInfo blockInfo = mStatus.getBlockInfo(blockId);
+      if (blockInfo == null) {
+        return;
+      }
+      BlockInStream stream = null;
+      try {
+        stream = openBlockInStream(blockId, blockInfo);
+        stream.prefetch();
+        mPrefetchedStreams.put(i, stream);
+      } catch (IOException e) {
+        // best effort, the block is opened again when it is read
+        LOG.debug("Failed to prefetch block {} of file {}: {}", blockId, mStatus.getPath(),
+            e.toString());
+        if (stream != null) {
+          closePrefetchedStream(stream);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Closes prefetched streams and removes them from the given map, which is usually a view of
+   * {@link #mPrefetchedStreams}.
+   *
+   * @param streams the streams to close
+   */
+  private void closePrefetchedStreams(Map<Integer, BlockInStream> streams) {
+    streams.values().forEach(this::closePrefetchedStream);
+    streams.clear();
+  }
+
+  private void closePrefetchedStream(BlockInStream stream) {
+    try {
+      stream.close();
+    } catch (IOException e) {
+      // Do not throw doing a best effort close
+      LOG.warn("Failed to close prefetched stream for block {} of file {}: {}",
+          stream.getId(), mStatus.getPath(), e.toString());
     }
-    // Set the stream to the correct position.
-    long offset = mPosition % mBlockSize;
-    mBlockInStream.seek(offset);
   }
 
   /**
@@ -543,6 +729,7 @@ public class AlluxioFileInStream extends FileInStream {
 
   @Override
   public void unbuffer() {
+    closePrefetchedStreams(mPrefetchedStreams);
     if (mBlockInStream != null) {
       mBlockInStream.unbuffer();
     }
@@ -23,6 +23,8 @@ import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * A streaming API to read a file. This API represents a file as a stream of bytes and provides a
@@ -103,6 +105,36 @@ public abstract class FileInStream extends InputStream
     return nread;
   }
 
+  /**
+   * Reads several ranges of the file. The data of each range is delivered through
+   * {@link FileRange#getData()}, which may complete after this method returns. The ranges must not
+   * overlap, and the stream must not be closed before all the ranges are complete. Reading the
+   * ranges does not change the current offset of the stream.
+   * <p>
+   * Ranges close to each other are read at once. This implementation reads them one after the
+   * other before returning, implementations may read them in parallel.
+   *
+   * @param ranges the ranges to read
+   * @param allocate allocates the buffers receiving the data of the ranges given their length
+   */
+  public void readVectored(List<? extends FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    List<FileRange> sortedRanges =
+        VectoredReadUtils.sortRanges(ranges, getPos() + remaining());
+    for (VectoredReadUtils.CombinedRange range : VectoredReadUtils.mergeRanges(sortedRanges,
+        VectoredReadUtils.DEFAULT_MERGE_GAP, VectoredReadUtils.DEFAULT_MERGE_MAX_SIZE,
+        Long.MAX_VALUE)) {
+      byte[] data;
+      try {
+        data = VectoredReadUtils.readFully(this, range);
+      } catch (IOException | RuntimeException e) {
+        VectoredReadUtils.failRanges(range, e);
+        continue;
+      }
+      VectoredReadUtils.completeRanges(range, data, allocate);
+    }
+  }
+
   @Override
   public void unbuffer() {
   }
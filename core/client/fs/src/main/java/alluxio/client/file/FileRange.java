@@ -0,0 +1,81 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.annotation.PublicApi;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A range of a file to read with {@link FileInStream#readVectored}. The data of the range is
+ * delivered through {@link #getData()} once it has been read.
+ */
+@PublicApi
+@ThreadSafe
+public class FileRange {
+  private final long mOffset;
+  private final int mLength;
+  private final CompletableFuture<ByteBuffer> mData = new CompletableFuture<>();
+
+  /**
+   * @param offset the offset of the range in the file
+   * @param length the length of the range
+   */
+  public FileRange(long offset, int length) {
+    Preconditions.checkArgument(offset >= 0, "offset should be non-negative: %s", offset);
+    Preconditions.checkArgument(length >= 0, "length should be non-negative: %s", length);
+    mOffset = offset;
+    mLength = length;
+  }
+
+  /**
+   * @return the offset of the range in the file
+   */
+  public long getOffset() {
+    return mOffset;
+  }
+
+  /**
+   * @return the length of the range
+   */
+  public int getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the offset right after the range
+   */
+  public long getEnd() {
+    return mOffset + mLength;
+  }
+
+  /**
+   * @return the future of the data of the range, with the position of the buffer at the start of
+   *         the data and the limit at its end
+   */
+  public CompletableFuture<ByteBuffer> getData() {
+    return mData;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("offset", mOffset)
+        .add("length", mLength)
+        .toString();
+  }
+}
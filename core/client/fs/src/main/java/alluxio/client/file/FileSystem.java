@@ -182,7 +182,7 @@ public interface FileSystem extends Closeable {
           && CommonUtils.PROCESS_TYPE.get() == CommonUtils.ProcessType.CLIENT) {
         try {
           CacheManager cacheManager = CacheManager.Factory.get(conf);
-          return new LocalCacheFileSystem(cacheManager, fs, conf);
+          return new LocalCacheFileSystem(cacheManager, fs, conf, context);
         } catch (IOException e) {
           LOG.error("Fallback without client caching: ", e);
         }
@@ -21,7 +21,10 @@ import alluxio.client.block.BlockWorkerInfo;
 import alluxio.client.block.policy.BlockLocationPolicy;
 import alluxio.client.block.stream.BlockWorkerClient;
 import alluxio.client.block.stream.BlockWorkerClientPool;
+import alluxio.client.block.stream.SendfileConnection;
+import alluxio.client.block.stream.SendfileConnectionPool;
 import alluxio.client.file.FileSystemContextReinitializer.ReinitBlockerResource;
+import alluxio.client.file.cache.PrefetchPool;
 import alluxio.client.metrics.MetricsHeartbeatContext;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.PropertyKey;
@@ -41,6 +44,7 @@ import alluxio.resource.DynamicResourcePool;
 import alluxio.security.authentication.AuthenticationUtils;
 import alluxio.security.user.UserState;
 import alluxio.util.IdUtils;
+import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.wire.WorkerInfo;
 import alluxio.wire.WorkerNetAddress;
@@ -62,6 +66,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
@@ -138,6 +144,24 @@ public class FileSystemContext implements Closeable {
    */
   private volatile ConcurrentHashMap<ClientPoolKey, BlockWorkerClientPool>
       mBlockWorkerClientPoolMap;
+  /**
+   * The sendfile data server connection pools. This pool will only grow and keys are not removed.
+   */
+  private volatile ConcurrentHashMap<ClientPoolKey, SendfileConnectionPool>
+      mSendfileConnectionPoolMap;
+  /**
+   * The pool serving the vectored reads of the streams of this context, created on first use.
+   */
+  @GuardedBy("this")
+  @Nullable
+  private ExecutorService mVectoredReadExecutor;
+  /**
+   * The pool prefetching pages into the client cache for the streams of this context, created on
+   * first use.
+   */
+  @GuardedBy("this")
+  @Nullable
+  private PrefetchPool mCachePrefetchPool;
 
   /**
    * Indicates whether the {@link #mLocalWorker} field has been lazily initialized yet.
@@ -319,6 +343,7 @@ public class FileSystemContext implements Closeable {
     mFileSystemMasterClientPool = new FileSystemMasterClientPool(mMasterClientContext);
     mBlockMasterClientPool = new BlockMasterClientPool(mMasterClientContext);
     mBlockWorkerClientPoolMap = new ConcurrentHashMap<>();
+    mSendfileConnectionPoolMap = new ConcurrentHashMap<>();
     mUriValidationEnabled = ctx.getUriValidationEnabled();
   }
 
@@ -333,6 +358,12 @@ public class FileSystemContext implements Closeable {
     LOG.debug("Closing context with id: {}", mId);
     mReinitializer.close();
     closeContext();
+    // not closed by reinitialization, as the cache streams prefetching in the pool do not block it
+    if (mCachePrefetchPool != null) {
+      LOG.debug("Closing cache prefetch pool for id: {}", mId);
+      mCachePrefetchPool.close();
+      mCachePrefetchPool = null;
+    }
     LOG.debug("Closed context with id: {}", mId);
   }
 
@@ -353,6 +384,17 @@ public class FileSystemContext implements Closeable {
           mBlockMasterClientPool.size(), mId);
       mBlockMasterClientPool.close();
       mBlockMasterClientPool = null;
+      for (SendfileConnectionPool pool : mSendfileConnectionPoolMap.values()) {
+        LOG.debug("Closing sendfile connection pool with size: {} for id: {}", pool.size(), mId);
+        pool.close();
+      }
+      mSendfileConnectionPoolMap.clear();
+      mSendfileConnectionPoolMap = null;
+      if (mVectoredReadExecutor != null) {
+        LOG.debug("Shutting down vectored read pool for id: {}", mId);
+        mVectoredReadExecutor.shutdownNow();
+        mVectoredReadExecutor = null;
+      }
       for (BlockWorkerClientPool pool : mBlockWorkerClientPoolMap.values()) {
         LOG.debug("Closing block worker client pool with size: {} for id: {}", pool.size(), mId);
         pool.close();
@@ -609,6 +651,74 @@ public class FileSystemContext implements Closeable {
     };
   }
 
+  /**
+   * Acquires a connection to the sendfile data server of a worker from the connection pools. New
+   * connections authenticate with the channel of a block worker client of the same worker. The
+   * connection must be closed before it is released if the data of its last request was not
+   * all read.
+   *
+   * @param workerNetAddress the network address of the worker
+   * @return the acquired connection resource
+   */
+  public CloseableResource<SendfileConnection> acquireSendfileConnection(
+      final WorkerNetAddress workerNetAddress) throws IOException {
+    try (ReinitBlockerResource r = blockReinit()) {
+      ClientContext context = getClientContext();
+      UserState userState = context.getUserState();
+      InetSocketAddress address = new InetSocketAddress(workerNetAddress.getHost(),
+          workerNetAddress.getSendfileDataPort());
+      final ClientPoolKey key = new ClientPoolKey(address, AuthenticationUtils
+          .getImpersonationUser(userState.getSubject(), context.getClusterConf()));
+      SendfileConnectionPool.ChannelIdProvider channelIdProvider = () -> {
+        try (CloseableResource<BlockWorkerClient> client =
+            acquireBlockWorkerClientInternal(workerNetAddress, context, userState)) {
+          return client.get().getChannelId();
+        }
+      };
+      SendfileConnectionPool pool = mSendfileConnectionPoolMap.computeIfAbsent(key,
+          k -> new SendfileConnectionPool(address, channelIdProvider,
+              context.getClusterConf().getInt(PropertyKey.USER_BLOCK_WORKER_CLIENT_POOL_MIN),
+              context.getClusterConf().getInt(PropertyKey.USER_BLOCK_WORKER_CLIENT_POOL_MAX),
+              context.getClusterConf()));
+      return new CloseableResource<SendfileConnection>(pool.acquire()) {
+        @Override
+        public void closeResource() {
+          pool.release(get());
+        }
+      };
+    }
+  }
+
+  /**
+   * Gets the pool serving the merged reads of the vectored reads of the streams of this context.
+   * The pool is shut down when this context is closed.
+   *
+   * @return the vectored read pool
+   */
+  public synchronized ExecutorService getVectoredReadExecutor() {
+    Preconditions.checkState(!mClosed.get(), "FileSystemContext %s is closed", mId);
+    if (mVectoredReadExecutor == null) {
+      mVectoredReadExecutor = Executors.newFixedThreadPool(
+          getClusterConf().getInt(PropertyKey.USER_FILE_VECTORED_READ_THREADS),
+          ThreadFactoryUtils.build("alluxio-vectored-read-%d", true));
+    }
+    return mVectoredReadExecutor;
+  }
+
+  /**
+   * Gets the pool prefetching pages into the client cache for the streams of this context. The
+   * pool is closed when this context is closed.
+   *
+   * @return the cache prefetch pool
+   */
+  public synchronized PrefetchPool getCachePrefetchPool() {
+    Preconditions.checkState(!mClosed.get(), "FileSystemContext %s is closed", mId);
+    if (mCachePrefetchPool == null) {
+      mCachePrefetchPool = new PrefetchPool(getClusterConf());
+    }
+    return mCachePrefetchPool;
+  }
+
   /**
    * Releases a block worker client to the client pools.
    *
@@ -0,0 +1,204 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.Constants;
+import alluxio.client.PositionedReadable;
+
+import com.google.common.base.Preconditions;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Utilities to implement {@link FileInStream#readVectored}.
+ *
+ * A vectored read is served by sorting its ranges, merging the ranges close to each other into
+ * {@link CombinedRange}s, reading each combined range at once and slicing the data of the
+ * combined range into the buffers of its ranges.
+ */
+public final class VectoredReadUtils {
+  /** Default maximum gap between two ranges to merge them. */
+  public static final long DEFAULT_MERGE_GAP = 4 * Constants.KB;
+  /** Default maximum size of a combined range. */
+  public static final long DEFAULT_MERGE_MAX_SIZE = Constants.MB;
+
+  /**
+   * Sorts the ranges by offset. Ranges of zero length are completed right away and ranges
+   * extending beyond the end of the file are completed with an {@link EOFException}, neither
+   * is returned.
+   *
+   * @param ranges the ranges to read
+   * @param fileLength the length of the file
+   * @return the ranges to read sorted by offset
+   * @throws IllegalArgumentException if two ranges overlap
+   */
+  public static List<FileRange> sortRanges(List<? extends FileRange> ranges, long fileLength) {
+    List<FileRange> sorted = new ArrayList<>(ranges.size());
+    for (FileRange range : ranges) {
+      if (range.getEnd() > fileLength) {
+        range.getData().completeExceptionally(new EOFException(String.format(
+            "Range %s extends beyond the end of the file of length %d", range, fileLength)));
+      } else if (range.getLength() == 0) {
+        range.getData().complete(ByteBuffer.allocate(0));
+      } else {
+        sorted.add(range);
+      }
+    }
+    sorted.sort(Comparator.comparingLong(FileRange::getOffset));
+    for (int i = 1; i < sorted.size(); i++) {
+      Preconditions.checkArgument(sorted.get(i - 1).getEnd() <= sorted.get(i).getOffset(),
+          "Ranges %s and %s overlap", sorted.get(i - 1), sorted.get(i));
+    }
+    return sorted;
+  }
+
+  /**
+   * Merges ranges separated by at most the given gap, as long as the combined range does not
+   * exceed the given size and no block boundary lies between the ranges, so that ranges of
+   * different blocks can be read in parallel.
+   *
+   * @param sortedRanges the ranges sorted by offset, not overlapping
+   * @param mergeGap the maximum gap between two ranges to merge them
+   * @param maxMergedSize the maximum size of a combined range
+   * @param blockSize the block size
+   * @return the combined ranges
+   */
+  public static List<CombinedRange> mergeRanges(List<FileRange> sortedRanges, long mergeGap,
+      long maxMergedSize, long blockSize) {
+    List<CombinedRange> combined = new ArrayList<>();
+    CombinedRange current = null;
+    for (FileRange range : sortedRanges) {
+      if (current == null || range.getOffset() - current.getEnd() > mergeGap
+          || range.getEnd() - current.getOffset() > maxMergedSize
+          || (current.getEnd() - 1) / blockSize != range.getOffset() / blockSize) {
+        current = new CombinedRange(range);
+        combined.add(current);
+      } else {
+        current.add(range);
+      }
+    }
+    return combined;
+  }
+
+  /**
+   * Reads a combined range from a stream, blocking until all of it is read.
+   *
+   * @param in the stream to read from
+   * @param range the combined range
+   * @return the data of the combined range
+   */
+  public static byte[] readFully(PositionedReadable in, CombinedRange range) throws IOException {
+    byte[] data = new byte[range.getLength()];
+    int totalBytesRead = 0;
+    while (totalBytesRead < data.length) {
+      int bytesRead = in.positionedRead(range.getOffset() + totalBytesRead, data,
+          totalBytesRead, data.length - totalBytesRead);
+      if (bytesRead < 0) {
+        throw new EOFException(String.format("Reached the end of the file after %d bytes of %s",
+            totalBytesRead, range));
+      }
+      totalBytesRead += bytesRead;
+    }
+    return data;
+  }
+
+  /**
+   * Completes the ranges of a combined range with their slices of the combined range data.
+   *
+   * @param range the combined range
+   * @param data the data of the combined range
+   * @param allocate allocates the buffers of the ranges
+   */
+  public static void completeRanges(CombinedRange range, byte[] data,
+      IntFunction<ByteBuffer> allocate) {
+    for (FileRange fileRange : range.getRanges()) {
+      ByteBuffer buffer = allocate.apply(fileRange.getLength());
+      buffer.put(data, (int) (fileRange.getOffset() - range.getOffset()), fileRange.getLength());
+      buffer.flip();
+      fileRange.getData().complete(buffer);
+    }
+  }
+
+  /**
+   * Completes the ranges of a combined range with an error.
+   *
+   * @param range the combined range
+   * @param t the error
+   */
+  public static void failRanges(CombinedRange range, Throwable t) {
+    for (FileRange fileRange : range.getRanges()) {
+      fileRange.getData().completeExceptionally(t);
+    }
+  }
+
+  /**
+   * A range of a file covering one or several {@link FileRange}s read at once.
+   */
+  public static final class CombinedRange {
+    private final long mOffset;
+    private long mEnd;
+    private final List<FileRange> mRanges = new ArrayList<>();
+
+    private CombinedRange(FileRange range) {
+      mOffset = range.getOffset();
+      add(range);
+    }
+
+    private void add(FileRange range) {
+      mRanges.add(range);
+      mEnd = range.getEnd();
+    }
+
+    /**
+     * @return the offset of the combined range in the file
+     */
+    public long getOffset() {
+      return mOffset;
+    }
+
+    /**
+     * @return the offset right after the combined range
+     */
+    public long getEnd() {
+      return mEnd;
+    }
+
+    /**
+     * @return the length of the combined range
+     */
+    public int getLength() {
+      return Math.toIntExact(mEnd - mOffset);
+    }
+
+    /**
+     * @return the ranges covered, sorted by offset
+     */
+    public List<FileRange> getRanges() {
+      return Collections.unmodifiableList(mRanges);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("CombinedRange{offset=%d, length=%d, ranges=%d}", mOffset,
+          mEnd - mOffset, mRanges.size());
+    }
+  }
+
+  private VectoredReadUtils() {} // prevent instantiation
+}
@@ -12,6 +12,8 @@
 package alluxio.client.file.cache;
 
 import alluxio.client.file.cache.evictor.CacheEvictorOptions;
+import alluxio.client.file.cache.filter.DefaultPageAdmissionFilter;
+import alluxio.client.file.cache.filter.PageAdmissionFilter;
 import alluxio.client.file.cache.store.PageStoreOptions;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.PropertyKey;
@@ -22,14 +24,24 @@ import java.util.List;
  * Options for initiating local cache manager.
  */
 public class CacheManagerOptions {
+  private Class<? extends PageAdmissionFilter> mAdmissionFilterClass =
+      DefaultPageAdmissionFilter.class;
   private boolean mAsyncRestoreEnabled;
   private boolean mAsyncWriteEnabled;
+  private int mAsyncWriteQueueSize;
+  private long mAsyncWriteQueueTimeoutMs;
   private int mAsyncWriteThreads;
   private CacheEvictorOptions mCacheEvictorOptions;
   private int mMaxEvictionRetries;
+  private boolean mConcurrentMetaStoreEnabled;
+  private boolean mPageChecksumEnabled;
+  private boolean mPageIndexEnabled;
+  private long mPageIndexCheckpointIntervalMs;
   private long mPageSize;
   private List<PageStoreOptions> mPageStoreOptions;
   private boolean mQuotaEnabled;
+  private long mScrubBandwidth;
+  private long mScrubIntervalMs;
   private boolean mTtlEnabled;
   private long mTtlCheckIntervalSeconds;
   private long mTtlThresholdSeconds;
@@ -45,14 +57,29 @@ public class CacheManagerOptions {
             conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_EVICTOR_NONDETERMINISTIC_ENABLED))
         .setLFULogBase(conf.getDouble(PropertyKey.USER_CLIENT_CACHE_EVICTOR_LFU_LOGBASE));
     CacheManagerOptions options = new CacheManagerOptions()
+        .setAdmissionFilterClass(
+            conf.getClass(PropertyKey.USER_CLIENT_CACHE_ADMISSION_FILTER_CLASS))
         .setAsyncRestoreEnabled(
             conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED))
+        .setAsyncWriteQueueSize(
+            conf.getInt(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_SIZE))
+        .setAsyncWriteQueueTimeoutMs(
+            conf.getMs(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_TIMEOUT))
         .setAsyncWriteThreads(conf.getInt(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_THREADS))
         .setIsAsyncWriteEnabled(
             conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED))
         .setMaxEvictionRetries(conf.getInt(PropertyKey.USER_CLIENT_CACHE_EVICTION_RETRIES))
+        .setConcurrentMetaStoreEnabled(
+            conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_META_STORE_CONCURRENT_ENABLED))
+        .setPageChecksumEnabled(
+            conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_PAGE_CHECKSUM_ENABLED))
+        .setPageIndexEnabled(conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED))
+        .setPageIndexCheckpointIntervalMs(
+            conf.getMs(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL))
         .setPageSize(conf.getBytes(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE))
         .setQuotaEnabled(conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_QUOTA_ENABLED))
+        .setScrubBandwidth(conf.getBytes(PropertyKey.USER_CLIENT_CACHE_SCRUB_BANDWIDTH))
+        .setScrubIntervalMs(conf.getMs(PropertyKey.USER_CLIENT_CACHE_SCRUB_INTERVAL))
         .setTtlEnabled(conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_TTL_ENABLED))
         .setTtlCheckIntervalSeconds(
             conf.getLong(PropertyKey.USER_CLIENT_CACHE_TTL_CHECK_INTERVAL_SECONDS))
@@ -79,8 +106,12 @@ public class CacheManagerOptions {
         .setIsAsyncWriteEnabled(
             conf.getBoolean(PropertyKey.WORKER_PAGE_STORE_ASYNC_WRITE_ENABLED))
         .setMaxEvictionRetries(conf.getInt(PropertyKey.WORKER_PAGE_STORE_EVICTION_RETRIES))
+        .setPageChecksumEnabled(
+            conf.getBoolean(PropertyKey.WORKER_PAGE_STORE_PAGE_CHECKSUM_ENABLED))
         .setPageSize(conf.getBytes(PropertyKey.WORKER_PAGE_STORE_PAGE_SIZE))
         .setQuotaEnabled(conf.getBoolean(PropertyKey.WORKER_PAGE_STORE_QUOTA_ENABLED))
+        .setScrubBandwidth(conf.getBytes(PropertyKey.WORKER_PAGE_STORE_SCRUB_BANDWIDTH))
+        .setScrubIntervalMs(conf.getMs(PropertyKey.WORKER_PAGE_STORE_SCRUB_INTERVAL))
         .setCacheEvictorOptions(cacheEvictorOptions)
         .setPageStoreOptions(PageStoreOptions.createForWorkerPageStore(conf));
     return options;
@@ -92,6 +123,13 @@ public class CacheManagerOptions {
   public CacheManagerOptions() {
   }
 
+  /**
+   * @return the page admission filter class
+   */
+  public Class<? extends PageAdmissionFilter> getAdmissionFilterClass() {
+    return mAdmissionFilterClass;
+  }
+
   /**
    * @return if async restore is enabled
    */
@@ -106,6 +144,20 @@ public class CacheManagerOptions {
     return mAsyncWriteEnabled;
   }
 
+  /**
+   * @return the maximum number of pages queued for async write, 0 if pages are not queued
+   */
+  public int getAsyncWriteQueueSize() {
+    return mAsyncWriteQueueSize;
+  }
+
+  /**
+   * @return the maximum time in milliseconds to wait for space in a full async write queue
+   */
+  public long getAsyncWriteQueueTimeoutMs() {
+    return mAsyncWriteQueueTimeoutMs;
+  }
+
   /**
    * @return number of thread for async write
    */
@@ -149,6 +201,49 @@ public class CacheManagerOptions {
     return mMaxEvictionRetries;
   }
 
+  /**
+   * @return if the concurrent page meta store is enabled
+   */
+  public boolean isConcurrentMetaStoreEnabled() {
+    return mConcurrentMetaStoreEnabled;
+  }
+
+  /**
+   * @return if a checksum of each page is computed when the page is written
+   */
+  public boolean isPageChecksumEnabled() {
+    return mPageChecksumEnabled;
+  }
+
+  /**
+   * @return the maximum number of bytes per second read by the scrubber, 0 if disabled
+   */
+  public long getScrubBandwidth() {
+    return mScrubBandwidth;
+  }
+
+  /**
+   * @return the interval in milliseconds between two passes of the scrubber
+   */
+  public long getScrubIntervalMs() {
+    return mScrubIntervalMs;
+  }
+
+  /**
+   * @return if the persisted page index is enabled
+   */
+  public boolean isPageIndexEnabled() {
+    return mPageIndexEnabled;
+  }
+
+  /**
+   * @return the interval in milliseconds to checkpoint the page index, 0 if only checkpointed
+   *         on close
+   */
+  public long getPageIndexCheckpointIntervalMs() {
+    return mPageIndexCheckpointIntervalMs;
+  }
+
   /**
    * @return the page size
    */
@@ -170,6 +265,16 @@ public class CacheManagerOptions {
     return mCacheEvictorOptions;
   }
 
+  /**
+   * @param admissionFilterClass
+   * @return the updated options
+   */
+  public CacheManagerOptions setAdmissionFilterClass(
+      Class<? extends PageAdmissionFilter> admissionFilterClass) {
+    mAdmissionFilterClass = admissionFilterClass;
+    return this;
+  }
+
   /**
    * @param isAsyncRestoreEnabled
    * @return the updated options
@@ -188,6 +293,24 @@ public class CacheManagerOptions {
     return this;
   }
 
+  /**
+   * @param asyncWriteQueueSize
+   * @return the updated options
+   */
+  public CacheManagerOptions setAsyncWriteQueueSize(int asyncWriteQueueSize) {
+    mAsyncWriteQueueSize = asyncWriteQueueSize;
+    return this;
+  }
+
+  /**
+   * @param asyncWriteQueueTimeoutMs
+   * @return the updated options
+   */
+  public CacheManagerOptions setAsyncWriteQueueTimeoutMs(long asyncWriteQueueTimeoutMs) {
+    mAsyncWriteQueueTimeoutMs = asyncWriteQueueTimeoutMs;
+    return this;
+  }
+
   /**
    * @param asyncWriteThreads
    * @return the updated options
@@ -215,6 +338,61 @@ public class CacheManagerOptions {
     return this;
   }
 
+  /**
+   * @param isConcurrentMetaStoreEnabled
+   * @return the updated options
+   */
+  public CacheManagerOptions setConcurrentMetaStoreEnabled(boolean isConcurrentMetaStoreEnabled) {
+    mConcurrentMetaStoreEnabled = isConcurrentMetaStoreEnabled;
+    return this;
+  }
+
+  /**
+   * @param isPageChecksumEnabled
+   * @return the updated options
+   */
+  public CacheManagerOptions setPageChecksumEnabled(boolean isPageChecksumEnabled) {
+    mPageChecksumEnabled = isPageChecksumEnabled;
+    return this;
+  }
+
+  /**
+   * @param scrubBandwidth
+   * @return the updated options
+   */
+  public CacheManagerOptions setScrubBandwidth(long scrubBandwidth) {
+    mScrubBandwidth = scrubBandwidth;
+    return this;
+  }
+
+  /**
+   * @param scrubIntervalMs
+   * @return the updated options
+   */
+  public CacheManagerOptions setScrubIntervalMs(long scrubIntervalMs) {
+    mScrubIntervalMs = scrubIntervalMs;
+    return this;
+  }
+
+  /**
+   * @param isPageIndexEnabled
+   * @return the updated options
+   */
+  public CacheManagerOptions setPageIndexEnabled(boolean isPageIndexEnabled) {
+    mPageIndexEnabled = isPageIndexEnabled;
+    return this;
+  }
+
+  /**
+   * @param pageIndexCheckpointIntervalMs
+   * @return the updated options
+   */
+  public CacheManagerOptions setPageIndexCheckpointIntervalMs(
+      long pageIndexCheckpointIntervalMs) {
+    mPageIndexCheckpointIntervalMs = pageIndexCheckpointIntervalMs;
+    return this;
+  }
+
   /**
    * @param pageSize
    * @return the updated options
@@ -140,6 +140,11 @@ public class CacheManagerWithShadowCache implements CacheManager {
     return mCacheManager.delete(pageId);
   }
 
+  @Override
+  public boolean hasPageUnsafe(PageId pageId) {
+    return mCacheManager.hasPageUnsafe(pageId);
+  }
+
   /**
    * Stop to switch bloom filters and update working set size.
    */
@@ -0,0 +1,130 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.client.file.cache.allocator.Allocator;
+import alluxio.client.file.cache.allocator.HashAllocator;
+import alluxio.client.file.cache.store.PageStoreDir;
+import alluxio.client.quota.CacheScope;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A metadata store for pages stored in cache that serves page lookups without acquiring the
+ * metadata lock. Mutations still require the write lock returned by {@link #getLock()}.
+ *
+ * Instead of updating the evictor on every hit, accesses are recorded into a striped
+ * {@link PageAccessBuffer} and replayed in batches by whichever thread fills a stripe, or by
+ * the thread selecting an eviction victim. Replays take the read lock to exclude concurrent
+ * removals, and skip pages that are no longer in the store.
+ */
+@ThreadSafe
+public class ConcurrentPageMetaStore extends DefaultPageMetaStore {
+  private static final int BUFFER_STRIPES = 4 * Runtime.getRuntime().availableProcessors();
+  private static final int BUFFER_STRIPE_CAPACITY = 16;
+
+  private final PageAccessBuffer mAccesses =
+      new PageAccessBuffer(BUFFER_STRIPES, BUFFER_STRIPE_CAPACITY);
+  /** Ensures the access buffer has at most one consumer at a time. */
+  private final ReentrantLock mDrainLock = new ReentrantLock();
+
+  /**
+   * @param dirs storage directories
+   */
+  public ConcurrentPageMetaStore(List<PageStoreDir> dirs) {
+    this(dirs, new HashAllocator(dirs));
+  }
+
+  /**
+   * @param dirs storage directories
+   * @param allocator storage allocator
+   */
+  public ConcurrentPageMetaStore(List<PageStoreDir> dirs, Allocator allocator) {
+    super(dirs, allocator);
+  }
+
+  @Override
+  public boolean supportsLockFreeGet() {
+    return true;
+  }
+
+  @Override
+  protected void updateOnGet(PageInfo pageInfo) {
+    if (mAccesses.offer(pageInfo)) {
+      tryDrainAccesses();
+    }
+  }
+
+  @Override
+  @Nullable
+  @GuardedBy("getLock().writeLock()")
+  public PageInfo evict(CacheScope scope, PageStoreDir pageStoreDir) {
+    drainAccesses();
+    return super.evict(scope, pageStoreDir);
+  }
+
+  @Override
+  @GuardedBy("getLock().writeLock()")
+  public void reset() {
+    super.reset();
+    drainAccesses();
+  }
+
+  /**
+   * Replays the recorded accesses if neither the metadata lock nor the buffer is contended.
+   */
+  private void tryDrainAccesses() {
+    if (!mLock.readLock().tryLock()) {
+      return;
+    }
+    try {
+      if (!mDrainLock.tryLock()) {
+        return;
+      }
+      try {
+        replayAccesses();
+      } finally {
+        mDrainLock.unlock();
+      }
+    } finally {
+      mLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Replays all the recorded accesses. The caller must hold the metadata lock.
+   */
+  @VisibleForTesting
+  void drainAccesses() {
+    mDrainLock.lock();
+    try {
+      replayAccesses();
+    } finally {
+      mDrainLock.unlock();
+    }
+  }
+
+  @GuardedBy("mDrainLock")
+  private void replayAccesses() {
+    mAccesses.drainTo(pageInfo -> {
+      if (hasPage(pageInfo.getPageId())) {
+        super.updateOnGet(pageInfo);
+      }
+    });
+  }
+}
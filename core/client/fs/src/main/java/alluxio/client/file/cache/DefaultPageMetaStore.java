@@ -36,6 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -127,6 +128,7 @@ public class DefaultPageMetaStore implements PageMetaStore {
       PageId newPageId = new PageId(newFileId, oldPageInfo.getPageId().getPageIndex());
       PageInfo newPageInfo = new PageInfo(newPageId, oldPageInfo.getPageSize(),
           oldPageInfo.getScope(), oldPageInfo.getLocalCacheDir());
+      oldPageInfo.getChecksum().ifPresent(newPageInfo::setChecksum);
       mPages.remove(oldPageInfo);
       mPages.add(newPageInfo);
     }
@@ -153,15 +155,34 @@ public class DefaultPageMetaStore implements PageMetaStore {
 
   @Override
   @GuardedBy("getLock()")
-  public PageInfo getPageInfo(PageId pageId) throws PageNotFoundException {
-    if (!mPages.contains(INDEX_PAGE_ID, pageId)) {
+  public PageInfo peekPageInfo(PageId pageId) throws PageNotFoundException {
+    PageInfo pageInfo = mPages.getFirstByField(INDEX_PAGE_ID, pageId);
+    if (pageInfo == null) {
       throw new PageNotFoundException(String.format("Page %s could not be found", pageId));
     }
+    return pageInfo;
+  }
+
+  @Override
+  @GuardedBy("getLock()")
+  public PageInfo getPageInfo(PageId pageId) throws PageNotFoundException {
     PageInfo pageInfo = mPages.getFirstByField(INDEX_PAGE_ID, pageId);
-    pageInfo.getLocalCacheDir().getEvictor().updateOnGet(pageId);
+    if (pageInfo == null) {
+      throw new PageNotFoundException(String.format("Page %s could not be found", pageId));
+    }
+    updateOnGet(pageInfo);
     return pageInfo;
   }
 
+  /**
+   * Records an access to a page with the evictor of the directory it is stored in.
+   *
+   * @param pageInfo info of the page accessed
+   */
+  protected void updateOnGet(PageInfo pageInfo) {
+    pageInfo.getLocalCacheDir().getEvictor().updateOnGet(pageInfo.getPageId());
+  }
+
   @Override
   @GuardedBy("getLock()")
   public PageInfo removePage(PageId pageId, boolean isTemporary) throws PageNotFoundException {
@@ -234,6 +255,12 @@ public class DefaultPageMetaStore implements PageMetaStore {
     return pages;
   }
 
+  @Override
+  @GuardedBy("getLock().readLock()")
+  public void forEachPage(Consumer<PageInfo> action) {
+    mPages.forEach(action);
+  }
+
   @Override
   public Optional<CacheUsage> getUsage() {
     return Optional.of(new Usage());
@@ -16,7 +16,9 @@ import static alluxio.client.file.CacheContext.StatsUnit.NANO;
 
 import alluxio.client.file.CacheContext;
 import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileRange;
 import alluxio.client.file.URIStatus;
+import alluxio.client.file.VectoredReadUtils;
 import alluxio.client.file.cache.context.CachePerThreadContext;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.PropertyKey;
@@ -38,8 +40,15 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -63,6 +72,8 @@ public class LocalCacheFileInStream extends FileInStream {
   private final FileInStreamOpener mExternalFileInStreamOpener;
   private final int mBufferSize;
   private final boolean mFallbackEnabled;
+  /** Prefetches the pages ahead of sequential reads, if enabled. */
+  private final Optional<SequentialPrefetcher> mPrefetcher;
 
   private byte[] mBuffer = null;
   private long mBufferStartOffset;
@@ -107,6 +118,23 @@ public class LocalCacheFileInStream extends FileInStream {
   public LocalCacheFileInStream(URIStatus status, FileInStreamOpener fileOpener,
       CacheManager cacheManager, AlluxioConfiguration conf,
       Optional<FileInStream> externalFileInStream) {
+    this(status, fileOpener, cacheManager, conf, externalFileInStream, Optional.empty());
+  }
+
+  /**
+   * Constructor when the {@link URIStatus} is already available.
+   *
+   * @param status file status
+   * @param fileOpener open file in the external file system if a cache miss occurs
+   * @param cacheManager local cache manager
+   * @param conf configuration
+   * @param externalFileInStream
+   * @param prefetchPool the pool of the client to prefetch pages in, prefetching is disabled
+   *        without it
+   */
+  public LocalCacheFileInStream(URIStatus status, FileInStreamOpener fileOpener,
+      CacheManager cacheManager, AlluxioConfiguration conf,
+      Optional<FileInStream> externalFileInStream, Optional<PrefetchPool> prefetchPool) {
     mPageSize = conf.getBytes(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE);
     mExternalFileInStreamOpener = fileOpener;
     mExternalFileInStream = externalFileInStream;
@@ -123,6 +151,13 @@ public class LocalCacheFileInStream extends FileInStream {
       mBuffer = new byte[mBufferSize];
     }
     mFallbackEnabled = conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_FALLBACK_ENABLED);
+    int maxPrefetchPages = conf.getInt(PropertyKey.USER_CLIENT_CACHE_PREFETCH_MAX_PAGES);
+    if (maxPrefetchPages > 0 && prefetchPool.isPresent()) {
+      mPrefetcher = Optional.of(mCloser.register(new SequentialPrefetcher(prefetchPool.get(),
+          cacheManager, status, fileOpener, mPageSize, maxPrefetchPages)));
+    } else {
+      mPrefetcher = Optional.empty();
+    }
   }
 
   @Override
@@ -174,19 +209,8 @@ public class LocalCacheFileInStream extends FileInStream {
   private int localCachedRead(ReadTargetBuffer bytesBuffer, int length,
       ReadType readType, long position, Stopwatch stopwatch) throws IOException {
     long currentPage = position / mPageSize;
-    PageId pageId;
-    CacheContext cacheContext = mStatus.getCacheContext();
-    if (cacheContext == null) {
-      cacheContext = CacheContext.defaults();
-    }
-    if (cacheContext.getCacheIdentifier() != null) {
-      pageId = new PageId(cacheContext.getCacheIdentifier(), currentPage);
-    } else {
-      // In Dora, the fileId is generated by Worker or by local client, which maybe is not unique.
-      // So we use the ufs path hash as its fileId.
-      String fileId = Long.toString(mStatus.getFileId());
-      pageId = new PageId(fileId, currentPage);
-    }
+    CacheContext cacheContext = getCacheContext();
+    PageId pageId = getPageId(currentPage, cacheContext);
     int currentPageOffset = (int) (position % mPageSize);
     int bytesLeftInPage = (int) (mPageSize - currentPageOffset);
     int bytesToReadInPage = Math.min(bytesLeftInPage, length);
@@ -194,6 +218,9 @@ public class LocalCacheFileInStream extends FileInStream {
     int bytesRead =
         mCacheManager.get(pageId, currentPageOffset, bytesToReadInPage, bytesBuffer, cacheContext);
     stopwatch.stop();
+    if (mPrefetcher.isPresent()) {
+      mPrefetcher.get().onPageRead(pageId, bytesRead > 0, cacheContext);
+    }
     if (bytesRead > 0) {
       MetricsSystem.counter(MetricKey.CLIENT_CACHE_HIT_REQUESTS.getName()).inc();
       return bytesRead;
@@ -218,11 +245,27 @@ public class LocalCacheFileInStream extends FileInStream {
             stopwatch.elapsed(TimeUnit.NANOSECONDS)
         );
       }
+      // the page is not reused by this stream, so with async write enabled it is written to the
+      // cache in the background while the data is already returned to the reader
       mCacheManager.put(pageId, page, cacheContext);
     }
     return bytesToReadInPage;
   }
 
+  private CacheContext getCacheContext() {
+    CacheContext cacheContext = mStatus.getCacheContext();
+    return cacheContext == null ? CacheContext.defaults() : cacheContext;
+  }
+
+  private PageId getPageId(long pageIndex, CacheContext cacheContext) {
+    if (cacheContext.getCacheIdentifier() != null) {
+      return new PageId(cacheContext.getCacheIdentifier(), pageIndex);
+    }
+    // In Dora, the fileId is generated by Worker or by local client, which maybe is not unique.
+    // So we use the ufs path hash as its fileId.
+    return new PageId(Long.toString(mStatus.getFileId()), pageIndex);
+  }
+
   // TODO(binfan): take ByteBuffer once CacheManager takes ByteBuffer to avoid extra mem copy
   private int readInternal(ReadTargetBuffer targetBuffer, int offset, int length,
       ReadType readType, long position, boolean isPositionedRead) throws IOException {
@@ -310,6 +353,99 @@ public class LocalCacheFileInStream extends FileInStream {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Ranges whose pages are all cached are read from the cache before returning. The other ranges
+   * are read as whole pages from the external stream with a single vectored read, and each page
+   * is put into the cache once it is read.
+   */
+  @Override
+  public void readVectored(List<? extends FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    checkIfClosed();
+    if (!CachePerThreadContext.get().getCacheEnabled()) {
+      getExternalFileInStream().readVectored(ranges, allocate);
+      return;
+    }
+    CacheContext cacheContext = getCacheContext();
+    // pages to read from the external stream by page index, shared by the ranges they overlap
+    NavigableMap<Long, FileRange> externalPages = new TreeMap<>();
+    List<FileRange> externalRanges = new ArrayList<>();
+    for (FileRange range : VectoredReadUtils.sortRanges(ranges, mStatus.getLength())) {
+      long firstPage = range.getOffset() / mPageSize;
+      long lastPage = (range.getEnd() - 1) / mPageSize;
+      boolean cached = true;
+      for (long page = firstPage; cached && page <= lastPage; page++) {
+        cached = mCacheManager.hasPageUnsafe(getPageId(page, cacheContext));
+      }
+      if (cached) {
+        // a page evicted in the meantime is read from the external stream by positionedRead
+        try {
+          byte[] data = new byte[range.getLength()];
+          positionedRead(range.getOffset(), data, 0, data.length);
+          ByteBuffer buffer = allocate.apply(range.getLength());
+          buffer.put(data).flip();
+          range.getData().complete(buffer);
+        } catch (IOException | RuntimeException e) {
+          range.getData().completeExceptionally(e);
+        }
+        continue;
+      }
+      for (long page = firstPage; page <= lastPage; page++) {
+        long pageStart = page * mPageSize;
+        externalPages.computeIfAbsent(page, index -> new FileRange(pageStart,
+            (int) Math.min(mPageSize, mStatus.getLength() - pageStart)));
+      }
+      externalRanges.add(range);
+    }
+    if (externalRanges.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<Long, FileRange> entry : externalPages.entrySet()) {
+      PageId pageId = getPageId(entry.getKey(), cacheContext);
+      entry.getValue().getData().thenAccept(page -> {
+        MultiDimensionalMetricsSystem.EXTERNAL_DATA_READ.inc(page.remaining());
+        MetricsSystem.meter(MetricKey.CLIENT_CACHE_BYTES_READ_EXTERNAL.getName())
+            .mark(page.remaining());
+        mCacheManager.put(pageId, page.duplicate(), cacheContext);
+      });
+    }
+    for (FileRange range : externalRanges) {
+      MetricsSystem.meter(MetricKey.CLIENT_CACHE_BYTES_REQUESTED_EXTERNAL.getName())
+          .mark(range.getLength());
+      MetricsSystem.counter(MetricKey.CLIENT_CACHE_EXTERNAL_REQUESTS.getName()).inc();
+      List<FileRange> pages = new ArrayList<>(externalPages.subMap(
+          range.getOffset() / mPageSize, true, (range.getEnd() - 1) / mPageSize, true).values());
+      CompletableFuture.allOf(pages.stream().map(FileRange::getData)
+          .toArray(CompletableFuture[]::new)).whenComplete((v, t) -> {
+            if (t != null) {
+              range.getData().completeExceptionally(t);
+              return;
+            }
+            ByteBuffer buffer = allocate.apply(range.getLength());
+            for (FileRange page : pages) {
+              ByteBuffer pageData = page.getData().join().duplicate();
+              int start = (int) Math.max(0, range.getOffset() - page.getOffset());
+              int end = (int) Math.min(page.getLength(), range.getEnd() - page.getOffset());
+              pageData.limit(pageData.position() + end).position(pageData.position() + start);
+              buffer.put(pageData);
+            }
+            buffer.flip();
+            range.getData().complete(buffer);
+          });
+    }
+    try {
+      getExternalFileInStream().readVectored(new ArrayList<>(externalPages.values()),
+          ByteBuffer::allocate);
+    } catch (IOException | RuntimeException e) {
+      for (FileRange page : externalPages.values()) {
+        page.getData().completeExceptionally(e);
+      }
+      throw e;
+    }
+  }
+
   @Override
   public long getPos() {
     return mPosition;
@@ -15,9 +15,11 @@ import alluxio.AlluxioURI;
 import alluxio.client.file.DelegatingFileSystem;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemContext;
 import alluxio.client.file.URIStatus;
 import alluxio.client.file.cache.filter.CacheFilter;
 import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
 import alluxio.exception.AlluxioException;
 import alluxio.grpc.OpenFilePOptions;
 
@@ -27,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Optional;
+import javax.annotation.Nullable;
 
 /**
  * A FileSystem implementation with a local cache.
@@ -36,6 +39,9 @@ public class LocalCacheFileSystem extends DelegatingFileSystem {
   private final CacheManager mCacheManager;
   private final CacheFilter mCacheFilter;
   private final AlluxioConfiguration mConf;
+  /** The context owning the prefetch pool of the streams, null if prefetching is disabled. */
+  @Nullable
+  private final FileSystemContext mFsContext;
 
   /**
    * @param cacheManage cache manager
@@ -43,10 +49,24 @@ public class LocalCacheFileSystem extends DelegatingFileSystem {
    * @param conf the configuration, only respected for the first call
    */
   public LocalCacheFileSystem(CacheManager cacheManage, FileSystem fs, AlluxioConfiguration conf) {
+    this(cacheManage, fs, conf, null);
+  }
+
+  /**
+   * @param cacheManage cache manager
+   * @param fs a FileSystem instance to query on local cache miss
+   * @param conf the configuration, only respected for the first call
+   * @param fsContext the context of the file system, which owns the prefetch pool of the
+   *        streams, or null to disable prefetching
+   */
+  public LocalCacheFileSystem(CacheManager cacheManage, FileSystem fs, AlluxioConfiguration conf,
+      @Nullable FileSystemContext fsContext) {
     super(fs);
     mCacheManager = Preconditions.checkNotNull(cacheManage, "cacheManager");
     mConf = Preconditions.checkNotNull(conf, "conf");
     mCacheFilter = CacheFilter.create(conf);
+    mFsContext = conf.getInt(PropertyKey.USER_CLIENT_CACHE_PREFETCH_MAX_PAGES) > 0
+        ? fsContext : null;
   }
 
   @Override
@@ -72,6 +92,7 @@ public class LocalCacheFileSystem extends DelegatingFileSystem {
     }
     return new LocalCacheFileInStream(status,
         uriStatus -> mDelegatedFileSystem.openFile(status, options), mCacheManager, mConf,
-        Optional.empty());
+        Optional.empty(),
+        Optional.ofNullable(mFsContext).map(FileSystemContext::getCachePrefetchPool));
   }
 }
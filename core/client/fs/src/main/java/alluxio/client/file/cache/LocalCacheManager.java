@@ -17,9 +17,12 @@ import static alluxio.client.file.cache.CacheManager.State.NOT_IN_USE;
 import static alluxio.client.file.cache.CacheManager.State.READ_ONLY;
 import static alluxio.client.file.cache.CacheManager.State.READ_WRITE;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import alluxio.Constants;
 import alluxio.client.file.CacheContext;
+import alluxio.client.file.cache.filter.PageAdmissionFilter;
 import alluxio.client.file.cache.store.PageStoreDir;
 import alluxio.client.quota.CacheQuota;
 import alluxio.client.quota.CacheScope;
@@ -37,6 +40,7 @@ import alluxio.metrics.MultiDimensionalMetricsSystem;
 import alluxio.network.protocol.databuffer.DataFileChannel;
 import alluxio.resource.LockResource;
 import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.ThreadUtils;
 
 import com.codahale.metrics.Counter;
 import com.google.common.annotations.VisibleForTesting;
@@ -47,15 +51,22 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -109,6 +120,20 @@ public class LocalCacheManager implements CacheManager {
   private final Optional<ExecutorService> mAsyncCacheExecutor;
   /** Executor service for execute the cache ttl check tasks. */
   private final Optional<ScheduledExecutorService> mTtlEnforcerExecutor;
+  /** Executor service for checkpointing and reconciling the page index, if enabled. */
+  private final Optional<ScheduledExecutorService> mPageIndexExecutor;
+  /** Executor service for scrubbing the pages against their checksums, if enabled. */
+  private final Optional<ScheduledExecutorService> mScrubExecutor;
+  /**
+   * Pages restored from a page index which have not yet been checked to be present in their
+   * page store.
+   */
+  private final Set<PageId> mUnverifiedPages = ConcurrentHashMap.newKeySet();
+  /**
+   * Dirs restored from a page index not written on clean shutdown, which may miss pages until
+   * the dir has been scanned.
+   */
+  private final Set<PageStoreDir> mUnreconciledDirs = ConcurrentHashMap.newKeySet();
   private final ConcurrentHashSet<PageId> mPendingRequests;
   /**
    * State of this cache.
@@ -116,6 +141,8 @@ public class LocalCacheManager implements CacheManager {
   private final AtomicReference<CacheManager.State> mState = new AtomicReference<>();
   private final CacheManagerOptions mOptions;
   private final Optional<Predicate<PageInfo>> mPagePredicate;
+  /** Filter deciding whether a page is worth evicting another page for. */
+  private final PageAdmissionFilter mAdmissionFilter;
 
   /**
    * @param options       the options of local cache manager
@@ -150,6 +177,7 @@ public class LocalCacheManager implements CacheManager {
     mPageMetaStore = pageMetaStore;
     mPageStoreDirs = pageMetaStore.getStoreDirs();
     mOptions = options;
+    mAdmissionFilter = PageAdmissionFilter.create(options);
     mCacheSize = mPageStoreDirs.stream().map(PageStoreDir::getCapacityBytes).reduce(0L, Long::sum);
     for (int i = 0; i < LOCK_SIZE; i++) {
       mPageLocks[i] = new ReentrantReadWriteLock(true /* fair ordering */);
@@ -157,11 +185,7 @@ public class LocalCacheManager implements CacheManager {
     mPendingRequests = new ConcurrentHashSet<>();
     mAsyncCacheExecutor =
         options.isAsyncWriteEnabled()
-            ? Optional.of(new ThreadPoolExecutor(mOptions.getAsyncWriteThreads(),
-            mOptions.getAsyncWriteThreads(), 60, TimeUnit.SECONDS,
-                new SynchronousQueue<>(), ThreadFactoryUtils.build(
-                        "alluxio-async-cache-executor", true),
-                new ThreadPoolExecutor.CallerRunsPolicy()))
+            ? Optional.of(createAsyncCacheExecutor(options))
             : Optional.empty();
     mInitService =
         options.isAsyncRestoreEnabled() ? Optional.of(Executors.newSingleThreadExecutor(
@@ -186,11 +210,65 @@ public class LocalCacheManager implements CacheManager {
       mTtlEnforcerExecutor = Optional.empty();
       mPagePredicate = Optional.empty();
     }
+    if (options.isPageIndexEnabled()) {
+      mPageIndexExecutor = Optional.of(newScheduledThreadPool(1,
+          ThreadFactoryUtils.build("alluxio-page-index-executor", true)));
+      long intervalMs = options.getPageIndexCheckpointIntervalMs();
+      if (intervalMs > 0) {
+        mPageIndexExecutor.get().scheduleWithFixedDelay(() -> writePageIndex(false),
+            intervalMs, intervalMs, MILLISECONDS);
+      }
+    } else {
+      mPageIndexExecutor = Optional.empty();
+    }
+    if (options.getScrubBandwidth() > 0) {
+      mScrubExecutor = Optional.of(newScheduledThreadPool(1,
+          ThreadFactoryUtils.build("alluxio-page-scrubber", true)));
+      PageScrubber scrubber = new PageScrubber(mPageMetaStore, this::getPageLock, this::delete,
+          options.getScrubBandwidth());
+      long intervalMs = Math.max(options.getScrubIntervalMs(), 1);
+      mScrubExecutor.get().scheduleWithFixedDelay(() -> {
+        if (mState.get() == READ_WRITE) {
+          scrubber.run();
+        }
+      }, intervalMs, intervalMs, MILLISECONDS);
+    } else {
+      mScrubExecutor = Optional.empty();
+    }
     Metrics.registerGauges(mCacheSize, mPageMetaStore);
     mState.set(READ_ONLY);
     Metrics.STATE.inc();
   }
 
+  /**
+   * Creates the executor for async cache writes. Without a queue, pages are handed off to idle
+   * threads and written by the caller if all threads are busy. With a queue, the caller waits up
+   * to the configured timeout for space in a full queue, after which the page is rejected so
+   * that cache writes never hold up reads for long.
+   */
+  private static ExecutorService createAsyncCacheExecutor(CacheManagerOptions options) {
+    int threads = options.getAsyncWriteThreads();
+    ThreadFactory threadFactory = ThreadFactoryUtils.build("alluxio-async-cache-executor", true);
+    if (options.getAsyncWriteQueueSize() <= 0) {
+      return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+          new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    long timeoutMs = options.getAsyncWriteQueueTimeoutMs();
+    return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(options.getAsyncWriteQueueSize()), threadFactory,
+        (task, executor) -> {
+          try {
+            if (timeoutMs > 0 && !executor.isShutdown()
+                && executor.getQueue().offer(task, timeoutMs, MILLISECONDS)) {
+              return;
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          throw new RejectedExecutionException("Async cache write queue is full");
+        });
+  }
+
   @Override
   public Optional<DataFileChannel> getDataFileChannel(
       PageId pageId, int pageOffset, int bytesToRead, CacheContext cacheContext)
@@ -208,13 +286,18 @@ public class LocalCacheManager implements CacheManager {
     long startTime = System.nanoTime();
     try (LockResource r = new LockResource(pageLock.readLock())) {
       PageInfo pageInfo;
-      try (LockResource r2 = new LockResource(mPageMetaStore.getLock().readLock())) {
-        pageInfo = mPageMetaStore.getPageInfo(pageId); //check if page exists and refresh LRU items
+      try {
+        pageInfo = getPageInfo(pageId); //check if page exists and refresh LRU items
       } catch (PageNotFoundException e) {
         LOG.debug("getDataChannel({},pageOffset={}) fails due to page not found in metastore",
             pageId, pageOffset);
         return Optional.empty();
       }
+      if (!mUnverifiedPages.isEmpty() && !verifyIndexedPage(pageInfo)) {
+        LOG.debug("getDataChannel({},pageOffset={}) fails due to stale page index",
+            pageId, pageOffset);
+        return Optional.empty();
+      }
 
       try {
         DataFileChannel dataFileChannel = pageInfo.getLocalCacheDir().getPageStore()
@@ -249,6 +332,21 @@ public class LocalCacheManager implements CacheManager {
     }
   }
 
+  /**
+   * Looks up a page and records the access with the evictor. The caller must hold the page lock.
+   *
+   * @param pageId page identifier
+   * @return the page info
+   */
+  private PageInfo getPageInfo(PageId pageId) throws PageNotFoundException {
+    if (mPageMetaStore.supportsLockFreeGet()) {
+      return mPageMetaStore.getPageInfo(pageId);
+    }
+    try (LockResource r = new LockResource(mPageMetaStore.getLock().readLock())) {
+      return mPageMetaStore.getPageInfo(pageId);
+    }
+  }
+
   /**
    * @param pageId page identifier
    * @return the page lock id
@@ -296,6 +394,7 @@ public class LocalCacheManager implements CacheManager {
     NO_SPACE_LEFT,
     OK,
     OTHER,
+    REJECTED,
   }
 
   /**
@@ -345,6 +444,7 @@ public class LocalCacheManager implements CacheManager {
     if (!mPendingRequests.add(pageId)) { // already queued
       return false;
     }
+    Metrics.PUT_ASYNC_PENDING_PAGES.inc();
     try {
       mAsyncCacheExecutor.get().submit(() -> {
         try {
@@ -354,12 +454,15 @@ public class LocalCacheManager implements CacheManager {
           }
         } finally {
           mPendingRequests.remove(pageId);
+          Metrics.PUT_ASYNC_PENDING_PAGES.dec();
         }
       });
     } catch (RejectedExecutionException e) { // queue is full, skip
       // RejectedExecutionException may be thrown in extreme cases when the
-      // highly concurrent caching workloads. In these cases, return false
+      // highly concurrent caching workloads, or when the async write queue stays full.
+      // In these cases, drop the page and return false
       mPendingRequests.remove(pageId);
+      Metrics.PUT_ASYNC_PENDING_PAGES.dec();
       Metrics.PUT_ASYNC_REJECTION_ERRORS.inc();
       Metrics.PUT_ERRORS.inc();
       LOG.debug("put({},{} bytes) fails due to full queue", pageId,
@@ -373,8 +476,11 @@ public class LocalCacheManager implements CacheManager {
   private boolean putInternal(PageId pageId, ByteBuffer page, CacheContext cacheContext) {
     PutResult result = PutResult.OK;
     boolean forcedToEvict = false;
+    // computed once outside of the locks, the page is the same for all the attempts
+    OptionalLong checksum = mOptions.isPageChecksumEnabled()
+        ? OptionalLong.of(PageScrubber.checksum(page)) : OptionalLong.empty();
     for (int i = 0; i <= mOptions.getMaxEvictionRetries(); i++) {
-      result = putAttempt(pageId, page, cacheContext, forcedToEvict);
+      result = putAttempt(pageId, page, checksum, cacheContext, forcedToEvict);
       switch (result) {
         case OK:
           return true;
@@ -393,6 +499,10 @@ public class LocalCacheManager implements CacheManager {
           // otherwise hitratio may drop due to inability to write new data to cache.
           forcedToEvict = true;
           continue;
+        case REJECTED:
+          // the admission filter prefers keeping the victim, no need to retry.
+          Metrics.PUT_ADMISSION_REJECTIONS.inc();
+          return false;
         case OTHER:
           // fall through intentionally
         default:
@@ -425,8 +535,8 @@ public class LocalCacheManager implements CacheManager {
     }
   }
 
-  private PutResult putAttempt(PageId pageId, ByteBuffer page, CacheContext cacheContext,
-                               boolean forcedToEvict) {
+  private PutResult putAttempt(PageId pageId, ByteBuffer page, OptionalLong checksum,
+                               CacheContext cacheContext, boolean forcedToEvict) {
     LOG.debug("putInternal({},{} bytes) enters", pageId, page.remaining());
     if (pageId.getPageIndex() > 0 && page.remaining() == 0) {
       LOG.error("cannot put an empty page except for the first page."
@@ -449,7 +559,7 @@ public class LocalCacheManager implements CacheManager {
             cacheContext.getCacheScope(),
             cacheContext.getCacheQuota(), forcedToEvict);
         if (scopeToEvict == null) {
-          addPageToMetaStore(pageId, page, cacheContext, pageStoreDir);
+          addPageToMetaStore(pageId, page, checksum, cacheContext, pageStoreDir);
         } else {
           if (mOptions.isQuotaEnabled()) {
             victimPageInfo =
@@ -463,6 +573,12 @@ public class LocalCacheManager implements CacheManager {
             Metrics.PUT_EVICTION_ERRORS.inc();
             return PutResult.OTHER;
           }
+          if (!forcedToEvict
+              && !mAdmissionFilter.admit(pageId, victimPageInfo.getPageId())) {
+            LOG.debug("{} is rejected by admission filter in favor of {}", pageId,
+                victimPageInfo.getPageId());
+            return PutResult.REJECTED;
+          }
         }
       }
       if (scopeToEvict == null) {
@@ -509,7 +625,7 @@ public class LocalCacheManager implements CacheManager {
         scopeToEvict = checkScopeToEvict(page.remaining(), pageStoreDir,
             cacheContext.getCacheScope(), cacheContext.getCacheQuota(), false);
         if (scopeToEvict == null) {
-          addPageToMetaStore(pageId, page, cacheContext, pageStoreDir);
+          addPageToMetaStore(pageId, page, checksum, cacheContext, pageStoreDir);
         }
       }
       // phase2: remove victim and add new page in pagestore
@@ -561,10 +677,11 @@ public class LocalCacheManager implements CacheManager {
     }
   }
 
-  private void addPageToMetaStore(PageId pageId, ByteBuffer page, CacheContext cacheContext,
-                                  PageStoreDir pageStoreDir) {
+  private void addPageToMetaStore(PageId pageId, ByteBuffer page, OptionalLong checksum,
+                                  CacheContext cacheContext, PageStoreDir pageStoreDir) {
     PageInfo pageInfo =
         new PageInfo(pageId, page.remaining(), cacheContext.getCacheScope(), pageStoreDir);
+    checksum.ifPresent(pageInfo::setChecksum);
     if (cacheContext.isTemporary()) {
       mPageMetaStore.addTempPage(pageId, pageInfo);
     } else {
@@ -589,10 +706,11 @@ public class LocalCacheManager implements CacheManager {
     long pageSize = -1L;
     try (LockResource r = new LockResource(pageLock.readLock())) {
       PageInfo pageInfo;
-      try (LockResource r2 = new LockResource(mPageMetaStore.getLock().readLock())) {
-        pageInfo = mPageMetaStore.getPageInfo(pageId); //check if page exists and refresh LRU items
+      try {
+        pageInfo = getPageInfo(pageId); //check if page exists and refresh LRU items
       } catch (PageNotFoundException e) {
         LOG.debug("get({},pageOffset={}) fails due to page not found", pageId, pageOffset);
+        mAdmissionFilter.recordAccess(pageId);
         return 0;
       }
       pageSize = pageInfo.getPageSize();
@@ -614,16 +732,21 @@ public class LocalCacheManager implements CacheManager {
       Metrics.GET_ERRORS.inc();
       return -1;
     }
+    mAdmissionFilter.recordAccess(pageId);
     ReadWriteLock pageLock = getPageLock(pageId);
     long startTime = System.nanoTime();
     try (LockResource r = new LockResource(pageLock.readLock())) {
       PageInfo pageInfo;
-      try (LockResource r2 = new LockResource(mPageMetaStore.getLock().readLock())) {
-        pageInfo = mPageMetaStore.getPageInfo(pageId); //check if page exists and refresh LRU items
+      try {
+        pageInfo = getPageInfo(pageId); //check if page exists and refresh LRU items
       } catch (PageNotFoundException e) {
         LOG.debug("get({},pageOffset={}) fails due to page not found", pageId, pageOffset);
         return 0;
       }
+      if (!mUnverifiedPages.isEmpty() && !verifyIndexedPage(pageInfo)) {
+        LOG.debug("get({},pageOffset={}) fails due to stale page index", pageId, pageOffset);
+        return 0;
+      }
       int bytesRead =
           getPage(pageInfo, pageOffset, bytesToRead, buffer, cacheContext);
       if (bytesRead <= 0) {
@@ -765,6 +888,7 @@ public class LocalCacheManager implements CacheManager {
         try (LockResource r = new LockResource(mPageMetaStore.getLock().writeLock())) {
           mPageMetaStore.reset();
         }
+        mUnverifiedPages.clear();
         try {
           pageStoreDir.reset();
         } catch (IOException e) {
@@ -793,17 +917,13 @@ public class LocalCacheManager implements CacheManager {
       return false;
     }
     try {
-      pageStoreDir.scanPages(optionalPageInfo -> {
-        if (optionalPageInfo.isPresent()) {
-          PageInfo pageInfo = optionalPageInfo.get();
-          if (mPagePredicate.isPresent()) {
-            addPageBasedOnPredicate(pageStoreDir, pageInfo);
-          }
-          else {
-            addPageToDir(pageStoreDir, pageInfo);
+      if (!restoreFromPageIndex(pageStoreDir)) {
+        pageStoreDir.scanPages(optionalPageInfo -> {
+          if (optionalPageInfo.isPresent()) {
+            restorePage(pageStoreDir, optionalPageInfo.get());
           }
-        }
-      });
+        });
+      }
     } catch (IOException | RuntimeException e) {
       LOG.error("Failed to restore PageStore", e);
       return false;
@@ -816,6 +936,150 @@ public class LocalCacheManager implements CacheManager {
     return true;
   }
 
+  /**
+   * Restores the pages of a dir from its page index. The index is removed once read, so that it
+   * is never used again after the pages it describes have changed.
+   *
+   * @param pageStoreDir the dir to restore
+   * @return true if the dir has been restored, false if it has no valid index
+   */
+  private boolean restoreFromPageIndex(PageStoreDir pageStoreDir) {
+    Optional<Path> indexPath = pageStoreDir.getIndexPath();
+    if (!mPageIndexExecutor.isPresent() || !indexPath.isPresent()) {
+      return false;
+    }
+    Optional<PageIndex> index =
+        PageIndex.read(indexPath.get(), pageStoreDir, mOptions.getPageSize());
+    try {
+      Files.deleteIfExists(indexPath.get());
+    } catch (IOException e) {
+      LOG.warn("Failed to remove page index {}, falling back to directory scan",
+          indexPath.get(), e);
+      return false;
+    }
+    if (!index.isPresent()) {
+      return false;
+    }
+    LOG.info("Restoring PageStoreDir ({}) from page index with {} pages (clean: {})",
+        pageStoreDir.getRootPath(), index.get().getPages().size(), index.get().isClean());
+    for (PageInfo pageInfo : index.get().getPages()) {
+      mUnverifiedPages.add(pageInfo.getPageId());
+      restorePage(pageStoreDir, pageInfo);
+    }
+    if (!index.get().isClean()) {
+      mUnreconciledDirs.add(pageStoreDir);
+      mPageIndexExecutor.get().submit(() -> reconcilePageIndex(pageStoreDir));
+    }
+    return true;
+  }
+
+  /**
+   * Scans a dir restored from a page index which was not written on clean shutdown, adding the
+   * pages written after the index to the meta store.
+   *
+   * @param pageStoreDir the dir to scan
+   */
+  private void reconcilePageIndex(PageStoreDir pageStoreDir) {
+    try {
+      pageStoreDir.scanPages(optionalPageInfo -> {
+        if (optionalPageInfo.isPresent()
+            && !mPageMetaStore.hasPage(optionalPageInfo.get().getPageId())) {
+          // the page may also be deleted concurrently after the scan, check it on access
+          mUnverifiedPages.add(optionalPageInfo.get().getPageId());
+          restorePage(pageStoreDir, optionalPageInfo.get());
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to reconcile page index of PageStoreDir ({})",
+          pageStoreDir.getRootPath(), e);
+      return;
+    }
+    mUnreconciledDirs.remove(pageStoreDir);
+    LOG.info("PageStoreDir ({}) reconciled with page index", pageStoreDir.getRootPath());
+  }
+
+  /**
+   * Persists the page index of every dir which supports it.
+   *
+   * @param clean whether the cache is being closed
+   */
+  private void writePageIndex(boolean clean) {
+    if (mState.get() != READ_WRITE) {
+      return;
+    }
+    Map<PageStoreDir, List<PageInfo>> pages = new HashMap<>();
+    for (PageStoreDir pageStoreDir : mPageStoreDirs) {
+      if (pageStoreDir.getIndexPath().isPresent()) {
+        pages.put(pageStoreDir, new ArrayList<>());
+      }
+    }
+    if (pages.isEmpty()) {
+      return;
+    }
+    try (LockResource r = new LockResource(mPageMetaStore.getLock().readLock())) {
+      mPageMetaStore.forEachPage(pageInfo -> {
+        List<PageInfo> dirPages = pages.get(pageInfo.getLocalCacheDir());
+        if (dirPages != null
+            && !pageInfo.getLocalCacheDir().hasTempFile(pageInfo.getPageId().getFileId())) {
+          dirPages.add(pageInfo);
+        }
+      });
+    }
+    for (Map.Entry<PageStoreDir, List<PageInfo>> entry : pages.entrySet()) {
+      PageStoreDir pageStoreDir = entry.getKey();
+      try {
+        PageIndex.write(pageStoreDir.getIndexPath().get(), entry.getValue(),
+            mOptions.getPageSize(), clean && !mUnreconciledDirs.contains(pageStoreDir));
+      } catch (IOException e) {
+        LOG.warn("Failed to write page index of PageStoreDir ({})",
+            pageStoreDir.getRootPath(), e);
+        Metrics.PAGE_INDEX_WRITE_ERRORS.inc();
+      }
+    }
+  }
+
+  /**
+   * Checks that a page restored from a page index is still present in its page store, removing
+   * it otherwise. The page lock must be acquired before calling this method.
+   *
+   * @param pageInfo the page info
+   * @return false if the page has been removed, true otherwise
+   */
+  private boolean verifyIndexedPage(PageInfo pageInfo) {
+    PageId pageId = pageInfo.getPageId();
+    if (!mUnverifiedPages.contains(pageId)) {
+      return true;
+    }
+    PageStore pageStore = pageInfo.getLocalCacheDir().getPageStore();
+    if (pageStore.isPageValid(pageId, pageInfo.getPageSize())) {
+      mUnverifiedPages.remove(pageId);
+      return true;
+    }
+    Metrics.PAGE_INDEX_STALE_PAGES.inc();
+    try {
+      //best efforts to delete the mismatched file without acquire the write lock
+      pageStore.delete(pageId);
+    } catch (IOException | PageNotFoundException e) {
+      // the page file is missing
+    }
+    try (LockResource r = new LockResource(mPageMetaStore.getLock().writeLock())) {
+      mPageMetaStore.removePage(pageId);
+    } catch (PageNotFoundException e) {
+      // removed by a concurrent reader of the same page
+    }
+    mUnverifiedPages.remove(pageId);
+    return false;
+  }
+
+  private void restorePage(PageStoreDir pageStoreDir, PageInfo pageInfo) {
+    if (mPagePredicate.isPresent()) {
+      addPageBasedOnPredicate(pageStoreDir, pageInfo);
+    }
+    else {
+      addPageToDir(pageStoreDir, pageInfo);
+    }
+  }
+
   private void addPageBasedOnPredicate(PageStoreDir pageStoreDir, PageInfo pageInfo) {
     boolean tested = mPagePredicate.get().test(pageInfo);
     if (!tested) {
@@ -850,6 +1114,9 @@ public class LocalCacheManager implements CacheManager {
     try (LockResource r = new LockResource(pageLock.writeLock())) {
       boolean enoughSpace;
       try (LockResource r2 = new LockResource(mPageMetaStore.getLock().writeLock())) {
+        if (mPageMetaStore.hasPage(pageId)) {
+          return;
+        }
         enoughSpace = pageStoreDir.getCachedBytes() + pageInfo.getPageSize()
             <= pageStoreDir.getCapacityBytes();
         if (enoughSpace) {
@@ -941,12 +1208,19 @@ public class LocalCacheManager implements CacheManager {
 
   @Override
   public void close() throws Exception {
+    if (mPageIndexExecutor.isPresent()) {
+      ThreadUtils.shutdownAndAwaitTermination(mPageIndexExecutor.get(),
+          10 * Constants.SECOND_MS);
+      writePageIndex(true);
+    }
+    mScrubExecutor.ifPresent(ExecutorService::shutdownNow);
     for (PageStoreDir pageStoreDir : mPageStoreDirs) {
       pageStoreDir.close();
     }
     mPageMetaStore.reset();
     mInitService.ifPresent(ExecutorService::shutdownNow);
-    mAsyncCacheExecutor.ifPresent(ExecutorService::shutdownNow);
+    mAsyncCacheExecutor.ifPresent(executor ->
+        Metrics.PUT_ASYNC_PENDING_PAGES.dec(executor.shutdownNow().size()));
     mTtlEnforcerExecutor.ifPresent(ExecutorService::shutdownNow);
   }
 
@@ -1088,6 +1362,16 @@ public class LocalCacheManager implements CacheManager {
      */
     private static final Counter GET_STORE_READ_ERRORS =
         MetricsSystem.counter(MetricKey.CLIENT_CACHE_GET_STORE_READ_ERRORS.getName());
+    /**
+     * Errors when writing the page index.
+     */
+    private static final Counter PAGE_INDEX_WRITE_ERRORS =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PAGE_INDEX_WRITE_ERRORS.getName());
+    /**
+     * Pages restored from the page index found missing or mismatched on access.
+     */
+    private static final Counter PAGE_INDEX_STALE_PAGES =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PAGE_INDEX_STALE_PAGES.getName());
     /**
      * Total number of pages discarded when restoring the page store.
      */
@@ -1098,6 +1382,16 @@ public class LocalCacheManager implements CacheManager {
      */
     private static final Counter PUT_ERRORS =
         MetricsSystem.counter(MetricKey.CLIENT_CACHE_PUT_ERRORS.getName());
+    /**
+     * Pages not added because the admission filter preferred keeping the eviction victim.
+     */
+    private static final Counter PUT_ADMISSION_REJECTIONS =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PUT_ADMISSION_REJECTIONS.getName());
+    /**
+     * Pages waiting to be or being written to the cache asynchronously.
+     */
+    private static final Counter PUT_ASYNC_PENDING_PAGES =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PUT_ASYNC_PENDING_PAGES.getName());
     /**
      * Errors when adding pages due to failed injection to async write queue.
      */
@@ -0,0 +1,121 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A lossy, striped buffer of page accesses. Reader threads record accesses into the stripe
+ * selected by their thread id without blocking, and a single thread at a time drains all stripes
+ * to replay the accesses against the evictors. When a stripe is full or contended, the access is
+ * dropped, which only costs some precision of the eviction order.
+ */
+@ThreadSafe
+final class PageAccessBuffer {
+  private final Stripe[] mStripes;
+  private final int mMask;
+
+  /**
+   * @param numStripes the number of stripes, rounded up to a power of two
+   * @param stripeCapacity the capacity of each stripe, rounded up to a power of two
+   */
+  PageAccessBuffer(int numStripes, int stripeCapacity) {
+    Preconditions.checkArgument(numStripes > 0, "numStripes should be positive");
+    Preconditions.checkArgument(stripeCapacity > 0, "stripeCapacity should be positive");
+    int stripes = ceilingPowerOfTwo(numStripes);
+    mStripes = new Stripe[stripes];
+    for (int i = 0; i < stripes; i++) {
+      mStripes[i] = new Stripe(ceilingPowerOfTwo(stripeCapacity));
+    }
+    mMask = stripes - 1;
+  }
+
+  /**
+   * Records an access to a page.
+   *
+   * @param pageInfo the page accessed
+   * @return true if the stripe of the calling thread is full and should be drained
+   */
+  boolean offer(PageInfo pageInfo) {
+    int index = (int) Thread.currentThread().getId() & mMask;
+    return mStripes[index].offer(pageInfo);
+  }
+
+  /**
+   * Drains all recorded accesses. Must not be called concurrently from multiple threads.
+   *
+   * @param consumer the consumer of the accesses
+   */
+  void drainTo(Consumer<PageInfo> consumer) {
+    for (Stripe stripe : mStripes) {
+      stripe.drainTo(consumer);
+    }
+  }
+
+  private static int ceilingPowerOfTwo(int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+
+  /**
+   * A bounded multi-producer single-consumer ring buffer.
+   */
+  private static final class Stripe {
+    private final AtomicReferenceArray<PageInfo> mBuffer;
+    private final int mCapacity;
+    private final int mMask;
+    private final AtomicLong mWriteCounter = new AtomicLong();
+    /** Only updated by the draining thread. */
+    private volatile long mReadCounter;
+
+    Stripe(int capacity) {
+      mBuffer = new AtomicReferenceArray<>(capacity);
+      mCapacity = capacity;
+      mMask = capacity - 1;
+    }
+
+    boolean offer(PageInfo pageInfo) {
+      long head = mReadCounter;
+      long tail = mWriteCounter.get();
+      long size = tail - head;
+      if (size >= mCapacity) {
+        return true;
+      }
+      if (mWriteCounter.compareAndSet(tail, tail + 1)) {
+        mBuffer.lazySet((int) tail & mMask, pageInfo);
+        return size + 1 >= mCapacity;
+      }
+      // lost the race against another thread on the same stripe, drop this access
+      return false;
+    }
+
+    void drainTo(Consumer<PageInfo> consumer) {
+      long head = mReadCounter;
+      long tail = mWriteCounter.get();
+      for (; head < tail; head++) {
+        int index = (int) head & mMask;
+        PageInfo pageInfo = mBuffer.get(index);
+        if (pageInfo == null) {
+          // the slot is claimed but not yet published, continue in the next drain
+          break;
+        }
+        mBuffer.lazySet(index, null);
+        consumer.accept(pageInfo);
+      }
+      mReadCounter = head;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.client.file.cache.store.PageStoreDir;
+import alluxio.client.quota.CacheScope;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The persisted index of the pages cached in a {@link PageStoreDir}, which allows restoring the
+ * page meta store by reading one file sequentially instead of scanning every page file.
+ *
+ * An index is written to a temporary file which is then atomically renamed, and ends with a
+ * checksum of its content, so readers either see a complete index or none at all. The index only
+ * reflects the pages at the time it was written: pages removed afterwards must be detected when
+ * they are accessed, and pages added afterwards are unknown to it unless the index was written on
+ * clean shutdown.
+ */
+final class PageIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(PageIndex.class);
+
+  private static final long MAGIC = 0x416c6c7578696f49L;
+  /** Version 2 adds the page checksums, indexes of version 1 are still read. */
+  private static final int VERSION = 2;
+  private static final int VERSION_WITHOUT_CHECKSUM = 1;
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int BUFFER_SIZE = 1024 * 1024;
+
+  private final List<PageInfo> mPages;
+  private final boolean mClean;
+
+  private PageIndex(List<PageInfo> pages, boolean clean) {
+    mPages = pages;
+    mClean = clean;
+  }
+
+  /**
+   * @return the pages in the index
+   */
+  List<PageInfo> getPages() {
+    return mPages;
+  }
+
+  /**
+   * @return whether the index was written on clean shutdown, in which case it covers all pages
+   *         in the dir
+   */
+  boolean isClean() {
+    return mClean;
+  }
+
+  /**
+   * Writes an index, replacing any existing one at the same path.
+   *
+   * @param path the path of the index
+   * @param pages the pages to persist
+   * @param pageSize the page size of the cache
+   * @param clean whether the index is written on clean shutdown
+   */
+  static void write(Path path, Collection<PageInfo> pages, long pageSize, boolean clean)
+      throws IOException {
+    Path tempPath = Paths.get(path + TEMP_SUFFIX);
+    try (FileOutputStream fileOut = new FileOutputStream(tempPath.toFile())) {
+      CheckedOutputStream checkedOut = new CheckedOutputStream(
+          new BufferedOutputStream(fileOut, BUFFER_SIZE), new CRC32());
+      DataOutputStream out = new DataOutputStream(checkedOut);
+      out.writeLong(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(pageSize);
+      out.writeBoolean(clean);
+      out.writeInt(pages.size());
+      for (PageInfo pageInfo : pages) {
+        out.writeUTF(pageInfo.getPageId().getFileId());
+        out.writeLong(pageInfo.getPageId().getPageIndex());
+        out.writeLong(pageInfo.getPageSize());
+        out.writeLong(pageInfo.getCreatedTimestamp());
+        OptionalLong checksum = pageInfo.getChecksum();
+        out.writeBoolean(checksum.isPresent());
+        out.writeLong(checksum.orElse(0));
+      }
+      out.writeLong(checkedOut.getChecksum().getValue());
+      out.flush();
+      fileOut.getFD().sync();
+    }
+    Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Reads an index. All pages are restored in the global scope, same as a directory scan.
+   *
+   * @param path the path of the index
+   * @param pageStoreDir the dir the pages belong to
+   * @param pageSize the page size of the cache
+   * @return the index, or empty if there is no valid index at the path
+   */
+  static Optional<PageIndex> read(Path path, PageStoreDir pageStoreDir, long pageSize) {
+    try (CheckedInputStream checkedIn = new CheckedInputStream(
+        new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE), new CRC32())) {
+      DataInputStream in = new DataInputStream(checkedIn);
+      if (in.readLong() != MAGIC) {
+        LOG.warn("Ignoring page index {} of an unknown format", path);
+        return Optional.empty();
+      }
+      int version = in.readInt();
+      if (version != VERSION && version != VERSION_WITHOUT_CHECKSUM) {
+        LOG.warn("Ignoring page index {} of an unknown version {}", path, version);
+        return Optional.empty();
+      }
+      long indexPageSize = in.readLong();
+      if (indexPageSize != pageSize) {
+        LOG.warn("Ignoring page index {} written for page size {} instead of {}",
+            path, indexPageSize, pageSize);
+        return Optional.empty();
+      }
+      boolean clean = in.readBoolean();
+      int numPages = in.readInt();
+      if (numPages < 0) {
+        LOG.warn("Ignoring page index {} with invalid page count {}", path, numPages);
+        return Optional.empty();
+      }
+      List<PageInfo> pages = new ArrayList<>(numPages);
+      for (int i = 0; i < numPages; i++) {
+        PageId pageId = new PageId(in.readUTF(), in.readLong());
+        long size = in.readLong();
+        long createdTime = in.readLong();
+        PageInfo pageInfo = new PageInfo(pageId, size, CacheScope.GLOBAL, pageStoreDir,
+            createdTime);
+        if (version != VERSION_WITHOUT_CHECKSUM) {
+          boolean hasChecksum = in.readBoolean();
+          long checksum = in.readLong();
+          if (hasChecksum) {
+            pageInfo.setChecksum(checksum);
+          }
+        }
+        pages.add(pageInfo);
+      }
+      long checksum = checkedIn.getChecksum().getValue();
+      if (in.readLong() != checksum) {
+        LOG.warn("Ignoring page index {} with mismatched checksum", path);
+        return Optional.empty();
+      }
+      return Optional.of(new PageIndex(pages, clean));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      LOG.warn("Failed to read page index {}", path, e);
+      return Optional.empty();
+    }
+  }
+}
@@ -17,6 +17,7 @@ import alluxio.client.quota.CacheScope;
 import com.google.common.base.MoreObjects;
 
 import java.util.Objects;
+import java.util.OptionalLong;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -29,6 +30,7 @@ public class PageInfo {
   private final CacheScope mCacheScope;
   private final PageStoreDir mLocalCacheDir;
   private final long mCreatedTimestamp;
+  private volatile OptionalLong mChecksum = OptionalLong.empty();
 
   /**
    * @param pageId page id
@@ -101,6 +103,20 @@ public class PageInfo {
     return mCreatedTimestamp;
   }
 
+  /**
+   * @return the CRC64 checksum of the page content, if known
+   */
+  public OptionalLong getChecksum() {
+    return mChecksum;
+  }
+
+  /**
+   * @param checksum the CRC64 checksum of the page content
+   */
+  public void setChecksum(long checksum) {
+    mChecksum = OptionalLong.of(checksum);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * The metadata store for pages stored in cache.
@@ -35,6 +36,9 @@ public interface PageMetaStore extends CacheStatus {
     if (options.isQuotaEnabled()) {
       return new QuotaPageMetaStore(options.getCacheEvictorOptions(), dirs);
     }
+    if (options.isConcurrentMetaStoreEnabled()) {
+      return new ConcurrentPageMetaStore(dirs);
+    }
     return new DefaultPageMetaStore(dirs);
   }
 
@@ -43,6 +47,17 @@ public interface PageMetaStore extends CacheStatus {
    */
   ReadWriteLock getLock();
 
+  /**
+   * Whether {@link #getPageInfo(PageId)} can be called without holding {@link #getLock()}.
+   * Callers must still hold the page level lock to guard against concurrent removal of the
+   * same page.
+   *
+   * @return true if page lookups do not require the metadata lock
+   */
+  default boolean supportsLockFreeGet() {
+    return false;
+  }
+
   /**
    * @param pageId page identifier
    * @return if a page is stored in cache
@@ -104,6 +119,15 @@ public interface PageMetaStore extends CacheStatus {
    */
   PageInfo getPageInfo(PageId pageId) throws PageNotFoundException;
 
+  /**
+   * Gets the info of a page without recording an access to it, for background tasks which must
+   * not affect the eviction order.
+   *
+   * @param pageId page identifier
+   * @return page info
+   */
+  PageInfo peekPageInfo(PageId pageId) throws PageNotFoundException;
+
   /**
    * Removes a page.
    *
@@ -143,6 +167,13 @@ public interface PageMetaStore extends CacheStatus {
    */
   Set<PageInfo> getAllPagesByFileId(String fileId);
 
+  /**
+   * Applies the given action to the info of every page in this meta store, including pages of
+   * temporary files.
+   * @param action the action to apply
+   */
+  void forEachPage(Consumer<PageInfo> action);
+
   /**
    * @param pageStoreDir
    * @return a page to evict
@@ -0,0 +1,169 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.exception.PageNotFoundException;
+import alluxio.file.ByteArrayTargetBuffer;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.resource.LockResource;
+import alluxio.util.CRC64;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Verifies the pages of a cache against their checksums, reading at most a given number of bytes
+ * per second so that scrubbing does not compete with the reads and writes of the cache. A page
+ * not matching its checksum is removed from the cache, so that the next read fetches it again.
+ * A page without a checksum, e.g. restored by scanning a page store dir, gets the checksum of its
+ * current content. Each run is a pass over all the pages present when it starts.
+ */
+final class PageScrubber implements Runnable {
+  private static final Logger LOG = LoggerFactory.getLogger(PageScrubber.class);
+  private static final int CHECKSUM_CHUNK_SIZE = 64 * 1024;
+
+  private final PageMetaStore mPageMetaStore;
+  private final Function<PageId, ReadWriteLock> mPageLocks;
+  private final Predicate<PageId> mRemovePage;
+  private final RateLimiter mRateLimiter;
+
+  /**
+   * @param pageMetaStore the meta store of the pages
+   * @param pageLocks the lock of each page
+   * @param removePage removes a page from the cache, returning whether it was removed
+   * @param bytesPerSecond the maximum number of bytes read per second
+   */
+  PageScrubber(PageMetaStore pageMetaStore, Function<PageId, ReadWriteLock> pageLocks,
+      Predicate<PageId> removePage, long bytesPerSecond) {
+    mPageMetaStore = pageMetaStore;
+    mPageLocks = pageLocks;
+    mRemovePage = removePage;
+    mRateLimiter = RateLimiter.create(bytesPerSecond);
+  }
+
+  /**
+   * Computes the checksum of a page, without changing the position of the buffer.
+   *
+   * @param page the content of the page
+   * @return the CRC64 checksum of the page
+   */
+  static long checksum(ByteBuffer page) {
+    CRC64 crc64 = new CRC64();
+    if (page.hasArray()) {
+      crc64.update(page.array(), page.arrayOffset() + page.position(), page.remaining());
+      return crc64.getValue();
+    }
+    ByteBuffer content = page.duplicate();
+    byte[] chunk = new byte[Math.min(CHECKSUM_CHUNK_SIZE, content.remaining())];
+    while (content.hasRemaining()) {
+      int length = Math.min(chunk.length, content.remaining());
+      content.get(chunk, 0, length);
+      crc64.update(chunk, 0, length);
+    }
+    return crc64.getValue();
+  }
+
+  @Override
+  public void run() {
+    List<PageInfo> pages = new ArrayList<>();
+    try (LockResource r = new LockResource(mPageMetaStore.getLock().readLock())) {
+      mPageMetaStore.forEachPage(pageInfo -> {
+        // pages of files being written are not final yet
+        if (!pageInfo.getLocalCacheDir().hasTempFile(pageInfo.getPageId().getFileId())) {
+          pages.add(pageInfo);
+        }
+      });
+    }
+    for (PageInfo pageInfo : pages) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      mRateLimiter.acquire((int) Math.max(1, pageInfo.getPageSize()));
+      try {
+        scrub(pageInfo.getPageId());
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to scrub page {}", pageInfo.getPageId(), e);
+      }
+    }
+  }
+
+  /**
+   * Verifies a page against its checksum, removing it from the cache if it does not match.
+   *
+   * @param pageId the id of the page
+   * @return false if the page was found corrupted, true otherwise
+   */
+  @VisibleForTesting
+  boolean scrub(PageId pageId) {
+    try (LockResource r = new LockResource(mPageLocks.apply(pageId).readLock())) {
+      PageInfo pageInfo;
+      try (LockResource r2 = new LockResource(mPageMetaStore.getLock().readLock())) {
+        pageInfo = mPageMetaStore.peekPageInfo(pageId);
+      } catch (PageNotFoundException e) {
+        // removed since the pass started
+        return true;
+      }
+      byte[] content = new byte[(int) pageInfo.getPageSize()];
+      try {
+        int bytesRead = pageInfo.getLocalCacheDir().getPageStore().get(pageId, 0,
+            content.length, new ByteArrayTargetBuffer(content, 0));
+        if (bytesRead == content.length) {
+          long checksum = checksum(ByteBuffer.wrap(content));
+          OptionalLong expected = pageInfo.getChecksum();
+          Metrics.PAGES_SCRUBBED.inc();
+          if (!expected.isPresent()) {
+            pageInfo.setChecksum(checksum);
+            return true;
+          }
+          if (expected.getAsLong() == checksum) {
+            return true;
+          }
+          LOG.warn("Page {} does not match its checksum, removing it from the cache", pageId);
+        } else {
+          LOG.warn("Page {} has {} bytes instead of {}, removing it from the cache", pageId,
+              bytesRead, content.length);
+        }
+      } catch (PageNotFoundException e) {
+        LOG.warn("Page {} is missing from its page store, removing it from the cache", pageId);
+      } catch (IOException e) {
+        // the page may be fine, leave it to the next pass
+        LOG.warn("Failed to read page {} to scrub", pageId, e);
+        return true;
+      }
+    }
+    Metrics.PAGES_CORRUPTED.inc();
+    mRemovePage.test(pageId);
+    return false;
+  }
+
+  private static final class Metrics {
+    /** Pages verified against their checksum. */
+    private static final Counter PAGES_SCRUBBED =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PAGES_SCRUBBED.getName());
+    /** Pages found corrupted by the scrubber. */
+    private static final Counter PAGES_CORRUPTED =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PAGES_CORRUPTED.getName());
+  }
+}
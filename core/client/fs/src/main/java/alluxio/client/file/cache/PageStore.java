@@ -15,6 +15,7 @@ import alluxio.Constants;
 import alluxio.client.file.cache.store.LocalPageStore;
 import alluxio.client.file.cache.store.MemoryPageStore;
 import alluxio.client.file.cache.store.PageStoreOptions;
+import alluxio.client.file.cache.store.SegmentPageStore;
 import alluxio.exception.PageNotFoundException;
 import alluxio.exception.status.ResourceExhaustedException;
 import alluxio.file.ReadTargetBuffer;
@@ -54,6 +55,12 @@ public interface PageStore extends AutoCloseable {
       case MEM:
         pageStore = new MemoryPageStore((int) options.getPageSize());
         break;
+      case DIRECT_MEM:
+        pageStore = new DirectMemoryPageStore(options);
+        break;
+      case SEGMENT:
+        pageStore = SegmentPageStore.open(options);
+        break;
       default:
         throw new IllegalArgumentException(
             "Incompatible PageStore " + options.getType() + " specified");
@@ -230,6 +237,18 @@ public interface PageStore extends AutoCloseable {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Checks whether a page whose metadata was restored without reading the page itself is still
+   * present in the store with the expected size.
+   *
+   * @param pageId the page id
+   * @param pageSize the expected size of the page in bytes
+   * @return false if the page is known to be missing or of a different size, true otherwise
+   */
+  default boolean isPageValid(PageId pageId, long pageSize) {
+    return true;
+  }
+
   /**
    * Metrics.
    */
@@ -0,0 +1,76 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.util.ThreadFactoryUtils;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Runs the prefetches of the {@link LocalCacheFileInStream}s of a client, and limits the number
+ * of bytes they prefetch at the same time. The pool is owned by the client, e.g. its
+ * {@link alluxio.client.file.FileSystemContext}, which closes it.
+ */
+@ThreadSafe
+public final class PrefetchPool implements Closeable {
+  private final ExecutorService mExecutor;
+  private final long mMaxBytes;
+  private final AtomicLong mBytes = new AtomicLong();
+
+  /**
+   * @param conf the configuration of the client
+   */
+  public PrefetchPool(AlluxioConfiguration conf) {
+    mExecutor = Executors.newFixedThreadPool(
+        conf.getInt(PropertyKey.USER_CLIENT_CACHE_PREFETCH_THREADS),
+        ThreadFactoryUtils.build("alluxio-cache-prefetch-%d", true));
+    mMaxBytes = conf.getBytes(PropertyKey.USER_CLIENT_CACHE_PREFETCH_MAX_BYTES);
+  }
+
+  void execute(Runnable task) {
+    mExecutor.execute(task);
+  }
+
+  /**
+   * @param bytes the number of bytes to prefetch
+   * @return whether the bytes can be prefetched without exceeding the limit of the client
+   */
+  boolean tryAcquire(long bytes) {
+    while (true) {
+      long current = mBytes.get();
+      if (current + bytes > mMaxBytes) {
+        return false;
+      }
+      if (mBytes.compareAndSet(current, current + bytes)) {
+        return true;
+      }
+    }
+  }
+
+  void release(long bytes) {
+    mBytes.addAndGet(-bytes);
+  }
+
+  /**
+   * Stops the prefetches, later prefetches are rejected.
+   */
+  @Override
+  public void close() {
+    mExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.client.file.CacheContext;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.cache.LocalCacheFileInStream.FileInStreamOpener;
+import alluxio.exception.AlluxioException;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.MultiDimensionalMetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Detects sequential reads of a {@link LocalCacheFileInStream} and prefetches the pages ahead of
+ * the reader into the {@link CacheManager}, so that sequential scans find the pages cached instead
+ * of waiting for the external storage page after page.
+ *
+ * The number of pages prefetched ahead of the reader starts at one once two consecutive pages
+ * are read. It doubles every time the reader hits a page in the cache, up to the configured
+ * maximum, and is halved every time the reader misses, e.g. because prefetched pages were
+ * evicted before being read. A non-sequential read stops prefetching until the reads become
+ * sequential again.
+ *
+ * Pages are read from a separate stream of the external file system, so prefetching does not
+ * interfere with the position of the stream used by the reader. The prefetches of all streams of
+ * a client run in its {@link PrefetchPool}, which limits the number of bytes being prefetched at
+ * the same time.
+ */
+@ThreadSafe
+final class SequentialPrefetcher implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(SequentialPrefetcher.class);
+
+  private final PrefetchPool mPool;
+  private final CacheManager mCacheManager;
+  private final URIStatus mStatus;
+  private final FileInStreamOpener mExternalFileInStreamOpener;
+  private final long mPageSize;
+  private final long mNumPages;
+  private final int mMaxWindow;
+
+  /** Page read last by the reader, -1 before the first read. */
+  @GuardedBy("this")
+  private long mLastReadPage = -1;
+  /** Number of pages to keep prefetched ahead of the reader. */
+  @GuardedBy("this")
+  private int mWindow = 0;
+  /** Next page to prefetch. */
+  @GuardedBy("this")
+  private long mNextPage = 0;
+  /** Pages up to this index, exclusive, are to be prefetched. */
+  @GuardedBy("this")
+  private long mEndPage = 0;
+  @GuardedBy("this")
+  private boolean mRunning = false;
+  private volatile boolean mClosed = false;
+  /** Lock for the stream to the external storage, not held while updating the state above. */
+  private final Object mExternalStreamLock = new Object();
+  /** Stream to read pages from the external storage, only used by the prefetch task. */
+  @GuardedBy("mExternalStreamLock")
+  private FileInStream mExternalFileInStream;
+
+  /**
+   * @param pool the pool of the client to run the prefetches in
+   * @param cacheManager the cache manager to put the pages into
+   * @param status the status of the file
+   * @param fileOpener opens the file in the external file system
+   * @param pageSize the page size
+   * @param maxWindow the maximum number of pages to prefetch ahead of the reader
+   */
+  SequentialPrefetcher(PrefetchPool pool, CacheManager cacheManager, URIStatus status,
+      FileInStreamOpener fileOpener, long pageSize, int maxWindow) {
+    mPool = pool;
+    mCacheManager = cacheManager;
+    mStatus = status;
+    mExternalFileInStreamOpener = fileOpener;
+    mPageSize = pageSize;
+    mNumPages = (status.getLength() + pageSize - 1) / pageSize;
+    mMaxWindow = maxWindow;
+  }
+
+  /**
+   * Records a read of the reader and prefetches the following pages if the reads are sequential.
+   *
+   * @param pageId the page read
+   * @param hit whether the page was read from the cache
+   * @param cacheContext the cache context to put prefetched pages with
+   */
+  synchronized void onPageRead(PageId pageId, boolean hit, CacheContext cacheContext) {
+    long page = pageId.getPageIndex();
+    if (mClosed || page == mLastReadPage) {
+      // the same page read in several parts
+      return;
+    }
+    boolean sequential = page == mLastReadPage + 1;
+    mLastReadPage = page;
+    if (!sequential) {
+      // drop the pages not yet prefetched
+      mWindow = 0;
+      mNextPage = page + 1;
+      mEndPage = page + 1;
+      return;
+    }
+    if (mWindow == 0) {
+      mWindow = 1;
+    } else if (hit) {
+      mWindow = Math.min(mMaxWindow, mWindow * 2);
+    } else {
+      mWindow = Math.max(1, mWindow / 2);
+    }
+    mNextPage = Math.max(mNextPage, page + 1);
+    mEndPage = Math.max(mEndPage, Math.min(mNumPages, page + 1 + mWindow));
+    if (!mRunning && mNextPage < mEndPage) {
+      mRunning = true;
+      try {
+        mPool.execute(() -> prefetch(pageId.getFileId(), cacheContext));
+      } catch (RejectedExecutionException e) {
+        mRunning = false;
+      }
+    }
+  }
+
+  /**
+   * @return the number of pages to prefetch ahead of the reader
+   */
+  @VisibleForTesting
+  synchronized int getWindow() {
+    return mWindow;
+  }
+
+  private void prefetch(String fileId, CacheContext cacheContext) {
+    try {
+      boolean more = true;
+      while (more) {
+        more = prefetchNextPage(fileId, cacheContext);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to prefetch pages of {}", mStatus.getPath(), e);
+    } finally {
+      synchronized (this) {
+        mRunning = false;
+      }
+    }
+  }
+
+  /**
+   * @return whether to continue with the next page
+   */
+  private boolean prefetchNextPage(String fileId, CacheContext cacheContext) throws IOException {
+    long page;
+    synchronized (this) {
+      if (mClosed || mNextPage >= mEndPage) {
+        return false;
+      }
+      page = mNextPage++;
+    }
+    PageId pageId = new PageId(fileId, page);
+    if (mCacheManager.hasPageUnsafe(pageId)) {
+      return true;
+    }
+    long pageStart = page * mPageSize;
+    int pageLength = (int) Math.min(mPageSize, mStatus.getLength() - pageStart);
+    if (!mPool.tryAcquire(pageLength)) {
+      // too many bytes are being prefetched by this client, let later reads try again
+      synchronized (this) {
+        if (mNextPage == page + 1) {
+          mNextPage = page;
+        }
+      }
+      Metrics.PREFETCH_THROTTLED.inc();
+      return false;
+    }
+    try {
+      byte[] data = readExternalPage(pageStart, pageLength);
+      if (data == null) {
+        return false;
+      }
+      if (mCacheManager.put(pageId, data, cacheContext)) {
+        Metrics.PAGES_PREFETCHED.inc();
+      }
+      return true;
+    } finally {
+      mPool.release(pageLength);
+    }
+  }
+
+  /**
+   * @return the page read from the external storage, or null if the prefetcher is closed
+   */
+  private byte[] readExternalPage(long pageStart, int pageLength) throws IOException {
+    byte[] page = new byte[pageLength];
+    int totalBytesRead = 0;
+    synchronized (mExternalStreamLock) {
+      if (mClosed) {
+        return null;
+      }
+      if (mExternalFileInStream == null) {
+        try {
+          mExternalFileInStream = mExternalFileInStreamOpener.open(mStatus);
+        } catch (AlluxioException e) {
+          throw new IOException(e);
+        }
+      }
+      if (mExternalFileInStream.getPos() != pageStart) {
+        mExternalFileInStream.seek(pageStart);
+      }
+      while (totalBytesRead < pageLength) {
+        int bytesRead =
+            mExternalFileInStream.read(page, totalBytesRead, pageLength - totalBytesRead);
+        if (bytesRead <= 0) {
+          break;
+        }
+        totalBytesRead += bytesRead;
+      }
+    }
+    MultiDimensionalMetricsSystem.EXTERNAL_DATA_READ.inc(totalBytesRead);
+    MetricsSystem.meter(MetricKey.CLIENT_CACHE_BYTES_READ_EXTERNAL.getName()).mark(totalBytesRead);
+    if (totalBytesRead != pageLength) {
+      throw new IOException("Failed to read complete page from external storage. Bytes read: "
+          + totalBytesRead + " Page size: " + pageLength);
+    }
+    return page;
+  }
+
+  /**
+   * Stops prefetching. A page being read from the external storage is waited for, a page being
+   * put into the cache is not.
+   */
+  @Override
+  public void close() throws IOException {
+    mClosed = true;
+    synchronized (mExternalStreamLock) {
+      if (mExternalFileInStream != null) {
+        mExternalFileInStream.close();
+        mExternalFileInStream = null;
+      }
+    }
+  }
+
+  private static final class Metrics {
+    // Note that only counter/guage can be added here.
+    // Both meter and timer need to be used inline
+    // because new meter and timer will be created after {@link MetricsSystem.resetAllMetrics()}
+    /** Pages prefetched into the cache. */
+    private static final Counter PAGES_PREFETCHED =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PAGES_PREFETCHED.getName());
+    /** Prefetches stopped because the client is prefetching too many bytes. */
+    private static final Counter PREFETCH_THROTTLED =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_PREFETCH_THROTTLED.getName());
+
+    private Metrics() {} // prevent instantiation
+  }
+}
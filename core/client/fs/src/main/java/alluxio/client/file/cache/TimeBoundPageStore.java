@@ -143,6 +143,11 @@ public class TimeBoundPageStore implements PageStore {
     return mPageStore.getDataFileChannel(pageId, pageOffset, bytesToRead, isTemporary);
   }
 
+  @Override
+  public boolean isPageValid(PageId pageId, long pageSize) {
+    return mPageStore.isPageValid(pageId, pageSize);
+  }
+
   @Override
   public void close() throws Exception {
     mExecutorService.shutdown();
@@ -0,0 +1,53 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.filter;
+
+import alluxio.client.file.cache.CacheManagerOptions;
+import alluxio.client.file.cache.PageId;
+import alluxio.util.CommonUtils;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The page admission filter interface which is used to determine whether a page is worth caching
+ * when an existing page has to be evicted to make room for it. Unlike {@link CacheFilter}, which
+ * decides per file whether it is cached at all, it decides per page based on the access history.
+ * The implementation of this filter must be thread-safe.
+ */
+@ThreadSafe
+public interface PageAdmissionFilter {
+
+  /**
+   * Create a PageAdmissionFilter.
+   * @param options the cache manager options
+   * @return the page admission filter
+   */
+  static PageAdmissionFilter create(CacheManagerOptions options) {
+    return CommonUtils.createNewClassInstance(
+        options.getAdmissionFilterClass(),
+        new Class[] {CacheManagerOptions.class}, new Object[] {options});
+  }
+
+  /**
+   * Records an access to a page, whether it is cached or not.
+   * @param pageId the page id
+   */
+  void recordAccess(PageId pageId);
+
+  /**
+   * Whether a page is admitted into the cache at the cost of evicting a victim page.
+   * @param candidate the page to be cached
+   * @param victim the page to be evicted
+   * @return whether the candidate should replace the victim
+   */
+  boolean admit(PageId candidate, PageId victim);
+}
@@ -0,0 +1,164 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.filter;
+
+import alluxio.client.file.cache.CacheManagerOptions;
+import alluxio.client.file.cache.PageId;
+import alluxio.client.file.cache.store.PageStoreOptions;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A page admission filter implementing the TinyLFU policy: a candidate page is only admitted if
+ * it has been accessed more often than the victim it would replace. This keeps a single scan over
+ * a large data set from flushing the frequently accessed pages out of the cache.
+ *
+ * Access frequencies are estimated with a count-min sketch of 4-bit counters, four per page,
+ * packed sixteen to a long. The sketch has one long per cached page, rounded up to a power of
+ * two, so it takes about 8 bytes per page of cache capacity. Once the number of recorded
+ * accesses reaches ten times the capacity in pages, all counters are halved so that the
+ * estimates follow changes in popularity.
+ */
+@ThreadSafe
+public class TinyLfuPageAdmissionFilter implements PageAdmissionFilter {
+  private static final long[] SEEDS = {
+      0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+  private static final int MIN_TABLE_SIZE = 64;
+  private static final int SAMPLE_FACTOR = 10;
+
+  private final AtomicLongArray mTable;
+  private final int mTableMask;
+  private final int mSampleSize;
+  private final AtomicInteger mSize = new AtomicInteger();
+
+  /**
+   * @param options the cache manager options
+   */
+  public TinyLfuPageAdmissionFilter(CacheManagerOptions options) {
+    this(getCapacityInPages(options));
+  }
+
+  /**
+   * @param capacityInPages the number of pages the cache can hold
+   */
+  @VisibleForTesting
+  public TinyLfuPageAdmissionFilter(long capacityInPages) {
+    Preconditions.checkArgument(capacityInPages > 0,
+        "capacity in pages must be positive: %s", capacityInPages);
+    int tableSize = (int) Math.min(1 << 30,
+        Math.max(MIN_TABLE_SIZE, Long.highestOneBit(capacityInPages - 1) << 1));
+    mTable = new AtomicLongArray(tableSize);
+    mTableMask = tableSize - 1;
+    mSampleSize = (int) Math.min(Integer.MAX_VALUE, SAMPLE_FACTOR * capacityInPages);
+  }
+
+  @Override
+  public void recordAccess(PageId pageId) {
+    int hash = spread(pageId.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && mSize.incrementAndGet() >= mSampleSize) {
+      reset();
+    }
+  }
+
+  @Override
+  public boolean admit(PageId candidate, PageId victim) {
+    return frequency(candidate) > frequency(victim);
+  }
+
+  /**
+   * @param pageId the page id
+   * @return the estimated number of recent accesses to the page, at most 15
+   */
+  @VisibleForTesting
+  public int frequency(PageId pageId) {
+    int hash = spread(pageId.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int offset = (start + i) << 2;
+      int count = (int) ((mTable.get(indexOf(hash, i)) >>> offset) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increments the counter at the given position unless it is saturated.
+   *
+   * @param index the index of the long holding the counter
+   * @param counter the position of the counter in the long, from 0 to 15
+   * @return whether the counter was incremented
+   */
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    while (true) {
+      long value = mTable.get(index);
+      if ((value & mask) == mask) {
+        return false;
+      }
+      if (mTable.compareAndSet(index, value, value + (1L << offset))) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Halves all counters. Concurrent increments may be lost, which only makes the estimates
+   * slightly less accurate.
+   */
+  private synchronized void reset() {
+    if (mSize.get() < mSampleSize) {
+      // reset by another thread already
+      return;
+    }
+    int odd = 0;
+    for (int i = 0; i < mTable.length(); i++) {
+      long value = mTable.get(i);
+      odd += Long.bitCount(value & ONE_MASK);
+      mTable.set(i, (value >>> 1) & RESET_MASK);
+    }
+    mSize.set((mSize.get() - (odd >>> 2)) >>> 1);
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & mTableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+
+  private static long getCapacityInPages(CacheManagerOptions options) {
+    long cacheSize = 0;
+    for (PageStoreOptions pageStoreOptions : options.getPageStoreOptions()) {
+      cacheSize += pageStoreOptions.getCacheSize();
+    }
+    return Math.max(1, cacheSize / options.getPageSize());
+  }
+}
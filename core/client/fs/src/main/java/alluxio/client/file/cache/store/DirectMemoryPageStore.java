@@ -0,0 +1,271 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.store;
+
+import alluxio.client.file.cache.PageId;
+import alluxio.client.file.cache.PageStore;
+import alluxio.exception.PageCorruptedException;
+import alluxio.exception.PageNotFoundException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.file.ReadTargetBuffer;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The {@link DirectMemoryPageStore} is an implementation of {@link PageStore} which stores all
+ * pages in direct memory outside of the JVM heap, so that a large cache does not add to the
+ * garbage collection pressure of the client.
+ *
+ * Direct memory is reserved in arenas of a fixed size, which are allocated lazily as the cache
+ * fills up and carved into slots of one page each. Pages are copied into their slot once on put
+ * and handed to the read target without an intermediate heap copy on get. Slots of deleted pages
+ * are recycled through a free list, so the arenas are never fragmented and only released when the
+ * store is closed. The arenas are then left to the garbage collector rather than freed explicitly,
+ * as a concurrent reader may still hold a view of one of them.
+ */
+@ThreadSafe
+public class DirectMemoryPageStore implements PageStore {
+
+  private final int mSlotSize;
+  private final int mSlotsPerArena;
+  private final int mNumSlots;
+
+  /** Arenas of direct memory, allocated on first use of one of their slots. */
+  @GuardedBy("this")
+  private final ByteBuffer[] mArenas;
+  /** Stack of released slots, which are reused before any untouched slot. */
+  @GuardedBy("this")
+  private final int[] mFreeSlots;
+  @GuardedBy("this")
+  private int mNumFreeSlots;
+  /** All slots from this index on have never been used. */
+  @GuardedBy("this")
+  private int mNextSlot;
+  @GuardedBy("this")
+  private boolean mClosed;
+
+  private final ConcurrentHashMap<PageId, Slot> mPages = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance of {@link DirectMemoryPageStore}.
+   *
+   * @param options options for the page store
+   */
+  public DirectMemoryPageStore(PageStoreOptions options) {
+    long pageSize = options.getPageSize();
+    Preconditions.checkArgument(pageSize > 0 && pageSize <= Integer.MAX_VALUE,
+        "Invalid page size %s", pageSize);
+    Preconditions.checkArgument(options.getArenaSize() >= pageSize
+        && options.getArenaSize() <= Integer.MAX_VALUE,
+        "Arena size %s must be between the page size %s and 2GB",
+        options.getArenaSize(), pageSize);
+    long numSlots = options.getCacheSize() / pageSize;
+    Preconditions.checkArgument(numSlots > 0 && numSlots <= Integer.MAX_VALUE,
+        "Invalid number of slots %s for cache size %s and page size %s",
+        numSlots, options.getCacheSize(), pageSize);
+    mSlotSize = (int) pageSize;
+    mSlotsPerArena = (int) (options.getArenaSize() / pageSize);
+    mNumSlots = (int) numSlots;
+    mArenas = new ByteBuffer[(mNumSlots + mSlotsPerArena - 1) / mSlotsPerArena];
+    mFreeSlots = new int[mNumSlots];
+  }
+
+  @Override
+  public void put(PageId pageId, ByteBuffer page, boolean isTemporary) throws IOException {
+    // Temporary pages are not distinguished, same as MemoryPageStore
+    int length = page.remaining();
+    if (length > mSlotSize) {
+      throw new IOException(String.format("Page %s of %d bytes exceeds the page size %d",
+          pageId, length, mSlotSize));
+    }
+    int slot = acquireSlot(pageId);
+    ByteBuffer buf = slotBuffer(slot, length);
+    buf.put(page);
+    Slot previous = mPages.put(pageId, new Slot(slot, length));
+    if (previous != null) {
+      releaseSlot(previous.mIndex);
+    }
+  }
+
+  @Override
+  public int get(PageId pageId, int pageOffset, int bytesToRead, ReadTargetBuffer target,
+      boolean isTemporary) throws IOException, PageNotFoundException {
+    Preconditions.checkArgument(target != null, "buffer is null");
+    Preconditions.checkArgument(pageOffset >= 0, "page offset should be non-negative");
+    Slot slot = mPages.get(pageId);
+    if (slot == null) {
+      throw new PageNotFoundException(pageId.getFileId() + "_" + pageId.getPageIndex());
+    }
+    if (pageOffset + bytesToRead > slot.mLength) {
+      throw new PageCorruptedException(String.format(
+          "The page %s probably has been corrupted, "
+              + "page-offset %s, bytes to read %s, page file length %s",
+          pageId, pageOffset, bytesToRead, slot.mLength));
+    }
+    int bytesLeft = (int) Math.min(slot.mLength - pageOffset, target.remaining());
+    bytesLeft = Math.min(bytesLeft, bytesToRead);
+    ByteBuffer buf = slotBuffer(slot.mIndex, slot.mLength);
+    buf.position(buf.position() + pageOffset);
+    buf.limit(buf.position() + bytesLeft);
+    target.writeBytes(Unpooled.wrappedBuffer(buf));
+    return bytesLeft;
+  }
+
+  @Override
+  public void delete(PageId pageId) throws IOException, PageNotFoundException {
+    Slot slot = mPages.remove(pageId);
+    if (slot == null) {
+      throw new PageNotFoundException(pageId.getFileId() + "_" + pageId.getPageIndex());
+    }
+    releaseSlot(slot.mIndex);
+  }
+
+  @Override
+  public void commit(String fileId, String newFileId) throws IOException {
+    // noop because the pages are all in memory, there is no underlying storage to commit to
+  }
+
+  /**
+   * Removes all pages from the store, keeping the allocated arenas for reuse.
+   */
+  public synchronized void reset() {
+    mPages.clear();
+    Metrics.USED_BYTES.dec((long) (mNextSlot - mNumFreeSlots) * mSlotSize);
+    mNumFreeSlots = 0;
+    mNextSlot = 0;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    reset();
+    for (int i = 0; i < mArenas.length; i++) {
+      if (mArenas[i] != null) {
+        Metrics.ARENAS.dec();
+        Metrics.ALLOCATED_BYTES.dec(mArenas[i].capacity());
+        mArenas[i] = null;
+      }
+    }
+  }
+
+  /**
+   * @return the number of slots which can take a page without evicting another one
+   */
+  @VisibleForTesting
+  synchronized int getFreeSlots() {
+    return mNumFreeSlots + mNumSlots - mNextSlot;
+  }
+
+  /**
+   * @return the number of arenas allocated so far
+   */
+  @VisibleForTesting
+  synchronized int getAllocatedArenas() {
+    int count = 0;
+    for (ByteBuffer arena : mArenas) {
+      if (arena != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private synchronized int acquireSlot(PageId pageId) throws IOException {
+    if (mClosed) {
+      throw new IOException("Page store is closed");
+    }
+    int slot;
+    if (mNumFreeSlots > 0) {
+      slot = mFreeSlots[--mNumFreeSlots];
+    } else if (mNextSlot < mNumSlots) {
+      slot = mNextSlot++;
+      int arena = slot / mSlotsPerArena;
+      if (mArenas[arena] == null) {
+        int slots = Math.min(mSlotsPerArena, mNumSlots - arena * mSlotsPerArena);
+        mArenas[arena] = ByteBuffer.allocateDirect(slots * mSlotSize);
+        Metrics.ARENAS.inc();
+        Metrics.ALLOCATED_BYTES.inc(mArenas[arena].capacity());
+      }
+    } else {
+      throw new ResourceExhaustedException(
+          String.format("No free slot in direct memory for page %s", pageId));
+    }
+    Metrics.USED_BYTES.inc(mSlotSize);
+    return slot;
+  }
+
+  private synchronized void releaseSlot(int slot) {
+    mFreeSlots[mNumFreeSlots++] = slot;
+    Metrics.USED_BYTES.dec(mSlotSize);
+  }
+
+  /**
+   * @param slot the slot index
+   * @param length the number of bytes of the slot to cover
+   * @return a buffer positioned at the start of the slot and limited to the given length, which
+   *         shares its content with the arena
+   * @throws IOException if the store has been closed
+   */
+  private ByteBuffer slotBuffer(int slot, int length) throws IOException {
+    ByteBuffer arena;
+    synchronized (this) {
+      arena = mArenas[slot / mSlotsPerArena];
+    }
+    if (arena == null) {
+      throw new IOException("Page store is closed");
+    }
+    ByteBuffer buf = arena.duplicate();
+    int offset = (slot % mSlotsPerArena) * mSlotSize;
+    buf.position(offset);
+    buf.limit(offset + length);
+    return buf;
+  }
+
+  private static final class Slot {
+    private final int mIndex;
+    private final int mLength;
+
+    private Slot(int index, int length) {
+      mIndex = index;
+      mLength = length;
+    }
+  }
+
+  private static final class Metrics {
+    // Note that only counter/guage can be added here.
+    // Both meter and timer need to be used inline
+    // because new meter and timer will be created after {@link MetricsSystem.resetAllMetrics()}
+    /** Number of direct memory arenas allocated. */
+    private static final Counter ARENAS =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_DIRECT_MEMORY_ARENAS.getName());
+    /** Bytes of direct memory reserved by the arenas. */
+    private static final Counter ALLOCATED_BYTES =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_DIRECT_MEMORY_ALLOCATED.getName());
+    /** Bytes of the slots holding pages. */
+    private static final Counter USED_BYTES =
+        MetricsSystem.counter(MetricKey.CLIENT_CACHE_DIRECT_MEMORY_USED.getName());
+  }
+}
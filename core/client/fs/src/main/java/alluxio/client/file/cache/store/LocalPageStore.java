@@ -251,6 +251,15 @@ public class LocalPageStore implements PageStore {
     return dataFileChannel;
   }
 
+  @Override
+  public boolean isPageValid(PageId pageId, long pageSize) {
+    try {
+      return Files.size(getPagePath(pageId, false)) == pageSize;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
   @Override
   public void close() {
     // no-op
@@ -38,6 +38,7 @@ import java.util.regex.Pattern;
  */
 public class LocalPageStoreDir extends QuotaManagedPageStoreDir {
   private static final Logger LOG = LoggerFactory.getLogger(LocalPageStoreDir.class);
+  private static final String INDEX_FILE_NAME = "page_index";
 
   private final PageStoreOptions mPageStoreOptions;
   private final int mFileBuckets;
@@ -95,8 +96,21 @@ public class LocalPageStoreDir extends QuotaManagedPageStoreDir {
    */
   @Override
   public void scanPages(Consumer<Optional<PageInfo>> pageInfoConsumer) throws IOException {
-    Files.walk(getRootPath()).filter(Files::isRegularFile).map(this::getPageInfo)
-        .forEach(pageInfoConsumer);
+    Files.walk(getRootPath()).filter(Files::isRegularFile).filter(this::isNotIndexFile)
+        .map(this::getPageInfo).forEach(pageInfoConsumer);
+  }
+
+  /**
+   * The page index is kept next to the page size directory, so it is left out of the scan.
+   */
+  @Override
+  public Optional<Path> getIndexPath() {
+    return Optional.of(getRootPath().resolve(INDEX_FILE_NAME));
+  }
+
+  private boolean isNotIndexFile(Path path) {
+    return !(getRootPath().equals(path.getParent())
+        && path.getFileName().toString().startsWith(INDEX_FILE_NAME));
   }
 
   /**
@@ -73,6 +73,18 @@ public interface PageStoreDir extends CacheStatus {
             (MemoryPageStore) PageStore.create(pageStoreOptions),
             CacheEvictor.create(cacheEvictorOptions)
         );
+      case DIRECT_MEM:
+        return new DirectMemoryPageStoreDir(
+            pageStoreOptions,
+            (DirectMemoryPageStore) PageStore.create(pageStoreOptions),
+            CacheEvictor.create(cacheEvictorOptions)
+        );
+      case SEGMENT:
+        return new SegmentPageStoreDir(
+            pageStoreOptions,
+            SegmentPageStore.open(pageStoreOptions),
+            CacheEvictor.create(cacheEvictorOptions)
+        );
       default:
         throw new IllegalArgumentException(String.format("Unrecognized store type %s",
             pageStoreOptions.getType().name()));
@@ -119,6 +131,14 @@ public interface PageStoreDir extends CacheStatus {
    */
   PageStore getPageStore();
 
+  /**
+   * @return the path of the file persisting the index of pages in this dir, or empty if the
+   *         pages of this dir cannot be restored from an index
+   */
+  default Optional<Path> getIndexPath() {
+    return Optional.empty();
+  }
+
   /**
    * @return capacity
    */
@@ -11,6 +11,7 @@
 
 package alluxio.client.file.cache.store;
 
+import alluxio.Constants;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.PropertyKey;
 import alluxio.util.FormatUtils;
@@ -42,7 +43,9 @@ public class PageStoreOptions {
           .setPageSize(conf.getBytes(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE))
           .setAlluxioVersion(conf.getString(PropertyKey.VERSION))
           .setTimeoutDuration(conf.getMs(PropertyKey.USER_CLIENT_CACHE_TIMEOUT_DURATION))
-          .setTimeoutThreads(conf.getInt(PropertyKey.USER_CLIENT_CACHE_TIMEOUT_THREADS));
+          .setTimeoutThreads(conf.getInt(PropertyKey.USER_CLIENT_CACHE_TIMEOUT_THREADS))
+          .setSegmentSize(conf.getBytes(PropertyKey.USER_CLIENT_CACHE_SEGMENT_STORE_SEGMENT_SIZE))
+          .setArenaSize(conf.getBytes(PropertyKey.USER_CLIENT_CACHE_DIRECT_MEM_STORE_ARENA_SIZE));
       if (conf.isSet(PropertyKey.USER_CLIENT_CACHE_STORE_OVERHEAD)) {
         options.setOverheadRatio(conf.getDouble(PropertyKey.USER_CLIENT_CACHE_STORE_OVERHEAD));
       }
@@ -130,6 +133,16 @@ public class PageStoreOptions {
    */
   private int mTimeoutThreads;
 
+  /**
+   * Size of each segment file of a segment page store.
+   */
+  private long mSegmentSize = Constants.GB;
+
+  /**
+   * Size of each direct memory arena of a direct memory page store.
+   */
+  private long mArenaSize = 64 * Constants.MB;
+
   /**
    * A fraction value representing the storage overhead.
    * i.e., with 1GB allocated cache space, and 10% storage overhead we
@@ -288,6 +301,38 @@ public class PageStoreOptions {
     return mFileBuckets;
   }
 
+  /**
+   * @return the size of each segment file of a segment page store in bytes
+   */
+  public long getSegmentSize() {
+    return mSegmentSize;
+  }
+
+  /**
+   * @param segmentSize the size of each segment file of a segment page store in bytes
+   * @return the updated options
+   */
+  public PageStoreOptions setSegmentSize(long segmentSize) {
+    mSegmentSize = segmentSize;
+    return this;
+  }
+
+  /**
+   * @return the size of each direct memory arena of a direct memory page store in bytes
+   */
+  public long getArenaSize() {
+    return mArenaSize;
+  }
+
+  /**
+   * @param arenaSize the size of each direct memory arena of a direct memory page store in bytes
+   * @return the updated options
+   */
+  public PageStoreOptions setArenaSize(long arenaSize) {
+    mArenaSize = arenaSize;
+    return this;
+  }
+
   /**
    * @param storeType
    * @return the updated options
@@ -0,0 +1,522 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.store;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import alluxio.client.file.cache.PageId;
+import alluxio.client.file.cache.PageStore;
+import alluxio.exception.PageCorruptedException;
+import alluxio.exception.PageNotFoundException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.file.ReadTargetBuffer;
+import alluxio.network.protocol.databuffer.DataFileChannel;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.Unpooled;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The {@link SegmentPageStore} is an implementation of {@link PageStore} which packs pages into
+ * fixed size slots of a few large preallocated segment files, instead of creating one file per
+ * page. Each segment file starts with a file header recording the geometry of the segment, then
+ * a header region holding one fixed size header per slot, which records the page stored in the
+ * slot so that the store can be restored after restart, followed by the data region of the slots.
+ * A segment file whose geometry does not match the current configuration is reformatted on open,
+ * dropping the pages it held.
+ *
+ * The files stay open for the lifetime of the store and the data regions are memory-mapped, so a
+ * read does not open or close any file.
+ */
+@ThreadSafe
+public class SegmentPageStore implements PageStore {
+  private static final String SEGMENT_FILE_PREFIX = "segment-";
+  private static final String ERROR_NO_SPACE_LEFT = "No space left on device";
+  private static final int HEADER_ALIGNMENT = 4096;
+  private static final int SEGMENT_MAGIC = 0x53454746;
+  private static final int SEGMENT_VERSION = 1;
+  // magic, version, page size, slots per segment and slots of the segment, with room to grow
+  private static final int SEGMENT_HEADER_SIZE = 64;
+  private static final int SLOT_HEADER_SIZE = 256;
+  private static final int SLOT_MAGIC = 0x534C4F54;
+  private static final byte SLOT_FREE = 0;
+  private static final byte SLOT_COMMITTED = 1;
+  private static final byte SLOT_TEMPORARY = 2;
+  // magic, state, length, page index, created time and length of the file id
+  private static final int SLOT_HEADER_FIXED_SIZE = 4 + 1 + 4 + 8 + 8 + 2;
+  @VisibleForTesting
+  static final int MAX_FILE_ID_LENGTH = SLOT_HEADER_SIZE - SLOT_HEADER_FIXED_SIZE;
+
+  private final Path mRoot;
+  private final int mPageSize;
+  private final long mCapacity;
+  private final int mSlotsPerSegment;
+  private final int mNumSlots;
+  /** Offset of the data region in each segment file. */
+  private final long mDataOffset;
+  private final Segment[] mSegments;
+  private final Map<PageId, Slot> mPages = new ConcurrentHashMap<>();
+  private final Map<PageId, Slot> mTempPages = new ConcurrentHashMap<>();
+  private volatile boolean mClosed;
+  @GuardedBy("mFreeSlots")
+  private final BitSet mFreeSlots;
+
+  /**
+   * Opens a segment page store, restoring the pages found in existing segment files under the
+   * root directory.
+   *
+   * @param options options for the segment page store
+   * @return a new instance of {@link SegmentPageStore}
+   */
+  public static SegmentPageStore open(PageStoreOptions options) {
+    try {
+      return new SegmentPageStore(options);
+    } catch (IOException e) {
+      throw new RuntimeException("Couldn't open segment page store at " + options.getRootDir(), e);
+    }
+  }
+
+  private SegmentPageStore(PageStoreOptions options) throws IOException {
+    Preconditions.checkArgument(options.getPageSize() > 0
+            && options.getPageSize() <= options.getSegmentSize(),
+        "page size %s should be positive and no larger than segment size %s",
+        options.getPageSize(), options.getSegmentSize());
+    mRoot = Paths.get(options.getRootDir().toString(), Long.toString(options.getPageSize()));
+    mPageSize = (int) options.getPageSize();
+    mCapacity = (long) (options.getCacheSize() / (1 + options.getOverheadRatio()));
+    mSlotsPerSegment = (int) Math.min(options.getSegmentSize() / mPageSize, Integer.MAX_VALUE);
+    Preconditions.checkArgument((long) mSlotsPerSegment * mPageSize <= Integer.MAX_VALUE,
+        "segment size %s should not exceed 2GB", options.getSegmentSize());
+    long numSlots = Math.max(options.getCacheSize() / mPageSize, 1);
+    Preconditions.checkArgument(numSlots <= Integer.MAX_VALUE,
+        "cache size %s is too large for page size %s", options.getCacheSize(), mPageSize);
+    mNumSlots = (int) numSlots;
+    long headerSize = SEGMENT_HEADER_SIZE + (long) mSlotsPerSegment * SLOT_HEADER_SIZE;
+    mDataOffset = (headerSize + HEADER_ALIGNMENT - 1) / HEADER_ALIGNMENT * HEADER_ALIGNMENT;
+    int numSegments = (mNumSlots + mSlotsPerSegment - 1) / mSlotsPerSegment;
+    mSegments = new Segment[numSegments];
+    mFreeSlots = new BitSet(mNumSlots);
+    mFreeSlots.set(0, mNumSlots);
+    Files.createDirectories(mRoot);
+    try {
+      for (int i = 0; i < numSegments; i++) {
+        int slots = Math.min(mSlotsPerSegment, mNumSlots - i * mSlotsPerSegment);
+        mSegments[i] = new Segment(mRoot.resolve(SEGMENT_FILE_PREFIX + i).toFile(), slots);
+        restoreSegment(i);
+      }
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void put(PageId pageId, ByteBuffer page, boolean isTemporary)
+      throws ResourceExhaustedException, IOException {
+    int length = page.remaining();
+    if (length > mPageSize) {
+      throw new IOException(String.format("Page %s of %d bytes exceeds the page size %d",
+          pageId, length, mPageSize));
+    }
+    byte[] fileId = pageId.getFileId().getBytes(UTF_8);
+    if (fileId.length > MAX_FILE_ID_LENGTH) {
+      throw new IOException(String.format("File id of page %s exceeds %d bytes",
+          pageId, MAX_FILE_ID_LENGTH));
+    }
+    Map<PageId, Slot> pages = isTemporary ? mTempPages : mPages;
+    // an overwritten page is not readable until its new content is written
+    Slot existing = pages.remove(pageId);
+    int slot = existing != null ? existing.mIndex : allocateSlot();
+    long createdTime = System.currentTimeMillis();
+    try {
+      if (existing != null) {
+        // the header is invalidated first, so that a crash while the data is overwritten does
+        // not leave a valid header over partially written data
+        writeSlotState(slot, SLOT_FREE);
+      }
+      Segment segment = getSegment(slot);
+      ByteBuffer data = page.duplicate();
+      long position = getDataPosition(slot);
+      while (data.hasRemaining()) {
+        position += segment.mChannel.write(data, position);
+      }
+      writeHeader(slot, isTemporary ? SLOT_TEMPORARY : SLOT_COMMITTED, length,
+          pageId.getPageIndex(), createdTime, fileId);
+    } catch (Throwable t) {
+      if (existing == null) {
+        freeSlot(slot);
+      } else {
+        clearSlot(slot);
+      }
+      if (t.getMessage() != null && t.getMessage().contains(ERROR_NO_SPACE_LEFT)) {
+        throw new ResourceExhaustedException(
+            String.format("%s is full, configured with %d bytes", mRoot, mCapacity), t);
+      }
+      throw new IOException("Failed to write slot " + slot + " for page " + pageId, t);
+    }
+    page.position(page.limit());
+    pages.put(pageId, new Slot(slot, length, createdTime));
+  }
+
+  @Override
+  public int get(PageId pageId, int pageOffset, int bytesToRead, ReadTargetBuffer target,
+      boolean isTemporary) throws IOException, PageNotFoundException {
+    Preconditions.checkArgument(pageOffset >= 0, "page offset should be non-negative");
+    Preconditions.checkArgument(bytesToRead >= 0, "bytes to read should be non-negative");
+    if (target.remaining() == 0 || bytesToRead == 0) {
+      return 0;
+    }
+    if (mClosed) {
+      throw new IOException("Page store is closed");
+    }
+    Slot slot = (isTemporary ? mTempPages : mPages).get(pageId);
+    if (slot == null) {
+      throw new PageNotFoundException(pageId.getFileId() + "_" + pageId.getPageIndex());
+    }
+    if (pageOffset + bytesToRead > slot.mLength) {
+      throw new PageCorruptedException(String.format(
+          "The page %s probably has been corrupted, "
+              + "page-offset %s, bytes to read %s, page length %s",
+          pageId, pageOffset, bytesToRead, slot.mLength));
+    }
+    int bytes = (int) Math.min(bytesToRead, target.remaining());
+    ByteBuffer data = getSegment(slot.mIndex).mData.duplicate();
+    int position = getSlotInSegment(slot.mIndex) * mPageSize + pageOffset;
+    data.limit(position + bytes).position(position);
+    target.writeBytes(Unpooled.wrappedBuffer(data));
+    return bytes;
+  }
+
+  @Override
+  public void delete(PageId pageId, boolean isTemporary) throws IOException, PageNotFoundException {
+    Slot slot = (isTemporary ? mTempPages : mPages).remove(pageId);
+    if (slot == null) {
+      throw new PageNotFoundException(pageId.getFileId() + "_" + pageId.getPageIndex());
+    }
+    clearSlot(slot.mIndex);
+  }
+
+  @Override
+  public void commit(String fileId, String newFileId) throws IOException {
+    byte[] newFileIdBytes = newFileId.getBytes(UTF_8);
+    if (newFileIdBytes.length > MAX_FILE_ID_LENGTH) {
+      throw new IOException(String.format("File id %s exceeds %d bytes",
+          newFileId, MAX_FILE_ID_LENGTH));
+    }
+    for (PageId pageId : getTempPages(fileId)) {
+      Slot slot = mTempPages.get(pageId);
+      writeHeader(slot.mIndex, SLOT_COMMITTED, slot.mLength, pageId.getPageIndex(),
+          slot.mCreatedTime, newFileIdBytes);
+      mPages.put(new PageId(newFileId, pageId.getPageIndex()), slot);
+      mTempPages.remove(pageId);
+    }
+  }
+
+  @Override
+  public void abort(String fileId) throws IOException {
+    for (PageId pageId : getTempPages(fileId)) {
+      Slot slot = mTempPages.remove(pageId);
+      if (slot != null) {
+        clearSlot(slot.mIndex);
+      }
+    }
+  }
+
+  @Override
+  public DataFileChannel getDataFileChannel(
+      PageId pageId, int pageOffset, int bytesToRead, boolean isTemporary)
+      throws PageNotFoundException {
+    Preconditions.checkArgument(pageOffset >= 0,
+        "page offset should be non-negative");
+    Preconditions.checkArgument(!isTemporary,
+        "cannot acquire a data file channel to a temporary page");
+    Slot slot = mPages.get(pageId);
+    if (slot == null) {
+      throw new PageNotFoundException(pageId.getFileId() + "_" + pageId.getPageIndex());
+    }
+    if (slot.mLength < pageOffset) {
+      throw new IllegalArgumentException(
+          String.format("offset %s exceeds length of page %s", pageOffset, slot.mLength));
+    }
+    if (pageOffset + bytesToRead > slot.mLength) {
+      bytesToRead = slot.mLength - pageOffset;
+    }
+    return new DataFileChannel(getSegment(slot.mIndex).mFile,
+        getDataPosition(slot.mIndex) + pageOffset, bytesToRead);
+  }
+
+  /**
+   * Iterates over the committed pages in this store.
+   *
+   * @param consumer consumer of the id of each page and the slot it is stored in
+   */
+  void forEachPage(BiConsumer<PageId, Slot> consumer) {
+    mPages.forEach(consumer);
+  }
+
+  /**
+   * @return the number of slots not holding any page
+   */
+  @VisibleForTesting
+  int getFreeSlots() {
+    synchronized (mFreeSlots) {
+      return mFreeSlots.cardinality();
+    }
+  }
+
+  @Override
+  public void close() {
+    mClosed = true;
+    for (Segment segment : mSegments) {
+      if (segment != null) {
+        segment.close();
+      }
+    }
+    mPages.clear();
+    mTempPages.clear();
+  }
+
+  private List<PageId> getTempPages(String fileId) {
+    return mTempPages.keySet().stream()
+        .filter(pageId -> pageId.getFileId().equals(fileId))
+        .collect(Collectors.toList());
+  }
+
+  private int allocateSlot() throws ResourceExhaustedException {
+    synchronized (mFreeSlots) {
+      int slot = mFreeSlots.nextSetBit(0);
+      if (slot < 0) {
+        throw new ResourceExhaustedException(
+            String.format("%s has no free slot, configured with %d bytes", mRoot, mCapacity));
+      }
+      mFreeSlots.clear(slot);
+      return slot;
+    }
+  }
+
+  private void freeSlot(int slot) {
+    synchronized (mFreeSlots) {
+      mFreeSlots.set(slot);
+    }
+  }
+
+  /**
+   * Marks a slot as free on disk and returns it to the free list.
+   */
+  private void clearSlot(int slot) throws IOException {
+    try {
+      writeSlotState(slot, SLOT_FREE);
+    } finally {
+      freeSlot(slot);
+    }
+  }
+
+  private void writeSlotState(int slot, byte state) throws IOException {
+    ByteBuffer buf = ByteBuffer.allocate(1).put(0, state);
+    getSegment(slot).mChannel.write(buf, getHeaderPosition(slot) + 4);
+  }
+
+  private void writeHeader(int slot, byte state, int length, long pageIndex, long createdTime,
+      byte[] fileId) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(SLOT_HEADER_SIZE);
+    header.putInt(SLOT_MAGIC)
+        .put(state)
+        .putInt(length)
+        .putLong(pageIndex)
+        .putLong(createdTime)
+        .putShort((short) fileId.length)
+        .put(fileId);
+    header.flip();
+    FileChannel channel = getSegment(slot).mChannel;
+    long position = getHeaderPosition(slot);
+    while (header.hasRemaining()) {
+      position += channel.write(header, position);
+    }
+  }
+
+  /**
+   * Loads the headers of a segment, restoring committed pages and releasing all other slots.
+   */
+  private void restoreSegment(int segmentIndex) throws IOException {
+    Segment segment = mSegments[segmentIndex];
+    ByteBuffer headers = ByteBuffer.allocate(segment.mSlots * SLOT_HEADER_SIZE);
+    while (headers.hasRemaining()) {
+      if (segment.mChannel.read(headers, SEGMENT_HEADER_SIZE + headers.position()) < 0) {
+        break;
+      }
+    }
+    for (int i = 0; i < segment.mSlots; i++) {
+      int slot = segmentIndex * mSlotsPerSegment + i;
+      headers.limit((i + 1) * SLOT_HEADER_SIZE).position(i * SLOT_HEADER_SIZE);
+      if (headers.getInt() != SLOT_MAGIC) {
+        continue;
+      }
+      byte state = headers.get();
+      int length = headers.getInt();
+      long pageIndex = headers.getLong();
+      long createdTime = headers.getLong();
+      int fileIdLength = headers.getShort();
+      if (state != SLOT_COMMITTED || length < 0 || length > mPageSize
+          || fileIdLength < 0 || fileIdLength > MAX_FILE_ID_LENGTH) {
+        // temporary pages are not recoverable as the metadata of their files is lost
+        if (state != SLOT_FREE) {
+          clearSlot(slot);
+        }
+        continue;
+      }
+      byte[] fileId = new byte[fileIdLength];
+      headers.get(fileId);
+      PageId pageId = new PageId(new String(fileId, UTF_8), pageIndex);
+      Slot previous = mPages.put(pageId, new Slot(slot, length, createdTime));
+      if (previous != null) {
+        // keep the most recently written copy of a page
+        if (previous.mCreatedTime > createdTime) {
+          mPages.put(pageId, previous);
+          clearSlot(slot);
+          continue;
+        }
+        clearSlot(previous.mIndex);
+      }
+      synchronized (mFreeSlots) {
+        mFreeSlots.clear(slot);
+      }
+    }
+  }
+
+  private Segment getSegment(int slot) {
+    return mSegments[slot / mSlotsPerSegment];
+  }
+
+  private int getSlotInSegment(int slot) {
+    return slot % mSlotsPerSegment;
+  }
+
+  private long getHeaderPosition(int slot) {
+    return SEGMENT_HEADER_SIZE + (long) getSlotInSegment(slot) * SLOT_HEADER_SIZE;
+  }
+
+  private long getDataPosition(int slot) {
+    return mDataOffset + (long) getSlotInSegment(slot) * mPageSize;
+  }
+
+  /**
+   * Location of a page in the store.
+   */
+  static final class Slot {
+    private final int mIndex;
+    private final int mLength;
+    private final long mCreatedTime;
+
+    Slot(int index, int length, long createdTime) {
+      mIndex = index;
+      mLength = length;
+      mCreatedTime = createdTime;
+    }
+
+    /**
+     * @return the length of the page in bytes
+     */
+    int getLength() {
+      return mLength;
+    }
+
+    /**
+     * @return the time the page was written in milliseconds
+     */
+    long getCreatedTime() {
+      return mCreatedTime;
+    }
+  }
+
+  /**
+   * An open segment file and its memory-mapped data region. The mapping is left to the garbage
+   * collector to release, as readers may still hold a view of it when the store is closed.
+   */
+  private final class Segment {
+    private final File mFile;
+    private final int mSlots;
+    private final RandomAccessFile mRandomAccessFile;
+    private final FileChannel mChannel;
+    private final MappedByteBuffer mData;
+
+    Segment(File file, int slots) throws IOException {
+      mFile = file;
+      mSlots = slots;
+      long dataSize = (long) slots * mPageSize;
+      mRandomAccessFile = new RandomAccessFile(file, "rw");
+      try {
+        mChannel = mRandomAccessFile.getChannel();
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        header.putInt(SEGMENT_MAGIC)
+            .putInt(SEGMENT_VERSION)
+            .putInt(mPageSize)
+            .putInt(mSlotsPerSegment)
+            .putInt(slots);
+        header.clear();
+        if (mRandomAccessFile.length() != mDataOffset + dataSize
+            || !header.equals(readSegmentHeader())) {
+          if (mRandomAccessFile.length() > 0) {
+            LOG.warn("Reformatting segment file {} written with a different geometry", file);
+          }
+          // truncating first zeroes the slot headers, so that no slot of the old layout is
+          // taken for a valid page
+          mRandomAccessFile.setLength(0);
+          mRandomAccessFile.setLength(mDataOffset + dataSize);
+          while (header.hasRemaining()) {
+            mChannel.write(header, header.position());
+          }
+        }
+        mData = mChannel.map(FileChannel.MapMode.READ_ONLY, mDataOffset, dataSize);
+      } catch (IOException | RuntimeException e) {
+        mRandomAccessFile.close();
+        throw e;
+      }
+    }
+
+    private ByteBuffer readSegmentHeader() throws IOException {
+      ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+      while (header.hasRemaining()) {
+        if (mChannel.read(header, header.position()) < 0) {
+          break;
+        }
+      }
+      header.clear();
+      return header;
+    }
+
+    void close() {
+      try {
+        mRandomAccessFile.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close segment file {}: {}", mFile, e.toString());
+      }
+    }
+  }
+}
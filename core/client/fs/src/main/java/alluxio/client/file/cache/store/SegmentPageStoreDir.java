@@ -0,0 +1,79 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.store;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import alluxio.client.file.cache.CacheUsage;
+import alluxio.client.file.cache.PageInfo;
+import alluxio.client.file.cache.PageStore;
+import alluxio.client.file.cache.evictor.CacheEvictor;
+import alluxio.client.quota.CacheScope;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Represents the dir and file level metadata of the {@link SegmentPageStore}.
+ */
+public class SegmentPageStoreDir extends QuotaManagedPageStoreDir {
+
+  private final PageStoreOptions mPageStoreOptions;
+
+  private SegmentPageStore mPageStore;
+
+  /**
+   * Constructor of SegmentPageStoreDir.
+   *
+   * @param pageStoreOptions page store options
+   * @param pageStore the PageStore instance
+   * @param cacheEvictor the evictor
+   */
+  public SegmentPageStoreDir(PageStoreOptions pageStoreOptions,
+                             PageStore pageStore,
+                             CacheEvictor cacheEvictor) {
+    super(pageStoreOptions.getRootDir(),
+        (long) (pageStoreOptions.getCacheSize() / (1 + pageStoreOptions.getOverheadRatio())),
+        cacheEvictor);
+    checkState(pageStore instanceof SegmentPageStore);
+    mPageStore = (SegmentPageStore) pageStore;
+    mPageStoreOptions = pageStoreOptions;
+  }
+
+  @Override
+  public PageStore getPageStore() {
+    return mPageStore;
+  }
+
+  @Override
+  public void reset() throws IOException {
+    close();
+    PageStoreDir.clear(getRootPath());
+    mPageStore = SegmentPageStore.open(mPageStoreOptions);
+  }
+
+  /**
+   * Reports the pages restored from the slot headers of the segment files, which does not
+   * require walking the directory tree.
+   */
+  @Override
+  public void scanPages(Consumer<Optional<PageInfo>> pageInfoConsumer) {
+    mPageStore.forEachPage((pageId, slot) -> pageInfoConsumer.accept(Optional.of(
+        new PageInfo(pageId, slot.getLength(), CacheScope.GLOBAL, this, slot.getCreatedTime()))));
+  }
+
+  @Override
+  public Optional<CacheUsage> getUsage() {
+    return Optional.of(new QuotaManagedPageStoreDir.Usage());
+  }
+}
@@ -138,6 +138,16 @@ public class BlockInStreamTest {
         stream.getDataReaderFactory().getClass().getName());
   }
 
+  @Test
+  public void createRemoteSendfile() throws Exception {
+    WorkerNetAddress dataSource = new WorkerNetAddress().setSendfileDataPort(29997);
+    BlockInStream.BlockInStreamSource dataSourceType = BlockInStream.BlockInStreamSource.REMOTE;
+    BlockInStream stream =
+        BlockInStream.create(mMockContext, mInfo, dataSource, dataSourceType, mOptions);
+    assertEquals(SendfileDataReader.Factory.class.getName(),
+        stream.getDataReaderFactory().getClass().getName());
+  }
+
   @Test
   public void createUfs() throws Exception {
     WorkerNetAddress dataSource = new WorkerNetAddress();
@@ -0,0 +1,224 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import alluxio.client.file.FileSystemContext;
+import alluxio.conf.Configuration;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.grpc.ReadRequest;
+import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.resource.CloseableResource;
+import alluxio.util.io.BufferUtils;
+import alluxio.wire.WorkerNetAddress;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the {@link SendfileDataReader} class.
+ */
+public final class SendfileDataReaderTest {
+  private static final int CHUNK_SIZE = 16;
+  private static final long BLOCK_ID = 1L;
+  private static final UUID CHANNEL_ID = UUID.randomUUID();
+
+  private final InstancedConfiguration mConf = Configuration.copyGlobal();
+  private FileSystemContext mContext;
+  private ServerSocket mServer;
+  private ExecutorService mExecutor;
+  private TestDataReader.Factory mFallback;
+  private SendfileConnectionPool mPool;
+
+  @Before
+  public void before() throws Exception {
+    mConf.set(PropertyKey.USER_STREAMING_READER_CHUNK_SIZE_BYTES, CHUNK_SIZE);
+    mConf.set(PropertyKey.USER_STREAMING_DATA_READ_TIMEOUT, "10sec");
+    mContext = Mockito.mock(FileSystemContext.class);
+    when(mContext.getClusterConf()).thenReturn(mConf);
+    mServer = new ServerSocket(0);
+    mExecutor = Executors.newSingleThreadExecutor();
+    mFallback = new TestDataReader.Factory(CHUNK_SIZE, BufferUtils.getIncreasingByteArray(100));
+  }
+
+  @After
+  public void after() throws Exception {
+    if (mPool != null) {
+      mPool.close();
+    }
+    mExecutor.shutdownNow();
+    mServer.close();
+  }
+
+  @Test
+  public void read() throws Exception {
+    // the block ends before the end of the requested region
+    byte[] data = BufferUtils.getIncreasingByteArray(10, 40);
+    Future<List<ReadRequest>> requests = serve(output -> {
+      output.writeLong(data.length);
+      output.write(data);
+    });
+    try (DataReader reader = createFactory(mServer.getLocalPort()).create(10, 50)) {
+      assertArrayEquals(data, readAll(reader));
+      assertEquals(50, reader.pos());
+    }
+    ReadRequest request = requests.get().get(0);
+    assertEquals(BLOCK_ID, request.getBlockId());
+    assertEquals(10, request.getOffset());
+    assertEquals(50, request.getLength());
+    assertNull(mFallback.getDataReader());
+  }
+
+  @Test
+  public void readIntoBuffer() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(10, 40);
+    serve(output -> {
+      output.writeLong(data.length);
+      output.write(data);
+    });
+    try (SendfileDataReader reader =
+        (SendfileDataReader) createFactory(mServer.getLocalPort()).create(10, 40)) {
+      byte[] buf = new byte[42];
+      reader.read(buf, 2, 40);
+      assertEquals(0, reader.remaining());
+      assertArrayEquals(data, Arrays.copyOfRange(buf, 2, 42));
+    }
+  }
+
+  @Test
+  public void reuseConnection() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(10, 40);
+    // both requests are served by the single connection accepted by the server
+    Future<List<ReadRequest>> requests = serve(output -> {
+      output.writeLong(data.length);
+      output.write(data);
+    }, output -> {
+      output.writeLong(data.length);
+      output.write(data);
+    });
+    SendfileDataReader.Factory factory = createFactory(mServer.getLocalPort());
+    for (int i = 0; i < 2; i++) {
+      try (DataReader reader = factory.create(10, 40)) {
+        assertArrayEquals(data, readAll(reader));
+      }
+    }
+    assertEquals(2, requests.get().size());
+    assertEquals(1, mPool.size());
+  }
+
+  @Test
+  public void fallBackWhenUnavailable() throws Exception {
+    byte[] message = "not stored in a local file".getBytes(StandardCharsets.UTF_8);
+    Future<List<ReadRequest>> requests = serve(output -> {
+      output.writeLong(-1);
+      output.writeInt(message.length);
+      output.write(message);
+    });
+    try (DataReader reader = createFactory(mServer.getLocalPort()).create(10, 50)) {
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(10, 50), readAll(reader));
+    }
+    assertEquals(BLOCK_ID, requests.get().get(0).getBlockId());
+    assertNotNull(mFallback.getDataReader());
+  }
+
+  @Test
+  public void fallBackWhenServerIsDown() throws Exception {
+    int port = mServer.getLocalPort();
+    mServer.close();
+    try (DataReader reader = createFactory(port).create(10, 50)) {
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(10, 50), readAll(reader));
+    }
+    assertNotNull(mFallback.getDataReader());
+  }
+
+  private SendfileDataReader.Factory createFactory(int port) throws IOException {
+    mPool = new SendfileConnectionPool(new InetSocketAddress("localhost", port),
+        () -> CHANNEL_ID, 0, 4, mConf);
+    when(mContext.acquireSendfileConnection(any())).thenAnswer(invocation ->
+        new CloseableResource<SendfileConnection>(mPool.acquire()) {
+          @Override
+          public void closeResource() {
+            mPool.release(get());
+          }
+        });
+    WorkerNetAddress address = new WorkerNetAddress().setHost("localhost")
+        .setSendfileDataPort(port);
+    return new SendfileDataReader.Factory(mContext, address,
+        ReadRequest.newBuilder().setBlockId(BLOCK_ID), mFallback);
+  }
+
+  /**
+   * Serves one connection, checking the channel id it authenticates with.
+   *
+   * @param replies write the replies to the successive requests of the connection
+   * @return the future of the requests received
+   */
+  private Future<List<ReadRequest>> serve(Reply... replies) {
+    return mExecutor.submit(() -> {
+      try (Socket socket = mServer.accept()) {
+        DataInputStream input = new DataInputStream(socket.getInputStream());
+        assertEquals(CHANNEL_ID, new UUID(input.readLong(), input.readLong()));
+        DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+        List<ReadRequest> requests = new ArrayList<>();
+        for (Reply reply : replies) {
+          requests.add(ReadRequest.parseDelimitedFrom(input));
+          reply.write(output);
+          output.flush();
+        }
+        return requests;
+      }
+    });
+  }
+
+  private static byte[] readAll(DataReader reader) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    DataBuffer chunk;
+    while ((chunk = reader.readChunk()) != null) {
+      ByteBuffer buffer = chunk.getReadOnlyByteBuffer();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      output.write(bytes);
+      chunk.release();
+    }
+    return output.toByteArray();
+  }
+
+  private interface Reply {
+    void write(DataOutputStream output) throws IOException;
+  }
+}
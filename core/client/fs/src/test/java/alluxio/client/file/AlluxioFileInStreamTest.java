@@ -13,6 +13,7 @@ package alluxio.client.file;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -65,12 +66,16 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.modules.junit4.PowerMockRunnerDelegate;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Tests for the {@link AlluxioFileInStream} class.
@@ -97,6 +102,8 @@ public final class AlluxioFileInStreamTest {
 
   private AlluxioFileInStream mTestStream;
 
+  private ExecutorService mVectoredReadExecutor;
+
   /**
    * @return a list of all sources of where the blocks reside and file size
    */
@@ -148,6 +155,8 @@ public final class AlluxioFileInStreamTest {
     when(mContext.getPathConf(any(AlluxioURI.class))).thenReturn(mConf);
     when(mContext.getNodeLocalWorker()).thenReturn(new WorkerNetAddress());
     when(mContext.getCachedWorkers()).thenReturn(new ArrayList<>());
+    mVectoredReadExecutor = Executors.newFixedThreadPool(4);
+    when(mContext.getVectoredReadExecutor()).thenReturn(mVectoredReadExecutor);
     when(mContext.acquireBlockWorkerClient(any()))
         .thenReturn(new CloseableResource<BlockWorkerClient>(client) {
           @Override
@@ -201,6 +210,7 @@ public final class AlluxioFileInStreamTest {
   @After
   public void after() throws Exception {
     mTestStream.close();
+    mVectoredReadExecutor.shutdownNow();
     ClientTestUtils.resetClient(mConf);
   }
 
@@ -718,6 +728,88 @@ public final class AlluxioFileInStreamTest {
         BLOCK_LENGTH * 2), b);
   }
 
+  @Test
+  public void readVectored() throws Exception {
+    List<FileRange> ranges = new ArrayList<>();
+    // crosses a block boundary
+    ranges.add(new FileRange(BLOCK_LENGTH - 5, 10));
+    for (long offset = mFileSize - 40; offset >= 0; offset -= BLOCK_LENGTH / 2) {
+      ranges.add(new FileRange(offset, 10));
+    }
+    mTestStream.readVectored(ranges, ByteBuffer::allocate);
+    for (FileRange range : ranges) {
+      ByteBuffer data = range.getData().get();
+      assertEquals(range.getLength(), data.remaining());
+      byte[] b = new byte[data.remaining()];
+      data.get(b);
+      assertArrayEquals(BufferUtils.getIncreasingByteArray((int) range.getOffset(),
+          range.getLength()), b);
+    }
+    assertEquals(0, mTestStream.getPos());
+  }
+
+  @Test
+  public void readVectoredBeyondEof() throws Exception {
+    FileRange range = new FileRange(mFileSize - 5, 10);
+    mTestStream.readVectored(Arrays.asList(range), ByteBuffer::allocate);
+    try {
+      range.getData().get();
+      fail("Expected the read of the range to fail");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof EOFException);
+    }
+  }
+
+  @Test
+  public void readVectoredClosesStreamOnFailure() throws Exception {
+    byte[] input = BufferUtils.getIncreasingByteArray((int) getBlockLength(0));
+    TestBlockInStream stream = new TestBlockInStream(input, 0, input.length, mBlockSource) {
+      @Override
+      public int positionedRead(long pos, byte[] b, int off, int len) {
+        throw new IllegalStateException("failed read");
+      }
+    };
+    when(mBlockStore.getInStream(eq(new BlockInfo().setBlockId(0)), any(InStreamOptions.class),
+        any())).thenReturn(stream);
+    FileRange range = new FileRange(0, 10);
+    mTestStream.readVectored(Arrays.asList(range), ByteBuffer::allocate);
+    try {
+      range.getData().get();
+      fail("Expected the read of the range to fail");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    assertTrue(stream.isClosed());
+  }
+
+  @Test
+  public void prefetchBlocks() throws Exception {
+    mConf.set(PropertyKey.USER_FILE_PREFETCH_BLOCKS, 2);
+    OpenFilePOptions readOptions =
+        OpenFilePOptions.newBuilder().setReadType(ReadPType.CACHE_PROMOTE).build();
+    try (AlluxioFileInStream stream = new AlluxioFileInStream(mStatus,
+        new InStreamOptions(mStatus, readOptions, mConf, mContext), mContext)) {
+      assertEquals(0, stream.read());
+      // the following blocks are opened and already streaming
+      for (int i = 1; i < Math.min(3, mNumBlocks); i++) {
+        verify(mBlockStore).getInStream(eq(new BlockInfo().setBlockId(i)),
+            any(InStreamOptions.class), any());
+        assertNotNull(mInStreams.get(i).getDataReader());
+      }
+      byte[] b = new byte[(int) mFileSize - 1];
+      int totalBytesRead = 0;
+      while (totalBytesRead < b.length) {
+        totalBytesRead += stream.read(b, totalBytesRead, b.length - totalBytesRead);
+      }
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(1, (int) mFileSize - 1), b);
+      // each block is opened once
+      for (int i = 1; i < mNumBlocks; i++) {
+        verify(mBlockStore).getInStream(eq(new BlockInfo().setBlockId(i)),
+            any(InStreamOptions.class), any());
+      }
+    }
+  }
+
   @Test
   public void readOneRetry() throws Exception {
     long offset = 37;
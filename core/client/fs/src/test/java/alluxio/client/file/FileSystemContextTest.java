@@ -11,10 +11,12 @@
 
 package alluxio.client.file;
 
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import alluxio.ClientContext;
 import alluxio.Constants;
+import alluxio.client.file.cache.PrefetchPool;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
 import alluxio.resource.CloseableResource;
@@ -68,6 +70,24 @@ public final class FileSystemContextTest {
     }
   }
 
+  /**
+   * Tests that the cache prefetch pool is shared by the users of a context and is not handed out
+   * once the context is closed.
+   */
+  @Test
+  public void cachePrefetchPoolClosedWithContext() throws Exception {
+    FileSystemContext fsContext = FileSystemContext.create(ClientContext.create());
+    PrefetchPool pool = fsContext.getCachePrefetchPool();
+    assertSame(pool, fsContext.getCachePrefetchPool());
+    fsContext.close();
+    try {
+      fsContext.getCachePrefetchPool();
+      fail("Expected the closed context not to hand out its prefetch pool");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
   class AcquireClient implements Runnable {
 
     private final FileSystemContext mFsCtx;
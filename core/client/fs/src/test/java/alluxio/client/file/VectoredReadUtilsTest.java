@@ -0,0 +1,97 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.client.file.VectoredReadUtils.CombinedRange;
+import alluxio.util.io.BufferUtils;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for the {@link VectoredReadUtils} class.
+ */
+public final class VectoredReadUtilsTest {
+  @Test
+  public void sortRanges() {
+    FileRange first = new FileRange(0, 10);
+    FileRange second = new FileRange(20, 10);
+    FileRange empty = new FileRange(40, 0);
+    FileRange beyondEof = new FileRange(90, 20);
+    List<FileRange> sorted =
+        VectoredReadUtils.sortRanges(Arrays.asList(second, beyondEof, empty, first), 100);
+    assertEquals(Arrays.asList(first, second), sorted);
+    assertEquals(0, empty.getData().join().remaining());
+    assertTrue(beyondEof.getData().isCompletedExceptionally());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void overlappingRanges() {
+    VectoredReadUtils.sortRanges(Arrays.asList(new FileRange(0, 10), new FileRange(5, 10)), 100);
+  }
+
+  @Test
+  public void mergeCloseRanges() {
+    List<FileRange> ranges = Arrays.asList(new FileRange(0, 10), new FileRange(15, 10),
+        new FileRange(100, 10));
+    List<CombinedRange> combined = VectoredReadUtils.mergeRanges(ranges, 5, 1000, 1000);
+    assertEquals(2, combined.size());
+    assertEquals(0, combined.get(0).getOffset());
+    assertEquals(25, combined.get(0).getLength());
+    assertEquals(ranges.subList(0, 2), combined.get(0).getRanges());
+    assertEquals(100, combined.get(1).getOffset());
+    assertEquals(10, combined.get(1).getLength());
+  }
+
+  @Test
+  public void mergeUpToMaxSize() {
+    List<FileRange> ranges = Arrays.asList(new FileRange(0, 10), new FileRange(10, 10),
+        new FileRange(20, 10));
+    List<CombinedRange> combined = VectoredReadUtils.mergeRanges(ranges, 5, 20, 1000);
+    assertEquals(2, combined.size());
+    assertEquals(20, combined.get(0).getLength());
+    assertEquals(20, combined.get(1).getOffset());
+  }
+
+  @Test
+  public void mergeWithoutCrossingBlocks() {
+    List<FileRange> ranges = Arrays.asList(new FileRange(80, 10), new FileRange(95, 10),
+        new FileRange(105, 10), new FileRange(200, 10));
+    List<CombinedRange> combined = VectoredReadUtils.mergeRanges(ranges, 100, 1000, 100);
+    assertEquals(2, combined.size());
+    // the second range crosses the block boundary by itself
+    assertEquals(ranges.subList(0, 3), combined.get(0).getRanges());
+    assertEquals(ranges.subList(3, 4), combined.get(1).getRanges());
+  }
+
+  @Test
+  public void completeRanges() {
+    List<FileRange> ranges = Arrays.asList(new FileRange(10, 10), new FileRange(25, 5));
+    CombinedRange combined = VectoredReadUtils.mergeRanges(ranges, 5, 1000, 1000).get(0);
+    VectoredReadUtils.completeRanges(combined,
+        BufferUtils.getIncreasingByteArray(10, combined.getLength()), ByteBuffer::allocate);
+    for (FileRange range : ranges) {
+      ByteBuffer data = range.getData().join();
+      byte[] b = new byte[data.remaining()];
+      data.get(b);
+      assertArrayEquals(
+          BufferUtils.getIncreasingByteArray((int) range.getOffset(), range.getLength()), b);
+    }
+  }
+}
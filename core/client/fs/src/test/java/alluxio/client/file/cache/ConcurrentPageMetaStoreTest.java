@@ -0,0 +1,120 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.client.file.cache.evictor.CacheEvictorOptions;
+import alluxio.client.file.cache.evictor.LRUCacheEvictor;
+import alluxio.client.file.cache.store.PageStoreDir;
+import alluxio.client.file.cache.store.PageStoreOptions;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link ConcurrentPageMetaStore} class.
+ */
+public class ConcurrentPageMetaStoreTest extends DefaultMetaStoreTest {
+  private ConcurrentPageMetaStore mConcurrentMetaStore;
+
+  @Before
+  @Override
+  public void before() {
+    MetricsSystem.clearAllMetrics();
+    mPageStoreDir =
+        PageStoreDir.createPageStoreDir(
+            new CacheEvictorOptions().setEvictorClass(LRUCacheEvictor.class),
+            new PageStoreOptions().setRootDir(
+                Paths.get(mTempFolder.getRoot().getAbsolutePath())));
+    mPageInfo = new PageInfo(mPage, 1024, mPageStoreDir);
+    mConcurrentMetaStore = new ConcurrentPageMetaStore(ImmutableList.of(mPageStoreDir));
+    mMetaStore = mConcurrentMetaStore;
+    mCachedPageGauge =
+        MetricsSystem.METRIC_REGISTRY.getGauges().get(MetricKey.CLIENT_CACHE_PAGES.getName());
+  }
+
+  @Test
+  public void supportsLockFreeGet() {
+    assertTrue(mMetaStore.supportsLockFreeGet());
+  }
+
+  @Test
+  public void evictHonorsBufferedAccesses() throws Exception {
+    PageId otherPage = new PageId("2L", 0L);
+    PageInfo otherPageInfo = new PageInfo(otherPage, 1024, mPageStoreDir);
+    mMetaStore.addPage(mPage, mPageInfo);
+    mMetaStore.addPage(otherPage, otherPageInfo);
+    // the access is buffered, but must be visible to the evictor once a victim is selected
+    mMetaStore.getPageInfo(mPage);
+    assertEquals(otherPageInfo, mMetaStore.evict(mPageStoreDir));
+  }
+
+  @Test
+  public void removedPageAccessNotReplayed() throws Exception {
+    mMetaStore.addPage(mPage, mPageInfo);
+    mMetaStore.getPageInfo(mPage);
+    mMetaStore.removePage(mPage);
+    mConcurrentMetaStore.drainAccesses();
+    assertFalse(mMetaStore.hasPage(mPage));
+    assertNull(mMetaStore.evict(mPageStoreDir));
+  }
+
+  @Test
+  public void concurrentGet() throws Exception {
+    int numPages = 128;
+    List<PageId> pages = new ArrayList<>();
+    for (int i = 0; i < numPages; i++) {
+      PageId pageId = new PageId("file", i);
+      mMetaStore.addPage(pageId, new PageInfo(pageId, 1024, mPageStoreDir));
+      pages.add(pageId);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10000; i++) {
+            PageId pageId = pages.get(i % numPages);
+            assertEquals(pageId, mMetaStore.getPageInfo(pageId).getPageId());
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(numPages, mMetaStore.numPages());
+    for (int i = 0; i < numPages; i++) {
+      PageInfo victim = mMetaStore.evict(mPageStoreDir);
+      mMetaStore.removePage(victim.getPageId());
+    }
+    assertNull(mMetaStore.evict(mPageStoreDir));
+  }
+}
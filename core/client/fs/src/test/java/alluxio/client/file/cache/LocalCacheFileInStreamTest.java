@@ -18,6 +18,7 @@ import alluxio.Constants;
 import alluxio.client.file.CacheContext;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
+import alluxio.client.file.FileRange;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.ListStatusPartialResult;
 import alluxio.client.file.MockFileInStream;
@@ -64,6 +65,8 @@ import alluxio.metrics.MetricKey;
 import alluxio.metrics.MetricsSystem;
 import alluxio.network.protocol.databuffer.DataFileChannel;
 import alluxio.security.authorization.AclEntry;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
 import alluxio.util.io.BufferUtils;
 import alluxio.util.io.PathUtils;
 import alluxio.wire.BlockLocationInfo;
@@ -95,6 +98,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -102,6 +106,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 
 /**
  * Unit tests for {@link LocalCacheFileInStream}.
@@ -667,8 +672,67 @@ public class LocalCacheFileInStreamTest {
         MetricsSystem.counter(MetricKey.CLIENT_CACHE_HIT_REQUESTS.getName()).getCount());
   }
 
+  @Test
+  public void sequentialReadPrefetch() throws Exception {
+    sConf.set(PropertyKey.USER_CLIENT_CACHE_PREFETCH_MAX_PAGES, 4);
+    int fileSize = mPageSize * 8;
+    byte[] testData = BufferUtils.getIncreasingByteArray(fileSize);
+    ByteArrayCacheManager manager = new ByteArrayCacheManager();
+    try (PrefetchPool pool = new PrefetchPool(sConf);
+         LocalCacheFileInStream stream = setupWithSingleFile(testData, manager, pool)) {
+      // reading the first pages sequentially prefetches the following page
+      byte[] buf = new byte[mPageSize];
+      for (int i = 0; i < 2; i++) {
+        Assert.assertEquals(mPageSize, stream.read(buf));
+        Assert.assertArrayEquals(
+            Arrays.copyOfRange(testData, i * mPageSize, (i + 1) * mPageSize), buf);
+      }
+      CommonUtils.waitFor("page to be prefetched",
+          () -> manager.mPages.keySet().stream().anyMatch(id -> id.getPageIndex() == 2),
+          WaitForOptions.defaults().setTimeoutMs(10000));
+      long pagesServed = manager.mPagesServed;
+      Assert.assertEquals(mPageSize, stream.read(buf));
+      Assert.assertArrayEquals(
+          Arrays.copyOfRange(testData, 2 * mPageSize, 3 * mPageSize), buf);
+      Assert.assertEquals(pagesServed + 1, manager.mPagesServed);
+    } finally {
+      sConf.unset(PropertyKey.USER_CLIENT_CACHE_PREFETCH_MAX_PAGES);
+    }
+  }
+
+  @Test
+  public void readVectored() throws Exception {
+    int fileSize = mPageSize * 4;
+    byte[] testData = BufferUtils.getIncreasingByteArray(fileSize);
+    ByteArrayCacheManager manager = new ByteArrayCacheManager();
+    LocalCacheFileInStream stream = setupWithSingleFile(testData, manager);
+    byte[] firstPage = new byte[mPageSize];
+    stream.positionedRead(0, firstPage, 0, firstPage.length);
+    Assert.assertEquals(1, manager.mPagesCached);
+
+    // the first range is cached, the second one spans two pages which are not
+    FileRange cached = new FileRange(1, mPageSize / 2);
+    FileRange external = new FileRange(mPageSize + mPageSize / 2, mPageSize);
+    stream.readVectored(Arrays.asList(external, cached), ByteBuffer::allocate);
+    for (FileRange range : Arrays.asList(cached, external)) {
+      ByteBuffer data = range.getData().get();
+      byte[] b = new byte[data.remaining()];
+      data.get(b);
+      Assert.assertArrayEquals(Arrays.copyOfRange(testData, (int) range.getOffset(),
+          (int) range.getEnd()), b);
+    }
+    Assert.assertEquals(1, manager.mPagesServed);
+    Assert.assertEquals(3, manager.mPagesCached);
+    Assert.assertEquals(0, stream.getPos());
+  }
+
   private LocalCacheFileInStream setupWithSingleFile(byte[] data, CacheManager manager)
       throws Exception {
+    return setupWithSingleFile(data, manager, null);
+  }
+
+  private LocalCacheFileInStream setupWithSingleFile(byte[] data, CacheManager manager,
+      @Nullable PrefetchPool prefetchPool) throws Exception {
     Map<AlluxioURI, byte[]> files = new HashMap<>();
     AlluxioURI testFilename = new AlluxioURI("/test");
     files.put(testFilename, data);
@@ -677,7 +741,7 @@ public class LocalCacheFileInStreamTest {
 
     return new LocalCacheFileInStream(fs.getStatus(testFilename),
         (status) -> fs.openFile(status, OpenFilePOptions.getDefaultInstance()), manager, sConf,
-        Optional.empty());
+        Optional.empty(), Optional.ofNullable(prefetchPool));
   }
 
   private Map<AlluxioURI, LocalCacheFileInStream> setupWithMultipleFiles(Map<String, byte[]> files,
@@ -763,7 +827,12 @@ public class LocalCacheFileInStreamTest {
     long mPagesCached = 0;
 
     ByteArrayCacheManager() {
-      mPages = new HashMap<>();
+      mPages = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean hasPageUnsafe(PageId pageId) {
+      return mPages.containsKey(pageId);
     }
 
     @Override
@@ -25,6 +25,7 @@ import alluxio.client.file.cache.evictor.CacheEvictor;
 import alluxio.client.file.cache.evictor.FIFOCacheEvictor;
 import alluxio.client.file.cache.evictor.LRUCacheEvictor;
 import alluxio.client.file.cache.evictor.UnevictableCacheEvictor;
+import alluxio.client.file.cache.filter.TinyLfuPageAdmissionFilter;
 import alluxio.client.file.cache.store.LocalPageStore;
 import alluxio.client.file.cache.store.LocalPageStoreDir;
 import alluxio.client.file.cache.store.PageStoreDir;
@@ -64,6 +65,8 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.List;
@@ -246,6 +249,29 @@ public final class LocalCacheManagerTest {
     assertArrayEquals(PAGE2, mBuf);
   }
 
+  @Test
+  public void putEvictRejectedByAdmissionFilter() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_SIZE, String.valueOf(PAGE_SIZE_BYTES));
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ADMISSION_FILTER_CLASS,
+        TinyLfuPageAdmissionFilter.class.getName());
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.put(PAGE_ID1, PAGE1));
+    assertEquals(PAGE1.length, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    assertEquals(PAGE1.length, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    // a page accessed less often than the cached one is not admitted
+    assertFalse(mCacheManager.put(PAGE_ID2, PAGE2));
+    assertEquals(PAGE1.length, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    assertArrayEquals(PAGE1, mBuf);
+    // once accessed more often, the page replaces the cached one
+    for (int i = 0; i < 4; i++) {
+      assertEquals(0, mCacheManager.get(PAGE_ID2, PAGE2.length, mBuf, 0));
+    }
+    assertTrue(mCacheManager.put(PAGE_ID2, PAGE2));
+    assertEquals(0, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    assertEquals(PAGE2.length, mCacheManager.get(PAGE_ID2, PAGE2.length, mBuf, 0));
+    assertArrayEquals(PAGE2, mBuf);
+  }
+
   @Test
   public void putSmallPages() throws Exception {
     // Cache size is only one full page, but should be able to store multiple small pages
@@ -677,6 +703,122 @@ public final class LocalCacheManagerTest {
     assertTrue(mCacheManager.delete(PAGE_ID2));
   }
 
+  @Test
+  public void restoreFromPageIndex() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED, true);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL, "0");
+    mCacheManager.close();
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.put(PAGE_ID1, PAGE1));
+    assertTrue(mCacheManager.put(PAGE_ID2, PAGE2));
+    mCacheManager.close();
+    Path indexPath = mPageStoreDir.getIndexPath().get();
+    assertTrue(Files.exists(indexPath));
+    // a page unknown to the index written on clean shutdown is not restored
+    PageId pageUuid = new PageId(UUID.randomUUID().toString(), 0);
+    PageStore pageStore = PageStore.create(mPageStoreOptions);
+    pageStore.put(pageUuid, PAGE1);
+    pageStore.close();
+
+    mCacheManager = createLocalCacheManager();
+    assertFalse(Files.exists(indexPath));
+    assertEquals(PAGE1.length, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    assertArrayEquals(PAGE1, mBuf);
+    assertEquals(PAGE2.length, mCacheManager.get(PAGE_ID2, PAGE2.length, mBuf, 0));
+    assertArrayEquals(PAGE2, mBuf);
+    assertFalse(mCacheManager.hasPageUnsafe(pageUuid));
+  }
+
+  @Test
+  public void restoreFromStalePageIndex() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED, true);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL, "0");
+    mCacheManager.close();
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.put(PAGE_ID1, PAGE1));
+    assertTrue(mCacheManager.put(PAGE_ID2, PAGE2));
+    mCacheManager.close();
+    PageStore pageStore = PageStore.create(mPageStoreOptions);
+    pageStore.delete(PAGE_ID1);
+    pageStore.delete(PAGE_ID2);
+    pageStore.put(PAGE_ID2, page(0, PAGE_SIZE_BYTES / 2));
+    pageStore.close();
+
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.hasPageUnsafe(PAGE_ID1));
+    assertTrue(mCacheManager.hasPageUnsafe(PAGE_ID2));
+    assertEquals(0, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    assertEquals(0, mCacheManager.get(PAGE_ID2, PAGE2.length, mBuf, 0));
+    assertFalse(mCacheManager.hasPageUnsafe(PAGE_ID1));
+    assertFalse(mCacheManager.hasPageUnsafe(PAGE_ID2));
+    assertTrue(mCacheManager.put(PAGE_ID2, PAGE2));
+    assertEquals(PAGE2.length, mCacheManager.get(PAGE_ID2, PAGE2.length, mBuf, 0));
+    assertArrayEquals(PAGE2, mBuf);
+  }
+
+  @Test
+  public void getDataFileChannelFromStalePageIndex() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED, true);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL, "0");
+    mCacheManager.close();
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.put(PAGE_ID1, PAGE1));
+    mCacheManager.close();
+    // the page file is truncated after the index was written
+    PageStore pageStore = PageStore.create(mPageStoreOptions);
+    pageStore.delete(PAGE_ID1);
+    pageStore.put(PAGE_ID1, page(0, PAGE_SIZE_BYTES / 2));
+    pageStore.close();
+
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.hasPageUnsafe(PAGE_ID1));
+    assertFalse(mCacheManager.getDataFileChannel(PAGE_ID1, 0, PAGE1.length,
+        CacheContext.defaults()).isPresent());
+    assertFalse(mCacheManager.hasPageUnsafe(PAGE_ID1));
+  }
+
+  @Test
+  public void reconcileCheckpointedPageIndex() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED, true);
+    mCacheManager.close();
+    PageStore pageStore = PageStore.create(mPageStoreOptions);
+    pageStore.put(PAGE_ID1, PAGE1);
+    pageStore.put(PAGE_ID2, PAGE2);
+    pageStore.close();
+    // an index checkpointed before the second page was written
+    PageIndex.write(mPageStoreDir.getIndexPath().get(),
+        ImmutableList.of(new PageInfo(PAGE_ID1, PAGE1.length, mPageStoreDir)),
+        PAGE_SIZE_BYTES, false);
+
+    mCacheManager = createLocalCacheManager();
+    assertTrue(mCacheManager.hasPageUnsafe(PAGE_ID1));
+    CommonUtils.waitFor("page index reconciled",
+        () -> mCacheManager.hasPageUnsafe(PAGE_ID2),
+        WaitForOptions.defaults().setTimeoutMs(10000));
+    assertEquals(PAGE2.length, mCacheManager.get(PAGE_ID2, PAGE2.length, mBuf, 0));
+    assertArrayEquals(PAGE2, mBuf);
+  }
+
+  @Test
+  public void restoreFromCorruptedPageIndex() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED, true);
+    mCacheManager.close();
+    PageStore pageStore = PageStore.create(mPageStoreOptions);
+    pageStore.put(PAGE_ID1, PAGE1);
+    pageStore.close();
+    Files.write(mPageStoreDir.getIndexPath().get(), new byte[] {1, 2, 3});
+
+    // falls back to scanning the directory
+    mCacheManager = createLocalCacheManager();
+    assertEquals(PAGE1.length, mCacheManager.get(PAGE_ID1, PAGE1.length, mBuf, 0));
+    assertArrayEquals(PAGE1, mBuf);
+  }
+
   /**
    * Invalid page file will be deleted and cache manager will start normally.
    * @throws Exception
@@ -895,6 +1037,36 @@ public final class LocalCacheManagerTest {
     pageStore.setPutHanging(false);
   }
 
+  @Test
+  public void asyncCacheQueueFull() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED, true);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_THREADS, 1);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_SIZE, 1);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_TIMEOUT, "10ms");
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_STORE_TYPE, PageStoreType.LOCAL);
+    PageStoreOptions pageStoreOptions = PageStoreOptions.create(mConf).get(0);
+    HangingPageStore pageStore = new HangingPageStore(pageStoreOptions);
+    PageStoreDir dir =
+        new LocalPageStoreDir(pageStoreOptions, pageStore, mEvictor);
+    pageStore.setPutHanging(true);
+    mPageMetaStore = new DefaultPageMetaStore(ImmutableList.of(dir));
+    mCacheManager = createLocalCacheManager(mConf, mPageMetaStore);
+    // the first page is being written by the only thread, the second one waits in the queue
+    assertTrue(mCacheManager.put(pageId(0, 0), page(0, PAGE_SIZE_BYTES)));
+    assertTrue(mCacheManager.put(pageId(1, 0), page(1, PAGE_SIZE_BYTES)));
+    // the third page is dropped instead of blocking the caller
+    assertFalse(mCacheManager.put(pageId(2, 0), page(2, PAGE_SIZE_BYTES)));
+    pageStore.setPutHanging(false);
+    CommonUtils.waitFor("queued pages to be written", () -> pageStore.getPuts() >= 2,
+        WaitForOptions.defaults().setTimeoutMs(10000));
+    byte[] buf = new byte[PAGE_SIZE_BYTES];
+    CommonUtils.waitFor("pages to be cached",
+        () -> mCacheManager.get(pageId(1, 0), PAGE_SIZE_BYTES, buf, 0) == PAGE_SIZE_BYTES,
+        WaitForOptions.defaults().setTimeoutMs(10000));
+    assertEquals(PAGE_SIZE_BYTES, mCacheManager.get(pageId(0, 0), PAGE_SIZE_BYTES, buf, 0));
+    assertEquals(0, mCacheManager.get(pageId(2, 0), PAGE_SIZE_BYTES, buf, 0));
+  }
+
   @Test
   public void asyncCacheSamePage() throws Exception {
     final int threads = 16;
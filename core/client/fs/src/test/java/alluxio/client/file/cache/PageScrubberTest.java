@@ -0,0 +1,134 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.Constants;
+import alluxio.client.file.cache.evictor.FIFOCacheEvictor;
+import alluxio.client.file.cache.store.LocalPageStoreDir;
+import alluxio.client.file.cache.store.PageStoreDir;
+import alluxio.client.file.cache.store.PageStoreOptions;
+import alluxio.client.file.cache.store.PageStoreType;
+import alluxio.conf.Configuration;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.resource.LockResource;
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tests for the {@link PageScrubber} class.
+ */
+public final class PageScrubberTest {
+  private static final int PAGE_SIZE_BYTES = Constants.KB;
+  private static final PageId PAGE_ID = new PageId("0L", 0L);
+  private static final byte[] PAGE = BufferUtils.getIncreasingByteArray(PAGE_SIZE_BYTES);
+
+  @Rule
+  public TemporaryFolder mTemp = new TemporaryFolder();
+
+  private final InstancedConfiguration mConf = Configuration.copyGlobal();
+  private final ReadWriteLock mPageLock = new ReentrantReadWriteLock();
+  private PageStore mPageStore;
+  private LocalPageStoreDir mPageStoreDir;
+  private PageMetaStore mPageMetaStore;
+  private LocalCacheManager mCacheManager;
+  private PageScrubber mScrubber;
+
+  @Before
+  public void before() throws Exception {
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE, PAGE_SIZE_BYTES);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_SIZE, String.valueOf(64 * PAGE_SIZE_BYTES));
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_DIRS, mTemp.getRoot().getAbsolutePath());
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_QUOTA_ENABLED, false);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_STORE_OVERHEAD, 0);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_STORE_TYPE, PageStoreType.LOCAL);
+    mConf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_CHECKSUM_ENABLED, true);
+    CacheManagerOptions cacheManagerOptions = CacheManagerOptions.create(mConf);
+    PageStoreOptions pageStoreOptions = PageStoreOptions.create(mConf).get(0);
+    PageStoreDir.clear(pageStoreOptions.getRootDir());
+    mPageStore = PageStore.create(pageStoreOptions);
+    mPageStoreDir = new LocalPageStoreDir(pageStoreOptions, mPageStore,
+        new FIFOCacheEvictor(cacheManagerOptions.getCacheEvictorOptions()));
+    mPageMetaStore = new DefaultPageMetaStore(ImmutableList.of(mPageStoreDir));
+    mCacheManager = LocalCacheManager.create(cacheManagerOptions, mPageMetaStore);
+    mScrubber = new PageScrubber(mPageMetaStore, pageId -> mPageLock, mCacheManager::delete,
+        Long.MAX_VALUE);
+  }
+
+  @After
+  public void after() throws Exception {
+    mCacheManager.close();
+  }
+
+  @Test
+  public void checksumOnPut() throws Exception {
+    assertTrue(mCacheManager.put(PAGE_ID, PAGE));
+    assertEquals(OptionalLong.of(PageScrubber.checksum(ByteBuffer.wrap(PAGE))),
+        mPageMetaStore.peekPageInfo(PAGE_ID).getChecksum());
+  }
+
+  @Test
+  public void scrubIntactPage() throws Exception {
+    assertTrue(mCacheManager.put(PAGE_ID, PAGE));
+    assertTrue(mScrubber.scrub(PAGE_ID));
+    assertTrue(mCacheManager.hasPageUnsafe(PAGE_ID));
+  }
+
+  @Test
+  public void scrubCorruptedPage() throws Exception {
+    assertTrue(mCacheManager.put(PAGE_ID, PAGE));
+    byte[] corrupted = PAGE.clone();
+    corrupted[PAGE_SIZE_BYTES / 2] ^= 1;
+    mPageStore.delete(PAGE_ID);
+    mPageStore.put(PAGE_ID, corrupted);
+    assertFalse(mScrubber.scrub(PAGE_ID));
+    assertFalse(mCacheManager.hasPageUnsafe(PAGE_ID));
+  }
+
+  @Test
+  public void scrubMissingPage() throws Exception {
+    assertTrue(mCacheManager.put(PAGE_ID, PAGE));
+    mPageStore.delete(PAGE_ID);
+    assertFalse(mScrubber.scrub(PAGE_ID));
+    assertFalse(mCacheManager.hasPageUnsafe(PAGE_ID));
+  }
+
+  @Test
+  public void adoptChecksum() throws Exception {
+    // a page restored without a checksum
+    mPageStore.put(PAGE_ID, PAGE);
+    try (LockResource r = new LockResource(mPageMetaStore.getLock().writeLock())) {
+      mPageMetaStore.addPage(PAGE_ID, new PageInfo(PAGE_ID, PAGE.length, mPageStoreDir));
+    }
+    assertFalse(mPageMetaStore.peekPageInfo(PAGE_ID).getChecksum().isPresent());
+    assertTrue(mScrubber.scrub(PAGE_ID));
+    assertEquals(OptionalLong.of(PageScrubber.checksum(ByteBuffer.wrap(PAGE))),
+        mPageMetaStore.peekPageInfo(PAGE_ID).getChecksum());
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.client.file.cache.filter.TinyLfuPageAdmissionFilter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TinyLfuPageAdmissionFilter} class.
+ */
+public final class TinyLfuPageAdmissionFilterTest {
+  private static final int CAPACITY_IN_PAGES = 128;
+  private final PageId mFirst = new PageId("1L", 2L);
+  private final PageId mSecond = new PageId("3L", 4L);
+
+  private TinyLfuPageAdmissionFilter mFilter;
+
+  @Before
+  public void before() {
+    mFilter = new TinyLfuPageAdmissionFilter(CAPACITY_IN_PAGES);
+  }
+
+  @Test
+  public void admitMoreFrequent() {
+    mFilter.recordAccess(mFirst);
+    mFilter.recordAccess(mFirst);
+    mFilter.recordAccess(mSecond);
+    assertTrue(mFilter.admit(mFirst, mSecond));
+    assertFalse(mFilter.admit(mSecond, mFirst));
+  }
+
+  @Test
+  public void rejectEquallyFrequent() {
+    assertFalse(mFilter.admit(mFirst, mSecond));
+    mFilter.recordAccess(mFirst);
+    mFilter.recordAccess(mSecond);
+    assertFalse(mFilter.admit(mFirst, mSecond));
+  }
+
+  @Test
+  public void frequencySaturates() {
+    for (int i = 0; i < 100; i++) {
+      mFilter.recordAccess(mFirst);
+    }
+    assertEquals(15, mFilter.frequency(mFirst));
+  }
+
+  @Test
+  public void scanDoesNotEvictHotPage() {
+    for (int i = 0; i < 4; i++) {
+      mFilter.recordAccess(mFirst);
+    }
+    for (int i = 0; i < CAPACITY_IN_PAGES; i++) {
+      PageId scanned = new PageId("scan", i);
+      mFilter.recordAccess(scanned);
+      assertFalse(mFilter.admit(scanned, mFirst));
+    }
+  }
+
+  @Test
+  public void frequencyDecays() {
+    for (int i = 0; i < 8; i++) {
+      mFilter.recordAccess(mFirst);
+    }
+    assertEquals(8, mFilter.frequency(mFirst));
+    // accesses to other pages eventually halve all counters
+    for (int i = 0; i < 10 * CAPACITY_IN_PAGES; i++) {
+      mFilter.recordAccess(new PageId("other", i));
+    }
+    // the estimate may be inflated by collisions with the other pages
+    int frequency = mFilter.frequency(mFirst);
+    assertTrue(frequency >= 4 && frequency < 8);
+  }
+}
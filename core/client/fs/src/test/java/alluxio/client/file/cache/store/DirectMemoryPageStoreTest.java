@@ -0,0 +1,132 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.store;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import alluxio.client.file.cache.PageId;
+import alluxio.exception.PageNotFoundException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.file.ByteArrayTargetBuffer;
+import alluxio.util.io.BufferUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class DirectMemoryPageStoreTest {
+  private static final int PAGE_SIZE = 1024;
+  private static final int NUM_SLOTS = 16;
+
+  private DirectMemoryPageStore mPageStore;
+
+  @Before
+  public void before() {
+    mPageStore = new DirectMemoryPageStore(new PageStoreOptions()
+        .setStoreType(PageStoreType.DIRECT_MEM)
+        .setPageSize(PAGE_SIZE)
+        .setCacheSize(NUM_SLOTS * PAGE_SIZE)
+        .setArenaSize(4 * PAGE_SIZE));
+  }
+
+  @After
+  public void after() {
+    mPageStore.close();
+  }
+
+  @Test
+  public void arenasAllocatedLazily() throws Exception {
+    assertEquals(0, mPageStore.getAllocatedArenas());
+    byte[] data = BufferUtils.getIncreasingByteArray(PAGE_SIZE);
+    for (int i = 0; i < 5; i++) {
+      mPageStore.put(new PageId("0", i), data);
+    }
+    assertEquals(2, mPageStore.getAllocatedArenas());
+    assertEquals(NUM_SLOTS - 5, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void slotReused() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      mPageStore.put(new PageId("0", i), BufferUtils.getIncreasingByteArray(i, PAGE_SIZE));
+    }
+    mPageStore.delete(new PageId("0", 1));
+    byte[] data = BufferUtils.getIncreasingByteArray(7, 32);
+    mPageStore.put(new PageId("1", 0), data);
+    assertEquals(1, mPageStore.getAllocatedArenas());
+    byte[] buf = new byte[32];
+    assertEquals(32, mPageStore.get(new PageId("1", 0), new ByteArrayTargetBuffer(buf, 0)));
+    assertArrayEquals(data, buf);
+    buf = new byte[PAGE_SIZE];
+    assertEquals(PAGE_SIZE,
+        mPageStore.get(new PageId("0", 2), new ByteArrayTargetBuffer(buf, 0)));
+    assertArrayEquals(BufferUtils.getIncreasingByteArray(2, PAGE_SIZE), buf);
+  }
+
+  @Test
+  public void overwrite() throws Exception {
+    PageId id = new PageId("0", 0);
+    mPageStore.put(id, BufferUtils.getIncreasingByteArray(PAGE_SIZE));
+    byte[] data = BufferUtils.getIncreasingByteArray(3, 64);
+    mPageStore.put(id, data);
+    assertEquals(NUM_SLOTS - 1, mPageStore.getFreeSlots());
+    byte[] buf = new byte[16];
+    assertEquals(16, mPageStore.get(id, 8, 16, new ByteArrayTargetBuffer(buf, 0)));
+    assertArrayEquals(BufferUtils.getIncreasingByteArray(11, 16), buf);
+  }
+
+  @Test
+  public void noFreeSlot() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(16);
+    for (int i = 0; i < NUM_SLOTS; i++) {
+      mPageStore.put(new PageId("0", i), data);
+    }
+    assertThrows(ResourceExhaustedException.class,
+        () -> mPageStore.put(new PageId("0", NUM_SLOTS), data));
+    mPageStore.delete(new PageId("0", 0));
+    mPageStore.put(new PageId("0", NUM_SLOTS), data);
+    assertEquals(0, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void rejectOversizedPage() {
+    assertThrows(IOException.class, () -> mPageStore.put(new PageId("0", 0),
+        BufferUtils.getIncreasingByteArray(PAGE_SIZE + 1)));
+    assertEquals(NUM_SLOTS, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void reset() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(16);
+    for (int i = 0; i < NUM_SLOTS; i++) {
+      mPageStore.put(new PageId("0", i), data);
+    }
+    mPageStore.reset();
+    assertEquals(NUM_SLOTS, mPageStore.getFreeSlots());
+    assertEquals(4, mPageStore.getAllocatedArenas());
+  }
+
+  @Test
+  public void closed() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(16);
+    mPageStore.put(new PageId("0", 0), data);
+    mPageStore.close();
+    assertEquals(0, mPageStore.getAllocatedArenas());
+    assertThrows(IOException.class, () -> mPageStore.put(new PageId("0", 1), data));
+    assertThrows(PageNotFoundException.class, () -> mPageStore.get(new PageId("0", 0),
+        new ByteArrayTargetBuffer(new byte[16], 0)));
+  }
+}
@@ -51,7 +51,9 @@ public class PageStoreDirTest {
   public static Collection<Object[]> data() {
     return Arrays.asList(new Object[][] {
         {PageStoreType.LOCAL},
-        {PageStoreType.MEM}
+        {PageStoreType.MEM},
+        {PageStoreType.DIRECT_MEM},
+        {PageStoreType.SEGMENT}
     });
   }
 
@@ -99,7 +101,8 @@ public class PageStoreDirTest {
     }
     Set<PageInfo> restored = new HashSet<>();
     mPageStoreDir.scanPages((pageInfo -> restored.add(pageInfo.get())));
-    if (mOptions.getType().equals(PageStoreType.MEM)) {
+    if (mOptions.getType().equals(PageStoreType.MEM)
+        || mOptions.getType().equals(PageStoreType.DIRECT_MEM)) {
       assertTrue(restored.isEmpty());
     } else {
       assertEquals(pages, restored);
@@ -119,7 +122,8 @@ public class PageStoreDirTest {
     }
     Set<PageInfo> restored = new HashSet<>();
     mPageStoreDir.scanPages((pageInfo -> restored.add(pageInfo.get())));
-    if (mOptions.getType().equals(PageStoreType.MEM)) {
+    if (mOptions.getType().equals(PageStoreType.MEM)
+        || mOptions.getType().equals(PageStoreType.DIRECT_MEM)) {
       assertTrue(restored.isEmpty());
     } else {
       assertEquals(pages, restored);
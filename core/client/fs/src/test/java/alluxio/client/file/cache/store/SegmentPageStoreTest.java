@@ -0,0 +1,173 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache.store;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import alluxio.client.file.cache.PageId;
+import alluxio.exception.PageNotFoundException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.file.ByteArrayTargetBuffer;
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.base.Strings;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SegmentPageStoreTest {
+  private static final int PAGE_SIZE = 1024;
+  private static final int NUM_SLOTS = 16;
+
+  @Rule
+  public TemporaryFolder mTemp = new TemporaryFolder();
+
+  private PageStoreOptions mOptions;
+
+  private SegmentPageStore mPageStore;
+
+  @Before
+  public void before() {
+    mOptions = new PageStoreOptions()
+        .setStoreType(PageStoreType.SEGMENT)
+        .setPageSize(PAGE_SIZE)
+        .setCacheSize(NUM_SLOTS * PAGE_SIZE)
+        .setSegmentSize(4 * PAGE_SIZE)
+        .setRootDir(Paths.get(mTemp.getRoot().getAbsolutePath()));
+    mPageStore = SegmentPageStore.open(mOptions);
+  }
+
+  @After
+  public void after() {
+    mPageStore.close();
+  }
+
+  @Test
+  public void segmentFiles() throws Exception {
+    assertEquals(NUM_SLOTS / 4, Files.list(
+        Paths.get(mOptions.getRootDir().toString(), Long.toString(PAGE_SIZE))).count());
+  }
+
+  @Test
+  public void restore() throws Exception {
+    Map<PageId, byte[]> pages = new HashMap<>();
+    for (int i = 0; i < NUM_SLOTS; i++) {
+      PageId id = new PageId(Integer.toString(i % 3), i);
+      byte[] data = BufferUtils.getIncreasingByteArray(i, PAGE_SIZE - i);
+      mPageStore.put(id, data);
+      pages.put(id, data);
+    }
+    PageId deleted = new PageId("0", 0);
+    mPageStore.delete(deleted);
+    pages.remove(deleted);
+    mPageStore.putTemporary(new PageId("temp", 0), BufferUtils.getIncreasingByteArray(16));
+    mPageStore.close();
+
+    mPageStore = SegmentPageStore.open(mOptions);
+    Map<PageId, Integer> restored = new HashMap<>();
+    mPageStore.forEachPage((id, slot) -> restored.put(id, slot.getLength()));
+    assertEquals(pages.size(), restored.size());
+    for (Map.Entry<PageId, byte[]> entry : pages.entrySet()) {
+      byte[] data = entry.getValue();
+      assertEquals(Integer.valueOf(data.length), restored.get(entry.getKey()));
+      byte[] buf = new byte[data.length];
+      assertEquals(data.length,
+          mPageStore.get(entry.getKey(), new ByteArrayTargetBuffer(buf, 0)));
+      assertArrayEquals(data, buf);
+    }
+    // the slot of the deleted page was reused by the temporary page, which is released on restore
+    assertEquals(1, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void reformatOnGeometryChange() throws Exception {
+    for (int i = 0; i < NUM_SLOTS; i++) {
+      mPageStore.put(new PageId("0", i), BufferUtils.getIncreasingByteArray(i, PAGE_SIZE));
+    }
+    mPageStore.close();
+
+    mPageStore = SegmentPageStore.open(mOptions.setSegmentSize(2 * PAGE_SIZE));
+    Map<PageId, Integer> restored = new HashMap<>();
+    mPageStore.forEachPage((id, slot) -> restored.put(id, slot.getLength()));
+    assertEquals(0, restored.size());
+    assertEquals(NUM_SLOTS, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void commitTemporary() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(PAGE_SIZE);
+    mPageStore.putTemporary(new PageId("temp", 0), data);
+    mPageStore.putTemporary(new PageId("temp", 1), data);
+    mPageStore.commit("temp", "file");
+    assertThrows(PageNotFoundException.class, () -> mPageStore.get(new PageId("temp", 0),
+        new ByteArrayTargetBuffer(new byte[PAGE_SIZE], 0)));
+    mPageStore.close();
+
+    mPageStore = SegmentPageStore.open(mOptions);
+    byte[] buf = new byte[PAGE_SIZE];
+    assertEquals(PAGE_SIZE,
+        mPageStore.get(new PageId("file", 1), new ByteArrayTargetBuffer(buf, 0)));
+    assertArrayEquals(data, buf);
+  }
+
+  @Test
+  public void abortTemporary() throws Exception {
+    mPageStore.putTemporary(new PageId("temp", 0), BufferUtils.getIncreasingByteArray(16));
+    mPageStore.abort("temp");
+    assertEquals(NUM_SLOTS, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void noFreeSlot() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(16);
+    for (int i = 0; i < NUM_SLOTS; i++) {
+      mPageStore.put(new PageId("0", i), data);
+    }
+    assertThrows(ResourceExhaustedException.class,
+        () -> mPageStore.put(new PageId("0", NUM_SLOTS), data));
+    mPageStore.delete(new PageId("0", 0));
+    mPageStore.put(new PageId("0", NUM_SLOTS), data);
+    assertEquals(0, mPageStore.getFreeSlots());
+  }
+
+  @Test
+  public void overwrite() throws Exception {
+    PageId id = new PageId("0", 0);
+    mPageStore.put(id, BufferUtils.getIncreasingByteArray(PAGE_SIZE));
+    byte[] data = BufferUtils.getIncreasingByteArray(7, 32);
+    mPageStore.put(id, data);
+    assertEquals(NUM_SLOTS - 1, mPageStore.getFreeSlots());
+    byte[] buf = new byte[32];
+    assertEquals(32, mPageStore.get(id, 0, 32, new ByteArrayTargetBuffer(buf, 0)));
+    assertArrayEquals(data, buf);
+  }
+
+  @Test
+  public void rejectInvalidPages() {
+    assertThrows(IOException.class, () -> mPageStore.put(new PageId("0", 0),
+        BufferUtils.getIncreasingByteArray(PAGE_SIZE + 1)));
+    assertThrows(IOException.class, () -> mPageStore.put(
+        new PageId(Strings.repeat("a", SegmentPageStore.MAX_FILE_ID_LENGTH + 1), 0),
+        BufferUtils.getIncreasingByteArray(16)));
+    assertEquals(NUM_SLOTS, mPageStore.getFreeSlots());
+  }
+}
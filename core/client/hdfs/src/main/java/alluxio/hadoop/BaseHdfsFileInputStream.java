@@ -13,6 +13,7 @@ package alluxio.hadoop;
 
 import alluxio.AlluxioURI;
 import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileRange;
 import alluxio.client.file.FileSystem;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.ExceptionMessage;
@@ -30,6 +31,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -175,6 +178,26 @@ public class BaseHdfsFileInputStream extends InputStream implements Seekable, Po
     }
   }
 
+  /**
+   * Reads several ranges of the file, see {@link FileInStream#readVectored}. The data of each
+   * range is delivered through the future of the range.
+   *
+   * @param ranges the ranges to read
+   * @param allocate allocates the buffers receiving the data of the ranges given their length
+   */
+  public void readVectored(List<? extends FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    if (mClosed) {
+      throw new IOException(ExceptionMessage.READ_CLOSED_STREAM.getMessage());
+    }
+    mInputStream.readVectored(ranges, allocate);
+    if (mStatistics != null) {
+      for (FileRange range : ranges) {
+        range.getData().thenRun(() -> mStatistics.incrementBytesRead(range.getLength()));
+      }
+    }
+  }
+
   @Override
   public void seek(long pos) throws IOException {
     try {
@@ -20,6 +20,7 @@ import alluxio.client.file.FileInStream;
 import alluxio.client.file.URIStatus;
 import alluxio.client.file.cache.CacheManager;
 import alluxio.client.file.cache.LocalCacheFileInStream;
+import alluxio.client.file.cache.PrefetchPool;
 import alluxio.client.file.cache.filter.CacheFilter;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.PropertyKey;
@@ -45,6 +46,7 @@ import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import javax.annotation.Nullable;
 
 /**
  * An Alluxio client compatible with Apache Hadoop {@link org.apache.hadoop.fs.FileSystem}
@@ -62,6 +64,9 @@ public class LocalCacheFileSystem extends org.apache.hadoop.fs.FileSystem {
   private CacheFilter mCacheFilter;
   private org.apache.hadoop.conf.Configuration mHadoopConf;
   private AlluxioConfiguration mAlluxioConf;
+  /** Prefetches the pages of the streams of this file system, null if prefetching is disabled. */
+  @Nullable
+  private PrefetchPool mPrefetchPool;
 
   /**
    * @param fileSystem File System instance
@@ -98,6 +103,9 @@ public class LocalCacheFileSystem extends org.apache.hadoop.fs.FileSystem {
     mCacheManager = CacheManager.Factory.get(mAlluxioConf);
     mCacheFilter = CacheFilter.create(mAlluxioConf);
     LocalCacheFileInStream.registerMetrics();
+    if (mAlluxioConf.getInt(PropertyKey.USER_CLIENT_CACHE_PREFETCH_MAX_PAGES) > 0) {
+      mPrefetchPool = new PrefetchPool(mAlluxioConf);
+    }
   }
 
   @Override
@@ -107,6 +115,10 @@ public class LocalCacheFileSystem extends org.apache.hadoop.fs.FileSystem {
     // org.apache.hadoop.fs.FileSystem.close may check the existence of certain temp files before
     // closing
     super.close();
+    if (mPrefetchPool != null) {
+      mPrefetchPool.close();
+      mPrefetchPool = null;
+    }
   }
 
   /**
@@ -187,7 +199,7 @@ public class LocalCacheFileSystem extends org.apache.hadoop.fs.FileSystem {
 
     return new FSDataInputStream(new HdfsFileInputStream(
         new LocalCacheFileInStream(status, mAlluxioFileOpener, mCacheManager, mAlluxioConf,
-            externalFileInStream),
+            externalFileInStream, Optional.ofNullable(mPrefetchPool)),
         statistics));
   }
 
@@ -26,7 +26,15 @@ public enum PageStoreType {
   /**
    * A simple store with pages on the memory (HeapByteBuffer).
    */
-  MEM(PageStoreType.MEMORY_OVERHEAD_RATIO);
+  MEM(PageStoreType.MEMORY_OVERHEAD_RATIO),
+  /**
+   * A store with pages on direct memory arenas outside of the JVM heap.
+   */
+  DIRECT_MEM(PageStoreType.MEMORY_OVERHEAD_RATIO),
+  /**
+   * A store with pages packed into fixed size slots of preallocated segment files.
+   */
+  SEGMENT(PageStoreType.SEGMENT_OVERHEAD_RATIO);
 
   // We assume there will be some overhead using ByteBuffer as a page store,
   // i.e., with 1GB space allocated, we
@@ -39,6 +47,9 @@ public enum PageStoreType {
   // i.e., with 1GB space allocated, we
   // expect no more than 1024MB / (1 + LOCAL_OVERHEAD_RATIO) logical data stored
   private static final double LOCAL_OVERHEAD_RATIO = 0.05;
+  // Every page occupies a full slot of a segment file regardless of its length, so pages smaller
+  // than the page size (e.g., the last page of a file) waste the rest of their slot
+  private static final double SEGMENT_OVERHEAD_RATIO = 0.1;
   private final double mOverheadRatio;
 
   /**
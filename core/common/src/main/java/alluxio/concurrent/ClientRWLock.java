@@ -29,7 +29,9 @@ public final class ClientRWLock implements ReadWriteLock {
   private final Semaphore mAvailable;
   /** Reference count. */
   private final AtomicInteger mReferences = new AtomicInteger();
-  private final int mMaxReaders;
+  /** The locks are stateless views of {@link #mAvailable}, so they are shared by all clients. */
+  private final Lock mReadLock;
+  private final Lock mWriteLock;
 
   /**
    * Constructs a new {@link ClientRWLock}.
@@ -37,21 +39,22 @@ public final class ClientRWLock implements ReadWriteLock {
    * @param maxReaders total number of permits, decides the max number of concurrent readers
    */
   public ClientRWLock(int maxReaders) {
-    mMaxReaders = maxReaders;
     // Uses the unfair lock to prevent a read lock
     // that fails to release from locking the block forever
     // and thus blocking all the subsequent write access.
     mAvailable = new Semaphore(maxReaders, false);
+    mReadLock = new SessionLock(1);
+    mWriteLock = new SessionLock(maxReaders);
   }
 
   @Override
   public Lock readLock() {
-    return new SessionLock(1);
+    return mReadLock;
   }
 
   @Override
   public Lock writeLock() {
-    return new SessionLock(mMaxReaders);
+    return mWriteLock;
   }
 
   /**
@@ -1199,6 +1199,26 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.SERVER)
           .build();
+  public static final PropertyKey UNDERFS_IO_READ_AHEAD_BUFFER_SIZE =
+      dataSizeBuilder(Name.UNDERFS_IO_READ_AHEAD_BUFFER_SIZE)
+          .setDefaultValue("64MB")
+          .setDescription("The total size of the data a worker reads ahead of demand from a "
+              + "UFS mount, when it detects that a file is read sequentially. Once a sequential "
+              + "read completes, the data following it is read in the background, one read-ahead "
+              + "per file at a time, and serves the next read of the file. Set to 0 to disable "
+              + "read-ahead.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey UNDERFS_IO_READ_AHEAD_MAX_SIZE =
+      dataSizeBuilder(Name.UNDERFS_IO_READ_AHEAD_MAX_SIZE)
+          .setDefaultValue("16MB")
+          .setDescription("The maximum size of a single read-ahead of a file from the UFS. The "
+              + "actual size adapts to the measured throughput and latency of the UFS, so that "
+              + "the latency of a request is amortized over enough data.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey UNDERFS_LOCAL_SKIP_BROKEN_SYMLINKS =
       booleanBuilder(Name.UNDERFS_LOCAL_SKIP_BROKEN_SYMLINKS)
           .setDefaultValue(false)
@@ -2535,7 +2555,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           DirectoryMarshaller.Type.class)
           .setDefaultValue(DirectoryMarshaller.Type.NO_COMPRESSION)
           .setDescription("The type of compression to use when transferring a snapshot from one "
-              + "master to another. Options are NO_COMPRESSION, GZIP, TAR_GZIP")
+              + "master to another. Options are NO_COMPRESSION, GZIP, TAR_GZIP, PARALLEL_DEFLATE. "
+              + "PARALLEL_DEFLATE compresses and decompresses the snapshot in parallel with the "
+              + "number of threads set by "
+              + Name.MASTER_METASTORE_ROCKS_PARALLEL_BACKUP_THREADS + ".")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
@@ -2677,11 +2700,14 @@ public final class PropertyKey implements Comparable<PropertyKey> {
   public static final PropertyKey MASTER_METASTORE =
       enumBuilder(Name.MASTER_METASTORE, MetastoreType.class)
           .setDefaultValue(MetastoreType.ROCKS)
-          .setDescription("The type of metastore to use, either HEAP or ROCKS. "
+          .setDescription("The type of metastore to use, either HEAP, ROCKS or OFF_HEAP. "
               + "The heap metastore keeps all metadata on-heap, "
               + "while the rocks metastore stores some metadata on heap and some metadata on disk. "
               + "The rocks metastore has the advantage of being able to support a large namespace "
-              + "(1 billion plus files) without needing a massive heap size."
+              + "(1 billion plus files) without needing a massive heap size. "
+              + "The off-heap metastore keeps the inodes and the edges of "
+              + "the inode tree in a compact encoding in direct memory, "
+              + "bounded by -XX:MaxDirectMemorySize, and the blocks like the heap metastore. "
               + "The metadata storage includes inode and block metadata. "
               + "Users can override the type of metastore using " + Name.MASTER_METASTORE_INODE
               + " and " + Name.MASTER_METASTORE_BLOCK
@@ -2695,7 +2721,7 @@ public final class PropertyKey implements Comparable<PropertyKey> {
   public static final PropertyKey MASTER_INODE_METASTORE =
       enumBuilder(Name.MASTER_METASTORE_INODE, MetastoreType.class)
           .setDefaultValue(MASTER_METASTORE.getDefaultValue())
-          .setDescription("The type of inode metastore to use, either HEAP or ROCKS. "
+          .setDescription("The type of inode metastore to use, either HEAP, ROCKS or OFF_HEAP. "
               + "By default this uses " + PropertyKey.Name.MASTER_METASTORE.toString() + ".")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
@@ -2704,6 +2730,7 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       enumBuilder(Name.MASTER_METASTORE_BLOCK, MetastoreType.class)
           .setDefaultValue(MASTER_METASTORE.getDefaultValue())
           .setDescription("The type of block metastore to use, either HEAP or ROCKS. "
+              + "OFF_HEAP stores the blocks like HEAP. "
               + "By default this uses " + PropertyKey.Name.MASTER_METASTORE.toString() + ".")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
@@ -2767,6 +2794,18 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
         .setScope(Scope.MASTER)
         .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_STREAMED_BACKUP =
+      booleanBuilder(Name.MASTER_METASTORE_ROCKS_STREAMED_BACKUP)
+        .setDefaultValue(false)
+        .setDescription(format("Whether to checkpoint rocksdb as a stream of its files, in "
+            + "chunks compressed and restored in parallel using the number of threads set by "
+            + "%s. Restoring such a checkpoint writes the files as the stream is read instead "
+            + "of after extracting a whole archive. Takes precedence over %s.",
+            Name.MASTER_METASTORE_ROCKS_PARALLEL_BACKUP_THREADS,
+            Name.MASTER_METASTORE_ROCKS_PARALLEL_BACKUP))
+        .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+        .setScope(Scope.MASTER)
+        .build();
   public static final PropertyKey MASTER_METASTORE_ROCKS_PARALLEL_BACKUP_THREADS =
       intBuilder(Name.MASTER_METASTORE_ROCKS_PARALLEL_BACKUP_THREADS)
         .setDefaultSupplier(() -> Math.min(16,
@@ -2820,6 +2859,18 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_SHARDS =
+      intBuilder(Name.MASTER_METASTORE_INODE_CACHE_SHARDS)
+          .setDefaultSupplier(() -> Math.min(16,
+              Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+              "{CPU core count} / 2, at most 16")
+          .setDescription("The number of shards of the inode and edge caches. Each shard holds "
+              + "a part of the entries and evicts them to the backing store with its own "
+              + "thread, so that eviction keeps up with the writes of more RPC threads. Small "
+              + "caches use fewer shards so that each shard holds at least 1000 entries.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   // In Java8 in container environment Runtime.availableProcessors() always returns 1,
   // which is not the actual number of cpus, so we set a safe default value 4.
   public static final PropertyKey MASTER_METASTORE_INODE_ITERATION_CRAWLER_COUNT =
@@ -2984,6 +3035,37 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE =
+      dataSizeBuilder(Name.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE)
+          .setDescription("The capacity of an LRU block cache shared by the RocksDB Inode and "
+              + "Inode edge tables. A table whose own cache size is set uses its own cache "
+              + "instead. If unset, the RocksDB default will be used."
+              + " See https://github.com/facebook/rocksdb/wiki/Block-Cache")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY =
+      doubleBuilder(Name.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY)
+          .setDefaultValue(10.0)
+          .setDescription("The number of bits per key of the bloom filters of the RocksDB "
+              + "metastore tables which have one enabled. More bits lower the false positive "
+              + "rate at the cost of memory."
+              + " See https://github.com/facebook/rocksdb/wiki/RocksDB-Bloom-Filter")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER =
+      booleanBuilder(Name.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER)
+          .setDefaultValue(false)
+          .setDescription("Whether to partition the index and filter blocks of the RocksDB "
+              + "metastore tables, loading the partitions through the block cache while the "
+              + "top level index and filter, and those of level 0 files, stay pinned in it. "
+              + "This bounds the memory used by indexes and filters on large namespaces, and "
+              + "requires the table index type to be unset or kTwoLevelIndexSearch."
+              + " See https://github.com/facebook/rocksdb/wiki/Partitioned-Index-Filters")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE_METRICS_REFRESH_INTERVAL =
       durationBuilder(Name.MASTER_METASTORE_METRICS_REFRESH_INTERVAL)
           .setDefaultValue("5s")
@@ -4251,6 +4333,17 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "Due to the performance consideration, this will not apply to the metadata sync, "
               + "where journals are still flushed asynchronously.")
           .build();
+  public static final PropertyKey MASTER_FILE_SYSTEM_OPTIMISTIC_READ_ENABLED =
+      booleanBuilder(Name.MASTER_FILE_SYSTEM_OPTIMISTIC_READ_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("If enabled, get-status operations first read the inode path without "
+              + "taking inode locks, and retry with locks if the inode tree changed during the "
+              + "read. This avoids lock contention on the top of the tree under heavy read load. "
+              + "Only applies to the HEAP and OFF_HEAP inode metastores, and to the ROCKS inode "
+              + "metastore when its inode cache is disabled.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
 
   //
   // Worker related properties
@@ -4451,7 +4544,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "DIRECTORY: Management tasks will backoff from directories with ongoing user I/O."
               + "This mode will give better chance of making progress on management tasks."
               + "However, immediate user I/O throughput might be reduced due to "
-              + "increased management task activity.")
+              + "increased management task activity."
+              + "LATENCY: Management tasks will backoff from directories where the latency of "
+              + "user I/O rises over its usual latency, by the ratio of "
+              + Name.WORKER_MANAGEMENT_LOAD_DETECTION_LATENCY_RATIO + ". "
+              + "This mode lets management tasks run alongside user I/O as long as "
+              + "the user I/O is not slowed down by them.")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
@@ -4466,6 +4564,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_MANAGEMENT_LOAD_DETECTION_LATENCY_RATIO =
+      doubleBuilder(Name.WORKER_MANAGEMENT_LOAD_DETECTION_LATENCY_RATIO)
+          .setDefaultValue(2.0)
+          .setDescription("With the LATENCY backoff strategy, load is detected on a directory "
+              + "when the recent latency of user I/O on it is higher than its usual latency "
+              + "by this ratio.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_MANAGEMENT_TIER_ALIGN_RESERVED_BYTES =
       dataSizeBuilder(Name.WORKER_MANAGEMENT_TIER_ALIGN_RESERVED_BYTES)
           .setDefaultValue("1GB")
@@ -4495,6 +4602,16 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_MANAGEMENT_BLOCK_TRANSFER_UTILIZATION_MAX =
+      doubleBuilder(Name.WORKER_MANAGEMENT_BLOCK_TRANSFER_UTILIZATION_MAX)
+          .setDefaultValue(1.0)
+          .setDescription("The maximum fraction of time each concurrent block transfer of "
+              + "management tasks keeps the storage devices busy. After each block is moved, "
+              + "the transfer pauses in proportion to the measured duration of the move, "
+              + "leaving the devices to user I/O. 1.0 means the transfers never pause.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_MANAGEMENT_TIER_ALIGN_ENABLED =
       booleanBuilder(Name.WORKER_MANAGEMENT_TIER_ALIGN_ENABLED)
           .setDefaultValue(true)
@@ -4623,6 +4740,33 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED =
+      booleanBuilder(Name.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Experimental. Whether the data server hands the reads of blocks "
+              + "stored in local files over to the threads set by "
+              + Name.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_THREADS + ", so that a read request "
+              + "does not occupy a block reader thread while waiting for the disk. The JDK has "
+              + "no kernel asynchronous file I/O on Linux: the reads still block, on those "
+              + "threads, and each chunk costs a thread hop. Only enable it when a benchmark of "
+              + "the worker storage shows a gain. Blocks not stored in local files are read "
+              + "with blocking I/O.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_NETWORK_BLOCK_READER_ASYNC_IO_THREADS =
+      intBuilder(Name.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_THREADS)
+          .setDefaultValue(16)
+          .setDescription("The number of threads used to perform asynchronous block reads and "
+              + "to run their completions, when "
+              + Name.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED + " is enabled. The JDK "
+              + "performs asynchronous file reads on Linux as blocking reads on these threads, "
+              + "so this bounds the number of block reads waiting for the disks at the same "
+              + "time. Size it to the queue depth the worker storage can serve, e.g. a few "
+              + "threads per HDD and more per SSD.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_NETWORK_BLOCK_WRITER_THREADS_MAX =
       intBuilder(Name.WORKER_NETWORK_BLOCK_WRITER_THREADS_MAX)
           .setDefaultValue(1024)
@@ -4757,6 +4901,26 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_NETWORK_SENDFILE_ENABLED =
+      booleanBuilder(Name.WORKER_NETWORK_SENDFILE_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to start a data server which sends the blocks stored in the "
+              + "local tiers straight from the block files to the socket of remote clients, "
+              + "without copying the data into user space. Clients fall back to the gRPC data "
+              + "server for blocks not stored in the local tiers. Unless authentication is "
+              + "disabled, each connection must present a channel the client authenticated with "
+              + "the gRPC data server. Ignored when TLS is enabled.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_NETWORK_SENDFILE_PORT =
+      intBuilder(Name.WORKER_NETWORK_SENDFILE_PORT)
+          .setDefaultValue(29997)
+          .setDescription("The port of the worker's sendfile data server, used when "
+              + Name.WORKER_NETWORK_SENDFILE_ENABLED + " is true.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_NETWORK_SHUTDOWN_TIMEOUT =
       durationBuilder(Name.WORKER_NETWORK_SHUTDOWN_TIMEOUT)
           .setDefaultValue("15sec")
@@ -4951,6 +5115,35 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_PAGE_STORE_PAGE_CHECKSUM_ENABLED =
+      booleanBuilder(Name.WORKER_PAGE_STORE_PAGE_CHECKSUM_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to compute a CRC64 checksum of each page written to the "
+              + "worker paged block store and keep it with the page metadata. Block checksums "
+              + "are then composed from the page checksums instead of reading the blocks, and "
+              + "pages can be verified by the page store scrubber.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_PAGE_STORE_SCRUB_BANDWIDTH =
+      dataSizeBuilder(Name.WORKER_PAGE_STORE_SCRUB_BANDWIDTH)
+          .setDefaultValue("0B")
+          .setDescription("The maximum number of bytes per second read by the scrubber which "
+              + "verifies the pages in the worker paged block store against their checksums, "
+              + "dropping the corrupted ones. Pages without a checksum get one computed on "
+              + "their first scrub. 0 disables the scrubber.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_PAGE_STORE_SCRUB_INTERVAL =
+      durationBuilder(Name.WORKER_PAGE_STORE_SCRUB_INTERVAL)
+          .setDefaultValue("1day")
+          .setDescription("The interval between the end of a pass of the page store scrubber "
+              + "over all pages and the start of the next one, when "
+              + Name.WORKER_PAGE_STORE_SCRUB_BANDWIDTH + " is positive.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_PAGE_STORE_QUOTA_ENABLED =
       booleanBuilder(Name.WORKER_PAGE_STORE_QUOTA_ENABLED)
           .setDefaultValue(false)
@@ -4988,8 +5181,11 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       enumBuilder(Name.WORKER_PAGE_STORE_TYPE, PageStoreType.class)
           .setDefaultValue(PageStoreType.LOCAL)
           .setDescription("The type of page store to use for worker page store. Can be either "
-              + "`LOCAL` or `ROCKS`. The `LOCAL` page store stores all pages in a directory, "
-              + "the `ROCKS` page store utilizes rocksDB to persist the data.")
+              + "`LOCAL`, `ROCKS`, `MEM`, `DIRECT_MEM` or `SEGMENT`. The `LOCAL` page store "
+              + "stores all pages in a directory, the `ROCKS` page store utilizes rocksDB to "
+              + "persist the data, the `DIRECT_MEM` page store keeps pages in off-heap direct "
+              + "memory arenas, the `SEGMENT` page store packs pages into large preallocated "
+              + "segment files.")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
@@ -5910,6 +6106,17 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "before this file is persisted.")
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_FILE_PREFETCH_BLOCKS =
+      intBuilder(Name.USER_FILE_PREFETCH_BLOCKS)
+          .setDefaultValue(0)
+          .setDescription("The number of blocks following the block being read which a file in "
+              + "stream opens ahead of the reads once a block is read from its start. The blocks "
+              + "are streamed from their workers concurrently, each up to the buffer size of the "
+              + "streaming reader, see " + Name.USER_STREAMING_READER_BUFFER_SIZE_MESSAGES
+              + ". This speeds up large sequential reads by a single reader. 0 disables "
+              + "prefetching.")
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_FILE_SEQUENTIAL_PREAD_THRESHOLD =
       dataSizeBuilder(Name.USER_FILE_SEQUENTIAL_PREAD_THRESHOLD)
           .setDefaultValue("2MB")
@@ -5921,6 +6128,29 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_FILE_VECTORED_READ_MERGE_GAP =
+      dataSizeBuilder(Name.USER_FILE_VECTORED_READ_MERGE_GAP)
+          .setDefaultValue("4KB")
+          .setDescription("Ranges of a vectored read which are separated by at most this many "
+              + "bytes are merged into a single read. The bytes in between are read and dropped.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_FILE_VECTORED_READ_MERGE_MAX_SIZE =
+      dataSizeBuilder(Name.USER_FILE_VECTORED_READ_MERGE_MAX_SIZE)
+          .setDefaultValue("1MB")
+          .setDescription("The maximum size of a read merged from several ranges of a vectored "
+              + "read. A single range larger than this is still read at once.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_FILE_VECTORED_READ_THREADS =
+      intBuilder(Name.USER_FILE_VECTORED_READ_THREADS)
+          .setDefaultValue(16)
+          .setDescription("The number of threads of a client used to serve the merged reads of "
+              + "vectored reads in parallel.")
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_FILE_TARGET_MEDIA =
       stringBuilder(Name.USER_FILE_TARGET_MEDIA)
           .setDescription("Preferred media type while storing file's blocks.")
@@ -6167,6 +6397,27 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.IGNORE)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_SIZE =
+      intBuilder(Name.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_SIZE)
+          .setDefaultValue(0)
+          .setDescription("The maximum number of pages waiting to be cached when "
+              + Name.USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED + " is true. Pages are read from the "
+              + "external storage, returned to the reader and then queued to be written to the "
+              + "cache in the background. When the queue is full, a reader waits up to "
+              + Name.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_TIMEOUT + " for space and otherwise "
+              + "drops the page. When 0, pages are handed off to the async write threads "
+              + "without queueing, and written by the reader itself if all threads are busy.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.IGNORE)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_TIMEOUT =
+      durationBuilder(Name.USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_TIMEOUT)
+          .setDefaultValue("10ms")
+          .setDescription("The maximum time a reader waits for space in a full async write "
+              + "queue before dropping the page to be cached.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.IGNORE)
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_CLIENT_CACHE_ASYNC_WRITE_THREADS =
       intBuilder(Name.USER_CLIENT_CACHE_ASYNC_WRITE_THREADS)
           .setDefaultValue(16)
@@ -6188,6 +6439,17 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_CLIENT_CACHE_ADMISSION_FILTER_CLASS =
+      classBuilder(Name.USER_CLIENT_CACHE_ADMISSION_FILTER_CLASS)
+          .setDefaultValue("alluxio.client.file.cache.filter.DefaultPageAdmissionFilter")
+          .setDescription("The page admission filter which decides whether a page is cached when "
+              + "another page has to be evicted for it. The default filter admits every page. "
+              + "alluxio.client.file.cache.filter.TinyLfuPageAdmissionFilter only admits pages "
+              + "accessed more often than the eviction victim, which protects frequently "
+              + "accessed pages from being evicted by large scans.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_CLIENT_CACHE_FILTER_CLASS =
       classBuilder(Name.USER_CLIENT_CACHE_FILTER_CLASS)
           .setDefaultValue("alluxio.client.file.cache.filter.DefaultCacheFilter")
@@ -6357,8 +6619,30 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       enumBuilder(Name.USER_CLIENT_CACHE_STORE_TYPE, PageStoreType.class)
           .setDefaultValue(PageStoreType.LOCAL)
           .setDescription("The type of page store to use for client-side cache. Can be either "
-              + "`LOCAL` or `ROCKS`. The `LOCAL` page store stores all pages in a directory, "
-              + "the `ROCKS` page store utilizes rocksDB to persist the data.")
+              + "`LOCAL`, `ROCKS`, `MEM`, `DIRECT_MEM` or `SEGMENT`. The `LOCAL` page store "
+              + "stores all pages in a directory, the `ROCKS` page store utilizes rocksDB to "
+              + "persist the data, the `MEM` page store keeps pages on the JVM heap, the "
+              + "`DIRECT_MEM` page store keeps pages in off-heap direct memory arenas, the "
+              + "`SEGMENT` page store packs pages into large preallocated segment files.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_SEGMENT_STORE_SEGMENT_SIZE =
+      dataSizeBuilder(Name.USER_CLIENT_CACHE_SEGMENT_STORE_SEGMENT_SIZE)
+          .setDefaultValue("1GB")
+          .setDescription("The size of each segment file of the `SEGMENT` page store of the "
+              + "client-side cache. Each segment holds a fixed number of page slots and is "
+              + "memory-mapped for reads, so it must not exceed 2GB.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_DIRECT_MEM_STORE_ARENA_SIZE =
+      dataSizeBuilder(Name.USER_CLIENT_CACHE_DIRECT_MEM_STORE_ARENA_SIZE)
+          .setDefaultValue("64MB")
+          .setDescription("The size of each direct memory arena of the `DIRECT_MEM` page store "
+              + "of the client-side cache. Arenas are allocated lazily as the cache fills up and "
+              + "are carved into page-sized slots, so it should be a multiple of the page size "
+              + "and must not exceed 2GB.")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
@@ -6371,6 +6655,94 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_CLIENT_CACHE_META_STORE_CONCURRENT_ENABLED =
+      booleanBuilder(Name.USER_CLIENT_CACHE_META_STORE_CONCURRENT_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to use the concurrent page metadata store for client-side "
+              + "cache. When enabled, cache hits are served without acquiring the global "
+              + "metadata lock and recency updates to the evictor are recorded asynchronously "
+              + "through per-thread buffers. This has no effect when "
+              + Name.USER_CLIENT_CACHE_QUOTA_ENABLED + " is true.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PAGE_INDEX_ENABLED =
+      booleanBuilder(Name.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to persist an index of the cached pages of each cache "
+              + "directory, which is written on clean shutdown and periodically, so that a "
+              + "restart restores the cache by reading the index instead of scanning all page "
+              + "files. Pages missing from disk or with a mismatched size are detected lazily "
+              + "on first access. The directory scan is used when no valid index is found. "
+              + "Only effective for the `LOCAL` page store.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL =
+      durationBuilder(Name.USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL)
+          .setDefaultValue("10min")
+          .setDescription("The interval at which the index of cached pages is checkpointed "
+              + "when " + Name.USER_CLIENT_CACHE_PAGE_INDEX_ENABLED + " is true. After a "
+              + "restore from a checkpoint which was not written on clean shutdown, the page "
+              + "files are reconciled with the index in the background. Set to 0 to only "
+              + "write the index on clean shutdown.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PAGE_CHECKSUM_ENABLED =
+      booleanBuilder(Name.USER_CLIENT_CACHE_PAGE_CHECKSUM_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to compute a CRC64 checksum of each page written to the "
+              + "client cache and keep it with the page metadata, so that pages can be "
+              + "verified by the cache scrubber.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_SCRUB_BANDWIDTH =
+      dataSizeBuilder(Name.USER_CLIENT_CACHE_SCRUB_BANDWIDTH)
+          .setDefaultValue("0B")
+          .setDescription("The maximum number of bytes per second read by the scrubber which "
+              + "verifies the pages in the client cache against their checksums, dropping the "
+              + "corrupted ones. Pages without a checksum get one computed on their first "
+              + "scrub. 0 disables the scrubber.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_SCRUB_INTERVAL =
+      durationBuilder(Name.USER_CLIENT_CACHE_SCRUB_INTERVAL)
+          .setDefaultValue("1day")
+          .setDescription("The interval between the end of a pass of the client cache scrubber "
+              + "over all pages and the start of the next one, when "
+              + Name.USER_CLIENT_CACHE_SCRUB_BANDWIDTH + " is positive.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PREFETCH_MAX_PAGES =
+      intBuilder(Name.USER_CLIENT_CACHE_PREFETCH_MAX_PAGES)
+          .setDefaultValue(0)
+          .setDescription("The maximum number of pages prefetched into the client cache ahead "
+              + "of a stream reading a file sequentially. The number of pages prefetched grows "
+              + "while the stream hits prefetched pages and shrinks when it misses. 0 disables "
+              + "prefetching.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PREFETCH_MAX_BYTES =
+      dataSizeBuilder(Name.USER_CLIENT_CACHE_PREFETCH_MAX_BYTES)
+          .setDefaultValue("64MB")
+          .setDescription("The maximum number of bytes being prefetched into the client cache "
+              + "at the same time, across all streams of the client.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PREFETCH_THREADS =
+      intBuilder(Name.USER_CLIENT_CACHE_PREFETCH_THREADS)
+          .setDefaultValue(8)
+          .setDescription("The number of threads prefetching pages into the client cache, "
+              + "shared by all streams of the client.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_CLIENT_CACHE_QUOTA_ENABLED =
       booleanBuilder(Name.USER_CLIENT_CACHE_QUOTA_ENABLED)
           .setDefaultValue(false)
@@ -6671,6 +7043,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_STREAMING_READER_SENDFILE_ENABLED =
+      booleanBuilder(Name.USER_STREAMING_READER_SENDFILE_ENABLED)
+          .setDefaultValue(true)
+          .setDescription("Whether to read blocks from the sendfile data server of remote "
+              + "workers when they run one (see " + Name.WORKER_NETWORK_SENDFILE_ENABLED
+              + "). Otherwise blocks are always read from the gRPC data server.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_STREAMING_WRITER_BUFFER_SIZE_MESSAGES =
       intBuilder(Name.USER_STREAMING_WRITER_BUFFER_SIZE_MESSAGES)
           .setAlias(Name.USER_NETWORK_WRITER_BUFFER_SIZE_MESSAGES)
@@ -7242,6 +7623,16 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.ALL)
           .build();
+  public static final PropertyKey FUSE_READ_STREAMS_PER_FILE =
+      intBuilder(Name.FUSE_READ_STREAMS_PER_FILE)
+          .setDefaultValue(4)
+          .setDescription("The maximum number of streams a file opened for reading through the "
+              + "Fuse application reads from at the same time. Concurrent reads of the same "
+              + "open file, e.g. by data loaders issuing pread calls on a shared file "
+              + "descriptor, are served in parallel up to this number. 1 serializes them.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey FUSE_STAT_CACHE_REFRESH_INTERVAL =
       durationBuilder(Name.FUSE_STAT_CACHE_REFRESH_INTERVAL)
           .setDefaultValue("5min")
@@ -8053,6 +8444,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String UNDERFS_OZONE_PREFIXES = "alluxio.underfs.ozone.prefixes";
     public static final String UNDERFS_HDFS_REMOTE = "alluxio.underfs.hdfs.remote";
     public static final String UNDERFS_IO_THREADS = "alluxio.underfs.io.threads";
+    public static final String UNDERFS_IO_READ_AHEAD_BUFFER_SIZE =
+        "alluxio.underfs.io.read.ahead.buffer.size";
+    public static final String UNDERFS_IO_READ_AHEAD_MAX_SIZE =
+        "alluxio.underfs.io.read.ahead.max.size";
     public static final String UNDERFS_LOCAL_SKIP_BROKEN_SYMLINKS =
         "alluxio.underfs.local.skip.broken.symlinks";
     public static final String UNDERFS_PERSISTENCE_ASYNC_TEMP_DIR =
@@ -8466,6 +8861,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.metastore.rocks.parallel.backup";
     public static final String MASTER_METASTORE_ROCKS_PARALLEL_BACKUP_THREADS =
         "alluxio.master.metastore.rocks.parallel.backup.threads";
+    public static final String MASTER_METASTORE_ROCKS_STREAMED_BACKUP =
+        "alluxio.master.metastore.rocks.streamed.backup";
     public static final String MASTER_METASTORE_INODE_CACHE_EVICT_BATCH_SIZE =
         "alluxio.master.metastore.inode.cache.evict.batch.size";
     public static final String MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO =
@@ -8474,6 +8871,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.metastore.inode.cache.low.water.mark.ratio";
     public static final String MASTER_METASTORE_INODE_CACHE_MAX_SIZE =
         "alluxio.master.metastore.inode.cache.max.size";
+    public static final String MASTER_METASTORE_INODE_CACHE_SHARDS =
+        "alluxio.master.metastore.inode.cache.shards";
     public static final String MASTER_METASTORE_INODE_ITERATION_CRAWLER_COUNT =
         "alluxio.master.metastore.inode.iteration.crawler.count";
     public static final String MASTER_METASTORE_INODE_ENUMERATOR_BUFFER_COUNT =
@@ -8514,6 +8913,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.metastore.rocks.inode.block.index";
     public static final String MASTER_METASTORE_ROCKS_INODE_INDEX =
         "alluxio.master.metastore.rocks.inode.index";
+    public static final String MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE =
+        "alluxio.master.metastore.rocks.inode.store.cache.size";
+    public static final String MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY =
+        "alluxio.master.metastore.rocks.bloom.filter.bits.per.key";
+    public static final String MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER =
+        "alluxio.master.metastore.rocks.partitioned.index.filter";
     public static final String MASTER_METASTORE_METRICS_REFRESH_INTERVAL =
         "alluxio.master.metastore.metrics.refresh.interval";
     public static final String MASTER_PERSISTENCE_CHECKER_INTERVAL_MS =
@@ -8680,6 +9085,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.filesystem.operation.retry.cache.size";
     public static final String MASTER_FILE_SYSTEM_MERGE_INODE_JOURNALS =
         "alluxio.master.filesystem.merge.inode.journals";
+    public static final String MASTER_FILE_SYSTEM_OPTIMISTIC_READ_ENABLED =
+        "alluxio.master.filesystem.optimistic.read.enabled";
 
     //
     // Throttle
@@ -8782,10 +9189,14 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.management.backoff.strategy";
     public static final String WORKER_MANAGEMENT_LOAD_DETECTION_COOL_DOWN_TIME =
         "alluxio.worker.management.load.detection.cool.down.time";
+    public static final String WORKER_MANAGEMENT_LOAD_DETECTION_LATENCY_RATIO =
+        "alluxio.worker.management.load.detection.latency.ratio";
     public static final String WORKER_MANAGEMENT_TASK_THREAD_COUNT =
         "alluxio.worker.management.task.thread.count";
     public static final String WORKER_MANAGEMENT_BLOCK_TRANSFER_CONCURRENCY_LIMIT =
         "alluxio.worker.management.block.transfer.concurrency.limit";
+    public static final String WORKER_MANAGEMENT_BLOCK_TRANSFER_UTILIZATION_MAX =
+        "alluxio.worker.management.block.transfer.utilization.max";
     public static final String WORKER_MANAGEMENT_TIER_ALIGN_ENABLED =
         "alluxio.worker.management.tier.align.enabled";
     public static final String WORKER_MANAGEMENT_TIER_PROMOTE_ENABLED =
@@ -8812,6 +9223,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.network.async.cache.manager.queue.max";
     public static final String WORKER_NETWORK_BLOCK_READER_THREADS_MAX =
         "alluxio.worker.network.block.reader.threads.max";
+    public static final String WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED =
+        "alluxio.worker.network.block.reader.async.io.enabled";
+    public static final String WORKER_NETWORK_BLOCK_READER_ASYNC_IO_THREADS =
+        "alluxio.worker.network.block.reader.async.io.threads";
     public static final String WORKER_NETWORK_BLOCK_WRITER_THREADS_MAX =
         "alluxio.worker.network.block.writer.threads.max";
     public static final String WORKER_NETWORK_WRITER_BUFFER_SIZE_MESSAGES =
@@ -8844,6 +9259,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.network.reader.buffer.pooled";
     public static final String WORKER_NETWORK_READER_MAX_CHUNK_SIZE_BYTES =
         "alluxio.worker.network.reader.max.chunk.size.bytes";
+    public static final String WORKER_NETWORK_SENDFILE_ENABLED =
+        "alluxio.worker.network.sendfile.enabled";
+    public static final String WORKER_NETWORK_SENDFILE_PORT =
+        "alluxio.worker.network.sendfile.port";
     public static final String WORKER_NETWORK_SHUTDOWN_TIMEOUT =
         "alluxio.worker.network.shutdown.timeout";
     public static final String WORKER_NETWORK_ZEROCOPY_ENABLED =
@@ -8889,6 +9308,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.page.store.overhead";
     public static final String WORKER_PAGE_STORE_PAGE_SIZE =
         "alluxio.worker.page.store.page.size";
+    public static final String WORKER_PAGE_STORE_PAGE_CHECKSUM_ENABLED =
+        "alluxio.worker.page.store.page.checksum.enabled";
+    public static final String WORKER_PAGE_STORE_SCRUB_BANDWIDTH =
+        "alluxio.worker.page.store.scrub.bandwidth";
+    public static final String WORKER_PAGE_STORE_SCRUB_INTERVAL =
+        "alluxio.worker.page.store.scrub.interval";
     public static final String WORKER_PAGE_STORE_QUOTA_ENABLED =
         "alluxio.worker.page.store.quota.enabled";
     public static final String WORKER_PAGE_STORE_SIZES =
@@ -9072,12 +9497,18 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.client.cache.async.restore.enabled";
     public static final String USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED =
         "alluxio.user.client.cache.async.write.enabled";
+    public static final String USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_SIZE =
+        "alluxio.user.client.cache.async.write.queue.size";
+    public static final String USER_CLIENT_CACHE_ASYNC_WRITE_QUEUE_TIMEOUT =
+        "alluxio.user.client.cache.async.write.queue.timeout";
     public static final String USER_CLIENT_CACHE_ASYNC_WRITE_THREADS =
         "alluxio.user.client.cache.async.write.threads";
     public static final String USER_CLIENT_CACHE_ENABLED =
         "alluxio.user.client.cache.enabled";
     public static final String USER_CLIENT_CACHE_FALLBACK_ENABLED =
         "alluxio.user.client.cache.fallback.enabled";
+    public static final String USER_CLIENT_CACHE_ADMISSION_FILTER_CLASS =
+        "alluxio.user.client.cache.admission.filter.class";
     public static final String USER_CLIENT_CACHE_FILTER_CLASS =
         "alluxio.user.client.cache.filter.class";
     public static final String USER_CLIENT_CACHE_FILTER_CONFIG_FILE =
@@ -9120,6 +9551,24 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.client.cache.instream_buffer_size";
     public static final String USER_CLIENT_CACHE_PAGE_SIZE =
         "alluxio.user.client.cache.page.size";
+    public static final String USER_CLIENT_CACHE_META_STORE_CONCURRENT_ENABLED =
+        "alluxio.user.client.cache.metastore.concurrent.enabled";
+    public static final String USER_CLIENT_CACHE_PAGE_INDEX_ENABLED =
+        "alluxio.user.client.cache.page.index.enabled";
+    public static final String USER_CLIENT_CACHE_PAGE_INDEX_CHECKPOINT_INTERVAL =
+        "alluxio.user.client.cache.page.index.checkpoint.interval";
+    public static final String USER_CLIENT_CACHE_PAGE_CHECKSUM_ENABLED =
+        "alluxio.user.client.cache.page.checksum.enabled";
+    public static final String USER_CLIENT_CACHE_SCRUB_BANDWIDTH =
+        "alluxio.user.client.cache.scrub.bandwidth";
+    public static final String USER_CLIENT_CACHE_SCRUB_INTERVAL =
+        "alluxio.user.client.cache.scrub.interval";
+    public static final String USER_CLIENT_CACHE_PREFETCH_MAX_PAGES =
+        "alluxio.user.client.cache.prefetch.max.pages";
+    public static final String USER_CLIENT_CACHE_PREFETCH_MAX_BYTES =
+        "alluxio.user.client.cache.prefetch.max.bytes";
+    public static final String USER_CLIENT_CACHE_PREFETCH_THREADS =
+        "alluxio.user.client.cache.prefetch.threads";
     public static final String USER_CLIENT_CACHE_QUOTA_ENABLED =
         "alluxio.user.client.cache.quota.enabled";
     public static final String USER_CLIENT_CACHE_TTL_ENABLED =
@@ -9128,6 +9577,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
             "alluxio.user.client.cache.ttl.check.interval.seconds";
     public static final String USER_CLIENT_CACHE_TTL_THRESHOLD_SECONDS =
             "alluxio.user.client.cache.ttl.threshold.seconds";
+    public static final String USER_CLIENT_CACHE_DIRECT_MEM_STORE_ARENA_SIZE =
+        "alluxio.user.client.cache.direct.mem.store.arena.size";
+    public static final String USER_CLIENT_CACHE_SEGMENT_STORE_SEGMENT_SIZE =
+        "alluxio.user.client.cache.segment.store.segment.size";
     public static final String USER_CLIENT_CACHE_SIZE =
         "alluxio.user.client.cache.size";
     public static final String USER_CLIENT_CACHE_STORE_OVERHEAD =
@@ -9177,11 +9630,19 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String USER_FILE_REPLICATION_MAX = "alluxio.user.file.replication.max";
     public static final String USER_FILE_REPLICATION_MIN = "alluxio.user.file.replication.min";
     public static final String USER_FILE_TARGET_MEDIA = "alluxio.user.file.target.media";
+    public static final String USER_FILE_PREFETCH_BLOCKS =
+        "alluxio.user.file.prefetch.blocks";
     public static final String USER_FILE_REPLICATION_DURABLE =
         "alluxio.user.file.replication.durable";
     public static final String USER_FILE_SEQUENTIAL_PREAD_THRESHOLD =
         "alluxio.user.file.sequential.pread.threshold";
     public static final String USER_FILE_UFS_TIER_ENABLED = "alluxio.user.file.ufs.tier.enabled";
+    public static final String USER_FILE_VECTORED_READ_MERGE_GAP =
+        "alluxio.user.file.vectored.read.merge.gap";
+    public static final String USER_FILE_VECTORED_READ_MERGE_MAX_SIZE =
+        "alluxio.user.file.vectored.read.merge.max.size";
+    public static final String USER_FILE_VECTORED_READ_THREADS =
+        "alluxio.user.file.vectored.read.threads";
     public static final String USER_FILE_WAITCOMPLETED_POLL_MS =
         "alluxio.user.file.waitcompleted.poll";
     public static final String USER_FILE_CREATE_TTL =
@@ -9253,6 +9714,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.streaming.reader.chunk.size.bytes";
     public static final String USER_STREAMING_READER_CLOSE_TIMEOUT =
         "alluxio.user.streaming.reader.close.timeout";
+    public static final String USER_STREAMING_READER_SENDFILE_ENABLED =
+        "alluxio.user.streaming.reader.sendfile.enabled";
     public static final String USER_STREAMING_WRITER_BUFFER_SIZE_MESSAGES =
         "alluxio.user.streaming.writer.buffer.size.messages";
     public static final String USER_STREAMING_WRITER_CHUNK_SIZE_BYTES =
@@ -9353,6 +9816,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.fuse.mount.options";
     public static final String FUSE_MOUNT_POINT =
         "alluxio.fuse.mount.point";
+    public static final String FUSE_READ_STREAMS_PER_FILE =
+        "alluxio.fuse.read.streams.per.file";
     public static final String FUSE_STAT_CACHE_REFRESH_INTERVAL =
         "alluxio.fuse.stat.cache.refresh.interval";
     public static final String FUSE_UMOUNT_TIMEOUT =
@@ -9627,6 +10092,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.tieredstore.level%d.watermark.low.ratio",
         "alluxio\\.worker\\.tieredstore\\.level(\\d+)\\.watermark\\.low\\.ratio",
         PropertyType.DOUBLE),
+    WORKER_IO_CLASS_CONCURRENCY_MAX("alluxio.worker.io.class.%s.concurrency.max",
+        "alluxio\\.worker\\.io\\.class\\.(\\w+)\\.concurrency\\.max",
+        PropertyType.INTEGER),
+    WORKER_IO_CLASS_BANDWIDTH_MAX("alluxio.worker.io.class.%s.bandwidth.max",
+        "alluxio\\.worker\\.io\\.class\\.(\\w+)\\.bandwidth\\.max",
+        PropertyType.DATASIZE),
     USER_NETWORK_KEEPALIVE_TIME_MS("alluxio.user.network.%s.keepalive.time",
         "alluxio\\.user\\.network\\.(\\w+)\\.keepalive\\.time",
         PropertyType.DURATION),
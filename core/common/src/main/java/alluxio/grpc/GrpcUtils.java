@@ -367,6 +367,7 @@ public final class GrpcUtils {
     workerNetAddress.setDataPort(workerNetPAddress.getDataPort());
     workerNetAddress.setWebPort(workerNetPAddress.getWebPort());
     workerNetAddress.setDomainSocketPath(workerNetPAddress.getDomainSocketPath());
+    workerNetAddress.setSendfileDataPort(workerNetPAddress.getSendfileDataPort());
     workerNetAddress.setTieredIdentity(fromProto(workerNetPAddress.getTieredIdentity()));
     return workerNetAddress;
   }
@@ -648,7 +649,8 @@ public final class GrpcUtils {
         .setRpcPort(workerNetAddress.getRpcPort())
         .setDataPort(workerNetAddress.getDataPort())
         .setWebPort(workerNetAddress.getWebPort())
-        .setDomainSocketPath(workerNetAddress.getDomainSocketPath());
+        .setDomainSocketPath(workerNetAddress.getDomainSocketPath())
+        .setSendfileDataPort(workerNetAddress.getSendfileDataPort());
     if (workerNetAddress.getTieredIdentity() != null) {
       address.setTieredIdentity(toProto(workerNetAddress.getTieredIdentity()));
     }
@@ -70,6 +70,8 @@ public final class MetricInfo {
   public static final String TAG_UFS = "UFS";
   public static final String TAG_UFS_TYPE = "UFS_TYPE";
   public static final String TAG_USER = "User";
+  public static final String TAG_IO_CLASS = "IoClass";
+  public static final String TAG_SHARD = "Shard";
 
   // Metric name component
   public static final String TIER = "Tier";
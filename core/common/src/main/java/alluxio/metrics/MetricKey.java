@@ -289,6 +289,14 @@ public final class MetricKey implements Comparable<MetricKey> {
               + "from (parentId, childName) to childId.")
           .setMetricType(MetricType.GAUGE)
           .build();
+  public static final MetricKey MASTER_EDGE_CACHE_EVICTION_TIME =
+      new Builder("Master.EdgeCacheEvictionTime")
+          .setDescription("The time taken to evict a batch of edges from the edge cache, "
+              + "including writing them to the backing store. "
+              + "The edge cache is responsible for managing the mapping "
+              + "from (parentId, childName) to childId.")
+          .setMetricType(MetricType.TIMER)
+          .build();
   public static final MetricKey MASTER_EDGE_CACHE_HITS =
       new Builder("Master.EdgeCacheHits")
           .setDescription("Total number of hits in the edge (inode metadata) cache. "
@@ -342,6 +350,12 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setDescription("Total number of inodes that was evicted from the cache.")
           .setMetricType(MetricType.GAUGE)
           .build();
+  public static final MetricKey MASTER_INODE_CACHE_EVICTION_TIME =
+      new Builder("Master.InodeCacheEvictionTime")
+          .setDescription("The time taken to evict a batch of inodes from the cache, "
+              + "including writing them to the backing store.")
+          .setMetricType(MetricType.TIMER)
+          .build();
   public static final MetricKey MASTER_INODE_CACHE_HITS =
       new Builder("Master.InodeCacheHits")
           .setDescription("Total number of hits in the inodes (inode metadata) cache.")
@@ -446,6 +460,11 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setDescription("An estimate of the inode heap size")
           .setMetricType(MetricType.GAUGE)
           .build();
+  public static final MetricKey MASTER_INODE_OFF_HEAP_SIZE =
+      new Builder("Master.InodeOffHeapSize")
+          .setDescription("The direct memory held by the off-heap inode store")
+          .setMetricType(MetricType.GAUGE)
+          .build();
   public static final MetricKey MASTER_BLOCK_HEAP_SIZE =
       new Builder("Master.BlockHeapSize")
           .setDescription("An estimate of the blocks heap size")
@@ -602,6 +621,17 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setDescription("Total number of the GetFileInfo operations")
           .setMetricType(MetricType.COUNTER)
           .build();
+  public static final MetricKey MASTER_OPTIMISTIC_READS =
+      new Builder("Master.OptimisticReads")
+          .setDescription("Total number of inode tree reads completed without inode locks")
+          .setMetricType(MetricType.COUNTER)
+          .build();
+  public static final MetricKey MASTER_OPTIMISTIC_READ_FALLBACKS =
+      new Builder("Master.OptimisticReadFallbacks")
+          .setDescription("Total number of inode tree reads attempted without inode locks "
+              + "which had to be retried with locks because the inode tree changed")
+          .setMetricType(MetricType.COUNTER)
+          .build();
   public static final MetricKey MASTER_GET_NEW_BLOCK_OPS =
       new Builder("Master.GetNewBlockOps")
           .setDescription("Total number of the GetNewBlock operations")
@@ -2010,6 +2040,20 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.METER)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey WORKER_BYTES_READ_UFS_COALESCED =
+      new Builder("Worker.BytesReadUfsCoalesced")
+          .setDescription("Total number of bytes served to readers by sharing a UFS read of the "
+              + "same page already in flight, instead of reading them from the UFS again")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(true)
+          .build();
+  public static final MetricKey WORKER_UFS_READ_REQUESTS_COALESCED =
+      new Builder("Worker.UfsReadRequestsCoalesced")
+          .setDescription("Total number of page reads from the UFS which were served by sharing "
+              + "a UFS read of the same page already in flight")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(true)
+          .build();
 
   public static final MetricKey WORKER_BYTES_READ_CACHE =
           new Builder("Worker.BytesReadCache")
@@ -2296,6 +2340,14 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.GAUGE)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey WORKER_IO_QUEUE_WAIT_TIME =
+      new Builder("Worker.IoQueueWaitTime")
+          .setDescription("The time I/O tasks wait in the queue of their I/O class before they "
+              + "start to run, tagged by the I/O class. Only tasks of the I/O classes with a "
+              + "concurrency limit (alluxio.worker.io.class.<class>.concurrency.max) may wait")
+          .setMetricType(MetricType.TIMER)
+          .setIsClusterAggregated(false)
+          .build();
   public static final MetricKey WORKER_RPC_QUEUE_LENGTH =
       new Builder("Worker.RpcQueueLength")
           .setDescription("Length of the worker rpc queue. "
@@ -2466,6 +2518,20 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.METER)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey CLIENT_CACHE_PAGES_PREFETCHED =
+      new Builder("Client.CachePagesPrefetched")
+          .setDescription("Total number of pages prefetched into the client cache ahead of "
+              + "sequential reads.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_PREFETCH_THROTTLED =
+      new Builder("Client.CachePrefetchThrottled")
+          .setDescription("Number of times prefetching pages into the client cache was stopped "
+              + "because the client was already prefetching the maximum number of bytes.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
   public static final MetricKey CLIENT_CACHE_BYTES_WRITTEN_CACHE =
       new Builder("Client.CacheBytesWrittenCache")
           .setDescription("Total number of bytes written to the client cache.")
@@ -2496,6 +2562,27 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.GAUGE)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey CLIENT_CACHE_DIRECT_MEMORY_ARENAS =
+      new Builder("Client.CacheDirectMemoryArenas")
+          .setDescription("Number of direct memory arenas allocated by the off-heap memory "
+              + "page stores of the client cache.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_DIRECT_MEMORY_ALLOCATED =
+      new Builder("Client.CacheDirectMemoryAllocated")
+          .setDescription("Amount of direct memory in bytes reserved by the arenas of the "
+              + "off-heap memory page stores of the client cache.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_DIRECT_MEMORY_USED =
+      new Builder("Client.CacheDirectMemoryUsed")
+          .setDescription("Amount of direct memory in bytes of the arena slots holding pages in "
+              + "the off-heap memory page stores of the client cache.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
   public static final MetricKey CLIENT_CACHE_SHADOW_CACHE_BYTES =
       new Builder("Client.CacheShadowCacheBytes")
           .setDescription("Amount of bytes in the client shadow cache.")
@@ -2533,6 +2620,33 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.COUNTER)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey CLIENT_CACHE_PAGE_INDEX_STALE_PAGES =
+      new Builder("Client.CachePageIndexStalePages")
+          .setDescription("Number of pages restored from the page index of the client cache "
+              + "which were found missing or with a mismatched size when accessed.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_PAGE_INDEX_WRITE_ERRORS =
+      new Builder("Client.CachePageIndexWriteErrors")
+          .setDescription("Number of failures when writing the page index of the client cache.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_PAGES_SCRUBBED =
+      new Builder("Client.CachePagesScrubbed")
+          .setDescription("Number of pages in the client cache verified against their checksum "
+              + "by the cache scrubber.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_PAGES_CORRUPTED =
+      new Builder("Client.CachePagesCorrupted")
+          .setDescription("Number of pages in the client cache found by the cache scrubber not "
+              + "to match their checksum, which were removed from the cache.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
   public static final MetricKey CLIENT_CACHE_CLEAN_ERRORS =
       new Builder("Client.CacheCleanErrors")
           .setDescription("Number of failures when cleaning out the existing cache directory "
@@ -2609,10 +2723,26 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.COUNTER)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey CLIENT_CACHE_PUT_ADMISSION_REJECTIONS =
+      new Builder("Client.CachePutAdmissionRejections")
+          .setDescription("Number of pages not put into the client cache because the page "
+              + "admission filter estimated them to be less frequently accessed than the page "
+              + "which would have been evicted for them.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
+  public static final MetricKey CLIENT_CACHE_PUT_ASYNC_PENDING_PAGES =
+      new Builder("Client.CachePutAsyncPendingPages")
+          .setDescription("Number of pages accepted to be put into the client cache "
+              + "asynchronously which are queued or being written.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
   public static final MetricKey CLIENT_CACHE_PUT_ASYNC_REJECTION_ERRORS =
       new Builder("Client.CachePutAsyncRejectionErrors")
           .setDescription("Number of failures when putting cached data in the client cache due to"
-              + " failed injection to async write queue.")
+              + " failed injection to async write queue, e.g. pages dropped because the queue"
+              + " stays full.")
           .setMetricType(MetricType.COUNTER)
           .setIsClusterAggregated(false)
           .build();
@@ -2722,6 +2852,12 @@ public final class MetricKey implements Comparable<MetricKey> {
           .setMetricType(MetricType.COUNTER)
           .setIsClusterAggregated(false)
           .build();
+  public static final MetricKey CLIENT_SENDFILE_CONNECTION_COUNT =
+      new Builder("Client.SendfileConnectionCount")
+          .setDescription("Number of connections in the SendfileConnectionPool.")
+          .setMetricType(MetricType.COUNTER)
+          .setIsClusterAggregated(false)
+          .build();
   public static final MetricKey CLIENT_DEFAULT_HIVE_CLIENT_COUNT =
       new Builder("Client.DefaultHiveClientCount")
           .setDescription("Number of instances in the DefaultHiveClientPool.")
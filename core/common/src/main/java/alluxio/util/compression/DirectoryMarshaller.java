@@ -47,6 +47,7 @@ public interface DirectoryMarshaller {
     NO_COMPRESSION,
     GZIP,
     TAR_GZIP,
+    PARALLEL_DEFLATE,
   }
 
   /**
@@ -64,6 +65,8 @@ public interface DirectoryMarshaller {
           return new GzipMarshaller();
         case TAR_GZIP:
           return new TarGzMarshaller();
+        case PARALLEL_DEFLATE:
+          return new ParallelDeflateMarshaller();
         default:
           return new NoCompressionMarshaller();
       }
@@ -0,0 +1,368 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.compression;
+
+import static java.util.stream.Collectors.toList;
+
+import alluxio.Constants;
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
+import alluxio.util.executor.ExecutorServiceFactories;
+import alluxio.util.executor.ExecutorServiceUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nullable;
+
+/**
+ * Marshaller streaming the files of a directory one after another, split in chunks which are
+ * compressed in parallel. Unlike a zip archive, the stream is extracted while it is read, the
+ * chunks being decompressed and written in parallel as they arrive. Each chunk carries the
+ * CRC32 of its content, which is checked after decompressing it.
+ */
+public class ParallelDeflateMarshaller implements DirectoryMarshaller {
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelDeflateMarshaller.class);
+
+  @VisibleForTesting
+  static final int CHUNK_SIZE = 4 * Constants.MB;
+  private static final byte END = 0;
+  private static final byte DIRECTORY = 1;
+  private static final byte FILE = 2;
+
+  private final int mPoolSize;
+  private final int mCompressionLevel;
+
+  /**
+   * Creates a marshaller with the configured number of threads and compression level.
+   */
+  public ParallelDeflateMarshaller() {
+    this(Configuration.getInt(PropertyKey.MASTER_METASTORE_ROCKS_PARALLEL_BACKUP_THREADS),
+        Configuration.getInt(
+            PropertyKey.MASTER_EMBEDDED_JOURNAL_SNAPSHOT_REPLICATION_COMPRESSION_LEVEL));
+  }
+
+  /**
+   * @param poolSize the number of threads compressing or decompressing chunks
+   * @param compressionLevel the deflate compression level
+   */
+  public ParallelDeflateMarshaller(int poolSize, int compressionLevel) {
+    mPoolSize = poolSize;
+    mCompressionLevel = compressionLevel;
+  }
+
+  @Override
+  public long write(Path path, OutputStream outputStream) throws IOException, InterruptedException {
+    LOG.info("Writing {} compressed with {} threads", path, mPoolSize);
+    ExecutorService executor = ExecutorServiceFactories.fixedThreadPool(
+        "parallel-deflate-compress-pool", mPoolSize).create();
+    // the compressed chunks and the headers preceding them, in the order they are written
+    Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    // the output stream is not closed, as the caller may write more after the directory
+    DataOutputStream out = new DataOutputStream(outputStream);
+    long totalBytes = 0;
+    try (Stream<Path> stream = Files.walk(path)) {
+      for (Path subPath : stream.collect(toList())) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        String name = path.relativize(subPath).toString();
+        if (Files.isDirectory(subPath)) {
+          pending.add(CompletableFuture.completedFuture(header(DIRECTORY, name, 0)));
+          continue;
+        }
+        long size = Files.size(subPath);
+        totalBytes += size;
+        pending.add(CompletableFuture.completedFuture(header(FILE, name, size)));
+        for (long offset = 0; offset < size; offset += CHUNK_SIZE) {
+          long chunkOffset = offset;
+          int length = (int) Math.min(CHUNK_SIZE, size - offset);
+          pending.add(executor.submit(() -> compressChunk(subPath, chunkOffset, length)));
+          // bounds the memory held by compressed chunks waiting for their turn
+          while (pending.size() > 2 * mPoolSize) {
+            out.write(get(pending.poll()));
+          }
+        }
+      }
+      pending.add(CompletableFuture.completedFuture(new byte[] {END}));
+      while (!pending.isEmpty()) {
+        out.write(get(pending.poll()));
+      }
+      out.flush();
+    } finally {
+      pending.forEach(future -> future.cancel(true));
+      ExecutorServiceUtils.shutdownAndAwaitTermination(executor);
+    }
+    return totalBytes;
+  }
+
+  @Override
+  public long read(Path path, InputStream inputStream) throws IOException {
+    LOG.info("Reading {} decompressed with {} threads", path, mPoolSize);
+    path.toFile().mkdirs();
+    ExecutorService executor = ExecutorServiceFactories.fixedThreadPool(
+        "parallel-deflate-decompress-pool", mPoolSize).create();
+    // bounds the memory held by compressed chunks waiting to be written
+    Semaphore inFlight = new Semaphore(2 * mPoolSize);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<CompletableFuture<Long>> files = new ArrayList<>();
+    // the input stream is neither closed nor read past the end of the directory
+    DataInputStream in = new DataInputStream(inputStream);
+    try {
+      byte type;
+      while ((type = in.readByte()) != END) {
+        String name = in.readUTF();
+        File file = new File(path.toFile(), name);
+        if (type == DIRECTORY) {
+          file.mkdirs();
+          continue;
+        }
+        long size = in.readLong();
+        file.getParentFile().mkdirs();
+        FileRestore restore = new FileRestore(file.toPath());
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (long offset = 0; offset < size; offset += CHUNK_SIZE) {
+          int length = in.readInt();
+          int checksum = in.readInt();
+          byte[] compressed = new byte[in.readInt()];
+          in.readFully(compressed);
+          if (failure.get() != null) {
+            throw new IOException("Failed to restore " + path, failure.get());
+          }
+          inFlight.acquire();
+          long chunkOffset = offset;
+          chunks.add(CompletableFuture.runAsync(() -> {
+            try {
+              restore.restoreChunk(chunkOffset, length, checksum, compressed);
+            } catch (Throwable t) {
+              failure.compareAndSet(null, t);
+              throw new CompletionException(t);
+            } finally {
+              inFlight.release();
+            }
+          }, executor));
+        }
+        files.add(CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+            .handleAsync((result, error) -> restore.finish(size, error), executor));
+      }
+      long totalBytes = 0;
+      for (CompletableFuture<Long> file : files) {
+        totalBytes += get(file);
+      }
+      return totalBytes;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while restoring " + path, e);
+    } finally {
+      ExecutorServiceUtils.shutdownAndAwaitTermination(executor);
+    }
+  }
+
+  private static byte[] header(byte type, String name, long size) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeByte(type);
+    out.writeUTF(name);
+    if (type == FILE) {
+      out.writeLong(size);
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] compressChunk(Path file, long offset, int length) throws IOException {
+    byte[] raw = readChunk(file, offset, length);
+    Deflater deflater = new Deflater(mCompressionLevel, true);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+      byte[] buffer = new byte[64 * Constants.KB];
+      while (!deflater.finished()) {
+        compressed.write(buffer, 0, deflater.deflate(buffer));
+      }
+    } finally {
+      deflater.end();
+    }
+    ByteArrayOutputStream chunk = new ByteArrayOutputStream(compressed.size() + 12);
+    DataOutputStream out = new DataOutputStream(chunk);
+    out.writeInt(length);
+    out.writeInt(checksum(raw));
+    out.writeInt(compressed.size());
+    compressed.writeTo(out);
+    return chunk.toByteArray();
+  }
+
+  private static byte[] decompressChunk(byte[] compressed, int length) throws IOException {
+    byte[] raw = new byte[length];
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(compressed);
+      int read = 0;
+      while (read < length && !inflater.finished()) {
+        int n = inflater.inflate(raw, read, length - read);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        read += n;
+      }
+      if (read != length) {
+        throw new IOException(String.format("Chunk decompressed to %d bytes, expected %d",
+            read, length));
+      }
+    } catch (DataFormatException e) {
+      throw new IOException(e);
+    } finally {
+      inflater.end();
+    }
+    return raw;
+  }
+
+  private static byte[] readChunk(Path file, long offset, int length) throws IOException {
+    byte[] raw = new byte[length];
+    ByteBuffer buffer = ByteBuffer.wrap(raw);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, offset + buffer.position()) < 0) {
+          throw new IOException(String.format("%s is shorter than %d bytes", file,
+              offset + length));
+        }
+      }
+    }
+    return raw;
+  }
+
+  private static int checksum(byte[] bytes) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    return (int) crc.getValue();
+  }
+
+  private static <T> T get(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause()
+          != null ? e.getCause().getCause() : e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * The restore of a file, whose chunks are restored concurrently.
+   */
+  private static final class FileRestore {
+    private final Path mPath;
+    private FileChannel mChannel;
+
+    FileRestore(Path path) {
+      mPath = path;
+    }
+
+    void restoreChunk(long offset, int length, int checksum, byte[] compressed)
+        throws IOException {
+      byte[] raw = decompressChunk(compressed, length);
+      if (checksum(raw) != checksum) {
+        throw new IOException(String.format("Checksum mismatch for the chunk at offset %d of %s",
+            offset, mPath));
+      }
+      write(offset, raw);
+    }
+
+    /**
+     * Completes the file once all its chunks are restored.
+     *
+     * @param size the size of the file
+     * @param error the error restoring a chunk, if any
+     * @return the size of the file
+     */
+    long finish(long size, @Nullable Throwable error) {
+      try {
+        if (error != null) {
+          throw new CompletionException(error);
+        }
+        // creates the empty files, which have no chunks
+        channel();
+        return size;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        closeChannel();
+      }
+    }
+
+    private void write(long offset, byte[] raw) throws IOException {
+      ByteBuffer buffer = ByteBuffer.wrap(raw);
+      FileChannel channel = channel();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer, offset + buffer.position());
+      }
+    }
+
+    private synchronized FileChannel channel() throws IOException {
+      if (mChannel == null) {
+        mChannel = FileChannel.open(mPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+      }
+      return mChannel;
+    }
+
+    private synchronized void closeChannel() {
+      if (mChannel != null) {
+        try {
+          mChannel.close();
+        } catch (IOException e) {
+          LOG.warn("Failed to close {}", mPath, e);
+        }
+        mChannel = null;
+      }
+    }
+  }
+}
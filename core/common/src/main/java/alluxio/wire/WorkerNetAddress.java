@@ -40,6 +40,7 @@ public final class WorkerNetAddress implements Serializable {
   private int mDataPort;
   private int mWebPort;
   private String mDomainSocketPath = "";
+  private int mSendfileDataPort;
   private TieredIdentity mTieredIdentity;
 
   /**
@@ -96,6 +97,15 @@ public final class WorkerNetAddress implements Serializable {
     return mDomainSocketPath;
   }
 
+  /**
+   * @return the port of the sendfile data server, 0 if disabled
+   */
+  @ApiModelProperty(value = "Port of the worker's server for zero-copy block reads, "
+      + "disabled if 0")
+  public int getSendfileDataPort() {
+    return mSendfileDataPort;
+  }
+
   /**
    * @return the tiered identity
    */
@@ -163,6 +173,15 @@ public final class WorkerNetAddress implements Serializable {
     return this;
   }
 
+  /**
+   * @param sendfileDataPort the port of the sendfile data server, 0 if disabled
+   * @return the worker net address
+   */
+  public WorkerNetAddress setSendfileDataPort(int sendfileDataPort) {
+    mSendfileDataPort = sendfileDataPort;
+    return this;
+  }
+
   /**
    * @param tieredIdentity the tiered identity
    * @return the worker net address
@@ -187,13 +206,14 @@ public final class WorkerNetAddress implements Serializable {
         && mDataPort == that.mDataPort
         && mWebPort == that.mWebPort
         && mDomainSocketPath.equals(that.mDomainSocketPath)
+        && mSendfileDataPort == that.mSendfileDataPort
         && Objects.equal(mTieredIdentity, that.mTieredIdentity);
   }
 
   @Override
   public int hashCode() {
     return Objects.hashCode(mHost, mContainerHost, mDataPort, mRpcPort, mWebPort,
-        mDomainSocketPath, mTieredIdentity);
+        mDomainSocketPath, mSendfileDataPort, mTieredIdentity);
   }
 
   @Override
@@ -205,6 +225,7 @@ public final class WorkerNetAddress implements Serializable {
         .add("dataPort", mDataPort)
         .add("webPort", mWebPort)
         .add("domainSocketPath", mDomainSocketPath)
+        .add("sendfileDataPort", mSendfileDataPort)
         .add("tieredIdentity", mTieredIdentity)
         .toString();
   }
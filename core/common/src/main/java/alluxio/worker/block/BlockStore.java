@@ -12,6 +12,7 @@
 package alluxio.worker.block;
 
 import alluxio.grpc.Block;
+import alluxio.grpc.BlockChecksum;
 import alluxio.grpc.BlockStatus;
 import alluxio.grpc.UfsReadOptions;
 import alluxio.proto.dataserver.Protocol;
@@ -23,7 +24,9 @@ import alluxio.worker.block.meta.TempBlockMeta;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -173,6 +176,18 @@ public interface BlockStore extends Closeable, SessionCleanable {
    */
   Optional<BlockMeta> getVolatileBlockMeta(long blockId);
 
+  /**
+   * Gets the checksum of a block composed from the checksums stored with its data, without
+   * reading the block.
+   *
+   * @param blockId the block id
+   * @return the CRC64 checksum of the block, or empty if the block does not exist or the store
+   *         does not have the checksums of all its data
+   */
+  default Optional<BlockChecksum> getStoredChecksum(long blockId) {
+    return Optional.empty();
+  }
+
   /**
    * Moves an existing block to a new location.
    *
@@ -183,6 +198,27 @@ public interface BlockStore extends Closeable, SessionCleanable {
   void moveBlock(long sessionId, long blockId, AllocateOptions moveOptions)
       throws IOException;
 
+  /**
+   * Moves a batch of existing blocks to a new location.
+   *
+   * @param sessionId the id of the session to move the blocks
+   * @param blockIds the ids of existing blocks
+   * @param location the location to move the blocks to
+   * @return the errors of the blocks failed to be moved, by block id
+   */
+  default Map<Long, Exception> moveBlocks(long sessionId, List<Long> blockIds,
+      BlockStoreLocation location) {
+    Map<Long, Exception> errors = new HashMap<>();
+    for (long blockId : blockIds) {
+      try {
+        moveBlock(sessionId, blockId, AllocateOptions.forMove(location));
+      } catch (Exception e) {
+        errors.put(blockId, e);
+      }
+    }
+    return errors;
+  }
+
   /**
    * Pins the block indicating subsequent access.
    *
@@ -222,6 +258,25 @@ public interface BlockStore extends Closeable, SessionCleanable {
    */
   void removeBlock(long sessionId, long blockId) throws IOException;
 
+  /**
+   * Removes a batch of existing blocks.
+   *
+   * @param sessionId the id of the session to remove the blocks
+   * @param blockIds the ids of existing blocks
+   * @return the errors of the blocks failed to be removed, by block id
+   */
+  default Map<Long, Exception> removeBlocks(long sessionId, List<Long> blockIds) {
+    Map<Long, Exception> errors = new HashMap<>();
+    for (long blockId : blockIds) {
+      try {
+        removeBlock(sessionId, blockId);
+      } catch (Exception e) {
+        errors.put(blockId, e);
+      }
+    }
+    return errors;
+  }
+
   /**
    * Remove Storage directories that are no longer accessible.
    */
@@ -29,6 +29,7 @@ import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -160,6 +161,25 @@ public interface BlockWorker extends Worker, SessionCleanable {
    */
   void removeBlock(long sessionId, long blockId) throws IOException;
 
+  /**
+   * Frees a batch of blocks from Alluxio managed space.
+   *
+   * @param sessionId the id of the client
+   * @param blockIds the ids of the blocks to be freed
+   * @return the errors of the blocks failed to be freed, by block id
+   */
+  default Map<Long, Exception> removeBlocks(long sessionId, List<Long> blockIds) {
+    Map<Long, Exception> errors = new HashMap<>();
+    for (long blockId : blockIds) {
+      try {
+        removeBlock(sessionId, blockId);
+      } catch (Exception e) {
+        errors.put(blockId, e);
+      }
+    }
+    return errors;
+  }
+
   /**
    * Frees all blocks in the current worker by deleting all block store directories.
    * Whether this method returns successfully or exceptionally,
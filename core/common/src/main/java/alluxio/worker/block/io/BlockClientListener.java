@@ -33,4 +33,14 @@ public interface BlockClientListener {
    * @param location the block location
    */
   void clientClosed(BlockClient blockClient, BlockStoreLocation location);
+
+  /**
+   * Called when a read or write of an open block client completes.
+   *
+   * @param blockClient the block read/write client
+   * @param location the block location
+   * @param durationNanos the duration of the read or write in nanoseconds
+   */
+  default void clientIoCompleted(BlockClient blockClient, BlockStoreLocation location,
+      long durationNanos) {}
 }
@@ -11,11 +11,15 @@
 
 package alluxio.worker.block.io;
 
+import alluxio.network.protocol.databuffer.DataFileChannel;
+
 import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An abstract reader class to access the data of a block stored in managed storage.
@@ -73,6 +77,47 @@ public abstract class BlockReader extends BlockClient {
    */
   public abstract int transferTo(ByteBuf buf) throws IOException;
 
+  /**
+   * Gets a region of the block as a {@link DataFileChannel}, so that it can be sent to a socket
+   * without being copied into user space. Only available when the block is stored in a local file.
+   *
+   * @param offset the offset from starting of the block file in bytes
+   * @param length the length of the region in bytes, offset + length must not exceed the block
+   *               size
+   * @return the region of the block file, or empty if the block is not stored in a local file
+   */
+  public Optional<DataFileChannel> getDataFileChannel(long offset, long length) {
+    return Optional.empty();
+  }
+
+  /**
+   * @return true if {@link #readAsync(ByteBuf, long, int)} is supported by this reader
+   */
+  public boolean isAsyncReadSupported() {
+    return false;
+  }
+
+  /**
+   * Reads data from the block into the buffer asynchronously, without blocking the calling thread
+   * while waiting for the storage. The data is written at the writer index of the buffer, and the
+   * writer index is advanced by the number of bytes read once the returned future completes. The
+   * buffer must not be modified or released before then.
+   *
+   * Only one asynchronous read may be outstanding at a time, and the reader must not be closed
+   * while a read is outstanding.
+   *
+   * @param buf the buffer to read into, must be backed by a single NIO buffer and have at least
+   *            {@code length} writable bytes
+   * @param offset the offset from starting of the block file in bytes
+   * @param length the maximum number of bytes to read
+   * @return a future of the number of bytes read, -1 if {@code offset} is at the end of the block
+   * @throws UnsupportedOperationException if {@link #isAsyncReadSupported()} is false
+   */
+  public CompletableFuture<Integer> readAsync(ByteBuf buf, long offset, int length) {
+    throw new UnsupportedOperationException(
+        getClass().getName() + " does not support asynchronous reads");
+  }
+
   /**
    * @return true if this reader is closed
    */
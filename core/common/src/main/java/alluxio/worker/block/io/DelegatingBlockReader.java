@@ -11,6 +11,8 @@
 
 package alluxio.worker.block.io;
 
+import alluxio.network.protocol.databuffer.DataFileChannel;
+
 import com.google.common.io.Closer;
 import io.netty.buffer.ByteBuf;
 
@@ -18,6 +20,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An delegating reader class.
@@ -64,6 +68,21 @@ public class DelegatingBlockReader extends BlockReader {
     return mBlockReader.transferTo(buf);
   }
 
+  @Override
+  public Optional<DataFileChannel> getDataFileChannel(long offset, long length) {
+    return mBlockReader.getDataFileChannel(offset, length);
+  }
+
+  @Override
+  public boolean isAsyncReadSupported() {
+    return mBlockReader.isAsyncReadSupported();
+  }
+
+  @Override
+  public CompletableFuture<Integer> readAsync(ByteBuf buf, long offset, int length) {
+    return mBlockReader.readAsync(buf, offset, length);
+  }
+
   @Override
   public boolean isClosed() {
     return mBlockReader.isClosed();
@@ -13,17 +13,28 @@ package alluxio.worker.block.io;
 
 import alluxio.metrics.MetricKey;
 import alluxio.metrics.MetricsSystem;
+import alluxio.network.protocol.databuffer.DataFileChannel;
 
 import com.codahale.metrics.Counter;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Closer;
 import io.netty.buffer.ByteBuf;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -39,6 +50,12 @@ public class LocalFileBlockReader extends BlockReader {
   private final FileChannel mLocalFileChannel;
   private final Closer mCloser = Closer.create();
   private final long mFileSize;
+  /** The executor performing asynchronous reads, or null if they are not supported. */
+  @Nullable
+  private final ExecutorService mAsyncIoExecutor;
+  /** The channel for asynchronous reads, opened on the first asynchronous read. */
+  @Nullable
+  private AsynchronousFileChannel mAsyncFileChannel;
   private boolean mClosed;
   private int mUsageCount = 0;
 
@@ -48,7 +65,21 @@ public class LocalFileBlockReader extends BlockReader {
    * @param path file path of the block
    */
   public LocalFileBlockReader(String path) throws IOException {
+    this(path, null);
+  }
+
+  /**
+   * Constructs a Block reader given the file path of the block, which supports asynchronous
+   * reads if an executor is given.
+   *
+   * @param path file path of the block
+   * @param asyncIoExecutor the executor to perform asynchronous reads and run their completions,
+   *                        or null to only support blocking reads
+   */
+  public LocalFileBlockReader(String path, @Nullable ExecutorService asyncIoExecutor)
+      throws IOException {
     mFilePath = Preconditions.checkNotNull(path, "path");
+    mAsyncIoExecutor = asyncIoExecutor;
     mLocalFile = mCloser.register(new RandomAccessFile(mFilePath, "r"));
     mFileSize = mLocalFile.length();
     mLocalFileChannel = mCloser.register(mLocalFile.getChannel());
@@ -105,6 +136,79 @@ public class LocalFileBlockReader extends BlockReader {
     return buf.writeBytes(mLocalFileChannel, buf.writableBytes());
   }
 
+  @Override
+  public boolean isAsyncReadSupported() {
+    return mAsyncIoExecutor != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * Experimental. The read is performed with an {@link AsynchronousFileChannel} bound to the
+   * executor given at construction. The JDK has no kernel asynchronous file I/O on Linux, so the
+   * channel performs a blocking positional read on a thread of that executor, and also runs the
+   * completion there. This is not asynchronous disk I/O: it moves the blocking read to another
+   * thread, at the cost of a thread hop, and bounds the number of reads waiting for the disk at
+   * the same time by the size of the executor. See LocalFileBlockReaderAsyncReadBench in the
+   * microbenchmarks to compare it with blocking reads on given hardware.
+   */
+  @Override
+  public CompletableFuture<Integer> readAsync(ByteBuf buf, long offset, int length) {
+    Preconditions.checkState(isAsyncReadSupported(), "asynchronous reads are not enabled");
+    Preconditions.checkArgument(buf.nioBufferCount() == 1,
+        "buffer must be backed by a single NIO buffer");
+    CompletableFuture<Integer> future = new CompletableFuture<>();
+    if (offset >= mFileSize) {
+      future.complete(-1);
+      return future;
+    }
+    int bytesToRead = (int) Math.min(length, mFileSize - offset);
+    Preconditions.checkArgument(buf.writableBytes() >= bytesToRead,
+        "buffer has %s writable bytes, needs %s", buf.writableBytes(), bytesToRead);
+    AsynchronousFileChannel channel;
+    try {
+      channel = getAsyncFileChannel();
+    } catch (IOException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+    ByteBuffer dst = buf.nioBuffer(buf.writerIndex(), bytesToRead);
+    channel.read(dst, offset, null, new CompletionHandler<Integer, Void>() {
+      @Override
+      public void completed(Integer bytesRead, Void attachment) {
+        if (bytesRead != -1 && dst.hasRemaining()) {
+          // short read, read the rest of the region
+          channel.read(dst, offset + dst.position(), null, this);
+          return;
+        }
+        int totalBytesRead = dst.position();
+        buf.writerIndex(buf.writerIndex() + totalBytesRead);
+        future.complete(totalBytesRead == 0 ? -1 : totalBytesRead);
+      }
+
+      @Override
+      public void failed(Throwable exc, Void attachment) {
+        future.completeExceptionally(exc);
+      }
+    });
+    return future;
+  }
+
+  private AsynchronousFileChannel getAsyncFileChannel() throws IOException {
+    if (mAsyncFileChannel == null) {
+      mAsyncFileChannel = mCloser.register(AsynchronousFileChannel.open(Paths.get(mFilePath),
+          ImmutableSet.of(StandardOpenOption.READ), mAsyncIoExecutor));
+    }
+    return mAsyncFileChannel;
+  }
+
+  @Override
+  public Optional<DataFileChannel> getDataFileChannel(long offset, long length) {
+    Preconditions.checkArgument(offset + length <= mFileSize,
+        "offset=%s, length=%s, exceeding fileSize=%s", offset, length, mFileSize);
+    return Optional.of(new DataFileChannel(new File(mFilePath), offset, length));
+  }
+
   @Override
   public void close() throws IOException {
     super.close();
@@ -15,5 +15,5 @@ package alluxio.worker.block.management;
  * Used to specify from where to back-off.
  */
 public enum BackoffStrategy {
-  ANY, DIRECTORY
+  ANY, DIRECTORY, LATENCY
 }
@@ -13,6 +13,7 @@ package alluxio.worker.block.meta;
 
 import alluxio.worker.block.BlockStoreLocation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -129,6 +130,16 @@ public interface StorageDir {
    */
   void addTempBlockMeta(TempBlockMeta tempBlockMeta);
 
+  /**
+   * Replaces a temp block in this storage dir with its committed block, reusing the space of the
+   * temp block. Either the temp block or the committed block is visible to concurrent lookups
+   * during the replacement.
+   *
+   * @param tempBlockMeta the metadata of the temp block to remove
+   * @param blockMeta the metadata of the block to add
+   */
+  void commitTempBlockMeta(TempBlockMeta tempBlockMeta, BlockMeta blockMeta);
+
   /**
    * Removes a block from this storage dir.
    *
@@ -136,6 +147,17 @@ public interface StorageDir {
    */
   void removeBlockMeta(BlockMeta blockMeta);
 
+  /**
+   * Removes a batch of blocks from this storage dir.
+   *
+   * @param blockMetas the metadata of the blocks, which must all be in this dir
+   */
+  default void removeBlockMetas(Collection<BlockMeta> blockMetas) {
+    for (BlockMeta blockMeta : blockMetas) {
+      removeBlockMeta(blockMeta);
+    }
+  }
+
   /**
    * Removes a temp block from this storage dir.
    *
@@ -43,6 +43,7 @@ public class WorkerNetAddressTest {
     Assert.assertEquals(a.getRpcPort(), b.getRpcPort());
     Assert.assertEquals(a.getDataPort(), b.getDataPort());
     Assert.assertEquals(a.getWebPort(), b.getWebPort());
+    Assert.assertEquals(a.getSendfileDataPort(), b.getSendfileDataPort());
     Assert.assertEquals(a.getTieredIdentity(), b.getTieredIdentity());
     Assert.assertEquals(a, b);
   }
@@ -55,12 +56,14 @@ public class WorkerNetAddressTest {
     int rpcPort = random.nextInt();
     int dataPort = random.nextInt();
     int webPort = random.nextInt();
+    int sendfileDataPort = random.nextInt();
     TieredIdentity identity = TieredIdentityTest.createRandomTieredIdentity();
 
     result.setHost(host);
     result.setRpcPort(rpcPort);
     result.setDataPort(dataPort);
     result.setWebPort(webPort);
+    result.setSendfileDataPort(sendfileDataPort);
     result.setTieredIdentity(identity);
 
     return result;
@@ -11,12 +11,16 @@
 
 package alluxio.worker.block.io;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import alluxio.exception.status.FailedPreconditionException;
 import alluxio.util.io.BufferUtils;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -26,12 +30,15 @@ import org.junit.rules.TemporaryFolder;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Tests for the {@link LocalFileBlockReader} class.
  */
 public class LocalFileBlockReaderTest {
   private static final long TEST_BLOCK_SIZE = 1024;
+  private String mTestFilePath;
   private LocalFileBlockReader mReader;
 
   /** Rule to create a new temporary folder during each test. */
@@ -43,10 +50,10 @@ public class LocalFileBlockReaderTest {
    */
   @Before
   public void before() throws Exception {
-    String testFilePath = mFolder.newFile().getAbsolutePath();
+    mTestFilePath = mFolder.newFile().getAbsolutePath();
     byte[] buffer = BufferUtils.getIncreasingByteArray((int) TEST_BLOCK_SIZE);
-    BufferUtils.writeBufferToFile(testFilePath, buffer);
-    mReader = new LocalFileBlockReader(testFilePath);
+    BufferUtils.writeBufferToFile(mTestFilePath, buffer);
+    mReader = new LocalFileBlockReader(mTestFilePath);
   }
 
   /**
@@ -102,6 +109,32 @@ public class LocalFileBlockReaderTest {
     assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
   }
 
+  /**
+   * Test for the {@link LocalFileBlockReader#readAsync(ByteBuf, long, int)} method.
+   */
+  @Test
+  public void readAsync() throws Exception {
+    assertFalse(mReader.isAsyncReadSupported());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (LocalFileBlockReader reader = new LocalFileBlockReader(mTestFilePath, executor)) {
+      assertTrue(reader.isAsyncReadSupported());
+      ByteBuf buf = Unpooled.directBuffer((int) TEST_BLOCK_SIZE);
+      try {
+        // the read is cut short at the end of the block
+        assertEquals(TEST_BLOCK_SIZE / 2,
+            (int) reader.readAsync(buf, TEST_BLOCK_SIZE / 2, (int) TEST_BLOCK_SIZE).get());
+        assertEquals(TEST_BLOCK_SIZE / 2, buf.readableBytes());
+        assertTrue(BufferUtils.equalIncreasingByteBuffer((int) TEST_BLOCK_SIZE / 2,
+            (int) TEST_BLOCK_SIZE / 2, buf.nioBuffer()));
+        assertEquals(-1, (int) reader.readAsync(buf, TEST_BLOCK_SIZE, 1).get());
+      } finally {
+        buf.release();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   /**
    * Tests that a {@link FailedPreconditionException} is thrown when trying to read from a reader
    * after closing it.
@@ -47,7 +47,11 @@ public enum CheckpointType {
   /**
    * A RocksDB backup in .zip format with multi threads.
    */
-  ROCKS_PARALLEL(6, new ZipCheckpointFormat());
+  ROCKS_PARALLEL(6, new ZipCheckpointFormat()),
+  /**
+   * A RocksDB backup streamed file by file, in chunks compressed with multi threads.
+   */
+  ROCKS_STREAMED(7, new StreamedCheckpointFormat());
 
   private final long mId;
   private final CheckpointFormat mCheckpointFormat;
@@ -30,7 +30,8 @@ public class DirectoryMarshallerTest {
   public static Collection<DirectoryMarshaller> data() {
     return Arrays.asList(new NoCompressionMarshaller(),
         new GzipMarshaller(),
-        new TarGzMarshaller());
+        new TarGzMarshaller(),
+        new ParallelDeflateMarshaller(2, 1));
   }
 
   @Parameterized.Parameter
@@ -0,0 +1,75 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Tests for {@link ParallelDeflateMarshaller}.
+ */
+public final class ParallelDeflateMarshallerTest {
+  private static final int SIZE = 2 * ParallelDeflateMarshaller.CHUNK_SIZE + 100;
+
+  private final ParallelDeflateMarshaller mMarshaller = new ParallelDeflateMarshaller(4, 1);
+
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  @Test
+  public void multipleChunks() throws Exception {
+    Path dir = mFolder.newFolder("dir").toPath();
+    Files.write(dir.resolve("file"), randomBytes(SIZE, 0));
+    Files.write(dir.resolve("empty"), new byte[0]);
+
+    Path reconstructed = mFolder.getRoot().toPath().resolve("reconstructed");
+    assertEquals(SIZE, mMarshaller.read(reconstructed, marshal(dir)));
+    FileUtil.assertDirectoriesEqual(dir, reconstructed);
+    assertArrayEquals(randomBytes(SIZE, 0), Files.readAllBytes(reconstructed.resolve("file")));
+  }
+
+  @Test
+  public void readsUpToTheEndOfTheDirectory() throws Exception {
+    Path dir = mFolder.newFolder("dir").toPath();
+    Files.write(dir.resolve("file"), randomBytes(100, 0));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mMarshaller.write(dir, out);
+    out.write(42);
+
+    InputStream in = new ByteArrayInputStream(out.toByteArray());
+    mMarshaller.read(mFolder.getRoot().toPath().resolve("reconstructed"), in);
+    assertEquals(42, in.read());
+  }
+
+  private InputStream marshal(Path dir) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mMarshaller.write(dir, out);
+    return new ByteArrayInputStream(out.toByteArray());
+  }
+
+  private static byte[] randomBytes(int size, long seed) {
+    byte[] bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -20,6 +20,7 @@ import alluxio.master.metastore.MetastoreType;
 import alluxio.master.metastore.caching.CachingInodeStore;
 import alluxio.master.metastore.heap.HeapBlockMetaStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksBlockMetaStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.util.CommonUtils;
@@ -67,6 +68,7 @@ public final class MasterUtils {
         Configuration.getEnum(PropertyKey.MASTER_METASTORE, MetastoreType.class);
     switch (type) {
       case HEAP:
+      case OFF_HEAP:
         return HeapBlockMetaStore::new;
       case ROCKS:
         return () -> new RocksBlockMetaStore(baseDir);
@@ -86,6 +88,8 @@ public final class MasterUtils {
     switch (type) {
       case HEAP:
         return lockManager -> new HeapInodeStore();
+      case OFF_HEAP:
+        return lockManager -> new OffHeapInodeStore();
       case ROCKS:
         if (Configuration.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_MAX_SIZE) == 0) {
           return lockManager -> new RocksInodeStore(baseDir);
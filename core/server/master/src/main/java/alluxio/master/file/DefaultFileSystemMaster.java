@@ -969,6 +969,29 @@ public class DefaultFileSystemMaster extends CoreMaster
               FileSystemMasterCommonPOptions.newBuilder()
                   .setTtl(context.getOptions().getCommonOptions().getTtl())
                   .setTtlAction(context.getOptions().getCommonOptions().getTtlAction())));
+      Mode.Bits accessMode = Mode.Bits.fromProto(context.getOptions().getAccessMode());
+      boolean updateAccessTime = context.getOptions().getUpdateTimestamps()
+          && context.getOptions().hasAccessMode()
+          && (accessMode.imply(Mode.Bits.READ) || accessMode.imply(Mode.Bits.WRITE));
+      if (!ufsAccessed && !updateAccessTime) {
+        // Try reading without inode locks first. Missing paths, denied permissions and reads
+        // overlapping with changes to the inode tree are left to the locked read below.
+        Optional<Pair<Inode, FileInfo>> optimisticRead =
+            mInodeTree.readOptimistically(path, inodePath -> {
+              mPermissionChecker.checkParentPermission(Mode.Bits.EXECUTE, inodePath);
+              if (shouldLoadMetadataIfNotExists(inodePath, lmCtx)) {
+                return null;
+              }
+              return new Pair<>(inodePath.getInode(), getFileInfoInternal(inodePath));
+            });
+        if (optimisticRead.isPresent()) {
+          Metrics.getUfsOpsSavedCounter(mMountTable.resolve(path).getUfsMountPointUri(),
+              Metrics.UFSOps.GET_FILE_INFO).inc();
+          Metrics.FILE_INFOS_GOT.inc();
+          auditContext.setSrcInode(optimisticRead.get().getFirst()).setSucceeded(true);
+          return optimisticRead.get().getSecond();
+        }
+      }
       /**
        * See the comments in {@link #getFileIdInternal(AlluxioURI, boolean)} for an explanation
        * on why the loop here is required.
@@ -1014,9 +1037,7 @@ public class DefaultFileSystemMaster extends CoreMaster
             Metrics.getUfsOpsSavedCounter(resolution.getUfsMountPointUri(),
                 Metrics.UFSOps.GET_FILE_INFO).dec();
           }
-          Mode.Bits accessMode = Mode.Bits.fromProto(context.getOptions().getAccessMode());
-          if (context.getOptions().getUpdateTimestamps() && context.getOptions().hasAccessMode()
-              && (accessMode.imply(Mode.Bits.READ) || accessMode.imply(Mode.Bits.WRITE))) {
+          if (updateAccessTime) {
             updateAccessTime(rpcContext, inodePath.getInode(), opTimeMs);
           }
           auditContext.setSrcInode(inodePath.getInode()).setSucceeded(true);
@@ -1095,6 +1116,9 @@ public class DefaultFileSystemMaster extends CoreMaster
     if (fileInfo.isCompleted()
           && fileInfo.getBlockIds().size() > fileInfo.getFileBlockInfos().size()
           && inode.isPersisted()) {
+      // Rehydrating commits blocks, which needs the inode locks.
+      Preconditions.checkState(!inodePath.isOptimistic(),
+          "Cannot rehydrate the block infos of %s without inode locks", inodePath.getUri());
       List<Long> missingBlockIds = fileInfo.getBlockIds().stream()
           .filter((bId) -> fileInfo.getFileBlockInfo(bId) != null).collect(Collectors.toList());
 
@@ -1124,15 +1148,20 @@ public class DefaultFileSystemMaster extends CoreMaster
       AlluxioURI resolvedUri = resolution.getUri();
       fileInfo.setUfsPath(resolvedUri.toString());
       fileInfo.setMountId(resolution.getMountId());
-      if (counter == null) {
-        Metrics.getUfsOpsSavedCounter(resolution.getUfsMountPointUri(),
-            Metrics.UFSOps.GET_FILE_INFO).inc();
-      } else {
-        counter.inc();
+      // an optimistic read may be discarded, its caller counts it once it is validated
+      if (!inodePath.isOptimistic()) {
+        if (counter == null) {
+          Metrics.getUfsOpsSavedCounter(resolution.getUfsMountPointUri(),
+              Metrics.UFSOps.GET_FILE_INFO).inc();
+        } else {
+          counter.inc();
+        }
       }
     }
 
-    Metrics.FILE_INFOS_GOT.inc();
+    if (!inodePath.isOptimistic()) {
+      Metrics.FILE_INFOS_GOT.inc();
+    }
     return fileInfo;
   }
 
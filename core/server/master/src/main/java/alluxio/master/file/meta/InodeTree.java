@@ -38,6 +38,8 @@ import alluxio.master.journal.NoopJournalContext;
 import alluxio.master.metastore.DelegatingReadOnlyInodeStore;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOnlyInodeStore;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.File.DeleteFileEntry;
 import alluxio.proto.journal.File.NewBlockEntry;
 import alluxio.proto.journal.File.RenameEntry;
@@ -207,6 +209,9 @@ public class InodeTree implements DelegatingJournaled {
   private final ContainerIdGenerable mContainerIdGenerator;
   private final InodeDirectoryIdGenerator mDirectoryIdGenerator;
 
+  /** Whether paths can be read without inode locks, see {@link #readOptimistically}. */
+  private final boolean mOptimisticReadsEnabled;
+
   /**
    * @param inodeStore the inode store
    * @param containerIdGenerator the container id generator to use to get new container ids
@@ -224,6 +229,9 @@ public class InodeTree implements DelegatingJournaled {
     mContainerIdGenerator = containerIdGenerator;
     mDirectoryIdGenerator = directoryIdGenerator;
     mMountTable = mountTable;
+    mOptimisticReadsEnabled =
+        Configuration.getBoolean(PropertyKey.MASTER_FILE_SYSTEM_OPTIMISTIC_READ_ENABLED)
+        && inodeStore.supportsOptimisticReads();
   }
 
   /**
@@ -464,6 +472,61 @@ public class InodeTree implements DelegatingJournaled {
     return inodePath;
   }
 
+  /**
+   * Reads a path without taking inode locks. The path is traversed in the
+   * {@link LockPattern#READ} pattern, but no lock is taken, and the result of the read is only
+   * returned if no change was made to the inode tree while the path was read. This avoids the
+   * contention of readers on the locks at the top of the tree, at the cost of retrying the read
+   * with locks when it overlaps with a change.
+   *
+   * The read must not modify any state, and must throw rather than block or loop on unexpected
+   * state, since it may see inodes in the middle of a change. Any exception thrown by the read is
+   * treated like a conflicting change.
+   *
+   * @param uri the path to read
+   * @param read the read to run on the unlocked path, returning a non-null result
+   * @param <T> the type of the result
+   * @return the result of the read, or empty if the read must be retried with locks
+   */
+  public <T> Optional<T> readOptimistically(AlluxioURI uri, OptimisticRead<T> read) {
+    if (!mOptimisticReadsEnabled) {
+      return Optional.empty();
+    }
+    InodeTreeVersion version = mState.getVersion();
+    long startVersion = version.startRead();
+    if (startVersion != InodeTreeVersion.CHANGE_IN_PROGRESS) {
+      T result = null;
+      try (LockedInodePath inodePath = new LockedInodePath(uri, mInodeStore,
+          new OptimisticInodeLockList(mInodeLockManager), getRoot(), LockPattern.READ, false,
+          NoopJournalContext.INSTANCE)) {
+        inodePath.traverse();
+        result = read.apply(inodePath);
+      } catch (Exception e) {
+        LOG.debug("Optimistic read of {} failed, retrying with locks", uri, e);
+      }
+      if (result != null && version.validate(startVersion)) {
+        MetricsSystem.counter(MetricKey.MASTER_OPTIMISTIC_READS.getName()).inc();
+        return Optional.of(result);
+      }
+    }
+    MetricsSystem.counter(MetricKey.MASTER_OPTIMISTIC_READ_FALLBACKS.getName()).inc();
+    return Optional.empty();
+  }
+
+  /**
+   * A read of an inode path which does not hold inode locks, see {@link #readOptimistically}.
+   *
+   * @param <T> the type of the result
+   */
+  @FunctionalInterface
+  public interface OptimisticRead<T> {
+    /**
+     * @param inodePath the traversed path, which holds no locks
+     * @return the result of the read
+     */
+    T apply(LockedInodePath inodePath) throws Exception;
+  }
+
   /**
    * @param uri the {@link AlluxioURI} to check for existence
    * @return whether the inode exists
@@ -123,6 +123,9 @@ public class InodeTreePersistentState implements Journaled {
 
   private final BucketCounter mBucketCounter;
 
+  /** Moved forward by every change to the inode tree, to validate reads made without locks. */
+  private final InodeTreeVersion mVersion = new InodeTreeVersion();
+
   /**
    * @param inodeStore file store which holds inode metadata
    * @param lockManager manager for inode locks
@@ -171,6 +174,13 @@ public class InodeTreePersistentState implements Journaled {
     return Collections.unmodifiableSet(mReplicationLimitedFileIds);
   }
 
+  /**
+   * @return the version of the inode tree, moved forward by every change made through this class
+   */
+  InodeTreeVersion getVersion() {
+    return mVersion;
+  }
+
   /**
    * @return the root of the inode tree
    */
@@ -240,6 +250,7 @@ public class InodeTreePersistentState implements Journaled {
     // name. The opposite order is safe. We will never append the delete entry for a file before its
     // creation entry because delete requires a write lock on the deleted file, but the create
     // operation holds that lock until after it has appended to the journal.
+    mVersion.startChange();
     try {
       JournalEntry.Builder builder = JournalEntry.newBuilder().setDeleteFile(entry);
       OperationId opId = getOpId(context);
@@ -253,6 +264,8 @@ public class InodeTreePersistentState implements Journaled {
       // where we've journaled the delete, but failed to make the in-memory update. We don't yet
       // have a way to recover from this, so we give a fatal error.
       ProcessUtils.fatalError(LOG, t, "Failed to apply entry %s", entry);
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -264,6 +277,7 @@ public class InodeTreePersistentState implements Journaled {
    * @return the new block id
    */
   public long applyAndJournal(Supplier<JournalContext> context, NewBlockEntry entry) {
+    mVersion.startChange();
     try {
       long id = applyNewBlock(entry);
       context.get().append(JournalEntry.newBuilder().setNewBlock(entry).build());
@@ -271,6 +285,8 @@ public class InodeTreePersistentState implements Journaled {
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", entry);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -281,6 +297,7 @@ public class InodeTreePersistentState implements Journaled {
    * @param entry rename entry
    */
   public void applyAndJournal(Supplier<JournalContext> context, RenameEntry entry) {
+    mVersion.startChange();
     try {
       applyRename(entry);
       JournalEntry.Builder builder = JournalEntry.newBuilder().setRename(entry);
@@ -292,6 +309,8 @@ public class InodeTreePersistentState implements Journaled {
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", entry);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -302,12 +321,15 @@ public class InodeTreePersistentState implements Journaled {
    * @param entry set acl entry
    */
   public void applyAndJournal(Supplier<JournalContext> context, SetAclEntry entry) {
+    mVersion.startChange();
     try {
       applySetAcl(entry);
       context.get().append(JournalEntry.newBuilder().setSetAcl(entry).build());
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", entry);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -318,6 +340,7 @@ public class InodeTreePersistentState implements Journaled {
    * @param entry update inode entry
    */
   public void applyAndJournal(Supplier<JournalContext> context, UpdateInodeEntry entry) {
+    mVersion.startChange();
     try {
       applyUpdateInode(entry);
       JournalEntry.Builder builder = JournalEntry.newBuilder().setUpdateInode(entry);
@@ -329,6 +352,8 @@ public class InodeTreePersistentState implements Journaled {
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", entry);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -339,12 +364,15 @@ public class InodeTreePersistentState implements Journaled {
    * @param entry update inode directory entry
    */
   public void applyAndJournal(Supplier<JournalContext> context, UpdateInodeDirectoryEntry entry) {
+    mVersion.startChange();
     try {
       applyUpdateInodeDirectory(entry);
       context.get().append(JournalEntry.newBuilder().setUpdateInodeDirectory(entry).build());
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", entry);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -355,12 +383,15 @@ public class InodeTreePersistentState implements Journaled {
    * @param entry update inode file entry
    */
   public void applyAndJournal(Supplier<JournalContext> context, UpdateInodeFileEntry entry) {
+    mVersion.startChange();
     try {
       applyUpdateInodeFile(entry);
       context.get().append(JournalEntry.newBuilder().setUpdateInodeFile(entry).build());
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", entry);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -373,6 +404,7 @@ public class InodeTreePersistentState implements Journaled {
    */
   public void applyAndJournal(Supplier<JournalContext> context, MutableInode<?> inode,
       String path) {
+    mVersion.startChange();
     try {
       applyCreateInode(inode);
       JournalEntry.Builder builder =
@@ -385,6 +417,8 @@ public class InodeTreePersistentState implements Journaled {
     } catch (Throwable t) {
       ProcessUtils.fatalError(LOG, t, "Failed to apply %s", inode);
       throw t; // fatalError will usually system.exit
+    } finally {
+      mVersion.finishChange();
     }
   }
 
@@ -399,7 +433,12 @@ public class InodeTreePersistentState implements Journaled {
   public UpdateInodeEntry applyInodeAccessTime(long inodeId, long accessTime) {
     UpdateInodeEntry entry = UpdateInodeEntry.newBuilder().setId(inodeId)
         .setLastAccessTimeMs(accessTime).build();
-    applyUpdateInode(entry);
+    mVersion.startChange();
+    try {
+      applyUpdateInode(entry);
+    } finally {
+      mVersion.finishChange();
+    }
     return entry;
   }
 
@@ -779,7 +818,22 @@ public class InodeTreePersistentState implements Journaled {
 
   @Override
   public boolean processJournalEntry(JournalEntry entry) {
-    // Apply entry.
+    mVersion.startChange();
+    try {
+      if (!applyJournalEntry(entry)) {
+        return false;
+      }
+    } finally {
+      mVersion.finishChange();
+    }
+    // Account for entry in retry-cache before returning.
+    if (entry.hasOperationId()) {
+      cacheOperation(OperationId.fromJournalProto(entry.getOperationId()));
+    }
+    return true;
+  }
+
+  private boolean applyJournalEntry(JournalEntry entry) {
     if (entry.hasDeleteFile()) {
       applyDelete(entry.getDeleteFile());
     } else if (entry.hasInodeDirectory()) {
@@ -812,20 +866,20 @@ public class InodeTreePersistentState implements Journaled {
     } else {
       return false;
     }
-
-    // Account for entry in retry-cache before returning.
-    if (entry.hasOperationId()) {
-      cacheOperation(OperationId.fromJournalProto(entry.getOperationId()));
-    }
     return true;
   }
 
   @Override
   public void resetState() {
-    mInodeStore.clear();
-    mReplicationLimitedFileIds.clear();
-    mPinnedInodeFileIds.clear();
-    mOpIdCache.invalidateAll();
+    mVersion.startChange();
+    try {
+      mInodeStore.clear();
+      mReplicationLimitedFileIds.clear();
+      mPinnedInodeFileIds.clear();
+      mOpIdCache.invalidateAll();
+    } finally {
+      mVersion.finishChange();
+    }
   }
 
   @Override
@@ -848,18 +902,30 @@ public class InodeTreePersistentState implements Journaled {
   @Override
   public CompletableFuture<Void> restoreFromCheckpoint(File directory,
                                                        ExecutorService executorService) {
-    return CompletableFuture.allOf(Stream.of(mInodeStore, mPinnedInodeFileIds,
-        mReplicationLimitedFileIds, mToBePersistedIds, mTtlBuckets, mInodeCounter)
-        .map(journaled -> journaled.restoreFromCheckpoint(directory, executorService))
-        .toArray(CompletableFuture[]::new));
+    mVersion.startChange();
+    try {
+      return CompletableFuture.allOf(Stream.of(mInodeStore, mPinnedInodeFileIds,
+          mReplicationLimitedFileIds, mToBePersistedIds, mTtlBuckets, mInodeCounter)
+          .map(journaled -> journaled.restoreFromCheckpoint(directory, executorService))
+          .toArray(CompletableFuture[]::new))
+          .whenComplete((r, t) -> mVersion.finishChange());
+    } catch (Throwable t) {
+      mVersion.finishChange();
+      throw t;
+    }
   }
 
   @Override
   public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
     // mTtlBuckets must come after mInodeStore so that it can query the inode store to resolve inode
     // ids to inodes.
-    JournalUtils.restoreFromCheckpoint(input, Arrays.asList(mInodeStore, mPinnedInodeFileIds,
-        mReplicationLimitedFileIds, mToBePersistedIds, mTtlBuckets, mInodeCounter));
+    mVersion.startChange();
+    try {
+      JournalUtils.restoreFromCheckpoint(input, Arrays.asList(mInodeStore, mPinnedInodeFileIds,
+          mReplicationLimitedFileIds, mToBePersistedIds, mTtlBuckets, mInodeCounter));
+    } finally {
+      mVersion.finishChange();
+    }
   }
 
   @Override
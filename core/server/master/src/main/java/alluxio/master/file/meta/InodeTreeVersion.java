@@ -0,0 +1,81 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A version of the inode tree, moved forward by every change to the tree, which lets readers
+ * read the tree without locks and detect afterwards whether a change may have overlapped their
+ * read.
+ *
+ * A change increments the started count before modifying the tree and the finished count after.
+ * A read may start when both counts are equal, and is valid if the started count has not moved
+ * by the end of the read. The started count is striped over padded slots, each reader validating
+ * against the slot of its thread, so that concurrent readers do not contend on a single cache
+ * line. A change increments all the slots.
+ */
+@ThreadSafe
+final class InodeTreeVersion {
+  /** The version returned to a reader while a change is in progress. */
+  static final long CHANGE_IN_PROGRESS = -1;
+
+  private static final int STRIPES = 16;
+  /** The distance between two slots, in longs, to keep each slot on its own cache line. */
+  private static final int PADDING = 16;
+
+  private final AtomicLongArray mStarted = new AtomicLongArray(STRIPES * PADDING);
+  private final AtomicLong mFinished = new AtomicLong();
+
+  /**
+   * Marks the start of a change to the inode tree. Must be followed by {@link #finishChange()}.
+   */
+  void startChange() {
+    for (int i = 0; i < STRIPES; i++) {
+      mStarted.getAndIncrement(i * PADDING);
+    }
+  }
+
+  /**
+   * Marks the end of a change to the inode tree.
+   */
+  void finishChange() {
+    mFinished.getAndIncrement();
+  }
+
+  /**
+   * @return the version to validate the read against, or {@link #CHANGE_IN_PROGRESS} if a change
+   *         is in progress
+   */
+  long startRead() {
+    long finished = mFinished.get();
+    long started = mStarted.get(slot());
+    return started == finished ? started : CHANGE_IN_PROGRESS;
+  }
+
+  /**
+   * Checks that no change started since the read started. This is a compare-and-set rather than
+   * a plain read so that the reads of the tree made before it cannot be reordered after it.
+   *
+   * @param version the version returned by {@link #startRead()}
+   * @return whether the read is valid
+   */
+  boolean validate(long version) {
+    return version != CHANGE_IN_PROGRESS && mStarted.compareAndSet(slot(), version, version);
+  }
+
+  private static int slot() {
+    return (int) (Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+  }
+}
@@ -149,13 +149,31 @@ public class LockedInodePath implements Closeable {
       InodeLockManager inodeLockManager, InodeDirectory root, LockPattern lockPattern,
       boolean tryLock, JournalContext journalContext)
       throws InvalidPathException {
+    this(uri, inodeStore, new SimpleInodeLockList(inodeLockManager, tryLock), root, lockPattern,
+        tryLock, journalContext);
+  }
+
+  /**
+   * Creates a new inode path over the given lock list.
+   *
+   * @param uri the uri for the path
+   * @param inodeStore the inode store for looking up inode children
+   * @param lockList the empty lock list to lock the path with
+   * @param root the root inode
+   * @param lockPattern the pattern to lock in
+   * @param tryLock whether or not use {@link Lock#tryLock()} or {@link Lock#lock()}
+   * @param journalContext the journal context to flush when the lock is released
+   */
+  LockedInodePath(AlluxioURI uri, ReadOnlyInodeStore inodeStore, InodeLockList lockList,
+      InodeDirectory root, LockPattern lockPattern, boolean tryLock,
+      JournalContext journalContext) throws InvalidPathException {
     mUri = uri;
     mPathComponents = PathUtils.getPathComponents(uri.getPath());
     mInodeStore = inodeStore;
     mLockPattern = lockPattern;
     mRoot = root;
     mUseTryLock = tryLock;
-    mLockList = new SimpleInodeLockList(inodeLockManager, mUseTryLock);
+    mLockList = lockList;
     mTracker = DETECTOR.track(this);
     mJournalContext = journalContext;
     mMergeInodeJournals = Configuration.getBoolean(
@@ -191,6 +209,13 @@ public class LockedInodePath implements Closeable {
     ) && mJournalContext instanceof FileSystemMergeJournalContext;
   }
 
+  /**
+   * @return whether the path is read without locks, see {@link InodeTree#readOptimistically}
+   */
+  public boolean isOptimistic() {
+    return mLockList instanceof OptimisticInodeLockList;
+  }
+
   /**
    * @return the full uri of the path
    */
@@ -0,0 +1,160 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.concurrent.LockMode;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An inode lock list which tracks the inodes and edges of a path without locking them, for reads
+ * validated against the {@link InodeTreeVersion} once done. Only read locks can be taken.
+ */
+@NotThreadSafe
+public class OptimisticInodeLockList implements InodeLockList {
+  private final InodeLockManager mInodeLockManager;
+  private final List<Inode> mInodes = new ArrayList<>();
+  /** The number of entries, alternating between edges and inodes. */
+  private int mSize;
+  /** Whether the last entry is an edge. */
+  private boolean mEndsInEdge;
+
+  /**
+   * @param inodeLockManager manager for inode locks
+   */
+  public OptimisticInodeLockList(InodeLockManager inodeLockManager) {
+    mInodeLockManager = inodeLockManager;
+  }
+
+  @Override
+  public void lockRootEdge(LockMode mode) {
+    Preconditions.checkState(isEmpty(),
+        "Cannot lock root edge when lock list %s is nonempty", this);
+    addEdge(mode);
+  }
+
+  @Override
+  public void lockInode(Inode inode, LockMode mode) {
+    checkReadMode(mode);
+    Preconditions.checkState(isEmpty() || mEndsInEdge,
+        "Cannot lock inode %s for lock list %s because the lock list already ends in an inode",
+        inode.getId(), this);
+    mInodes.add(inode);
+    mSize++;
+    mEndsInEdge = false;
+  }
+
+  @Override
+  public void lockEdge(Inode inode, String childName, LockMode mode) {
+    Preconditions.checkState(isEmpty() || !mEndsInEdge,
+        "Cannot lock edge %s when lock list %s already ends in an edge", childName, this);
+    addEdge(mode);
+  }
+
+  @Override
+  public void unlockLastInode() {
+    Preconditions.checkState(!isEmpty() && !mEndsInEdge,
+        "Cannot unlock last inode when the lock list %s does not end in an inode", this);
+    mInodes.remove(mInodes.size() - 1);
+    mSize--;
+    mEndsInEdge = mSize > 0;
+  }
+
+  @Override
+  public void unlockLastEdge() {
+    Preconditions.checkState(mEndsInEdge,
+        "Cannot unlock last edge when the lock list %s does not end in an edge", this);
+    mSize--;
+    mEndsInEdge = false;
+  }
+
+  @Override
+  public void downgradeToReadLocks() {
+    // only read locks are taken
+  }
+
+  @Override
+  public void downgradeLastEdge() {
+    throw new UnsupportedOperationException("Optimistic lock lists hold no write locks");
+  }
+
+  @Override
+  public void pushWriteLockedEdge(Inode inode, String childName) {
+    throw new UnsupportedOperationException("Optimistic lock lists hold no write locks");
+  }
+
+  @Override
+  public LockMode getLockMode() {
+    return LockMode.READ;
+  }
+
+  @Override
+  public List<Inode> getLockedInodes() {
+    return new ArrayList<>(mInodes);
+  }
+
+  @Override
+  public Inode get(int index) {
+    return mInodes.get(index);
+  }
+
+  @Override
+  public int numInodes() {
+    return mInodes.size();
+  }
+
+  @Override
+  public boolean endsInInode() {
+    return !mEndsInEdge;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  @Override
+  public InodeLockManager getInodeLockManager() {
+    return mInodeLockManager;
+  }
+
+  @Override
+  public void close() {
+    mInodes.clear();
+    mSize = 0;
+    mEndsInEdge = false;
+  }
+
+  @Override
+  public String toString() {
+    return "Path: " + mInodes.stream().map(Inode::getName).collect(Collectors.joining("/"))
+        + (mEndsInEdge ? ", ends in an edge" : "");
+  }
+
+  private void addEdge(LockMode mode) {
+    checkReadMode(mode);
+    mSize++;
+    mEndsInEdge = true;
+  }
+
+  private static void checkReadMode(LockMode mode) {
+    if (mode != LockMode.READ) {
+      throw new UnsupportedOperationException(
+          "Optimistic lock lists cannot take " + mode + " locks");
+    }
+  }
+}
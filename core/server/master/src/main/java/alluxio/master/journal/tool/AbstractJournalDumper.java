@@ -86,6 +86,7 @@ public abstract class AbstractJournalDumper {
         readCompoundCheckpoint(checkpoint, path);
         break;
       case ROCKS_SINGLE:
+      case ROCKS_STREAMED:
         readRocksCheckpoint(checkpoint, path);
         break;
       default:
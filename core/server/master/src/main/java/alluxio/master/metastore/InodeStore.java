@@ -143,6 +143,17 @@ public interface InodeStore extends ReadOnlyInodeStore, Checkpointed, Closeable
     return false;
   }
 
+  /**
+   * Whether inodes and edges can be read without holding their inode locks while other threads
+   * modify the store, see {@link alluxio.master.file.meta.InodeTree#readOptimistically}. Such
+   * reads may see a mix of old and new state, but must not fail or corrupt the store.
+   *
+   * @return whether the inode store supports reads without inode locks
+   */
+  default boolean supportsOptimisticReads() {
+    return false;
+  }
+
   /**
    * Removes all inodes and edges.
    */
@@ -39,12 +39,13 @@ import javax.annotation.concurrent.ThreadSafe;
 /**
  * Base class for write-back caches which asynchronously evict entries to backing stores.
  *
- * The cache uses water mark based eviction. A dedicated thread waits for the cache to reach its
- * high water mark, then evicts entries until the cache size reaches the low water mark. All backing
- * store write operations are performed asynchronously in the eviction thread, unless the cache hits
+ * The cache uses water mark based eviction. The cache is partitioned into shards by key, each with
+ * its share of the cache capacity and a dedicated thread which waits for the shard to reach its
+ * high water mark, then evicts entries until the shard size reaches the low water mark. All backing
+ * store write operations are performed asynchronously in the eviction threads, unless a shard hits
  * maximum capacity. At maximum capacity, methods interact synchronously with the backing store. For
  * best performance, maximum capacity should never be reached. This requires that the eviction
- * thread can keep up cache writes.
+ * threads can keep up cache writes, which is why each shard evicts with its own thread.
  *
  * Cache hit reads are served without any locking. Writes and cache miss reads take locks on their
  * cache key.
@@ -58,20 +59,14 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public abstract class Cache<K, V> implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Cache.class);
+  /** The minimum capacity of a shard, below which the cache uses fewer shards. */
+  @VisibleForTesting
+  static final int MIN_SHARD_SIZE = 1000;
 
-  private final int mMaxSize;
-  private final int mHighWaterMark;
-  private final int mLowWaterMark;
   private final int mEvictBatchSize;
   private final String mName;
   @VisibleForTesting
-  final ConcurrentHashMap<K, Entry> mMap;
-  // TODO(andrew): Support using multiple threads to speed up backing store writes.
-  // Thread for performing eviction to the backing store.
-  @VisibleForTesting
-  final EvictionThread mEvictionThread;
-
-  private final StatsCounter mStatsCounter;
+  final List<Shard> mShards;
 
   /**
    * @param conf cache configuration
@@ -81,21 +76,37 @@ public abstract class Cache<K, V> implements Closeable {
    * @param loadTimesKey the load times metrics key
    * @param missesKey the misses metrics key
    * @param sizeKey the size metrics key
+   * @param evictionTimeKey the eviction time metrics key
    */
   public Cache(CacheConfiguration conf, String name, MetricKey evictionsKey, MetricKey hitsKey,
-               MetricKey loadTimesKey, MetricKey missesKey, MetricKey sizeKey) {
-    mMaxSize = conf.getMaxSize();
-    mHighWaterMark = conf.getHighWaterMark();
-    mLowWaterMark = conf.getLowWaterMark();
+               MetricKey loadTimesKey, MetricKey missesKey, MetricKey sizeKey,
+               MetricKey evictionTimeKey) {
     mEvictBatchSize = conf.getEvictBatchSize();
     mName = name;
-    mMap = new ConcurrentHashMap<>(mMaxSize);
-    mEvictionThread = new EvictionThread();
-    mEvictionThread.setDaemon(true);
-    // The eviction thread is started lazily when we first reach the high water mark.
-    mStatsCounter = new StatsCounter(evictionsKey, hitsKey, loadTimesKey, missesKey);
+    StatsCounter statsCounter =
+        new StatsCounter(evictionsKey, hitsKey, loadTimesKey, missesKey, evictionTimeKey);
+    int numShards = numShards(conf);
+    List<Shard> shards = new ArrayList<>(numShards);
+    for (int i = 0; i < numShards; i++) {
+      shards.add(numShards == 1
+          ? new Shard(mName + "-eviction-thread", conf.getMaxSize(), conf.getHighWaterMark(),
+              conf.getLowWaterMark(), statsCounter)
+          : new Shard(mName + "-eviction-thread-" + i, conf.getMaxSize() / numShards,
+              conf.getHighWaterMark() / numShards, conf.getLowWaterMark() / numShards,
+              statsCounter.forShard(i)));
+    }
+    mShards = Collections.unmodifiableList(shards);
 
-    MetricsSystem.registerGaugeIfAbsent(sizeKey.getName(), mMap::size);
+    MetricsSystem.registerGaugeIfAbsent(sizeKey.getName(), this::size);
+  }
+
+  /**
+   * @param conf cache configuration
+   * @return the number of shards to use, lowered so that each shard holds at least
+   *         {@link #MIN_SHARD_SIZE} entries
+   */
+  private static int numShards(CacheConfiguration conf) {
+    return Math.max(1, Math.min(conf.getNumShards(), conf.getMaxSize() / MIN_SHARD_SIZE));
   }
 
   /**
@@ -112,36 +123,7 @@ public abstract class Cache<K, V> implements Closeable {
    * @return the value, or empty if the key doesn't exist in the cache or in the backing store
    */
   public Optional<V> get(K key, ReadOption option) {
-    if (option.shouldSkipCache()) {
-      return getSkipCache(key);
-    }
-    if (cacheIsFull()) {
-      wakeEvictionThreadIfNecessary();
-      return getSkipCache(key);
-    }
-    Entry result = mMap.compute(key, (k, entry) -> {
-      if (entry != null) {
-        mStatsCounter.recordHit();
-        entry.mReferenced = true;
-        return entry;
-      }
-      mStatsCounter.recordMiss();
-      final Stopwatch stopwatch = Stopwatch.createStarted();
-      Optional<V> value = load(key);
-      mStatsCounter.recordLoad(stopwatch.elapsed(TimeUnit.NANOSECONDS));
-      if (value.isPresent()) {
-        onCacheUpdate(key, value.get());
-        Entry newEntry = new Entry(key, value.get());
-        newEntry.mDirty = false;
-        return newEntry;
-      }
-      return null;
-    });
-    if (result == null || result.mValue == null) {
-      return Optional.empty();
-    }
-    wakeEvictionThreadIfNecessary();
-    return Optional.of(result.mValue);
+    return shard(key).get(key, option);
   }
 
   /**
@@ -152,26 +134,6 @@ public abstract class Cache<K, V> implements Closeable {
     return get(key, ReadOption.defaults());
   }
 
-  /**
-   * Retrieves a value from the cache if already cached, otherwise, loads from the backing store
-   * without caching the value. Eviction is not triggered.
-   *
-   * @param key the key to get the value for
-   * @return the value, or empty if the key doesn't exist in the cache or in the backing store
-   */
-  private Optional<V> getSkipCache(K key) {
-    Entry entry = mMap.get(key);
-    if (entry == null) {
-      mStatsCounter.recordMiss();
-      final Stopwatch stopwatch = Stopwatch.createStarted();
-      final Optional<V> result = load(key);
-      mStatsCounter.recordLoad(stopwatch.elapsed(TimeUnit.NANOSECONDS));
-      return result;
-    }
-    mStatsCounter.recordHit();
-    return Optional.ofNullable(entry.mValue);
-  }
-
   /**
    * Writes a key/value pair to the cache.
    * This method is similar to {@link #put(Object, Object)}, but with an added information that
@@ -181,7 +143,7 @@ public abstract class Cache<K, V> implements Closeable {
    * @param value the value
    */
   public void putNewEntry(K key, V value) {
-    putInternal(key, value, true);
+    shard(key).put(key, value, true);
   }
 
   /**
@@ -192,27 +154,7 @@ public abstract class Cache<K, V> implements Closeable {
    * @param value the value
    */
   public void put(K key, V value) {
-    putInternal(key, value, false);
-  }
-
-  private void putInternal(K key, V value, boolean isNewEntry) {
-    mMap.compute(key, (k, entry) -> {
-      V existingValue = entry == null ? null : entry.mValue;
-      onPut(key, existingValue, value, isNewEntry);
-      if (entry == null && cacheIsFull()) {
-        writeToBackingStore(key, value);
-        return null;
-      }
-      if (entry == null || entry.mValue == null) {
-        onCacheUpdate(key, value);
-        return new Entry(key, value);
-      }
-      entry.mValue = value;
-      entry.mReferenced = true;
-      entry.mDirty = true;
-      return entry;
-    });
-    wakeEvictionThreadIfNecessary();
+    shard(key).put(key, value, false);
   }
 
   /**
@@ -226,25 +168,7 @@ public abstract class Cache<K, V> implements Closeable {
    * @param key the key to remove
    */
   public void remove(K key) {
-    // Set the entry so that it will be removed from the backing store when it is encountered by
-    // the eviction thread.
-    mMap.compute(key, (k, entry) -> {
-      onRemove(key);
-      if (entry == null && cacheIsFull()) {
-        removeFromBackingStore(k);
-        return null;
-      }
-      onCacheUpdate(key, null);
-      if (entry == null) {
-        entry = new Entry(key, null);
-      } else {
-        entry.mValue = null;
-      }
-      entry.mReferenced = false;
-      entry.mDirty = true;
-      return entry;
-    });
-    wakeEvictionThreadIfNecessary();
+    shard(key).remove(key);
   }
 
   /**
@@ -252,19 +176,21 @@ public abstract class Cache<K, V> implements Closeable {
    */
   public void flush() throws InterruptedException {
     List<Entry> toFlush = new ArrayList<>(mEvictBatchSize);
-    Iterator<Entry> it = mMap.values().iterator();
-    while (it.hasNext()) {
-      if (Thread.interrupted()) {
-        throw new InterruptedException();
-      }
-      while (toFlush.size() < mEvictBatchSize && it.hasNext()) {
-        Entry candidate = it.next();
-        if (candidate.mDirty) {
-          toFlush.add(candidate);
+    for (Shard shard : mShards) {
+      Iterator<Entry> it = shard.mMap.values().iterator();
+      while (it.hasNext()) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        while (toFlush.size() < mEvictBatchSize && it.hasNext()) {
+          Entry candidate = it.next();
+          if (candidate.mDirty) {
+            toFlush.add(candidate);
+          }
         }
+        flushEntries(toFlush);
+        toFlush.clear();
       }
-      flushEntries(toFlush);
-      toFlush.clear();
     }
   }
 
@@ -273,43 +199,58 @@ public abstract class Cache<K, V> implements Closeable {
    * to prevent concurrent modifications to the cache.
    */
   public void clear() {
-    mMap.forEach((key, value) -> {
-      onCacheUpdate(key, value.mValue);
-      onRemove(key);
-    });
-    mMap.clear();
-  }
-
-  private boolean underHighWaterMark() {
-    return mMap.size() < mHighWaterMark;
-  }
-
-  private boolean cacheIsFull() {
-    return mMap.size() >= mMaxSize;
+    for (Shard shard : mShards) {
+      shard.mMap.forEach((key, value) -> {
+        onCacheUpdate(key, value.mValue);
+        onRemove(key);
+      });
+      shard.mMap.clear();
+    }
   }
 
-  private void wakeEvictionThreadIfNecessary() {
-    if (mEvictionThread.mIsSleeping && mMap.size() >= mHighWaterMark) {
-      kickEvictionThread();
+  /**
+   * @return the number of entries in the cache
+   */
+  @VisibleForTesting
+  int size() {
+    int size = 0;
+    for (Shard shard : mShards) {
+      size += shard.mMap.size();
     }
+    return size;
   }
 
-  private void kickEvictionThread() {
-    synchronized (mEvictionThread) {
-      if (mEvictionThread.getState() == State.NEW) {
-        mEvictionThread.start();
+  /**
+   * @return whether all eviction threads are waiting for their shards to fill up
+   */
+  @VisibleForTesting
+  boolean isEvictionIdle() {
+    for (Shard shard : mShards) {
+      if (!shard.mEvictionThread.mIsSleeping) {
+        return false;
       }
-      mEvictionThread.notifyAll();
     }
+    return true;
+  }
+
+  private Shard shard(K key) {
+    // multiplicative hashing, so that the shard does not depend on the same hash bits as the
+    // buckets of the shard map
+    long hash = Integer.toUnsignedLong(key.hashCode() * 0x9E3779B9);
+    return mShards.get((int) ((hash * mShards.size()) >>> 32));
   }
 
   @Override
   public void close() {
-    mEvictionThread.interrupt();
+    for (Shard shard : mShards) {
+      shard.mEvictionThread.interrupt();
+    }
     try {
-      mEvictionThread.join(10L * Constants.SECOND_MS);
-      if (mEvictionThread.isAlive()) {
-        LOG.warn("Failed to stop eviction thread");
+      for (Shard shard : mShards) {
+        shard.mEvictionThread.join(10L * Constants.SECOND_MS);
+        if (shard.mEvictionThread.isAlive()) {
+          LOG.warn("Failed to stop eviction thread {}", shard.mEvictionThread.getName());
+        }
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -317,11 +258,159 @@ public abstract class Cache<K, V> implements Closeable {
     }
   }
 
+  /**
+   * A partition of the cache, holding the entries of some of the keys and evicting them with its
+   * own thread.
+   */
+  @VisibleForTesting
+  final class Shard {
+    private final int mMaxSize;
+    private final int mHighWaterMark;
+    private final int mLowWaterMark;
+    @VisibleForTesting
+    final ConcurrentHashMap<K, Entry> mMap;
+    // Thread for performing eviction to the backing store.
+    @VisibleForTesting
+    final EvictionThread mEvictionThread;
+    private final StatsCounter mStatsCounter;
+
+    private Shard(String threadName, int maxSize, int highWaterMark, int lowWaterMark,
+        StatsCounter statsCounter) {
+      mMaxSize = maxSize;
+      mHighWaterMark = highWaterMark;
+      mLowWaterMark = lowWaterMark;
+      mMap = new ConcurrentHashMap<>(mMaxSize);
+      mEvictionThread = new EvictionThread(this, threadName);
+      mEvictionThread.setDaemon(true);
+      // The eviction thread is started lazily when we first reach the high water mark.
+      mStatsCounter = statsCounter;
+    }
+
+    private Optional<V> get(K key, ReadOption option) {
+      if (option.shouldSkipCache()) {
+        return getSkipCache(key);
+      }
+      if (cacheIsFull()) {
+        wakeEvictionThreadIfNecessary();
+        return getSkipCache(key);
+      }
+      Entry result = mMap.compute(key, (k, entry) -> {
+        if (entry != null) {
+          mStatsCounter.recordHit();
+          entry.mReferenced = true;
+          return entry;
+        }
+        mStatsCounter.recordMiss();
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<V> value = load(key);
+        mStatsCounter.recordLoad(stopwatch.elapsed(TimeUnit.NANOSECONDS));
+        if (value.isPresent()) {
+          onCacheUpdate(key, value.get());
+          Entry newEntry = new Entry(key, value.get());
+          newEntry.mDirty = false;
+          return newEntry;
+        }
+        return null;
+      });
+      if (result == null || result.mValue == null) {
+        return Optional.empty();
+      }
+      wakeEvictionThreadIfNecessary();
+      return Optional.of(result.mValue);
+    }
+
+    /**
+     * Retrieves a value from the cache if already cached, otherwise, loads from the backing store
+     * without caching the value. Eviction is not triggered.
+     *
+     * @param key the key to get the value for
+     * @return the value, or empty if the key doesn't exist in the cache or in the backing store
+     */
+    private Optional<V> getSkipCache(K key) {
+      Entry entry = mMap.get(key);
+      if (entry == null) {
+        mStatsCounter.recordMiss();
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final Optional<V> result = load(key);
+        mStatsCounter.recordLoad(stopwatch.elapsed(TimeUnit.NANOSECONDS));
+        return result;
+      }
+      mStatsCounter.recordHit();
+      return Optional.ofNullable(entry.mValue);
+    }
+
+    private void put(K key, V value, boolean isNewEntry) {
+      mMap.compute(key, (k, entry) -> {
+        V existingValue = entry == null ? null : entry.mValue;
+        onPut(key, existingValue, value, isNewEntry);
+        if (entry == null && cacheIsFull()) {
+          writeToBackingStore(key, value);
+          return null;
+        }
+        if (entry == null || entry.mValue == null) {
+          onCacheUpdate(key, value);
+          return new Entry(key, value);
+        }
+        entry.mValue = value;
+        entry.mReferenced = true;
+        entry.mDirty = true;
+        return entry;
+      });
+      wakeEvictionThreadIfNecessary();
+    }
+
+    private void remove(K key) {
+      // Set the entry so that it will be removed from the backing store when it is encountered by
+      // the eviction thread.
+      mMap.compute(key, (k, entry) -> {
+        onRemove(key);
+        if (entry == null && cacheIsFull()) {
+          removeFromBackingStore(k);
+          return null;
+        }
+        onCacheUpdate(key, null);
+        if (entry == null) {
+          entry = new Entry(key, null);
+        } else {
+          entry.mValue = null;
+        }
+        entry.mReferenced = false;
+        entry.mDirty = true;
+        return entry;
+      });
+      wakeEvictionThreadIfNecessary();
+    }
+
+    private boolean underHighWaterMark() {
+      return mMap.size() < mHighWaterMark;
+    }
+
+    private boolean cacheIsFull() {
+      return mMap.size() >= mMaxSize;
+    }
+
+    private void wakeEvictionThreadIfNecessary() {
+      if (mEvictionThread.mIsSleeping && mMap.size() >= mHighWaterMark) {
+        kickEvictionThread();
+      }
+    }
+
+    private void kickEvictionThread() {
+      synchronized (mEvictionThread) {
+        if (mEvictionThread.getState() == State.NEW) {
+          mEvictionThread.start();
+        }
+        mEvictionThread.notifyAll();
+      }
+    }
+  }
+
   @VisibleForTesting
   class EvictionThread extends Thread {
     @VisibleForTesting
     volatile boolean mIsSleeping = true;
 
+    private final Shard mShard;
     // Populated with #fillBatch, cleared with #evictBatch. We keep it around so that we don't need
     // to keep re-allocating the list.
     private final List<Entry> mEvictionCandidates = new ArrayList<>(mEvictBatchSize);
@@ -330,20 +419,21 @@ public abstract class Cache<K, V> implements Closeable {
 
     private Iterator<Entry> mEvictionHead = Collections.emptyIterator();
 
-    private EvictionThread() {
-      super(mName + "-eviction-thread");
+    private EvictionThread(Shard shard, String name) {
+      super(name);
+      mShard = shard;
     }
 
     @Override
     public void run() {
       while (!Thread.interrupted()) {
-        // Wait for the cache to get over the high water mark.
-        while (underHighWaterMark()) {
-          synchronized (mEvictionThread) {
-            if (underHighWaterMark()) {
+        // Wait for the shard to get over the high water mark.
+        while (mShard.underHighWaterMark()) {
+          synchronized (this) {
+            if (mShard.underHighWaterMark()) {
               try {
                 mIsSleeping = true;
-                mEvictionThread.wait();
+                wait();
                 mIsSleeping = false;
               } catch (InterruptedException e) {
                 return;
@@ -351,11 +441,12 @@ public abstract class Cache<K, V> implements Closeable {
             }
           }
         }
-        if (cacheIsFull()) {
+        if (mShard.cacheIsFull()) {
           mCacheFullLogger.warn(
               "Metastore {} cache is full. Consider increasing the cache size or lowering the "
                   + "high water mark. size:{} lowWaterMark:{} highWaterMark:{} maxSize:{}",
-              mName, mMap.size(), mLowWaterMark, mHighWaterMark, mMaxSize);
+              getName(), mShard.mMap.size(), mShard.mLowWaterMark, mShard.mHighWaterMark,
+              mShard.mMaxSize);
         }
         evictToLowWaterMark();
       }
@@ -363,18 +454,18 @@ public abstract class Cache<K, V> implements Closeable {
 
     private void evictToLowWaterMark() {
       long evictionStart = System.nanoTime();
-      int toEvict = mMap.size() - mLowWaterMark;
+      int toEvict = mShard.mMap.size() - mShard.mLowWaterMark;
       int evictionCount = 0;
       while (evictionCount < toEvict) {
         if (!mEvictionHead.hasNext()) {
-          mEvictionHead = mMap.values().iterator();
+          mEvictionHead = mShard.mMap.values().iterator();
         }
         fillBatch(toEvict - evictionCount);
         evictionCount += evictBatch();
       }
       if (evictionCount > 0) {
-        mStatsCounter.recordEvictions(evictionCount);
-        LOG.debug("{}: Evicted {} entries in {}ms", mName, evictionCount,
+        mShard.mStatsCounter.recordEvictions(evictionCount);
+        LOG.debug("{}: Evicted {} entries in {}ms", getName(), evictionCount,
             (System.nanoTime() - evictionStart) / Constants.MS_NANO);
       }
     }
@@ -410,6 +501,7 @@ public abstract class Cache<K, V> implements Closeable {
       if (mEvictionCandidates.isEmpty()) {
         return evicted;
       }
+      long batchStart = System.nanoTime();
       flushEntries(mDirtyEvictionCandidates);
       for (Entry entry : mEvictionCandidates) {
         if (evictIfClean(entry)) {
@@ -418,6 +510,7 @@ public abstract class Cache<K, V> implements Closeable {
       }
       mEvictionCandidates.clear();
       mDirtyEvictionCandidates.clear();
+      mShard.mStatsCounter.recordEvictionTime(System.nanoTime() - batchStart);
       return evicted;
     }
 
@@ -426,7 +519,7 @@ public abstract class Cache<K, V> implements Closeable {
      * @return whether the entry was successfully evicted
      */
     private boolean evictIfClean(Entry entry) {
-      return null == mMap.computeIfPresent(entry.mKey, (key, e) -> {
+      return null == mShard.mMap.computeIfPresent(entry.mKey, (key, e) -> {
         if (entry.mDirty) {
           return entry; // entry must have been written since we evicted.
         }
@@ -438,7 +531,11 @@ public abstract class Cache<K, V> implements Closeable {
 
   @VisibleForTesting
   protected Map<K, Entry> getCacheMap() {
-    return new HashMap<>(mMap);
+    Map<K, Entry> map = new HashMap<>();
+    for (Shard shard : mShards) {
+      map.putAll(shard.mMap);
+    }
+    return map;
   }
 
   //
@@ -153,6 +153,7 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     CacheConfiguration cacheConf = CacheConfiguration.newBuilder().setMaxSize(maxSize)
         .setHighWaterMark(highWaterMark).setLowWaterMark(lowWaterMark)
         .setEvictBatchSize(conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_EVICT_BATCH_SIZE))
+        .setNumShards(conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_SHARDS))
         .build();
     mInodeCache = new InodeCache(cacheConf);
     mEdgeCache = new EdgeCache(cacheConf);
@@ -161,10 +162,9 @@ public final class CachingInodeStore implements InodeStore, Closeable {
       MetricsSystem.registerCachedGaugeIfAbsent(MetricKey.MASTER_INODE_HEAP_SIZE.getName(),
           () -> {
             try {
-              return ObjectSizeCalculator.getObjectSize(mInodeCache.mMap,
+              return getObjectSize(mInodeCache,
                   ImmutableSet.of(Long.class, MutableInodeFile.class, MutableInodeDirectory.class))
-                  + ObjectSizeCalculator.getObjectSize(mEdgeCache.mMap,
-                  ImmutableSet.of(Long.class, Edge.class))
+                  + getObjectSize(mEdgeCache, ImmutableSet.of(Long.class, Edge.class))
                   + ObjectSizeCalculator.getObjectSize(mListingCache.mMap,
                   ImmutableSet.of(Long.class, ListingCache.ListingCacheEntry.class));
             } catch (NullPointerException e) {
@@ -175,6 +175,14 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     }
   }
 
+  private static <K, V> long getObjectSize(Cache<K, V> cache, Set<Class<?>> constantClasses) {
+    long size = 0;
+    for (Cache<K, V>.Shard shard : cache.mShards) {
+      size += ObjectSizeCalculator.getObjectSize(shard.mMap, constantClasses);
+    }
+    return size;
+  }
+
   @Override
   public Optional<MutableInode<?>> getMutable(long id, ReadOption option) {
     return mInodeCache.get(id, option);
@@ -332,7 +340,8 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     public InodeCache(CacheConfiguration conf) {
       super(conf, "inode-cache", MetricKey.MASTER_INODE_CACHE_EVICTIONS,
           MetricKey.MASTER_INODE_CACHE_HITS, MetricKey.MASTER_INODE_CACHE_LOAD_TIMES,
-          MetricKey.MASTER_INODE_CACHE_MISSES, MetricKey.MASTER_INODE_CACHE_SIZE);
+          MetricKey.MASTER_INODE_CACHE_MISSES, MetricKey.MASTER_INODE_CACHE_SIZE,
+          MetricKey.MASTER_INODE_CACHE_EVICTION_TIME);
     }
 
     @Override
@@ -444,7 +453,8 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     public EdgeCache(CacheConfiguration conf) {
       super(conf, "edge-cache", MetricKey.MASTER_EDGE_CACHE_EVICTIONS,
           MetricKey.MASTER_EDGE_CACHE_HITS, MetricKey.MASTER_EDGE_CACHE_LOAD_TIMES,
-          MetricKey.MASTER_EDGE_CACHE_MISSES, MetricKey.MASTER_EDGE_CACHE_SIZE);
+          MetricKey.MASTER_EDGE_CACHE_MISSES, MetricKey.MASTER_EDGE_CACHE_SIZE,
+          MetricKey.MASTER_EDGE_CACHE_EVICTION_TIME);
     }
 
     /**
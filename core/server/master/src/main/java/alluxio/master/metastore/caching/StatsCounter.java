@@ -13,37 +13,105 @@ package alluxio.master.metastore.caching;
 
 import static alluxio.metrics.MetricKey.MASTER_INODE_CACHE_HIT_RATIO;
 
+import alluxio.metrics.Metric;
+import alluxio.metrics.MetricInfo;
 import alluxio.metrics.MetricKey;
 import alluxio.metrics.MetricsSystem;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of StatsCounter similar to the one in
  * {@link com.google.common.cache.AbstractCache}.
+ *
+ * A counter may be split into counters for the shards of a cache with {@link #forShard(int)}.
+ * The stats of a shard are recorded under the metric names tagged with the shard, and also
+ * added to the counter of the whole cache.
  */
 final class StatsCounter {
+  private final MetricKey mEvictionsKey;
+  private final MetricKey mHitsKey;
+  private final MetricKey mLoadTimesKey;
+  private final MetricKey mMissesKey;
+  @Nullable
+  private final MetricKey mEvictionTimeKey;
+  /** The counter of the whole cache if this counter is for a shard, otherwise null. */
+  @Nullable
+  private final StatsCounter mParent;
+
   private final Counter mHitCount;
   private final Counter mMissCount;
   private final Counter mTotalLoadTime;
   private final Counter mEvictionCount;
+  @Nullable
+  private final Timer mEvictionTime;
 
+  /**
+   * @param evictionsKey the cache evictions metric key
+   * @param hitsKey the cache hits metrics key
+   * @param loadTimesKey the load times metrics key
+   * @param missesKey the misses metrics key
+   */
   public StatsCounter(MetricKey evictionsKey, MetricKey hitsKey, MetricKey loadTimesKey,
                       MetricKey missesKey) {
-    mHitCount = MetricsSystem.counter(hitsKey.getName());
-    mMissCount = MetricsSystem.counter(missesKey.getName());
-    mTotalLoadTime = MetricsSystem.counter(loadTimesKey.getName());
-    mEvictionCount = MetricsSystem.counter(evictionsKey.getName());
+    this(evictionsKey, hitsKey, loadTimesKey, missesKey, null);
+  }
+
+  /**
+   * @param evictionsKey the cache evictions metric key
+   * @param hitsKey the cache hits metrics key
+   * @param loadTimesKey the load times metrics key
+   * @param missesKey the misses metrics key
+   * @param evictionTimeKey the eviction time metric key, or null to not track eviction times
+   */
+  public StatsCounter(MetricKey evictionsKey, MetricKey hitsKey, MetricKey loadTimesKey,
+                      MetricKey missesKey, @Nullable MetricKey evictionTimeKey) {
+    this(evictionsKey, hitsKey, loadTimesKey, missesKey, evictionTimeKey, null);
     MetricsSystem.registerGaugeIfAbsent(MASTER_INODE_CACHE_HIT_RATIO.getName(),
         () -> mHitCount.getCount() * 1.0
             / (mHitCount.getCount() + mMissCount.getCount()));
   }
 
+  private StatsCounter(MetricKey evictionsKey, MetricKey hitsKey, MetricKey loadTimesKey,
+      MetricKey missesKey, @Nullable MetricKey evictionTimeKey, @Nullable StatsCounter parent,
+      String... tags) {
+    mEvictionsKey = evictionsKey;
+    mHitsKey = hitsKey;
+    mLoadTimesKey = loadTimesKey;
+    mMissesKey = missesKey;
+    mEvictionTimeKey = evictionTimeKey;
+    mParent = parent;
+    mHitCount = MetricsSystem.counter(Metric.getMetricNameWithTags(hitsKey.getName(), tags));
+    mMissCount = MetricsSystem.counter(Metric.getMetricNameWithTags(missesKey.getName(), tags));
+    mTotalLoadTime =
+        MetricsSystem.counter(Metric.getMetricNameWithTags(loadTimesKey.getName(), tags));
+    mEvictionCount =
+        MetricsSystem.counter(Metric.getMetricNameWithTags(evictionsKey.getName(), tags));
+    mEvictionTime = evictionTimeKey == null ? null
+        : MetricsSystem.timer(Metric.getMetricNameWithTags(evictionTimeKey.getName(), tags));
+  }
+
+  /**
+   * @param shard the index of a shard of the cache
+   * @return a counter for the shard, which also records its stats in this counter
+   */
+  public StatsCounter forShard(int shard) {
+    return new StatsCounter(mEvictionsKey, mHitsKey, mLoadTimesKey, mMissesKey, mEvictionTimeKey,
+        this, MetricInfo.TAG_SHARD, Integer.toString(shard));
+  }
+
   /**
    * Record a cache hit.
    */
   public void recordHit() {
     mHitCount.inc();
+    if (mParent != null) {
+      mParent.recordHit();
+    }
   }
 
   /**
@@ -51,6 +119,9 @@ final class StatsCounter {
    */
   public void recordMiss() {
     mMissCount.inc();
+    if (mParent != null) {
+      mParent.recordMiss();
+    }
   }
 
   /**
@@ -59,6 +130,9 @@ final class StatsCounter {
    */
   public void recordLoad(long loadTime) {
     mTotalLoadTime.inc(loadTime);
+    if (mParent != null) {
+      mParent.recordLoad(loadTime);
+    }
   }
 
   /**
@@ -67,5 +141,22 @@ final class StatsCounter {
    */
   public void recordEvictions(long evictionCount) {
     mEvictionCount.inc(evictionCount);
+    if (mParent != null) {
+      mParent.recordEvictions(evictionCount);
+    }
+  }
+
+  /**
+   * Record the time taken to evict a batch of entries, including writing them to the backing
+   * store.
+   * @param evictionTime amount of time it took to evict the batch in nanoseconds
+   */
+  public void recordEvictionTime(long evictionTime) {
+    if (mEvictionTime != null) {
+      mEvictionTime.update(evictionTime, TimeUnit.NANOSECONDS);
+    }
+    if (mParent != null) {
+      mParent.recordEvictionTime(evictionTime);
+    }
   }
 }
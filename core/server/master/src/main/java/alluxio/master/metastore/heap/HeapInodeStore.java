@@ -158,6 +158,11 @@ public class HeapInodeStore implements InodeStore {
     return new HashSet<>(mInodes.values());
   }
 
+  @Override
+  public boolean supportsOptimisticReads() {
+    return true;
+  }
+
   @Override
   public void clear() {
     mInodes.clear();
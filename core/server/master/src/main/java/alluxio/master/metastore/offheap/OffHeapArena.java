@@ -0,0 +1,208 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import alluxio.Constants;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Memory for variable-size records allocated outside of the Java heap, in direct buffers of a
+ * fixed size called chunks. A record is addressed by a long combining the index of its chunk and
+ * its offset in the chunk, and is stored as its length followed by its bytes. The space of a
+ * record is rounded up to a size class, and the space of a freed record is reused by the next
+ * record of the same class, so that records replaced with records of similar size do not grow
+ * the arena.
+ *
+ * The arena does not synchronize the reads of a record with its release: the caller must make
+ * sure that a record is not read after it has been freed. The chunks are not freed explicitly
+ * when the arena is cleared, the garbage collector releases their memory once no reader still
+ * reading a record from them references them.
+ */
+@ThreadSafe
+final class OffHeapArena implements Closeable {
+  /** The default size of the chunks. */
+  static final int DEFAULT_CHUNK_SIZE = 64 * Constants.MB;
+  private static final int HEADER_BYTES = Integer.BYTES;
+  private static final int SMALL_CLASS_GRANULARITY = 16;
+  private static final int SMALL_CLASS_MAX = 1024;
+
+  private final int mChunkSize;
+  /** The chunks, replaced by a larger array when a chunk is added. */
+  private volatile ByteBuffer[] mChunks = new ByteBuffer[0];
+  /** The free records of each size class. */
+  private final Int2ObjectOpenHashMap<LongArrayList> mFreeRecords = new Int2ObjectOpenHashMap<>();
+  /** The offset of the unallocated space in the last chunk. */
+  private int mChunkOffset;
+  private long mAllocatedBytes;
+  private long mUsedBytes;
+
+  /**
+   * Creates an arena with chunks of the default size.
+   */
+  OffHeapArena() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * @param chunkSize the size of the chunks in bytes
+   */
+  @VisibleForTesting
+  OffHeapArena(int chunkSize) {
+    Preconditions.checkArgument(chunkSize >= SMALL_CLASS_MAX,
+        "chunk size must be at least %s bytes", SMALL_CLASS_MAX);
+    mChunkSize = chunkSize;
+  }
+
+  /**
+   * Stores a record in the arena.
+   *
+   * @param record the bytes of the record
+   * @return the address of the record
+   */
+  long allocate(byte[] record) {
+    int capacity = capacity(record.length);
+    long address;
+    synchronized (this) {
+      LongArrayList free = mFreeRecords.get(capacity);
+      if (free != null && !free.isEmpty()) {
+        address = free.popLong();
+      } else {
+        address = allocateNew(capacity);
+      }
+      mUsedBytes += capacity;
+    }
+    ByteBuffer buffer = mChunks[chunkIndex(address)].duplicate();
+    buffer.position(offset(address));
+    buffer.putInt(record.length);
+    buffer.put(record);
+    return address;
+  }
+
+  /**
+   * @param address the address of a record
+   * @return the bytes of the record
+   */
+  byte[] read(long address) {
+    ByteBuffer buffer = mChunks[chunkIndex(address)].duplicate();
+    buffer.position(offset(address));
+    byte[] record = new byte[buffer.getInt()];
+    buffer.get(record);
+    return record;
+  }
+
+  /**
+   * Releases the space of a record, to be reused by the next records of the same size class.
+   *
+   * @param address the address of the record
+   */
+  void free(long address) {
+    int length = mChunks[chunkIndex(address)].getInt(offset(address));
+    int capacity = capacity(length);
+    synchronized (this) {
+      mFreeRecords.computeIfAbsent(capacity, k -> new LongArrayList()).add(address);
+      mUsedBytes -= capacity;
+    }
+  }
+
+  /**
+   * Releases all the records and the memory of the arena. The memory is released by the garbage
+   * collector, as the chunks may still be read by readers which started before.
+   */
+  synchronized void clear() {
+    mChunks = new ByteBuffer[0];
+    mFreeRecords.clear();
+    mChunkOffset = 0;
+    mAllocatedBytes = 0;
+    mUsedBytes = 0;
+  }
+
+  /**
+   * @return the number of bytes of direct memory held by the arena
+   */
+  synchronized long getAllocatedBytes() {
+    return mAllocatedBytes;
+  }
+
+  /**
+   * @return the number of bytes taken by the records, rounded up to their size classes
+   */
+  synchronized long getUsedBytes() {
+    return mUsedBytes;
+  }
+
+  @Override
+  public void close() {
+    clear();
+  }
+
+  private long allocateNew(int capacity) {
+    if (capacity > mChunkSize) {
+      // a record larger than a chunk gets a chunk of its own
+      addChunk(capacity);
+      mChunkOffset = mChunkSize;
+      return address(mChunks.length - 1, 0);
+    }
+    if (mChunks.length == 0 || mChunkOffset + capacity > mChunkSize) {
+      addChunk(mChunkSize);
+      mChunkOffset = 0;
+    }
+    long address = address(mChunks.length - 1, mChunkOffset);
+    mChunkOffset += capacity;
+    return address;
+  }
+
+  private void addChunk(int size) {
+    ByteBuffer[] chunks = Arrays.copyOf(mChunks, mChunks.length + 1);
+    chunks[chunks.length - 1] = ByteBuffer.allocateDirect(size);
+    mAllocatedBytes += size;
+    mChunks = chunks;
+  }
+
+  /**
+   * @param length the length of a record
+   * @return the space taken by the record, rounded up to 16 bytes for small records and to an
+   *         eighth of a power of two for larger ones
+   */
+  @VisibleForTesting
+  static int capacity(int length) {
+    int size = length + HEADER_BYTES;
+    if (size <= SMALL_CLASS_MAX) {
+      return roundUp(size, SMALL_CLASS_GRANULARITY);
+    }
+    return roundUp(size, Integer.highestOneBit(size) / 8);
+  }
+
+  private static int roundUp(int size, int granularity) {
+    return (size + granularity - 1) / granularity * granularity;
+  }
+
+  private static long address(int chunkIndex, int offset) {
+    return ((long) chunkIndex << 32) | offset;
+  }
+
+  private static int chunkIndex(long address) {
+    return (int) (address >>> 32);
+  }
+
+  private static int offset(long address) {
+    return (int) address;
+  }
+}
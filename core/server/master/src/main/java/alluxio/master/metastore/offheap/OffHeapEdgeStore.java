@@ -0,0 +1,623 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import alluxio.master.file.meta.EdgeEntry;
+import alluxio.master.metastore.ReadOption;
+import alluxio.resource.LockResource;
+
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The edges of the inode tree, kept outside of the Java heap in an {@link OffHeapArena}. The
+ * children of a directory are stored sorted by name in pages of at most {@link #PAGE_ENTRIES}
+ * entries. A page is a single record of the names of the children, each front coded against the
+ * name before it, and their ids. On the heap, a directory with a single page is only mapped to
+ * the address of the page, and a larger directory holds the address and the first name of each of
+ * its pages, that is one name for {@link #PAGE_ENTRIES} children at most.
+ */
+@ThreadSafe
+final class OffHeapEdgeStore {
+  /** The maximum number of children in a page. */
+  @VisibleForTesting
+  static final int PAGE_ENTRIES = 128;
+  private static final int NUM_SHARDS = 256;
+  private static final long NO_ADDRESS = -1;
+
+  private final OffHeapArena mArena;
+  private final Shard[] mShards = new Shard[NUM_SHARDS];
+
+  /**
+   * @param arena the arena to store the pages in
+   */
+  OffHeapEdgeStore(OffHeapArena arena) {
+    mArena = arena;
+    for (int i = 0; i < NUM_SHARDS; i++) {
+      mShards[i] = new Shard();
+    }
+  }
+
+  /**
+   * Adds a child to a directory, replacing the child of the same name.
+   *
+   * @param parentId the id of the directory
+   * @param name the name of the child
+   * @param childId the id of the child
+   */
+  void put(long parentId, String name, long childId) {
+    Shard shard = shard(parentId);
+    try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+      long address = shard.mSmall.get(parentId);
+      LargeDirectory dir = address == NO_ADDRESS ? shard.mLarge.get(parentId) : null;
+      if (address == NO_ADDRESS && dir == null) {
+        Page page = new Page();
+        page.put(name, childId);
+        shard.mSmall.put(parentId, mArena.allocate(page.encode()));
+        return;
+      }
+      int index = dir == null ? 0 : dir.pageIndex(name);
+      if (dir != null) {
+        address = dir.mPages.getLong(index);
+      }
+      Page page = Page.decode(mArena.read(address));
+      page.put(name, childId);
+      mArena.free(address);
+      Page upper = page.size() > PAGE_ENTRIES ? page.split() : null;
+      if (dir == null && upper == null) {
+        shard.mSmall.put(parentId, mArena.allocate(page.encode()));
+        return;
+      }
+      if (dir == null) {
+        // the directory outgrows a single page
+        shard.mSmall.remove(parentId);
+        dir = new LargeDirectory();
+        dir.mPages.add(NO_ADDRESS);
+        dir.mFirstNames.add(page.firstName());
+        shard.mLarge.put(parentId, dir);
+      }
+      dir.mPages.set(index, mArena.allocate(page.encode()));
+      if (upper != null) {
+        dir.mPages.add(index + 1, mArena.allocate(upper.encode()));
+        dir.mFirstNames.add(index + 1, upper.firstName());
+      }
+    }
+  }
+
+  /**
+   * Removes a child from a directory.
+   *
+   * @param parentId the id of the directory
+   * @param name the name of the child
+   */
+  void remove(long parentId, String name) {
+    Shard shard = shard(parentId);
+    try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+      long address = shard.mSmall.get(parentId);
+      if (address != NO_ADDRESS) {
+        Page page = Page.decode(mArena.read(address));
+        if (!page.remove(name)) {
+          return;
+        }
+        mArena.free(address);
+        if (page.size() == 0) {
+          shard.mSmall.remove(parentId);
+        } else {
+          shard.mSmall.put(parentId, mArena.allocate(page.encode()));
+        }
+        return;
+      }
+      LargeDirectory dir = shard.mLarge.get(parentId);
+      if (dir == null) {
+        return;
+      }
+      int index = dir.pageIndex(name);
+      address = dir.mPages.getLong(index);
+      Page page = Page.decode(mArena.read(address));
+      if (!page.remove(name)) {
+        return;
+      }
+      mArena.free(address);
+      if (page.size() == 0) {
+        dir.mPages.removeLong(index);
+        dir.mFirstNames.remove(index);
+      } else {
+        dir.mPages.set(index, mArena.allocate(page.encode()));
+        if (page.size() < PAGE_ENTRIES / 4) {
+          mergeWithNeighbor(dir, index);
+        }
+      }
+      if (dir.mPages.size() == 1) {
+        // the directory fits in a single page again
+        shard.mLarge.remove(parentId);
+        shard.mSmall.put(parentId, dir.mPages.getLong(0));
+      }
+    }
+  }
+
+  /**
+   * Merges a page left with few children with one of its neighbors, if they fit in half a page.
+   */
+  private void mergeWithNeighbor(LargeDirectory dir, int index) {
+    int lower = index == dir.mPages.size() - 1 ? index - 1 : index;
+    long lowerAddress = dir.mPages.getLong(lower);
+    long upperAddress = dir.mPages.getLong(lower + 1);
+    Page merged = Page.decode(mArena.read(lowerAddress));
+    Page upper = Page.decode(mArena.read(upperAddress));
+    if (merged.size() + upper.size() > PAGE_ENTRIES / 2) {
+      return;
+    }
+    merged.append(upper);
+    mArena.free(lowerAddress);
+    mArena.free(upperAddress);
+    dir.mPages.set(lower, mArena.allocate(merged.encode()));
+    dir.mPages.removeLong(lower + 1);
+    dir.mFirstNames.remove(lower + 1);
+  }
+
+  /**
+   * @param parentId the id of a directory
+   * @param name the name of a child
+   * @return the id of the child, or null if the directory has no child of that name
+   */
+  @Nullable
+  Long get(long parentId, String name) {
+    Shard shard = shard(parentId);
+    try (LockResource r = new LockResource(shard.mLock.readLock())) {
+      long address = shard.mSmall.get(parentId);
+      if (address == NO_ADDRESS) {
+        LargeDirectory dir = shard.mLarge.get(parentId);
+        if (dir == null) {
+          return null;
+        }
+        address = dir.mPages.getLong(dir.pageIndex(name));
+      }
+      byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+      PageReader reader = new PageReader(mArena.read(address));
+      while (reader.next()) {
+        if (reader.nameEquals(nameBytes)) {
+          return reader.id();
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * @param parentId the id of a directory
+   * @return whether the directory has children
+   */
+  boolean hasChildren(long parentId) {
+    Shard shard = shard(parentId);
+    try (LockResource r = new LockResource(shard.mLock.readLock())) {
+      return shard.mSmall.containsKey(parentId) || shard.mLarge.containsKey(parentId);
+    }
+  }
+
+  /**
+   * Iterates over the ids of the children of a directory in the order of their names. The
+   * children are read a page at a time, so the iterator sees the changes made to the pages it has
+   * not read yet.
+   *
+   * @param parentId the id of a directory
+   * @param option the options selecting the children to iterate over
+   * @return an iterator over the ids of the children
+   */
+  Iterator<Long> childIds(long parentId, ReadOption option) {
+    String from = option.getStartFrom();
+    String prefix = option.getPrefix();
+    if (prefix != null && (from == null || prefix.compareTo(from) > 0)) {
+      from = prefix;
+    }
+    return new ChildIdIterator(parentId, from, prefix);
+  }
+
+  /**
+   * @return all the edges
+   */
+  Set<EdgeEntry> allEdges() {
+    Set<EdgeEntry> edges = new HashSet<>();
+    for (Shard shard : mShards) {
+      try (LockResource r = new LockResource(shard.mLock.readLock())) {
+        for (Long2LongMap.Entry entry : shard.mSmall.long2LongEntrySet()) {
+          addEdges(edges, entry.getLongKey(), entry.getLongValue());
+        }
+        for (Long2ObjectMap.Entry<LargeDirectory> entry : shard.mLarge.long2ObjectEntrySet()) {
+          for (long address : entry.getValue().mPages) {
+            addEdges(edges, entry.getLongKey(), address);
+          }
+        }
+      }
+    }
+    return edges;
+  }
+
+  private void addEdges(Set<EdgeEntry> edges, long parentId, long pageAddress) {
+    PageReader reader = new PageReader(mArena.read(pageAddress));
+    while (reader.next()) {
+      edges.add(new EdgeEntry(parentId, reader.name(), reader.id()));
+    }
+  }
+
+  /**
+   * Removes all the edges. The pages are released with the arena, which is cleared by the caller.
+   */
+  void clear() {
+    for (Shard shard : mShards) {
+      try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+        shard.mSmall.clear();
+        shard.mSmall.trim();
+        shard.mLarge.clear();
+        shard.mLarge.trim();
+      }
+    }
+  }
+
+  /**
+   * @param parentId the id of a directory
+   * @return the number of pages of the directory, 0 if it has no children
+   */
+  @VisibleForTesting
+  int getPageCount(long parentId) {
+    Shard shard = shard(parentId);
+    try (LockResource r = new LockResource(shard.mLock.readLock())) {
+      if (shard.mSmall.containsKey(parentId)) {
+        return 1;
+      }
+      LargeDirectory dir = shard.mLarge.get(parentId);
+      return dir == null ? 0 : dir.mPages.size();
+    }
+  }
+
+  private Shard shard(long parentId) {
+    return mShards[(int) (HashCommon.mix(parentId) & (NUM_SHARDS - 1))];
+  }
+
+  /**
+   * Iterates over the children of a directory, reading a page of children at a time under the
+   * lock of the shard of the directory.
+   */
+  @NotThreadSafe
+  private final class ChildIdIterator implements Iterator<Long> {
+    private final long mParentId;
+    @Nullable
+    private final String mPrefix;
+    /** The name to continue from, null to start from the first child. */
+    @Nullable
+    private String mFrom;
+    /** Whether the child named {@link #mFrom} is still to be returned. */
+    private boolean mFromInclusive = true;
+    private final LongArrayList mIds = new LongArrayList();
+    private int mIndex;
+    private boolean mDone;
+
+    private ChildIdIterator(long parentId, @Nullable String from, @Nullable String prefix) {
+      mParentId = parentId;
+      mFrom = from;
+      mPrefix = prefix;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (mIndex == mIds.size() && !mDone) {
+        mIds.clear();
+        mIndex = 0;
+        readNextPage();
+      }
+      return mIndex < mIds.size();
+    }
+
+    @Override
+    public Long next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return mIds.getLong(mIndex++);
+    }
+
+    /**
+     * Reads the children of the first page with children after {@link #mFrom}.
+     */
+    private void readNextPage() {
+      Shard shard = shard(mParentId);
+      try (LockResource r = new LockResource(shard.mLock.readLock())) {
+        long address = shard.mSmall.get(mParentId);
+        LargeDirectory dir = address == NO_ADDRESS ? shard.mLarge.get(mParentId) : null;
+        if (address == NO_ADDRESS && dir == null) {
+          mDone = true;
+          return;
+        }
+        int pageCount = dir == null ? 1 : dir.mPages.size();
+        for (int index = dir == null || mFrom == null ? 0 : dir.pageIndex(mFrom);
+            index < pageCount; index++) {
+          PageReader reader =
+              new PageReader(mArena.read(dir == null ? address : dir.mPages.getLong(index)));
+          String last = null;
+          while (reader.next()) {
+            String name = reader.name();
+            if (mFrom != null) {
+              int comparison = name.compareTo(mFrom);
+              if (comparison < 0 || (comparison == 0 && !mFromInclusive)) {
+                continue;
+              }
+            }
+            if (mPrefix != null && !name.startsWith(mPrefix)) {
+              mDone = true;
+              break;
+            }
+            mIds.add(reader.id());
+            last = name;
+          }
+          if (last != null) {
+            mFrom = last;
+            mFromInclusive = false;
+          }
+          if (mDone || !mIds.isEmpty()) {
+            return;
+          }
+        }
+        mDone = true;
+      }
+    }
+  }
+
+  /**
+   * The children of a directory in a single page, decoded to be changed.
+   */
+  @NotThreadSafe
+  private static final class Page {
+    private final List<String> mNames;
+    private final LongArrayList mIds;
+
+    private Page() {
+      this(new ArrayList<>(), new LongArrayList());
+    }
+
+    private Page(List<String> names, LongArrayList ids) {
+      mNames = names;
+      mIds = ids;
+    }
+
+    static Page decode(byte[] record) {
+      PageReader reader = new PageReader(record);
+      Page page = new Page(new ArrayList<>(reader.mCount), new LongArrayList(reader.mCount));
+      while (reader.next()) {
+        page.mNames.add(reader.name());
+        page.mIds.add(reader.id());
+      }
+      return page;
+    }
+
+    int size() {
+      return mNames.size();
+    }
+
+    String firstName() {
+      return mNames.get(0);
+    }
+
+    void put(String name, long id) {
+      int index = Collections.binarySearch(mNames, name);
+      if (index >= 0) {
+        mIds.set(index, id);
+      } else {
+        mNames.add(-index - 1, name);
+        mIds.add(-index - 1, id);
+      }
+    }
+
+    boolean remove(String name) {
+      int index = Collections.binarySearch(mNames, name);
+      if (index < 0) {
+        return false;
+      }
+      mNames.remove(index);
+      mIds.removeLong(index);
+      return true;
+    }
+
+    /**
+     * Moves the upper half of the children to a new page.
+     *
+     * @return the new page
+     */
+    Page split() {
+      int size = size();
+      int half = size / 2;
+      Page upper = new Page(new ArrayList<>(mNames.subList(half, size)),
+          new LongArrayList(mIds.subList(half, size)));
+      mNames.subList(half, size).clear();
+      mIds.removeElements(half, size);
+      return upper;
+    }
+
+    /**
+     * Appends the children of a page whose names all follow the names of this page.
+     */
+    void append(Page page) {
+      mNames.addAll(page.mNames);
+      mIds.addAll(page.mIds);
+    }
+
+    /**
+     * Encodes the page as the number of children, then for each child the length of the prefix
+     * its name shares with the name before, the rest of its name and its id, as varints.
+     */
+    byte[] encode() {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      writeVarint(output, mNames.size());
+      byte[] previous = new byte[0];
+      for (int i = 0; i < mNames.size(); i++) {
+        byte[] name = mNames.get(i).getBytes(StandardCharsets.UTF_8);
+        int shared = 0;
+        int maxShared = Math.min(previous.length, name.length);
+        while (shared < maxShared && previous[shared] == name[shared]) {
+          shared++;
+        }
+        writeVarint(output, shared);
+        writeVarint(output, name.length - shared);
+        output.write(name, shared, name.length - shared);
+        writeVarint(output, mIds.getLong(i));
+        previous = name;
+      }
+      return output.toByteArray();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+      while ((value & ~0x7FL) != 0) {
+        output.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      output.write((int) value);
+    }
+  }
+
+  /**
+   * Reads the children of an encoded page one by one, without decoding the names unless asked.
+   */
+  @NotThreadSafe
+  private static final class PageReader {
+    private final byte[] mRecord;
+    private final int mCount;
+    private int mPosition;
+    private int mRead;
+    private byte[] mName = new byte[64];
+    private int mNameLength;
+    private long mId;
+
+    PageReader(byte[] record) {
+      mRecord = record;
+      mCount = (int) readVarint();
+    }
+
+    /**
+     * @return whether there was a next child to read
+     */
+    boolean next() {
+      if (mRead == mCount) {
+        return false;
+      }
+      int shared = (int) readVarint();
+      int suffix = (int) readVarint();
+      mNameLength = shared + suffix;
+      if (mNameLength > mName.length) {
+        mName = Arrays.copyOf(mName, Math.max(mNameLength, 2 * mName.length));
+      }
+      System.arraycopy(mRecord, mPosition, mName, shared, suffix);
+      mPosition += suffix;
+      mId = readVarint();
+      mRead++;
+      return true;
+    }
+
+    boolean nameEquals(byte[] name) {
+      if (name.length != mNameLength) {
+        return false;
+      }
+      for (int i = 0; i < mNameLength; i++) {
+        if (mName[i] != name[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    String name() {
+      return new String(mName, 0, mNameLength, StandardCharsets.UTF_8);
+    }
+
+    long id() {
+      return mId;
+    }
+
+    private long readVarint() {
+      long value = 0;
+      for (int shift = 0; ; shift += 7) {
+        byte b = mRecord[mPosition++];
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+    }
+  }
+
+  /**
+   * A directory with more than one page of children.
+   */
+  private static final class LargeDirectory {
+    /** The addresses of the pages, in the order of the names of their children. */
+    private final LongArrayList mPages = new LongArrayList();
+    /**
+     * The name of the first child of each page when the page was created. It stays a lower bound
+     * of the names in the page, and above the names in the pages before.
+     */
+    private final List<String> mFirstNames = new ArrayList<>();
+
+    /**
+     * @param name the name of a child
+     * @return the index of the page the child belongs to
+     */
+    int pageIndex(String name) {
+      // the first page takes the names before the first names of all the other pages
+      int index = 0;
+      int low = 1;
+      int high = mFirstNames.size() - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (mFirstNames.get(mid).compareTo(name) <= 0) {
+          index = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return index;
+    }
+  }
+
+  /**
+   * A part of the directories, with the addresses of their pages.
+   */
+  private static final class Shard {
+    private final ReadWriteLock mLock = new ReentrantReadWriteLock();
+    /** The address of the page of each directory with a single page. */
+    private final Long2LongOpenHashMap mSmall = new Long2LongOpenHashMap();
+    /** The directories with more than one page. */
+    private final Long2ObjectOpenHashMap<LargeDirectory> mLarge = new Long2ObjectOpenHashMap<>();
+
+    private Shard() {
+      mSmall.defaultReturnValue(NO_ADDRESS);
+    }
+  }
+}
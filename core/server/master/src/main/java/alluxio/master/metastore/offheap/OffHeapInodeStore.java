@@ -0,0 +1,348 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import alluxio.master.file.meta.EdgeEntry;
+import alluxio.master.file.meta.Inode;
+import alluxio.master.file.meta.InodeDirectoryView;
+import alluxio.master.file.meta.MutableInode;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.master.journal.checkpoint.CheckpointOutputStream;
+import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.metastore.InodeStore;
+import alluxio.master.metastore.ReadOption;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.proto.meta.InodeMeta;
+import alluxio.proto.shared.Acl;
+import alluxio.resource.CloseableIterator;
+import alluxio.resource.LockResource;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.StreamSupport;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * FileStore implementation keeping the inodes outside of the Java heap. Each inode is encoded as
+ * its protocol buffer, with the owner, group and persistence state replaced by ids from a
+ * {@link StringDictionary}, and stored in an {@link OffHeapArena}. The ids of the inodes are
+ * mapped to the addresses of their records by primitive maps. The edges are kept in the same
+ * arena by an {@link OffHeapEdgeStore}, so the heap holds about 16 bytes per inode and 16 bytes
+ * per directory, plus one child name per page of children of the large directories.
+ *
+ * Inodes are materialized on every read, so as with the RocksDB store, the inodes returned are
+ * copies, and changes to them must be written back to the store.
+ */
+@ThreadSafe
+public class OffHeapInodeStore implements InodeStore {
+  private static final Logger LOG = LoggerFactory.getLogger(OffHeapInodeStore.class);
+  private static final int NUM_SHARDS = 256;
+  private static final long NO_ADDRESS = -1;
+
+  private final Shard[] mShards = new Shard[NUM_SHARDS];
+  private final OffHeapArena mArena;
+  private final StringDictionary mDictionary = new StringDictionary();
+  private final OffHeapEdgeStore mEdges;
+
+  /**
+   * Construct an off-heap inode store.
+   */
+  public OffHeapInodeStore() {
+    this(new OffHeapArena());
+  }
+
+  OffHeapInodeStore(OffHeapArena arena) {
+    mArena = arena;
+    mEdges = new OffHeapEdgeStore(arena);
+    for (int i = 0; i < NUM_SHARDS; i++) {
+      mShards[i] = new Shard();
+    }
+    MetricsSystem.registerGaugeIfAbsent(MetricKey.MASTER_INODE_OFF_HEAP_SIZE.getName(),
+        mArena::getAllocatedBytes);
+  }
+
+  @Override
+  public void remove(Long inodeId) {
+    Shard shard = shard(inodeId);
+    try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+      long address = shard.mAddresses.remove((long) inodeId);
+      if (address != NO_ADDRESS) {
+        mArena.free(address);
+      }
+    }
+  }
+
+  @Override
+  public void writeNewInode(MutableInode<?> inode) {
+    byte[] record = encode(inode);
+    Shard shard = shard(inode.getId());
+    try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+      long existingAddress = shard.mAddresses.get(inode.getId());
+      if (existingAddress == NO_ADDRESS) {
+        shard.mAddresses.put(inode.getId(), mArena.allocate(record));
+        return;
+      }
+      MutableInode<?> existingInode = decode(mArena.read(existingAddress));
+      if (!existingInode.getName().equals(inode.getName())) {
+        LOG.error(
+            "[InodeTreeCorruption] trying writing the inode name {} id {}, parent id {}, "
+                + "but a different inode name {} id {} parent id {} already exists. "
+                + "Your journal files are probably corrupted!",
+            inode.getName(), inode.getId(), inode.getParentId(),
+            existingInode.getName(), existingInode.getId(), existingInode.getParentId());
+      }
+    }
+  }
+
+  @Override
+  public void writeInode(MutableInode<?> inode) {
+    byte[] record = encode(inode);
+    Shard shard = shard(inode.getId());
+    try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+      long previousAddress = shard.mAddresses.put(inode.getId(), mArena.allocate(record));
+      if (previousAddress != NO_ADDRESS) {
+        mArena.free(previousAddress);
+      }
+    }
+  }
+
+  @Override
+  public void addChild(long parentId, String childName, Long childId) {
+    mEdges.put(parentId, childName, childId);
+  }
+
+  @Override
+  public void removeChild(long parentId, String name) {
+    mEdges.remove(parentId, name);
+  }
+
+  @Override
+  public Optional<MutableInode<?>> getMutable(long id, ReadOption option) {
+    Shard shard = shard(id);
+    byte[] record;
+    try (LockResource r = new LockResource(shard.mLock.readLock())) {
+      long address = shard.mAddresses.get(id);
+      if (address == NO_ADDRESS) {
+        return Optional.empty();
+      }
+      record = mArena.read(address);
+    }
+    return Optional.of(decode(record));
+  }
+
+  @Override
+  public CloseableIterator<? extends Inode> getChildren(Long inodeId, ReadOption option) {
+    CloseableIterator<Long> childIter = getChildIds(inodeId, option);
+    return CloseableIterator.create(StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(childIter, Spliterator.ORDERED), false)
+        .map(this::get)
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .map(Inode::wrap).iterator(), (any) -> childIter.close());
+  }
+
+  @Override
+  public Optional<Long> getChildId(Long inodeId, String child, ReadOption option) {
+    return Optional.ofNullable(mEdges.get(inodeId, child));
+  }
+
+  @Override
+  public Optional<Inode> getChild(Long inodeId, String child, ReadOption option) {
+    return getChildId(inodeId, child)
+        .flatMap(this::get)
+        .map(Inode::wrap);
+  }
+
+  @Override
+  public boolean hasChildren(InodeDirectoryView dir, ReadOption option) {
+    return mEdges.hasChildren(dir.getId());
+  }
+
+  @Override
+  public CloseableIterator<Long> getChildIds(Long inodeId, ReadOption option) {
+    return CloseableIterator.noopCloseable(mEdges.childIds(inodeId, option));
+  }
+
+  @Override
+  public Set<EdgeEntry> allEdges() {
+    return mEdges.allEdges();
+  }
+
+  @Override
+  public Set<MutableInode<?>> allInodes() {
+    Set<MutableInode<?>> inodes = new HashSet<>();
+    for (Shard shard : mShards) {
+      try (LockResource r = new LockResource(shard.mLock.readLock())) {
+        for (long address : shard.mAddresses.values()) {
+          inodes.add(decode(mArena.read(address)));
+        }
+      }
+    }
+    return inodes;
+  }
+
+  @Override
+  public boolean supportsOptimisticReads() {
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    for (Shard shard : mShards) {
+      try (LockResource r = new LockResource(shard.mLock.writeLock())) {
+        shard.mAddresses.clear();
+        shard.mAddresses.trim();
+      }
+    }
+    mEdges.clear();
+    mArena.clear();
+    mDictionary.clear();
+  }
+
+  @Override
+  public void close() {
+    clear();
+  }
+
+  @Override
+  public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
+    output = new CheckpointOutputStream(output, CheckpointType.INODE_PROTOS);
+    for (Shard shard : mShards) {
+      try (LockResource r = new LockResource(shard.mLock.readLock())) {
+        for (long address : shard.mAddresses.values()) {
+          if (Thread.interrupted()) {
+            throw new InterruptedException();
+          }
+          decodeProto(mArena.read(address)).writeDelimitedTo(output);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+    Preconditions.checkState(input.getType() == CheckpointType.INODE_PROTOS,
+        "Unexpected checkpoint type in off-heap inode store: " + input.getType());
+    InodeMeta.Inode inodeProto;
+    while ((inodeProto = InodeMeta.Inode.parseDelimitedFrom(input)) != null) {
+      MutableInode<?> inode = MutableInode.fromProto(inodeProto);
+      writeInode(inode);
+      mEdges.put(inode.getParentId(), inode.getName(), inode.getId());
+    }
+  }
+
+  /**
+   * The checkpoint has the same name and format as the one of the heap inode store, so that a
+   * master can switch between the two stores without losing its metadata.
+   */
+  @Override
+  public CheckpointName getCheckpointName() {
+    return CheckpointName.HEAP_INODE_STORE;
+  }
+
+  private Shard shard(long inodeId) {
+    return mShards[(int) (HashCommon.mix(inodeId) & (NUM_SHARDS - 1))];
+  }
+
+  /**
+   * Encodes an inode as the ids of its interned strings followed by its protocol buffer without
+   * these strings.
+   */
+  private byte[] encode(MutableInode<?> inode) {
+    InodeMeta.Inode.Builder proto = inode.toProto().toBuilder();
+    int ownerId = StringDictionary.NO_STRING;
+    int groupId = StringDictionary.NO_STRING;
+    if (proto.hasAccessAcl()) {
+      Acl.AccessControlList.Builder acl = proto.getAccessAclBuilder();
+      ownerId = mDictionary.getId(acl.getOwningUser());
+      groupId = mDictionary.getId(acl.getOwningGroup());
+      acl.clearOwningUser().clearOwningGroup();
+    }
+    int persistenceStateId = mDictionary.getId(proto.getPersistenceState());
+    proto.clearPersistenceState();
+    InodeMeta.Inode stripped = proto.build();
+    int size = CodedOutputStream.computeUInt32SizeNoTag(ownerId)
+        + CodedOutputStream.computeUInt32SizeNoTag(groupId)
+        + CodedOutputStream.computeUInt32SizeNoTag(persistenceStateId)
+        + stripped.getSerializedSize();
+    byte[] record = new byte[size];
+    CodedOutputStream output = CodedOutputStream.newInstance(record);
+    try {
+      output.writeUInt32NoTag(ownerId);
+      output.writeUInt32NoTag(groupId);
+      output.writeUInt32NoTag(persistenceStateId);
+      stripped.writeTo(output);
+      output.checkNoSpaceLeft();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode inode " + inode.getId(), e);
+    }
+    return record;
+  }
+
+  private MutableInode<?> decode(byte[] record) {
+    return MutableInode.fromProto(decodeProto(record));
+  }
+
+  private InodeMeta.Inode decodeProto(byte[] record) {
+    CodedInputStream input = CodedInputStream.newInstance(record);
+    try {
+      String owner = mDictionary.getString(input.readUInt32());
+      String group = mDictionary.getString(input.readUInt32());
+      String persistenceState = mDictionary.getString(input.readUInt32());
+      InodeMeta.Inode.Builder proto = InodeMeta.Inode.parseFrom(input).toBuilder();
+      if (proto.hasAccessAcl()) {
+        Acl.AccessControlList.Builder acl = proto.getAccessAclBuilder();
+        if (owner != null) {
+          acl.setOwningUser(owner);
+        }
+        if (group != null) {
+          acl.setOwningGroup(group);
+        }
+      }
+      if (persistenceState != null) {
+        proto.setPersistenceState(persistenceState);
+      }
+      return proto.build();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to decode inode", e);
+    }
+  }
+
+  /**
+   * A part of the inodes, with the addresses of their records.
+   */
+  private static final class Shard {
+    private final ReadWriteLock mLock = new ReentrantReadWriteLock();
+    private final Long2LongOpenHashMap mAddresses = new Long2LongOpenHashMap();
+
+    private Shard() {
+      mAddresses.defaultReturnValue(NO_ADDRESS);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Assigns ids to the strings repeated across many inodes, like owners and groups, so that each
+ * inode stores the id instead of the string. Ids start at 1, 0 standing for a missing string.
+ * Strings are never removed from the dictionary until it is cleared.
+ */
+@ThreadSafe
+final class StringDictionary {
+  static final int NO_STRING = 0;
+
+  private final Map<String, Integer> mIds = new ConcurrentHashMap<>();
+  /** The string of each id, replaced by a larger array when it is full. */
+  private volatile String[] mStrings = new String[16];
+  private int mSize;
+
+  /**
+   * @param string a string, or null
+   * @return the id of the string, or {@link #NO_STRING} for a null or empty string
+   */
+  int getId(String string) {
+    if (string == null || string.isEmpty()) {
+      return NO_STRING;
+    }
+    Integer id = mIds.get(string);
+    if (id != null) {
+      return id;
+    }
+    synchronized (this) {
+      id = mIds.get(string);
+      if (id != null) {
+        return id;
+      }
+      id = ++mSize;
+      String[] strings = mStrings;
+      if (id >= strings.length) {
+        strings = Arrays.copyOf(strings, strings.length * 2);
+      }
+      strings[id] = string;
+      mStrings = strings;
+      mIds.put(string, id);
+      return id;
+    }
+  }
+
+  /**
+   * @param id the id of a string
+   * @return the string, or null for {@link #NO_STRING}
+   */
+  String getString(int id) {
+    return id == NO_STRING ? null : mStrings[id];
+  }
+
+  /**
+   * Removes all the strings.
+   */
+  synchronized void clear() {
+    mIds.clear();
+    mStrings = new String[16];
+    mSize = 0;
+  }
+}
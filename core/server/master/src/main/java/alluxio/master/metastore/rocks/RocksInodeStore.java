@@ -34,6 +34,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Longs;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -41,6 +42,7 @@ import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.Env;
 import org.rocksdb.HashLinkedListMemTableConfig;
+import org.rocksdb.LRUCache;
 import org.rocksdb.OptionsUtil;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
@@ -166,15 +168,21 @@ public class RocksInodeStore implements InodeStore, RocksCheckpointed {
 
     // The following options are set by property keys as they are not able to be
     // set using configuration files.
+    Cache sharedCache = null;
+    if (Configuration.isSet(PropertyKey.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE)) {
+      sharedCache = new LRUCache(
+          Configuration.getBytes(PropertyKey.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE));
+      mToClose.add(sharedCache);
+    }
     checkSetTableConfig(PropertyKey.MASTER_METASTORE_ROCKS_INODE_CACHE_SIZE,
         PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOOM_FILTER,
         PropertyKey.MASTER_METASTORE_ROCKS_INODE_INDEX,
-        PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOCK_INDEX, mToClose)
+        PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOCK_INDEX, sharedCache, mToClose)
         .ifPresent(cfg -> columns.get(0).getOptions().setTableFormatConfig(cfg));
     checkSetTableConfig(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_CACHE_SIZE,
         PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER,
         PropertyKey.MASTER_METASTORE_ROCKS_EDGE_INDEX,
-        PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOCK_INDEX, mToClose)
+        PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOCK_INDEX, sharedCache, mToClose)
         .ifPresent(cfg -> columns.get(1).getOptions().setTableFormatConfig(cfg));
 
     mRocksStore = new RocksStore(ROCKS_STORE_NAME, dbPath, backupPath, opts, columns,
@@ -560,6 +568,11 @@ public class RocksInodeStore implements InodeStore, RocksCheckpointed {
     }
   }
 
+  @Override
+  public boolean supportsOptimisticReads() {
+    return true;
+  }
+
   @Override
   public boolean supportsBatchWrite() {
     return true;
@@ -697,4 +710,15 @@ public class RocksInodeStore implements InodeStore, RocksCheckpointed {
   public Pair<RocksDB, AtomicReference<ColumnFamilyHandle>> getDBInodeColumn() {
     return new Pair<>(db(), mInodesColumn);
   }
+
+  /**
+   * A testing only method to access the internal objects.
+   * For simplicity, no thread safety is provided on the escaping objects.
+   *
+   * @return the RocksDB objects references the EdgesColumn
+   */
+  @VisibleForTesting
+  public Pair<RocksDB, AtomicReference<ColumnFamilyHandle>> getDBEdgeColumn() {
+    return new Pair<>(db(), mEdgesColumn);
+  }
 }
@@ -22,6 +22,7 @@ import alluxio.master.journal.checkpoint.CheckpointType;
 import alluxio.retry.CountingRetry;
 import alluxio.retry.TimeoutRetry;
 import alluxio.util.SleepUtils;
+import alluxio.util.compression.ParallelDeflateMarshaller;
 import alluxio.util.compression.ParallelZipUtils;
 import alluxio.util.compression.TarUtils;
 import alluxio.util.io.FileUtils;
@@ -63,6 +64,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -115,6 +117,8 @@ public final class RocksStore implements Closeable {
       PropertyKey.MASTER_EMBEDDED_JOURNAL_SNAPSHOT_REPLICATION_COMPRESSION_LEVEL);
   private final boolean mParallelBackup = Configuration.getBoolean(
       PropertyKey.MASTER_METASTORE_ROCKS_PARALLEL_BACKUP);
+  private final boolean mStreamedBackup = Configuration.getBoolean(
+      PropertyKey.MASTER_METASTORE_ROCKS_STREAMED_BACKUP);
 
   /*
    * Below 2 fields are created and managed by the external user class,
@@ -319,7 +323,13 @@ public final class RocksStore implements Closeable {
       throw new IOException(e);
     }
 
-    if (mParallelBackup) {
+    if (mStreamedBackup) {
+      CheckpointOutputStream out = new CheckpointOutputStream(output,
+          CheckpointType.ROCKS_STREAMED);
+      LOG.info("Checkpoint complete, streaming with {} threads", mParallelBackupPoolSize);
+      new ParallelDeflateMarshaller(mParallelBackupPoolSize, mCompressLevel)
+          .write(Paths.get(mDbCheckpointPath), out);
+    } else if (mParallelBackup) {
       CheckpointOutputStream out = new CheckpointOutputStream(output,
           CheckpointType.ROCKS_PARALLEL);
       LOG.info("Checkpoint complete, compressing with {} threads", mParallelBackupPoolSize);
@@ -364,12 +374,16 @@ public final class RocksStore implements Closeable {
     LOG.info("Restoring rocksdb from checkpoint");
     long startNano = System.nanoTime();
     Preconditions.checkState(input.getType() == CheckpointType.ROCKS_SINGLE
-        || input.getType() == CheckpointType.ROCKS_PARALLEL,
+        || input.getType() == CheckpointType.ROCKS_PARALLEL
+        || input.getType() == CheckpointType.ROCKS_STREAMED,
         "Unexpected checkpoint type in RocksStore: " + input.getType());
     stopDb();
     FileUtils.deletePathRecursively(mDbPath);
 
-    if (input.getType() == CheckpointType.ROCKS_PARALLEL) {
+    if (input.getType() == CheckpointType.ROCKS_STREAMED) {
+      new ParallelDeflateMarshaller(mParallelBackupPoolSize, mCompressLevel)
+          .read(Paths.get(mDbPath), input);
+    } else if (input.getType() == CheckpointType.ROCKS_PARALLEL) {
       List<String> tmpDirs = Configuration.getList(PropertyKey.TMP_DIRS);
       String tmpZipFilePath = new File(tmpDirs.get(0), "alluxioRockStore-" + UUID.randomUUID())
               .getPath();
@@ -413,6 +427,14 @@ public final class RocksStore implements Closeable {
   static Optional<BlockBasedTableConfig> checkSetTableConfig(
       PropertyKey cacheSize, PropertyKey bloomFilter, PropertyKey indexType,
       PropertyKey blockIndexType, List<RocksObject> toClose) {
+    return checkSetTableConfig(cacheSize, bloomFilter, indexType, blockIndexType, null, toClose);
+  }
+
+  // helper function to load RockDB configuration options based on property key configurations,
+  // using the shared cache as block cache when the cache size of the table is not set.
+  static Optional<BlockBasedTableConfig> checkSetTableConfig(
+      PropertyKey cacheSize, PropertyKey bloomFilter, PropertyKey indexType,
+      PropertyKey blockIndexType, @Nullable Cache sharedCache, List<RocksObject> toClose) {
     // The following options are set by property keys as they are not able to be
     // set using configuration files.
     BlockBasedTableConfig blockConfig = new BlockBasedTableConfig();
@@ -423,12 +445,18 @@ public final class RocksStore implements Closeable {
       Cache inodeCache = new LRUCache(Configuration.getInt(cacheSize));
       toClose.add(inodeCache);
       blockConfig.setBlockCache(inodeCache);
+    } else if (sharedCache != null) {
+      shoudSetConfig = true;
+      blockConfig.setBlockCache(sharedCache);
     }
     if (Configuration.getBoolean(bloomFilter)) {
       shoudSetConfig = true;
-      Filter filter = new BloomFilter();
+      // With the fixed length prefix extractor of the column, the filter holds the prefixes
+      // as well as the whole keys, serving both point lookups and prefix seeks
+      Filter filter = new BloomFilter(
+          Configuration.getDouble(PropertyKey.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY));
       toClose.add(filter);
-      blockConfig.setFilterPolicy(filter);
+      blockConfig.setFilterPolicy(filter).setWholeKeyFiltering(true);
     }
     if (Configuration.isSet(indexType)) {
       shoudSetConfig = true;
@@ -440,6 +468,20 @@ public final class RocksStore implements Closeable {
       blockConfig.setDataBlockIndexType(toRocksDataBlockIndexType(Configuration.getEnum(
           blockIndexType, alluxio.master.metastore.rocks.DataBlockIndexType.class)));
     }
+    if (Configuration.getBoolean(PropertyKey.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER)) {
+      Preconditions.checkArgument(!Configuration.isSet(indexType)
+          || blockConfig.indexType() == IndexType.kTwoLevelIndexSearch,
+          "%s must be unset or kTwoLevelIndexSearch when %s is enabled", indexType,
+          PropertyKey.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER);
+      shoudSetConfig = true;
+      // Only the top level of the index and filter stays in memory, the partitions go through
+      // the block cache. Level 0 files are the most read, so their blocks are kept pinned.
+      blockConfig.setIndexType(IndexType.kTwoLevelIndexSearch)
+          .setPartitionFilters(true)
+          .setCacheIndexAndFilterBlocks(true)
+          .setPinTopLevelIndexAndFilter(true)
+          .setPinL0FilterAndIndexBlocksInCache(true);
+    }
     if (shoudSetConfig) {
       return Optional.of(blockConfig);
     }
@@ -47,6 +47,7 @@ import alluxio.master.journal.NoopJournalContext;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.caching.CachingInodeStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.master.metrics.MetricsMaster;
 import alluxio.master.metrics.MetricsMasterFactory;
@@ -79,6 +80,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -125,6 +127,7 @@ public final class InodeTreeTest {
         () -> new CachingInodeStore(new RocksInodeStore(dir), new InodeLockManager()),
         () -> new CachingInodeStore(new HeapInodeStore(), new InodeLockManager()),
         HeapInodeStore::new,
+        OffHeapInodeStore::new,
         () -> new RocksInodeStore(dir));
   }
 
@@ -145,6 +148,7 @@ public final class InodeTreeTest {
       new ConfigurationRule(new ImmutableMap.Builder<PropertyKey, Object>()
           .put(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_ENABLED, true)
           .put(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_SUPERGROUP, "test-supergroup")
+          .put(PropertyKey.MASTER_FILE_SYSTEM_OPTIMISTIC_READ_ENABLED, true)
           .build(), Configuration.modifiableGlobal());
 
   /**
@@ -499,6 +503,46 @@ public final class InodeTreeTest {
     assertFalse(mTree.inodePathExists(TEST_URI));
   }
 
+  /**
+   * Tests {@link InodeTree#readOptimistically(AlluxioURI, InodeTree.OptimisticRead)}.
+   */
+  @Test
+  public void readOptimistically() throws Exception {
+    createPath(mTree, NESTED_FILE_URI, sNestedFileContext);
+    MutableInode<?> inode = getInodeByPath(NESTED_FILE_URI);
+
+    Optional<Long> id = mTree.readOptimistically(NESTED_FILE_URI, inodePath -> {
+      assertTrue(inodePath.isOptimistic());
+      assertEquals(4, inodePath.getExistingInodeCount());
+      return inodePath.getInode().getId();
+    });
+    if (mInodeStore.supportsOptimisticReads()) {
+      assertEquals(Optional.of(inode.getId()), id);
+    } else {
+      assertFalse(id.isPresent());
+    }
+    // a missing path fails the read
+    assertFalse(mTree.readOptimistically(TEST_URI,
+        inodePath -> inodePath.getInode().getId()).isPresent());
+  }
+
+  /**
+   * Tests that a read overlapping with a change of the inode tree is not returned.
+   */
+  @Test
+  public void readOptimisticallyConflict() throws Exception {
+    createPath(mTree, NESTED_FILE_URI, sNestedFileContext);
+
+    Optional<Long> id = mTree.readOptimistically(NESTED_FILE_URI, inodePath -> {
+      createPath(mTree, TEST_URI, sFileContext);
+      return inodePath.getInode().getId();
+    });
+    assertFalse(id.isPresent());
+    assertEquals(mInodeStore.supportsOptimisticReads(),
+        mTree.readOptimistically(NESTED_FILE_URI,
+            inodePath -> inodePath.getInode().getId()).isPresent());
+  }
+
   /**
    * Tests that an exception is thrown when trying to get an Inode by a non-existing path.
    */
@@ -46,6 +46,7 @@ public class InodeStoreCheckpointTest {
   public static Collection<Object[]> data() {
     return Arrays.asList(new Object[][] {
         {MetastoreType.HEAP, 0},
+        {MetastoreType.OFF_HEAP, 0},
         {MetastoreType.ROCKS, PropertyKey.MASTER_METASTORE_INODE_CACHE_MAX_SIZE.getDefaultValue()},
         {MetastoreType.ROCKS, 0}
     });
@@ -28,6 +28,7 @@ import alluxio.master.file.meta.MutableInodeDirectory;
 import alluxio.master.file.meta.MutableInodeFile;
 import alluxio.master.metastore.caching.CachingInodeStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.resource.LockResource;
 
@@ -57,6 +58,7 @@ public class InodeStoreTestBase {
 
     return Arrays.asList(
         lockManager -> new HeapInodeStore(),
+        lockManager -> new OffHeapInodeStore(),
         lockManager -> new RocksInodeStore(sDir),
         lockManager -> new CachingInodeStore(new RocksInodeStore(sDir), lockManager));
   }
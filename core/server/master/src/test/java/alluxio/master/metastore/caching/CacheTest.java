@@ -0,0 +1,143 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.caching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.metrics.Metric;
+import alluxio.metrics.MetricInfo;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests for the sharding of {@link Cache}.
+ */
+public final class CacheTest {
+  private static final int NUM_SHARDS = 4;
+  private static final int MAX_SIZE = NUM_SHARDS * Cache.MIN_SHARD_SIZE;
+
+  private final Map<Long, String> mBackingStore = new ConcurrentHashMap<>();
+  private TestCache mCache;
+
+  @After
+  public void after() {
+    if (mCache != null) {
+      mCache.close();
+    }
+  }
+
+  @Test
+  public void smallCacheUsesFewerShards() {
+    mCache = new TestCache(2 * Cache.MIN_SHARD_SIZE, 8);
+    assertEquals(2, mCache.mShards.size());
+    mCache.close();
+    mCache = new TestCache(Cache.MIN_SHARD_SIZE / 2, 8);
+    assertEquals(1, mCache.mShards.size());
+  }
+
+  @Test
+  public void evictToBackingStore() throws Exception {
+    mCache = new TestCache(MAX_SIZE, NUM_SHARDS);
+    assertEquals(NUM_SHARDS, mCache.mShards.size());
+    int numEntries = 3 * MAX_SIZE;
+    for (long key = 0; key < numEntries; key++) {
+      mCache.put(key, Long.toString(key));
+    }
+    // each shard evicts down to its low water mark once over its high water mark
+    CommonUtils.waitFor("eviction threads to finish",
+        () -> mCache.size() <= MAX_SIZE * 8 / 10,
+        WaitForOptions.defaults().setTimeoutMs(30_000));
+    // every shard evicted some of its entries
+    for (Cache<Long, String>.Shard shard : mCache.mShards) {
+      assertTrue(shard.mMap.size() < numEntries / NUM_SHARDS);
+    }
+    for (long key = 0; key < numEntries; key++) {
+      assertEquals(Optional.of(Long.toString(key)), mCache.get(key));
+    }
+    mCache.flush();
+    assertEquals(numEntries, mBackingStore.size());
+  }
+
+  @Test
+  public void shardStats() {
+    mCache = new TestCache(MAX_SIZE, NUM_SHARDS);
+    long hits = MetricsSystem.counter(MetricKey.MASTER_INODE_CACHE_HITS.getName()).getCount();
+    long shardHits = shardHits();
+    for (long key = 0; key < 100; key++) {
+      mCache.put(key, Long.toString(key));
+      mCache.get(key);
+    }
+    assertEquals(100,
+        MetricsSystem.counter(MetricKey.MASTER_INODE_CACHE_HITS.getName()).getCount() - hits);
+    assertEquals(100, shardHits() - shardHits);
+  }
+
+  private static long shardHits() {
+    long hits = 0;
+    for (int i = 0; i < NUM_SHARDS; i++) {
+      hits += MetricsSystem.counter(Metric.getMetricNameWithTags(
+          MetricKey.MASTER_INODE_CACHE_HITS.getName(), MetricInfo.TAG_SHARD,
+          Integer.toString(i))).getCount();
+    }
+    return hits;
+  }
+
+  private final class TestCache extends Cache<Long, String> {
+    TestCache(int maxSize, int numShards) {
+      super(CacheConfiguration.newBuilder().setMaxSize(maxSize)
+          .setHighWaterMark(maxSize * 8 / 10).setLowWaterMark(maxSize * 6 / 10)
+          .setEvictBatchSize(100).setNumShards(numShards).build(),
+          "test-cache", MetricKey.MASTER_INODE_CACHE_EVICTIONS,
+          MetricKey.MASTER_INODE_CACHE_HITS, MetricKey.MASTER_INODE_CACHE_LOAD_TIMES,
+          MetricKey.MASTER_INODE_CACHE_MISSES, MetricKey.MASTER_INODE_CACHE_SIZE,
+          MetricKey.MASTER_INODE_CACHE_EVICTION_TIME);
+    }
+
+    @Override
+    protected Optional<String> load(Long key) {
+      return Optional.ofNullable(mBackingStore.get(key));
+    }
+
+    @Override
+    protected void writeToBackingStore(Long key, String value) {
+      mBackingStore.put(key, value);
+    }
+
+    @Override
+    protected void removeFromBackingStore(Long key) {
+      mBackingStore.remove(key);
+    }
+
+    @Override
+    protected void flushEntries(List<Entry> candidates) {
+      for (Entry entry : candidates) {
+        if (entry.mValue == null) {
+          mBackingStore.remove(entry.mKey);
+        } else {
+          mBackingStore.put(entry.mKey, entry.mValue);
+        }
+        entry.mDirty = false;
+      }
+    }
+  }
+}
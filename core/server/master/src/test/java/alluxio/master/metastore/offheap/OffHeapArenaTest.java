@@ -0,0 +1,96 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import alluxio.util.io.BufferUtils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link OffHeapArena}.
+ */
+public final class OffHeapArenaTest {
+  private static final int CHUNK_SIZE = 4096;
+
+  private final OffHeapArena mArena = new OffHeapArena(CHUNK_SIZE);
+
+  @After
+  public void after() {
+    mArena.close();
+  }
+
+  @Test
+  public void allocateAndRead() {
+    List<byte[]> records = new ArrayList<>();
+    List<Long> addresses = new ArrayList<>();
+    // enough records to fill several chunks
+    for (int i = 0; i < 100; i++) {
+      byte[] record = BufferUtils.getIncreasingByteArray(i, i * 3);
+      records.add(record);
+      addresses.add(mArena.allocate(record));
+    }
+    for (int i = 0; i < records.size(); i++) {
+      assertArrayEquals(records.get(i), mArena.read(addresses.get(i)));
+    }
+  }
+
+  @Test
+  public void reuseFreedRecord() {
+    long address = mArena.allocate(new byte[100]);
+    long allocated = mArena.getAllocatedBytes();
+    mArena.free(address);
+    assertEquals(0, mArena.getUsedBytes());
+    byte[] record = BufferUtils.getIncreasingByteArray(98);
+    assertEquals(address, mArena.allocate(record));
+    assertArrayEquals(record, mArena.read(address));
+    assertEquals(allocated, mArena.getAllocatedBytes());
+  }
+
+  @Test
+  public void recordLargerThanChunk() {
+    byte[] small = BufferUtils.getIncreasingByteArray(10);
+    byte[] large = BufferUtils.getIncreasingByteArray(3 * CHUNK_SIZE);
+    long smallAddress = mArena.allocate(small);
+    long largeAddress = mArena.allocate(large);
+    long nextAddress = mArena.allocate(small);
+    assertArrayEquals(small, mArena.read(smallAddress));
+    assertArrayEquals(large, mArena.read(largeAddress));
+    assertArrayEquals(small, mArena.read(nextAddress));
+  }
+
+  @Test
+  public void capacity() {
+    assertEquals(16, OffHeapArena.capacity(0));
+    assertEquals(112, OffHeapArena.capacity(100));
+    assertEquals(1024, OffHeapArena.capacity(1020));
+    // larger records are rounded up to an eighth of a power of two
+    assertEquals(1152, OffHeapArena.capacity(1021));
+    assertEquals(10240, OffHeapArena.capacity(10000));
+  }
+
+  @Test
+  public void clear() {
+    mArena.allocate(new byte[100]);
+    mArena.clear();
+    assertEquals(0, mArena.getAllocatedBytes());
+    assertEquals(0, mArena.getUsedBytes());
+    byte[] record = BufferUtils.getIncreasingByteArray(10);
+    assertArrayEquals(record, mArena.read(mArena.allocate(record)));
+  }
+}
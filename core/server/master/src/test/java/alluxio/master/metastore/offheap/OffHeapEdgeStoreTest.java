@@ -0,0 +1,133 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.master.file.meta.EdgeEntry;
+import alluxio.master.metastore.ReadOption;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests for {@link OffHeapEdgeStore}.
+ */
+public final class OffHeapEdgeStoreTest {
+  private static final long PARENT_ID = 1;
+  private static final int LARGE_DIR_CHILDREN = 10 * OffHeapEdgeStore.PAGE_ENTRIES;
+
+  private final OffHeapArena mArena = new OffHeapArena(1024 * 1024);
+  private final OffHeapEdgeStore mEdges = new OffHeapEdgeStore(mArena);
+
+  @After
+  public void after() {
+    mArena.close();
+  }
+
+  @Test
+  public void putGetRemove() {
+    assertFalse(mEdges.hasChildren(PARENT_ID));
+    mEdges.put(PARENT_ID, "b", 2);
+    mEdges.put(PARENT_ID, "a", 3);
+    mEdges.put(PARENT_ID, "b", 4);
+    mEdges.put(PARENT_ID + 1, "a", 5);
+    assertTrue(mEdges.hasChildren(PARENT_ID));
+    assertEquals(Long.valueOf(3), mEdges.get(PARENT_ID, "a"));
+    assertEquals(Long.valueOf(4), mEdges.get(PARENT_ID, "b"));
+    assertNull(mEdges.get(PARENT_ID, "c"));
+    assertEquals(ImmutableList.of(3L, 4L),
+        Lists.newArrayList(mEdges.childIds(PARENT_ID, ReadOption.defaults())));
+    mEdges.remove(PARENT_ID, "a");
+    mEdges.remove(PARENT_ID, "b");
+    assertFalse(mEdges.hasChildren(PARENT_ID));
+    assertEquals(Long.valueOf(5), mEdges.get(PARENT_ID + 1, "a"));
+  }
+
+  @Test
+  public void largeDirectory() {
+    // names sharing long prefixes, added out of order
+    for (int i = LARGE_DIR_CHILDREN - 1; i >= 0; i--) {
+      mEdges.put(PARENT_ID, name(i), i);
+    }
+    assertTrue(mEdges.getPageCount(PARENT_ID) > 1);
+    for (int i = 0; i < LARGE_DIR_CHILDREN; i++) {
+      assertEquals(Long.valueOf(i), mEdges.get(PARENT_ID, name(i)));
+    }
+    assertEquals(ids(0, LARGE_DIR_CHILDREN),
+        Lists.newArrayList(mEdges.childIds(PARENT_ID, ReadOption.defaults())));
+    // removing most of the children merges the pages back
+    for (int i = 1; i < LARGE_DIR_CHILDREN; i++) {
+      mEdges.remove(PARENT_ID, name(i));
+    }
+    assertEquals(1, mEdges.getPageCount(PARENT_ID));
+    assertEquals(ImmutableList.of(0L),
+        Lists.newArrayList(mEdges.childIds(PARENT_ID, ReadOption.defaults())));
+  }
+
+  @Test
+  public void iterateFromAndWithPrefix() {
+    for (int i = 0; i < LARGE_DIR_CHILDREN; i++) {
+      mEdges.put(PARENT_ID, name(i), i);
+    }
+    mEdges.put(PARENT_ID, "other", LARGE_DIR_CHILDREN);
+    assertEquals(ids(500, LARGE_DIR_CHILDREN + 1), Lists.newArrayList(mEdges.childIds(PARENT_ID,
+        ReadOption.newBuilder().setReadFrom(name(500)).build())));
+    // the names with the prefix are the ones of the children 1000 to 1099
+    assertEquals(ids(1000, 1100), Lists.newArrayList(mEdges.childIds(PARENT_ID,
+        ReadOption.newBuilder().setPrefix("file-000010").build())));
+    assertEquals(ids(1050, 1100), Lists.newArrayList(mEdges.childIds(PARENT_ID,
+        ReadOption.newBuilder().setPrefix("file-000010").setReadFrom(name(1050)).build())));
+    assertEquals(ImmutableList.of(), Lists.newArrayList(mEdges.childIds(PARENT_ID,
+        ReadOption.newBuilder().setPrefix("none").build())));
+  }
+
+  @Test
+  public void allEdgesAndClear() {
+    Set<String> expected = new HashSet<>();
+    for (int i = 0; i < LARGE_DIR_CHILDREN; i++) {
+      long parentId = i % 3;
+      mEdges.put(parentId, name(i), i);
+      expected.add(parentId + "/" + name(i) + "=" + i);
+    }
+    Set<String> edges = new HashSet<>();
+    for (EdgeEntry edge : mEdges.allEdges()) {
+      edges.add(edge.getParentId() + "/" + edge.getChildName() + "=" + edge.getChildId());
+    }
+    assertEquals(expected, edges);
+    mEdges.clear();
+    assertTrue(mEdges.allEdges().isEmpty());
+    assertFalse(mEdges.hasChildren(0));
+  }
+
+  private static String name(int i) {
+    return String.format("file-%08d", i);
+  }
+
+  private static List<Long> ids(int from, int to) {
+    List<Long> ids = new ArrayList<>();
+    for (long i = from; i < to; i++) {
+      ids.add(i);
+    }
+    return ids;
+  }
+}
@@ -14,10 +14,12 @@ package alluxio.master.metastore.rocks;
 import static alluxio.master.metastore.rocks.RocksStoreTestUtils.waitForReaders;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import alluxio.collections.Pair;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
 import alluxio.master.file.contexts.CreateDirectoryContext;
@@ -35,6 +37,10 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.TableProperties;
 
 import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
@@ -44,7 +50,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -130,6 +138,51 @@ public class RocksInodeStoreTest {
     assertThat(mStore.toStringEntries(), containsString("name=dir"));
   }
 
+  @Test
+  public void tunedTables() throws Exception {
+    Configuration.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER, true);
+    Configuration.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOOM_FILTER, true);
+    Configuration.set(PropertyKey.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER, true);
+    Configuration.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE, "8MB");
+    RocksInodeStore store = new RocksInodeStore(mFolder.newFolder().getAbsolutePath());
+    try {
+      for (int i = 1; i < 20; i++) {
+        store.writeInode(
+            MutableInodeDirectory.create(i, 0, "dir" + i, CreateDirectoryContext.defaults()));
+        store.addChild(0, "dir" + i, (long) i);
+      }
+      // flush the memtables, so that the lookups below go through the table files
+      Pair<RocksDB, AtomicReference<ColumnFamilyHandle>> inodes = store.getDBInodeColumn();
+      Pair<RocksDB, AtomicReference<ColumnFamilyHandle>> edges = store.getDBEdgeColumn();
+      RocksDB db = inodes.getFirst();
+      List<ColumnFamilyHandle> columns =
+          Arrays.asList(inodes.getSecond().get(), edges.getSecond().get());
+      try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions, columns);
+      }
+      for (ColumnFamilyHandle column : columns) {
+        Map<String, TableProperties> tables = db.getPropertiesOfAllTables(column);
+        assertFalse(tables.isEmpty());
+        for (TableProperties table : tables.values()) {
+          assertThat(table.getFilterPolicyName(), containsString("BloomFilter"));
+          assertTrue(table.getFilterSize() > 0);
+          assertTrue(table.getIndexPartitions() > 0);
+        }
+      }
+      for (int i = 1; i < 20; i++) {
+        assertEquals(Optional.of((long) i), store.getChildId(0L, "dir" + i));
+        assertEquals("dir" + i, store.get(i).get().getName());
+      }
+      assertEquals(Optional.empty(), store.getChildId(0L, "missing"));
+    } finally {
+      store.close();
+      Configuration.unset(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER);
+      Configuration.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOOM_FILTER);
+      Configuration.unset(PropertyKey.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER);
+      Configuration.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE);
+    }
+  }
+
   @Test
   public void concurrentListAndClose() throws Exception {
     testConcurrentReaderAndClose(mCreateListReadersAbort);
@@ -32,6 +32,7 @@ import alluxio.wire.TieredIdentity;
 import alluxio.wire.WorkerNetAddress;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.grpc.GrpcDataServer;
+import alluxio.worker.netty.SendfileDataServer;
 
 import io.netty.channel.unix.DomainSocketAddress;
 import org.slf4j.Logger;
@@ -62,6 +63,9 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
   /** If started (i.e. not null), this server is used to serve local data transfer. */
   private DataServer mDomainSocketDataServer;
 
+  /** If started (i.e. not null), this server sends local block files to remote clients. */
+  private DataServer mSendfileDataServer;
+
   /** The worker registry. */
   private final WorkerRegistry mRegistry;
 
@@ -134,7 +138,9 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
         mBindSocket.close();
       }
       // Setup Data server
-      mDataServer = new GrpcDataServer(mRpcConnectAddress.getHostName(), mRpcBindAddress, this);
+      GrpcDataServer dataServer =
+          new GrpcDataServer(mRpcConnectAddress.getHostName(), mRpcBindAddress, this);
+      mDataServer = dataServer;
 
       // Setup domain socket data server
       if (isDomainSocketEnabled()) {
@@ -150,6 +156,16 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
         // Share domain socket so that clients can access it.
         FileUtils.changeLocalFileToFullPermission(domainSocketPath);
       }
+
+      // Setup sendfile data server, file regions cannot be sent through TLS. Its clients
+      // authenticate with the channels they authenticated with the gRPC data server.
+      if (Configuration.getBoolean(PropertyKey.WORKER_NETWORK_SENDFILE_ENABLED)
+          && !Configuration.getBoolean(PropertyKey.NETWORK_TLS_ENABLED)) {
+        mSendfileDataServer = new SendfileDataServer(new InetSocketAddress(
+            configuredBindAddress.getHostName(),
+            Configuration.getInt(PropertyKey.WORKER_NETWORK_SENDFILE_PORT)), this,
+            dataServer.getAuthenticationServer());
+      }
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -183,6 +199,16 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
     return "";
   }
 
+  /**
+   * @return the port of the sendfile data server, 0 if it is not started
+   */
+  private int getSendfileDataPort() {
+    if (mSendfileDataServer != null) {
+      return ((InetSocketAddress) mSendfileDataServer.getBindAddress()).getPort();
+    }
+    return 0;
+  }
+
   @Override
   public String getWebBindHost() {
     return mWebServer.getBindHost();
@@ -284,6 +310,10 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
       mDomainSocketDataServer.close();
       mDomainSocketDataServer = null;
     }
+    if (mSendfileDataServer != null) {
+      mSendfileDataServer.close();
+      mSendfileDataServer = null;
+    }
     mUfsManager.close();
     try {
       mWebServer.stop();
@@ -327,6 +357,7 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
         .setRpcPort(mRpcBindAddress.getPort())
         .setDataPort(getDataLocalPort())
         .setDomainSocketPath(getDataDomainSocketPath())
+        .setSendfileDataPort(getSendfileDataPort())
         .setWebPort(mWebServer.getLocalPort())
         .setTieredIdentity(mTieredIdentitiy);
   }
@@ -21,8 +21,10 @@ import com.google.common.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,6 +41,8 @@ public class AsyncBlockRemover {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncBlockRemover.class);
 
   private static final int DEFAULT_BLOCK_REMOVER_POOL_SIZE = 10;
+  /** The max number of blocks removed by a single call to the block worker. */
+  private static final int BLOCK_REMOVER_BATCH_SIZE = 1000;
 
   private final BlockWorker mBlockWorker;
   /** This list is used for queueing blocks to be removed by BlockWorker. */
@@ -121,30 +125,38 @@ public class AsyncBlockRemover {
     @Override
     public void run() {
       String threadName = Thread.currentThread().getName();
+      List<Long> blocksToBeRemoved = new ArrayList<>(BLOCK_REMOVER_BATCH_SIZE);
       while (true) {
-        Long blockToBeRemoved = null;
         try {
-          blockToBeRemoved = mBlocksToRemove.take();
-          mTryRemoveCount.inc();
-          mBlockWorker.removeBlock(Sessions.MASTER_COMMAND_SESSION_ID, blockToBeRemoved);
-          mRemovedCount.inc();
-          LOG.debug("Block {} is removed in thread {}.", blockToBeRemoved, threadName);
+          blocksToBeRemoved.add(mBlocksToRemove.take());
+          // remove the blocks queued meanwhile together, taking the locks of the store once
+          mBlocksToRemove.drainTo(blocksToBeRemoved, BLOCK_REMOVER_BATCH_SIZE - 1);
+          mTryRemoveCount.inc(blocksToBeRemoved.size());
+          Map<Long, Exception> failures =
+              mBlockWorker.removeBlocks(Sessions.MASTER_COMMAND_SESSION_ID, blocksToBeRemoved);
+          mRemovedCount.inc(blocksToBeRemoved.size() - failures.size());
+          LOG.debug("{} blocks are removed in thread {}.",
+              blocksToBeRemoved.size() - failures.size(), threadName);
+          for (Map.Entry<Long, Exception> failure : failures.entrySet()) {
+            LOG.warn("Failed to remove block {} instructed by master. This is best-effort and "
+                + "will be tried later. threadName {}, error {}", failure.getKey(),
+                threadName, failure.getValue().getMessage());
+          }
         } catch (InterruptedException e) {
           Thread.currentThread().interrupt();
           // Only log warning if interrupted not due to a shutdown.
           if (!mShutdown) {
-            LOG.warn("{} got interrupted while it was cleaning block {}.", threadName,
-                blockToBeRemoved);
+            LOG.warn("{} got interrupted while it was cleaning blocks {}.", threadName,
+                blocksToBeRemoved);
           }
           break;
         } catch (Exception e) {
-          LOG.warn("Failed to remove block {} instructed by master. This is best-effort and "
-              + "will be tried later. threadName {}, error {}", blockToBeRemoved,
+          LOG.warn("Failed to remove blocks {} instructed by master. This is best-effort and "
+              + "will be tried later. threadName {}, error {}", blocksToBeRemoved,
               threadName, e.getMessage());
         } finally {
-          if (blockToBeRemoved != null) {
-            mRemovingBlocks.remove(blockToBeRemoved);
-          }
+          mRemovingBlocks.removeAll(blocksToBeRemoved);
+          blocksToBeRemoved.clear();
         }
       }
     }
@@ -11,102 +11,85 @@
 
 package alluxio.worker.block;
 
-import alluxio.collections.IndexDefinition;
-import alluxio.collections.IndexedSet;
-import alluxio.collections.Pair;
 import alluxio.concurrent.ClientRWLock;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
-import alluxio.resource.ResourcePool;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.OptionalLong;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Handle all block locks.
+ * <p>
+ * The locks are tracked in primitive long-keyed maps split into stripes, each guarded by its own
+ * monitor, so that acquiring and releasing a block lock does not box ids or allocate records:
+ * <ul>
+ * <li>The {@link ClientRWLock} of each locked block is kept by the block stripe of the block,
+ * which also keeps unused locks for reuse. The number of block locks in use is bounded by
+ * {@link PropertyKey#WORKER_TIERED_STORE_BLOCK_LOCKS}.</li>
+ * <li>The records of the locks held by a session are kept by the session stripe of the session.
+ * The lock id encodes this stripe and the lock type, so that a lock is released by its id.</li>
+ * </ul>
+ * A thread never holds the monitors of two stripes at the same time.
  */
 @ThreadSafe
 public final class BlockLockManager {
   private static final Logger LOG = LoggerFactory.getLogger(BlockLockManager.class);
 
-  /** The unique id of each lock. */
+  /** The number of block stripes and session stripes, must be a power of two. */
+  private static final int NUM_STRIPES = 64;
+  private static final int STRIPE_BITS = Integer.numberOfTrailingZeros(NUM_STRIPES);
+  /** The lowest bit of a lock id tells whether it is a write lock. */
+  private static final long WRITE_LOCK_BIT = 1L;
+  private static final long INVALID_LOCK_ID = -1L;
+  /** The max number of unused block locks or session records kept by a stripe for reuse. */
+  private static final int MAX_FREE_PER_STRIPE = 16;
+
+  /** The unique sequence number of each lock. */
   private static final AtomicLong LOCK_ID_GEN = new AtomicLong(0);
   private static final int MAX_READERS = Configuration.getInt(
       PropertyKey.WORKER_TIERED_STORE_BLOCK_LOCK_READERS);
 
- /** A pool of read write locks. */
-  private final ResourcePool<ClientRWLock> mLockPool = new ResourcePool<ClientRWLock>(
-      Configuration.getInt(PropertyKey.WORKER_TIERED_STORE_BLOCK_LOCKS)) {
-    @Override
-    public void close() {}
-
-    @Override
-    public ClientRWLock createNewResource() {
-      return new ClientRWLock(MAX_READERS);
-    }
-  };
-
-  /** A map from block id to the read write lock used to guard that block. */
-  // todo(bowen): set concurrency level?
-  private final ConcurrentHashMap<Long, ClientRWLock> mLocks = new ConcurrentHashMap<>();
-
-  /**
-   * The permits are effectively unlimited for concurrently adding new records which only
-   * acquires 1 permit, but session cleanup takes all permits here to be mutually exclusive to
-   * adding new records.
-   */
-  private static final int SESSION_SEMAPHORE_PERMITS = Integer.MAX_VALUE;
-
-  /**
-   * A semaphore used to prevent concurrent adding and removing of records when
-   * session clean-up is in progress. During session cleaning, to avoid race conditions,
-   * no new lock records should be added to {@link #mLockRecords}, but retrievals and removals
-   * are OK since the underlying concurrent map handles that atomically.
-   */
-  private final Semaphore mSessionCleaning = new Semaphore(SESSION_SEMAPHORE_PERMITS);
-
-  /**
-   * Records of locks currently held by clients. New entries added to the set must be protected
-   * from concurrent removals due to session clean-ups.
-   */
-  private final IndexedSet<LockRecord> mLockRecords =
-      new IndexedSet<>(INDEX_LOCK_ID, INDEX_BLOCK_ID, INDEX_SESSION_ID, INDEX_SESSION_BLOCK_ID);
-
-  private static final IndexDefinition<LockRecord, Pair<Long, Long>> INDEX_SESSION_BLOCK_ID =
-      IndexDefinition.ofNonUnique(
-          lockRecord -> new Pair<>(lockRecord.getSessionId(), lockRecord.getBlockId()));
-
-  private static final IndexDefinition<LockRecord, Long> INDEX_BLOCK_ID =
-      IndexDefinition.ofNonUnique(LockRecord::getBlockId);
-
-  private static final IndexDefinition<LockRecord, Long> INDEX_LOCK_ID =
-      IndexDefinition.ofUnique(LockRecord::getLockId);
-
-  private static final IndexDefinition<LockRecord, Long> INDEX_SESSION_ID =
-      IndexDefinition.ofNonUnique(LockRecord::getSessionId);
+  /** One permit for each block lock in use. */
+  private final Semaphore mBlockLockPermits =
+      new Semaphore(Configuration.getInt(PropertyKey.WORKER_TIERED_STORE_BLOCK_LOCKS));
+  private final BlockStripe[] mBlockStripes = new BlockStripe[NUM_STRIPES];
+  private final SessionStripe[] mSessionStripes = new SessionStripe[NUM_STRIPES];
+  /** Releases a lock by its id, shared by all the {@link BlockLock}s. */
+  private final Consumer<Long> mUnlocker = this::unlockBlock;
 
   /**
    * Constructs a new {@link BlockLockManager}.
    */
-  public BlockLockManager() {}
+  public BlockLockManager() {
+    for (int i = 0; i < NUM_STRIPES; i++) {
+      mBlockStripes[i] = new BlockStripe();
+      mSessionStripes[i] = new SessionStripe();
+    }
+  }
 
   /**
    * Locks a block. Note that even if this block does not exist, a closable lock is still returned.
@@ -121,9 +104,9 @@ public final class BlockLockManager {
    * @return closable block lock
    */
   public BlockLock acquireBlockLock(long sessionId, long blockId, BlockLockType blockLockType) {
-    OptionalLong lockId = lockBlockInternal(sessionId, blockId, blockLockType, true, null, null);
-    Preconditions.checkState(lockId.isPresent(), "lockBlock should always return a lockId");
-    return new BlockLock(lockId.getAsLong(), this::unlockBlock);
+    long lockId = lockBlockInternal(sessionId, blockId, blockLockType, true, 0, null);
+    Preconditions.checkState(lockId != INVALID_LOCK_ID, "lockBlock should always return a lockId");
+    return new BlockLock(lockId, mUnlocker);
   }
 
   /**
@@ -144,15 +127,16 @@ public final class BlockLockManager {
   public Optional<BlockLock> tryAcquireBlockLock(long sessionId, long blockId,
       BlockLockType blockLockType,
       long time, TimeUnit unit) {
-    OptionalLong lockId = lockBlockInternal(sessionId, blockId, blockLockType, false, time, unit);
-    return lockId.isPresent() ? Optional.of(new BlockLock(lockId.getAsLong(), this::unlockBlock)) :
+    long lockId = lockBlockInternal(sessionId, blockId, blockLockType, false, time, unit);
+    return lockId != INVALID_LOCK_ID ? Optional.of(new BlockLock(lockId, mUnlocker)) :
         Optional.empty();
   }
 
-  private OptionalLong lockBlockInternal(long sessionId, long blockId, BlockLockType blockLockType,
-      boolean blocking, @Nullable Long time, @Nullable TimeUnit unit) {
-    ClientRWLock blockLock = getBlockLock(blockId);
-    Lock lock = blockLockType == BlockLockType.READ ? blockLock.readLock() : blockLock.writeLock();
+  private long lockBlockInternal(long sessionId, long blockId, BlockLockType blockLockType,
+      boolean blocking, long time, @Nullable TimeUnit unit) {
+    boolean write = blockLockType == BlockLockType.WRITE;
+    int sessionStripeIndex = stripeOf(sessionId);
+    SessionStripe sessionStripe = mSessionStripes[sessionStripeIndex];
     // Make sure the session isn't already holding the block lock.
     // todo(bowen): This is a best-effort check and is subject to race condition.
     // Remove this check and implement better error signaling or retry.
@@ -160,15 +144,16 @@ public final class BlockLockManager {
     // reader releases the lock. In case the reader panics while holding the lock, this will lead
     // to a deadlock. This can happen e.g. when worker tries to move a block to a new location while
     // a client is actively reading it.
-    if (blockLockType == BlockLockType.WRITE && sessionHoldsLock(sessionId, blockId)) {
+    if (write && sessionStripe.holdsLock(sessionId, blockId)) {
       throw new IllegalStateException(String
           .format("Session %s attempted to take a write lock on block %s, but the session already"
               + " holds a lock on the block", sessionId, blockId));
     }
+    ClientRWLock blockLock = getBlockLock(blockId);
+    Lock lock = write ? blockLock.writeLock() : blockLock.readLock();
     if (blocking) {
       lock.lock();
     } else {
-      Preconditions.checkNotNull(time, "time");
       Preconditions.checkNotNull(unit, "unit");
       try {
         if (!lock.tryLock(time, unit)) {
@@ -176,47 +161,27 @@ public final class BlockLockManager {
                   + "session: {}, blockLockType: {}, lock reference count = {}",
               blockId, time, unit, sessionId, blockLockType,
               blockLock.getReferenceCount());
-          return OptionalLong.empty();
+          releaseBlockLockIfUnused(blockId);
+          return INVALID_LOCK_ID;
         }
       } catch (InterruptedException e) {
+        releaseBlockLockIfUnused(blockId);
         Thread.currentThread().interrupt();
-        return OptionalLong.empty();
+        return INVALID_LOCK_ID;
       }
     }
-    long lockId = LOCK_ID_GEN.getAndIncrement();
-    LockRecord record = new LockRecord(sessionId, blockId, lockId, lock);
+    long lockId = (LOCK_ID_GEN.getAndIncrement() << (STRIPE_BITS + 1))
+        | ((long) sessionStripeIndex << 1) | (write ? WRITE_LOCK_BIT : 0);
     try {
-      try {
-        mSessionCleaning.acquire();
-      } catch (InterruptedException e) {
-        LOG.warn("Interrupted while waiting for session clean up, sessionId={}, blockId={}",
-            sessionId, blockId);
-        unlock(lock, blockId);
-        Thread.currentThread().interrupt();
-        return OptionalLong.empty();
-      }
-      mLockRecords.add(record);
-      mSessionCleaning.release();
-      return OptionalLong.of(lockId);
+      sessionStripe.addLock(sessionId, blockId, lockId);
+      return lockId;
     } catch (Throwable e) {
       // If an unexpected exception occurs, we should release the lock to be conservative.
-      mLockRecords.remove(record);
-      unlock(lock, blockId);
+      unlock(blockId, write);
       throw e;
     }
   }
 
-  /**
-   * @param sessionId the session id to check
-   * @param blockId the block id to check
-   * @return whether the specified session holds a lock on the specified block
-   */
-  private boolean sessionHoldsLock(long sessionId, long blockId) {
-    Set<LockRecord> sessionRecords =
-        mLockRecords.getByField(INDEX_SESSION_BLOCK_ID, new Pair<>(sessionId, blockId));
-    return !sessionRecords.isEmpty();
-  }
-
   /**
    * Returns the block lock for the given block id, acquiring such a lock if it doesn't exist yet.
    *
@@ -226,51 +191,53 @@ public final class BlockLockManager {
    * @return the block lock
    */
   private ClientRWLock getBlockLock(long blockId) {
-    // Loop until we either find the block lock in the mLocks map, or successfully acquire a new
-    // block lock from the lock pool.
+    BlockStripe stripe = mBlockStripes[stripeOf(blockId)];
+    // Loop until we either find the block lock in the stripe, or successfully acquire a permit
+    // for a new block lock.
     while (true) {
       // Check whether a lock has already been allocated for the block id.
-      ClientRWLock reuseExistingLock = mLocks.computeIfPresent(
-          blockId,
-          (blkid, lock) -> {
-            lock.addReference();
-            return lock;
-          }
-      );
-      if (reuseExistingLock != null) {
-        return reuseExistingLock;
+      synchronized (stripe) {
+        ClientRWLock lock = stripe.mLocks.get(blockId);
+        if (lock != null) {
+          lock.addReference();
+          return lock;
+        }
       }
-      // Since a block lock hasn't already been allocated, try to acquire a new one from the pool.
-      // We shouldn't wait indefinitely in acquire because the another lock for this block could be
-      // allocated to another thread, in which case we could just use that lock.
-      ClientRWLock newlyAcquiredLock = mLockPool.acquire(1, TimeUnit.SECONDS);
-      if (newlyAcquiredLock != null) {
-        int referenceCount = newlyAcquiredLock.getReferenceCount();
-        if (referenceCount != 0) {
-          LOG.error("A block lock was not cleanly released as newly acquired locks should have 0 "
-              + "references, but got {}", referenceCount);
+      // Since a block lock hasn't already been allocated, try to acquire a permit for a new one.
+      // We shouldn't wait indefinitely because another lock for this block could be allocated by
+      // another thread, in which case we could just use that lock.
+      try {
+        if (!mBlockLockPermits.tryAcquire(1, TimeUnit.SECONDS)) {
+          continue;
         }
-        ClientRWLock computed = mLocks.compute(blockId, (id, lock) -> {
-          // Check if someone else acquired a block lock for blockId while we were acquiring one.
-          if (lock != null) {
-            // reuse someone else's lock and release newlyAcquiredLock later
-            // Instead of releasing it immediately here, we release it outside mLock.compute
-            // as ResourcePool.release has an internal lock, and may block due to concurrent calls
-            // to ResourcePool.acquire, thus blocking other access to mLocks if called in
-            // mLock.compute.
-            lock.addReference();
-            return lock;
-          } else {
-            newlyAcquiredLock.addReference();
-            return newlyAcquiredLock;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      ClientRWLock lock;
+      boolean reused;
+      synchronized (stripe) {
+        lock = stripe.mLocks.get(blockId);
+        // Check if someone else allocated a block lock for blockId while we were acquiring one.
+        reused = lock != null;
+        if (!reused) {
+          lock = stripe.mFreeLocks.poll();
+          if (lock == null) {
+            lock = new ClientRWLock(MAX_READERS);
+          }
+          int referenceCount = lock.getReferenceCount();
+          if (referenceCount != 0) {
+            LOG.error("A block lock was not cleanly released as newly acquired locks should have "
+                + "0 references, but got {}", referenceCount);
           }
-        });
-        if (computed != newlyAcquiredLock) {
-          // reuse someone else's lock and release the unused lock
-          mLockPool.release(newlyAcquiredLock);
+          stripe.mLocks.put(blockId, lock);
         }
-        return computed;
+        lock.addReference();
+      }
+      if (reused) {
+        mBlockLockPermits.release();
       }
+      return lock;
     }
   }
 
@@ -280,15 +247,16 @@ public final class BlockLockManager {
    * @param lockId the id of the lock to release
    */
   private void unlockBlock(long lockId) {
-    LockRecord record = mLockRecords.getFirstByField(INDEX_LOCK_ID, lockId);
-    if (record == null) {
-      return;
-    }
-    // the record may have been removed by someone else
-    // after we retrieved it, so a check is necessary
-    if (mLockRecords.remove(record)) {
-      unlock(record.getLock(), record.getBlockId());
+    SessionStripe stripe = mSessionStripes[(int) (lockId >>> 1) & (NUM_STRIPES - 1)];
+    long blockId;
+    synchronized (stripe) {
+      // the lock may have been released by a session cleanup
+      if (!stripe.mLockBlocks.containsKey(lockId)) {
+        return;
+      }
+      blockId = stripe.removeLock(lockId);
     }
+    unlock(blockId, (lockId & WRITE_LOCK_BIT) != 0);
   }
 
   /**
@@ -301,8 +269,12 @@ public final class BlockLockManager {
    */
   @VisibleForTesting
   public boolean checkLock(long sessionId, long blockId, long lockId) {
-    LockRecord record = mLockRecords.getFirstByField(INDEX_LOCK_ID, lockId);
-    return record != null && record.getSessionId() == sessionId && record.getBlockId() == blockId;
+    SessionStripe stripe = mSessionStripes[stripeOf(sessionId)];
+    synchronized (stripe) {
+      return stripe.mLockBlocks.containsKey(lockId)
+          && stripe.mLockBlocks.get(lockId) == blockId
+          && stripe.mLockSessions.get(lockId) == sessionId;
+    }
   }
 
   /**
@@ -311,22 +283,23 @@ public final class BlockLockManager {
    * @param sessionId the id of the session to cleanup
    */
   public void cleanupSession(long sessionId) {
-    // acquire all permits of the semaphore so that no new lock records can be added
-    mSessionCleaning.acquireUninterruptibly(SESSION_SEMAPHORE_PERMITS);
-    try {
-      Set<LockRecord> records = mLockRecords.getByField(INDEX_SESSION_ID, sessionId);
-      if (records == null) {
+    SessionStripe stripe = mSessionStripes[stripeOf(sessionId)];
+    long[] lockIds;
+    long[] blockIds;
+    // new locks of the session cannot be recorded while its records are removed from the stripe
+    synchronized (stripe) {
+      SessionLocks locks = stripe.mSessions.get(sessionId);
+      if (locks == null) {
         return;
       }
-      // NOTE: iterating through an ConcurrentHashSet is not done atomically
-      // this section must be protected from concurrently adding new records that belong to
-      // the same session
-      for (LockRecord record : records) {
-        mLockRecords.remove(record);
-        unlock(record.getLock(), record.getBlockId());
+      lockIds = Arrays.copyOf(locks.mLockIds, locks.mSize);
+      blockIds = Arrays.copyOf(locks.mBlockIds, locks.mSize);
+      for (long lockId : lockIds) {
+        stripe.removeLock(lockId);
       }
-    } finally {
-      mSessionCleaning.release(SESSION_SEMAPHORE_PERMITS);
+    }
+    for (int i = 0; i < lockIds.length; i++) {
+      unlock(blockIds[i], (lockIds[i] & WRITE_LOCK_BIT) != 0);
     }
   }
 
@@ -337,46 +310,59 @@ public final class BlockLockManager {
    */
   public Set<Long> getLockedBlocks() {
     Set<Long> set = new HashSet<>();
-    // NOTE: iterating through an IndexedSet is not done atomically
+    // NOTE: the stripes are not locked at once
     // we may end up with stale information in the resulting set
     // but the set is merely meant to be a snapshot of the locked blocks
     // and is stale as soon as this method returns
-    for (LockRecord lockRecord : mLockRecords) {
-      set.add(lockRecord.getBlockId());
+    for (SessionStripe stripe : mSessionStripes) {
+      synchronized (stripe) {
+        LongIterator it = stripe.mLockBlocks.values().iterator();
+        while (it.hasNext()) {
+          set.add(it.nextLong());
+        }
+      }
     }
     return set;
   }
 
   /**
-   * Unlocks the given lock and releases the block lock for the given block id if the lock no longer
-   * in use.
+   * Unlocks the given lock of a block and releases the block lock for the given block id if the
+   * lock no longer in use.
    *
-   * @param lock the lock to unlock
-   * @param blockId the block id for which to potentially release the block lock
+   * @param blockId the block id
+   * @param write whether to unlock the write lock of the block
    */
-  private void unlock(Lock lock, long blockId) {
-    lock.unlock();
+  private void unlock(long blockId, boolean write) {
+    BlockStripe stripe = mBlockStripes[stripeOf(blockId)];
+    ClientRWLock blockLock;
+    synchronized (stripe) {
+      blockLock = stripe.mLocks.get(blockId);
+    }
+    Preconditions.checkState(blockLock != null, "No lock is allocated for block %s", blockId);
+    (write ? blockLock.writeLock() : blockLock.readLock()).unlock();
     releaseBlockLockIfUnused(blockId);
   }
 
   /**
-   * Checks whether anyone is using the block lock for the given block id, returning the lock to
-   * the lock pool if it is unused.
+   * Drops a reference to the block lock for the given block id, returning the lock to the lock
+   * pool if it is unused.
    *
    * @param blockId the block id for which to potentially release the block lock
    */
   private void releaseBlockLockIfUnused(long blockId) {
-    mLocks.computeIfPresent(
-        blockId,
-        (blkid, lock) -> {
-          // If we were the last worker with a reference to the lock, clean it up.
-          if (lock.dropReference() == 0) {
-            mLockPool.release(lock);
-            return null;
-          }
-          return lock;
-        }
-    );
+    BlockStripe stripe = mBlockStripes[stripeOf(blockId)];
+    synchronized (stripe) {
+      ClientRWLock lock = stripe.mLocks.get(blockId);
+      // If we were the last worker with a reference to the lock, clean it up.
+      if (lock == null || lock.dropReference() != 0) {
+        return;
+      }
+      stripe.mLocks.remove(blockId);
+      if (stripe.mFreeLocks.size() < MAX_FREE_PER_STRIPE) {
+        stripe.mFreeLocks.push(lock);
+      }
+    }
+    mBlockLockPermits.release();
   }
 
   /**
@@ -389,76 +375,150 @@ public final class BlockLockManager {
   @VisibleForTesting
   public void validate() {
     // Compute block lock reference counts based off of lock records
-    ConcurrentMap<Long, AtomicInteger> blockLockReferenceCounts = new ConcurrentHashMap<>();
-    // NOTE: iterating through an IndexedSet is not done atomically
+    Long2IntOpenHashMap blockLockReferenceCounts = new Long2IntOpenHashMap();
+    // NOTE: the stripes are not locked at once
     // the counts are valid only when the caller ensures no concurrent access from other threads
-    for (LockRecord record : mLockRecords) {
-      blockLockReferenceCounts.putIfAbsent(record.getBlockId(), new AtomicInteger(0));
-      blockLockReferenceCounts.get(record.getBlockId()).incrementAndGet();
+    for (SessionStripe stripe : mSessionStripes) {
+      synchronized (stripe) {
+        LongIterator it = stripe.mLockBlocks.values().iterator();
+        while (it.hasNext()) {
+          blockLockReferenceCounts.addTo(it.nextLong(), 1);
+        }
+      }
     }
 
     // Check that the reference count for each block lock matches the lock record counts.
-    for (Entry<Long, ClientRWLock> entry : mLocks.entrySet()) {
-      long blockId = entry.getKey();
-      ClientRWLock lock = entry.getValue();
-      Integer recordCount = blockLockReferenceCounts.get(blockId).get();
-      Integer referenceCount = lock.getReferenceCount();
-      if (!Objects.equal(recordCount, referenceCount)) {
-        throw new IllegalStateException("There are " + recordCount + " lock records for block"
-            + " id " + blockId + ", but the reference count is " + referenceCount);
+    for (BlockStripe stripe : mBlockStripes) {
+      synchronized (stripe) {
+        for (Long2ObjectMap.Entry<ClientRWLock> entry : stripe.mLocks.long2ObjectEntrySet()) {
+          long blockId = entry.getLongKey();
+          int recordCount = blockLockReferenceCounts.get(blockId);
+          int referenceCount = entry.getValue().getReferenceCount();
+          if (recordCount != referenceCount) {
+            throw new IllegalStateException("There are " + recordCount + " lock records for block"
+                + " id " + blockId + ", but the reference count is " + referenceCount);
+          }
+        }
       }
     }
   }
 
   /**
-   * Inner class to keep record of a lock.
+   * @param id a block id or a session id
+   * @return the index of the stripe of the id
+   */
+  private static int stripeOf(long id) {
+    return (int) HashCommon.mix(id) & (NUM_STRIPES - 1);
+  }
+
+  /**
+   * The block locks of the blocks in a stripe.
    */
   @ThreadSafe
-  private static final class LockRecord {
-    private final long mSessionId;
-    private final long mBlockId;
-    private final long mLockId;
-    private final Lock mLock;
+  private static final class BlockStripe {
+    /** A map from block id to the read write lock used to guard that block. */
+    @GuardedBy("this")
+    private final Long2ObjectOpenHashMap<ClientRWLock> mLocks = new Long2ObjectOpenHashMap<>();
+    /** Unused block locks for reuse. */
+    @GuardedBy("this")
+    private final ArrayDeque<ClientRWLock> mFreeLocks = new ArrayDeque<>(MAX_FREE_PER_STRIPE);
+  }
 
-    /** Creates a new instance of {@link LockRecord}.
-     *
-     * @param sessionId the session id
-     * @param blockId the block id
-     * @param lock the lock
-     */
-    LockRecord(long sessionId, long blockId, long lockId, Lock lock) {
-      mSessionId = sessionId;
-      mBlockId = blockId;
-      mLockId = lockId;
-      mLock = lock;
+  /**
+   * The records of the locks held by the sessions in a stripe.
+   */
+  @ThreadSafe
+  private static final class SessionStripe {
+    /** A map from lock id to the id of the locked block. */
+    @GuardedBy("this")
+    private final Long2LongOpenHashMap mLockBlocks = new Long2LongOpenHashMap();
+    /** A map from lock id to the id of the session holding the lock. */
+    @GuardedBy("this")
+    private final Long2LongOpenHashMap mLockSessions = new Long2LongOpenHashMap();
+    /** A map from session id to the locks held by the session. */
+    @GuardedBy("this")
+    private final Long2ObjectOpenHashMap<SessionLocks> mSessions = new Long2ObjectOpenHashMap<>();
+    /** Unused session records for reuse. */
+    @GuardedBy("this")
+    private final ArrayDeque<SessionLocks> mFreeSessions = new ArrayDeque<>(MAX_FREE_PER_STRIPE);
+
+    synchronized boolean holdsLock(long sessionId, long blockId) {
+      SessionLocks locks = mSessions.get(sessionId);
+      return locks != null && locks.containsBlock(blockId);
     }
 
-    /**
-     * @return the session id
-     */
-    long getSessionId() {
-      return mSessionId;
+    synchronized void addLock(long sessionId, long blockId, long lockId) {
+      SessionLocks locks = mSessions.get(sessionId);
+      if (locks == null) {
+        locks = mFreeSessions.poll();
+        if (locks == null) {
+          locks = new SessionLocks();
+        }
+        mSessions.put(sessionId, locks);
+      }
+      locks.add(lockId, blockId);
+      mLockBlocks.put(lockId, blockId);
+      mLockSessions.put(lockId, sessionId);
     }
 
     /**
-     * @return the block id
+     * Removes the record of an existing lock.
+     *
+     * @param lockId the lock id
+     * @return the id of the locked block
      */
-    long getBlockId() {
-      return mBlockId;
+    synchronized long removeLock(long lockId) {
+      long blockId = mLockBlocks.remove(lockId);
+      long sessionId = mLockSessions.remove(lockId);
+      SessionLocks locks = mSessions.get(sessionId);
+      locks.remove(lockId);
+      if (locks.mSize == 0) {
+        mSessions.remove(sessionId);
+        if (mFreeSessions.size() < MAX_FREE_PER_STRIPE) {
+          mFreeSessions.push(locks);
+        }
+      }
+      return blockId;
     }
+  }
 
-    /**
-     * @return the lock id
-     */
-    long getLockId() {
-      return mLockId;
+  /**
+   * The locks held by a session, most sessions only hold a few locks at a time.
+   */
+  @NotThreadSafe
+  private static final class SessionLocks {
+    private long[] mLockIds = new long[4];
+    private long[] mBlockIds = new long[4];
+    private int mSize;
+
+    void add(long lockId, long blockId) {
+      if (mSize == mLockIds.length) {
+        mLockIds = Arrays.copyOf(mLockIds, mSize * 2);
+        mBlockIds = Arrays.copyOf(mBlockIds, mSize * 2);
+      }
+      mLockIds[mSize] = lockId;
+      mBlockIds[mSize] = blockId;
+      mSize++;
     }
 
-    /**
-     * @return the lock
-     */
-    Lock getLock() {
-      return mLock;
+    void remove(long lockId) {
+      for (int i = 0; i < mSize; i++) {
+        if (mLockIds[i] == lockId) {
+          mSize--;
+          mLockIds[i] = mLockIds[mSize];
+          mBlockIds[i] = mBlockIds[mSize];
+          return;
+        }
+      }
+    }
+
+    boolean containsBlock(long blockId) {
+      for (int i = 0; i < mSize; i++) {
+        if (mBlockIds[i] == blockId) {
+          return true;
+        }
+      }
+      return false;
     }
   }
 }
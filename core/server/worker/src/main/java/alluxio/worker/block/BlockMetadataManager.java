@@ -18,6 +18,7 @@ import static java.util.function.Function.identity;
 
 import alluxio.DefaultStorageTierAssoc;
 import alluxio.StorageTierAssoc;
+import alluxio.collections.Pair;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
 import alluxio.exception.ExceptionMessage;
@@ -40,12 +41,14 @@ import org.slf4j.LoggerFactory;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Manages the metadata of all blocks in managed space. This information is used by the
@@ -53,8 +56,13 @@ import javax.annotation.concurrent.NotThreadSafe;
  * <p>
  * All operations on block metadata such as {@link StorageTier}, {@link StorageDir} should go
  * through this class.
+ * <p>
+ * This class is thread-safe: each {@link StorageDir} guards its own metadata, so that operations
+ * on different dirs or tiers do not contend with each other. Operations on a given block, which
+ * may span two dirs as in {@link #moveBlockMeta}, must be serialized by the caller with the lock
+ * of this block.
  */
-@NotThreadSafe
+@ThreadSafe
 // TODO(bin): consider how to better expose information to Evictor and Allocator.
 public final class BlockMetadataManager {
   private static final Logger LOG = LoggerFactory.getLogger(BlockMetadataManager.class);
@@ -170,8 +178,7 @@ public final class BlockMetadataManager {
     }
     BlockMeta block = new DefaultBlockMeta(Preconditions.checkNotNull(tempBlockMeta));
     StorageDir dir = tempBlockMeta.getParentDir();
-    dir.removeTempBlockMeta(tempBlockMeta);
-    dir.addBlockMeta(block);
+    dir.commitTempBlockMeta(tempBlockMeta, block);
   }
 
   /**
@@ -397,14 +404,34 @@ public final class BlockMetadataManager {
   public BlockMeta moveBlockMeta(BlockMeta blockMeta, TempBlockMeta tempBlockMeta) {
     StorageDir srcDir = blockMeta.getParentDir();
     StorageDir dstDir = tempBlockMeta.getParentDir();
-    srcDir.removeBlockMeta(blockMeta);
     BlockMeta newBlockMeta =
         new DefaultBlockMeta(blockMeta.getBlockId(), blockMeta.getBlockSize(), dstDir);
-    dstDir.removeTempBlockMeta(tempBlockMeta);
-    dstDir.addBlockMeta(newBlockMeta);
+    // add the block to the destination first, so that lookups never miss the block
+    dstDir.commitTempBlockMeta(tempBlockMeta, newBlockMeta);
+    srcDir.removeBlockMeta(blockMeta);
     return newBlockMeta;
   }
 
+  /**
+   * Moves the metadata of a batch of blocks, removing the blocks from each source dir once for
+   * all its blocks.
+   *
+   * @param moves the metadata of the blocks to move paired with their temp blocks
+   */
+  public void moveBlockMetas(List<Pair<BlockMeta, TempBlockMeta>> moves) {
+    List<BlockMeta> moved = new ArrayList<>(moves.size());
+    // add the blocks to the destinations first, so that lookups never miss the blocks
+    for (Pair<BlockMeta, TempBlockMeta> move : moves) {
+      BlockMeta blockMeta = move.getFirst();
+      TempBlockMeta tempBlockMeta = move.getSecond();
+      StorageDir dstDir = tempBlockMeta.getParentDir();
+      dstDir.commitTempBlockMeta(tempBlockMeta,
+          new DefaultBlockMeta(blockMeta.getBlockId(), blockMeta.getBlockSize(), dstDir));
+      moved.add(blockMeta);
+    }
+    removeBlockMetas(moved);
+  }
+
   /**
    * Removes the metadata of a specific block.
    *
@@ -415,6 +442,21 @@ public final class BlockMetadataManager {
     dir.removeBlockMeta(block);
   }
 
+  /**
+   * Removes the metadata of a batch of blocks, updating each dir once for all its blocks.
+   *
+   * @param blocks the metadata of the blocks to remove
+   */
+  public void removeBlockMetas(Collection<BlockMeta> blocks) {
+    Map<StorageDir, List<BlockMeta>> blocksPerDir = new HashMap<>();
+    for (BlockMeta block : blocks) {
+      blocksPerDir.computeIfAbsent(block.getParentDir(), dir -> new ArrayList<>()).add(block);
+    }
+    for (Map.Entry<StorageDir, List<BlockMeta>> entry : blocksPerDir.entrySet()) {
+      entry.getKey().removeBlockMetas(entry.getValue());
+    }
+  }
+
   /**
    * Modifies the size of a temp block.
    *
@@ -30,6 +30,7 @@ import alluxio.util.network.NetworkAddressUtils;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.meta.TempBlockMeta;
+import alluxio.worker.grpc.IoClass;
 
 import com.codahale.metrics.Counter;
 import com.google.common.annotations.VisibleForTesting;
@@ -246,6 +247,7 @@ public class CacheRequestManager {
       return CacheResult.ALREADY_CACHED;
     }
     Protocol.OpenUfsBlockOptions openUfsBlockOptions = request.getOpenUfsBlockOptions();
+    IoClass.ASYNC_CACHE.acquireBandwidth(blockLength);
     // Depends on the request, cache the target block from different sources
     if (isSourceLocal) {
       CACHE_UFS_BLOCKS.inc();
@@ -81,13 +81,13 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -407,6 +407,11 @@ public class DefaultBlockWorker extends AbstractWorker implements BlockWorker {
     mBlockStore.removeBlock(sessionId, blockId);
   }
 
+  @Override
+  public Map<Long, Exception> removeBlocks(long sessionId, List<Long> blockIds) {
+    return mBlockStore.removeBlocks(sessionId, blockIds);
+  }
+
   @SuppressFBWarnings("NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE")
   @Override
   public void freeWorker() throws IOException {
@@ -632,9 +637,19 @@ public class DefaultBlockWorker extends AbstractWorker implements BlockWorker {
   @Override
   public Map<Long, BlockChecksum> calculateBlockChecksum(List<Long> blockIds) {
     int chunkSize = 1024 * 1024 * 8; //8MB
-    HashMap<Long, BlockChecksum> result = new HashMap<>();
-    List<Future<?>> futures = new ArrayList<>();
+    Map<Long, BlockChecksum> result = new ConcurrentHashMap<>();
+    List<Long> blocksToRead = new ArrayList<>();
     for (long blockId : blockIds) {
+      // composed from the checksums stored with the data if possible, without reading the block
+      Optional<BlockChecksum> storedChecksum = mBlockStore.getStoredChecksum(blockId);
+      if (storedChecksum.isPresent()) {
+        result.put(blockId, storedChecksum.get());
+      } else {
+        blocksToRead.add(blockId);
+      }
+    }
+    List<Future<?>> futures = new ArrayList<>();
+    for (long blockId : blocksToRead) {
       Future<?> future = mChecksumCalculationThreadPool.submit(() -> {
         ByteBuffer bf = null;
         try (BlockReader br = mBlockStore.createBlockReader(
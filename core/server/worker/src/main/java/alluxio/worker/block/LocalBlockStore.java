@@ -21,6 +21,8 @@ import alluxio.worker.block.meta.TempBlockMeta;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -176,6 +178,26 @@ public interface LocalBlockStore
    */
   void removeBlock(long sessionId, long blockId) throws IOException;
 
+  /**
+   * Moves a batch of existing blocks to a new location.
+   *
+   * @param sessionId the id of the session to move the blocks
+   * @param blockIds the ids of existing blocks
+   * @param location the location to move the blocks to
+   * @return the errors of the blocks failed to be moved, by block id
+   */
+  Map<Long, Exception> moveBlocks(long sessionId, List<Long> blockIds,
+      BlockStoreLocation location);
+
+  /**
+   * Removes a batch of existing blocks.
+   *
+   * @param sessionId the id of the session to remove the blocks
+   * @param blockIds the ids of existing blocks
+   * @return the errors of the blocks failed to be removed, by block id
+   */
+  Map<Long, Exception> removeBlocks(long sessionId, List<Long> blockIds);
+
   /**
    * Notifies the block store that a block was accessed so the block store could update accordingly
    * the registered listeners such as evictor and allocator on block access.
@@ -40,6 +40,7 @@ import alluxio.worker.block.io.DelegatingBlockReader;
 import alluxio.worker.block.meta.BlockMeta;
 import alluxio.worker.block.meta.TempBlockMeta;
 import alluxio.worker.grpc.GrpcExecutors;
+import alluxio.worker.grpc.IoClass;
 
 import com.google.common.base.Strings;
 import org.slf4j.Logger;
@@ -51,6 +52,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -267,6 +269,12 @@ public class MonoBlockStore implements BlockStore {
     mLocalBlockStore.moveBlock(sessionId, blockId, moveOptions);
   }
 
+  @Override
+  public Map<Long, Exception> moveBlocks(long sessionId, List<Long> blockIds,
+      BlockStoreLocation location) {
+    return mLocalBlockStore.moveBlocks(sessionId, blockIds, location);
+  }
+
   @Override
   public Optional<BlockLock> pinBlock(long sessionId, long blockId) {
     return mLocalBlockStore.pinBlock(sessionId, blockId);
@@ -294,6 +302,11 @@ public class MonoBlockStore implements BlockStore {
     mLocalBlockStore.removeBlock(sessionId, blockId);
   }
 
+  @Override
+  public Map<Long, Exception> removeBlocks(long sessionId, List<Long> blockIds) {
+    return mLocalBlockStore.removeBlocks(sessionId, blockIds);
+  }
+
   @Override
   public void removeInaccessibleStorage() {
     mLocalBlockStore.removeInaccessibleStorage();
@@ -341,10 +354,11 @@ public class MonoBlockStore implements BlockStore {
               new ExponentialBackoffRetry(1000, 5000, 5))
           // use orTimeout in java 11
           .applyToEither(timeoutAfter(LOAD_TIMEOUT, TimeUnit.MILLISECONDS), d -> d)
+          .thenCompose(bytesRead -> waitForBandwidth(IoClass.LOAD, bytesRead))
           .thenRunAsync(() -> {
             buf.flip();
             blockWriter.append(buf);
-          }, GrpcExecutors.BLOCK_WRITER_EXECUTOR)
+          }, GrpcExecutors.LOAD_EXECUTOR)
           .thenRun(() -> {
             try {
               blockWriter.close();
@@ -391,6 +405,21 @@ public class MonoBlockStore implements BlockStore {
     return result;
   }
 
+  /**
+   * Waits for the bandwidth limit of an I/O class without holding a thread.
+   *
+   * @return a future completing once the bytes can be read or written
+   */
+  private CompletableFuture<Void> waitForBandwidth(IoClass ioClass, long bytes) {
+    long waitNanos = ioClass.reserveBandwidth(bytes);
+    if (waitNanos == 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    mDelayer.schedule(() -> result.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+    return result;
+  }
+
   @Override
   public void close() throws IOException {
     mLocalBlockStore.close();
@@ -14,6 +14,7 @@ package alluxio.worker.block;
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.String.format;
 
+import alluxio.collections.Pair;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
 import alluxio.exception.ExceptionMessage;
@@ -23,6 +24,7 @@ import alluxio.exception.runtime.ResourceExhaustedRuntimeException;
 import alluxio.exception.status.DeadlineExceededException;
 import alluxio.master.block.BlockId;
 import alluxio.resource.LockResource;
+import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.io.FileUtils;
 import alluxio.worker.block.allocator.Allocator;
 import alluxio.worker.block.annotator.BlockIterator;
@@ -44,6 +46,7 @@ import alluxio.worker.block.meta.TempBlockMeta;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,16 +59,22 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -81,10 +90,12 @@ import javax.annotation.concurrent.ThreadSafe;
  * block lock for this block via {@link TieredBlockStore#mLockManager}. This block lock is a
  * read/write lock, guarding both the metadata operations and the following I/O on this block. It
  * coordinates different threads (clients) when accessing the same block concurrently.</li>
- * <li>Any metadata operation (read or write) must go through {@link TieredBlockStore#mMetaManager}
- * and guarded by {@link TieredBlockStore#mMetadataLock}. This is also a read/write lock and
- * coordinates different threads (clients) when accessing the shared data structure for metadata.
- * </li>
+ * <li>Any metadata operation (read or write) must go through {@link TieredBlockStore#mMetaManager}.
+ * Each {@link StorageDir} guards its own metadata, so metadata lookups do not lock, and commits,
+ * moves and removals of blocks in different dirs or tiers do not contend with each other.</li>
+ * <li>Space allocation and storage dir removal work on views across all the tiers, and are
+ * serialized by {@link TieredBlockStore#mAllocationLock}. Metadata lookups never wait for this
+ * lock, even when an allocation is freeing space.</li>
  * <li>Method {@link #createBlock} does not acquire the block lock, because it only creates a
  * temp block which is only visible to its writer before committed (thus no concurrent access).</li>
  * <li>Method {@link #abortBlock(long, long)} does not acquire the block lock, because only
@@ -98,6 +109,11 @@ import javax.annotation.concurrent.ThreadSafe;
 public class TieredBlockStore implements LocalBlockStore {
   private static final Logger LOG = LoggerFactory.getLogger(TieredBlockStore.class);
   private static final Long REMOVE_BLOCK_TIMEOUT_MS = 60_000L;
+  /**
+   * The maximum number of blocks {@link #moveBlocks} and {@link #removeBlocks} hold the locks of
+   * at the same time. The locks come from a bounded pool, so a large batch must not take them all.
+   */
+  private static final int BLOCKS_LOCK_BATCH_SIZE = 16;
   private static final long FREE_AHEAD_BYTETS =
       Configuration.getBytes(PropertyKey.WORKER_TIERED_STORE_FREE_AHEAD_BYTES);
   private final BlockMetadataManager mMetaManager;
@@ -110,18 +126,16 @@ public class TieredBlockStore implements LocalBlockStore {
   /** A set of pinned inodes fetched from the master. */
   private final Set<Long> mPinnedInodes = new HashSet<>();
 
-  /** Lock to guard metadata operations. */
-  private final ReentrantReadWriteLock mMetadataLock = new ReentrantReadWriteLock();
-
-  /** ReadLock provided by {@link #mMetadataLock} to guard metadata read operations. */
-  private final Lock mMetadataReadLock = mMetadataLock.readLock();
-
-  /** WriteLock provided by {@link #mMetadataLock} to guard metadata write operations. */
-  private final Lock mMetadataWriteLock = mMetadataLock.writeLock();
+  /** Lock to serialize space allocations and storage dir removals. */
+  private final Lock mAllocationLock = new ReentrantLock();
 
   /** Management task coordinator. */
   private final ManagementTaskCoordinator mTaskCoordinator;
 
+  /** Executor for asynchronous block reads, null if they are disabled. */
+  @Nullable
+  private final ExecutorService mAsyncIoExecutor;
+
   /**
    * Creates a new instance of {@link TieredBlockStore}.
    */
@@ -140,6 +154,12 @@ public class TieredBlockStore implements LocalBlockStore {
       BlockLockManager lockManager) {
     mMetaManager = metaManager;
     mLockManager = lockManager;
+    mAsyncIoExecutor =
+        Configuration.getBoolean(PropertyKey.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED)
+            ? Executors.newFixedThreadPool(
+                Configuration.getInt(PropertyKey.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_THREADS),
+                ThreadFactoryUtils.build("BlockAsyncIoExecutor-%d", true))
+            : null;
 
     BlockIterator blockIterator = mMetaManager.getBlockIterator();
     // Register listeners required by the block iterator.
@@ -187,10 +207,7 @@ public class TieredBlockStore implements LocalBlockStore {
     LOG.debug("createBlockReader: sessionId={}, blockId={}, offset={}",
         sessionId, blockId, offset);
     Closeable blockLock = mLockManager.acquireBlockLock(sessionId, blockId, BlockLockType.READ);
-    Optional<BlockMeta> blockMeta;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      blockMeta = mMetaManager.getBlockMeta(blockId);
-    }
+    Optional<BlockMeta> blockMeta = mMetaManager.getBlockMeta(blockId);
     if (!blockMeta.isPresent()) {
       blockLock.close();
       throw new BlockDoesNotExistRuntimeException(blockId);
@@ -223,7 +240,7 @@ public class TieredBlockStore implements LocalBlockStore {
     }
 
     try {
-      LocalFileBlockReader reader = new StoreBlockReader(sessionId, block);
+      LocalFileBlockReader reader = new StoreBlockReader(sessionId, block, mAsyncIoExecutor);
       ((FileChannel) reader.getChannel()).position(offset);
       accessBlock(sessionId, blockId);
       BlockReader mareader = new MetricAccountingBlockReader(reader);
@@ -298,17 +315,13 @@ public class TieredBlockStore implements LocalBlockStore {
   @Override
   public Optional<BlockMeta> getVolatileBlockMeta(long blockId) {
     LOG.debug("getVolatileBlockMeta: blockId={}", blockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.getBlockMeta(blockId);
-    }
+    return mMetaManager.getBlockMeta(blockId);
   }
 
   @Override
   public Optional<TempBlockMeta> getTempBlockMeta(long blockId) {
     LOG.debug("getTempBlockMeta: blockId={}", blockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.getTempBlockMeta(blockId);
-    }
+    return mMetaManager.getTempBlockMeta(blockId);
   }
 
   @Override
@@ -365,7 +378,7 @@ public class TieredBlockStore implements LocalBlockStore {
     }
     // NOTE: a temp block is only visible to its own writer, unnecessary to acquire
     // block lock here since no sharing
-    try (LockResource r = new LockResource(mMetadataWriteLock)) {
+    try (LockResource r = new LockResource(mAllocationLock)) {
       TempBlockMeta tempBlockMeta = checkAndGetTempBlockMeta(sessionId, blockId);
       BlockStoreLocation location = tempBlockMeta.getBlockLocation();
       StorageDirView allocationDir = allocateSpace(sessionId,
@@ -405,6 +418,107 @@ public class TieredBlockStore implements LocalBlockStore {
         false);
   }
 
+  @Override
+  public Map<Long, Exception> moveBlocks(long sessionId, List<Long> blockIds,
+      BlockStoreLocation location) {
+    LOG.debug("moveBlocks: sessionId={}, blockIds={}, location={}", sessionId, blockIds,
+        location);
+    Map<Long, Exception> errors = new HashMap<>();
+    List<Pair<BlockMeta, TempBlockMeta>> moved = new ArrayList<>(blockIds.size());
+    for (List<Long> batch : Lists.partition(blockIds, BLOCKS_LOCK_BATCH_SIZE)) {
+      moved.addAll(moveBlockBatch(sessionId, batch, location, errors));
+    }
+    for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+      synchronized (listener) {
+        for (Pair<BlockMeta, TempBlockMeta> move : moved) {
+          listener.onMoveBlockByClient(move.getFirst().getBlockId(),
+              move.getFirst().getBlockLocation(), move.getSecond().getBlockLocation());
+        }
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Moves a batch of blocks holding the write locks of the whole batch, so that the metadata
+   * of the blocks is updated at once after the block files are moved.
+   *
+   * @param sessionId the id of the session moving the blocks
+   * @param blockIds the ids of the blocks, at most {@link #BLOCKS_LOCK_BATCH_SIZE}
+   * @param location the location to move the blocks to
+   * @param errors the map to add the errors of the blocks which could not be moved to
+   * @return the metadata of the blocks moved paired with their temp blocks at the destination
+   */
+  private List<Pair<BlockMeta, TempBlockMeta>> moveBlockBatch(long sessionId,
+      List<Long> blockIds, BlockStoreLocation location, Map<Long, Exception> errors) {
+    List<BlockLock> locks = new ArrayList<>(blockIds.size());
+    List<Pair<BlockMeta, TempBlockMeta>> moved = new ArrayList<>(blockIds.size());
+    try {
+      for (long blockId : blockIds) {
+        Optional<BlockLock> optionalLock =
+            mLockManager.tryAcquireBlockLock(sessionId, blockId, BlockLockType.WRITE,
+                REMOVE_BLOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (!optionalLock.isPresent()) {
+          errors.put(blockId, new DeadlineExceededException(
+              format("Can not acquire lock to move block %d for session %d after %d ms",
+                  blockId, sessionId, REMOVE_BLOCK_TIMEOUT_MS)));
+          continue;
+        }
+        locks.add(optionalLock.get());
+        try {
+          moveBlockFile(sessionId, blockId, location).ifPresent(moved::add);
+        } catch (Exception e) {
+          errors.put(blockId, e);
+        }
+      }
+      // If this metadata update fails, we panic for now as in moveBlockInternal.
+      mMetaManager.moveBlockMetas(moved);
+    } finally {
+      locks.forEach(BlockLock::close);
+    }
+    return moved;
+  }
+
+  /**
+   * Moves the file of a block to a temp block allocated in the given location, leaving the
+   * metadata of the block to be updated by the caller. The block lock must be held.
+   *
+   * @param sessionId the id of the session moving the block
+   * @param blockId the id of the block
+   * @param location the location to move the block to
+   * @return the metadata of the block paired with its temp block at the destination, or empty
+   *         if the block is already in the location
+   */
+  private Optional<Pair<BlockMeta, TempBlockMeta>> moveBlockFile(long sessionId, long blockId,
+      BlockStoreLocation location) throws IOException {
+    checkTempBlockDoesNotExist(blockId);
+    BlockMeta srcBlockMeta = mMetaManager.getBlockMeta(blockId).orElseThrow(() ->
+        new IllegalStateException(ExceptionMessage.BLOCK_META_NOT_FOUND.getMessage(blockId)));
+    BlockStoreLocation srcLocation = srcBlockMeta.getBlockLocation();
+    if (srcLocation.belongsTo(location)) {
+      return Optional.empty();
+    }
+    TempBlockMeta dstTempBlock;
+    try {
+      dstTempBlock = createBlockMetaInternal(sessionId, blockId, false,
+          AllocateOptions.forMove(location).setSize(srcBlockMeta.getBlockSize()));
+    } catch (Exception e) {
+      throw new ResourceExhaustedRuntimeException(
+          ExceptionMessage.NO_SPACE_FOR_BLOCK_MOVE.getMessage(location, blockId), e, false);
+    }
+    if (dstTempBlock.getBlockLocation().belongsTo(srcLocation)) {
+      mMetaManager.abortTempBlockMeta(dstTempBlock);
+      return Optional.empty();
+    }
+    try {
+      FileUtils.move(srcBlockMeta.getPath(), dstTempBlock.getCommitPath());
+    } catch (Exception e) {
+      mMetaManager.abortTempBlockMeta(dstTempBlock);
+      throw e;
+    }
+    return Optional.of(new Pair<>(srcBlockMeta, dstTempBlock));
+  }
+
   @Override
   public void removeBlock(long sessionId, long blockId) throws IOException {
     LOG.debug("removeBlock: sessionId={}, blockId={}", sessionId, blockId);
@@ -419,6 +533,77 @@ public class TieredBlockStore implements LocalBlockStore {
     }
   }
 
+  @Override
+  public Map<Long, Exception> removeBlocks(long sessionId, List<Long> blockIds) {
+    LOG.debug("removeBlocks: sessionId={}, blockIds={}", sessionId, blockIds);
+    Map<Long, Exception> errors = new HashMap<>();
+    List<BlockMeta> removed = new ArrayList<>(blockIds.size());
+    for (List<Long> batch : Lists.partition(blockIds, BLOCKS_LOCK_BATCH_SIZE)) {
+      removed.addAll(removeBlockBatch(sessionId, batch, errors));
+    }
+    for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+      synchronized (listener) {
+        for (long blockId : blockIds) {
+          if (!errors.containsKey(blockId)) {
+            listener.onRemoveBlockByClient(blockId);
+          }
+        }
+        for (BlockMeta meta : removed) {
+          listener.onRemoveBlock(meta.getBlockId(), meta.getBlockLocation());
+        }
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Removes a batch of blocks holding the write locks of the whole batch, so that the metadata
+   * of the blocks is updated at once while the block files are deleted.
+   *
+   * @param sessionId the id of the session removing the blocks
+   * @param blockIds the ids of the blocks, at most {@link #BLOCKS_LOCK_BATCH_SIZE}
+   * @param errors the map to add the errors of the blocks which could not be removed to
+   * @return the metadata of the blocks removed
+   */
+  private List<BlockMeta> removeBlockBatch(long sessionId, List<Long> blockIds,
+      Map<Long, Exception> errors) {
+    List<BlockLock> locks = new ArrayList<>(blockIds.size());
+    List<BlockMeta> removed = new ArrayList<>(blockIds.size());
+    try {
+      for (long blockId : blockIds) {
+        Optional<BlockLock> optionalLock =
+            mLockManager.tryAcquireBlockLock(sessionId, blockId, BlockLockType.WRITE,
+                REMOVE_BLOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (!optionalLock.isPresent()) {
+          errors.put(blockId, new DeadlineExceededException(
+              format("Can not acquire lock to remove block %d for session %d after %d ms",
+                  blockId, sessionId, REMOVE_BLOCK_TIMEOUT_MS)));
+          continue;
+        }
+        locks.add(optionalLock.get());
+        if (mMetaManager.hasTempBlockMeta(blockId)) {
+          errors.put(blockId, new IllegalStateException(
+              ExceptionMessage.REMOVE_UNCOMMITTED_BLOCK.getMessage(blockId)));
+          continue;
+        }
+        Optional<BlockMeta> blockMeta = mMetaManager.getBlockMeta(blockId);
+        if (blockMeta.isPresent()) {
+          try {
+            FileUtils.deleteIfExists(blockMeta.get().getPath());
+            removed.add(blockMeta.get());
+          } catch (Exception e) {
+            errors.put(blockId, e);
+          }
+        }
+      }
+      // the metadata of the blocks in the same dir is updated under a single acquisition
+      mMetaManager.removeBlockMetas(removed);
+    } finally {
+      locks.forEach(BlockLock::close);
+    }
+    return removed;
+  }
+
   @VisibleForTesting
   Optional<BlockMeta> removeBlockInternal(long sessionId, long blockId, long timeoutMs)
       throws IOException {
@@ -431,8 +616,7 @@ public class TieredBlockStore implements LocalBlockStore {
               blockId, sessionId, REMOVE_BLOCK_TIMEOUT_MS));
     }
 
-    try (BlockLock lock = optionalLock.get();
-        LockResource r = new LockResource(mMetadataWriteLock)) {
+    try (BlockLock lock = optionalLock.get()) {
       if (mMetaManager.hasTempBlockMeta(blockId)) {
         throw new IllegalStateException(
             ExceptionMessage.REMOVE_UNCOMMITTED_BLOCK.getMessage(blockId));
@@ -448,10 +632,7 @@ public class TieredBlockStore implements LocalBlockStore {
   @Override
   public void accessBlock(long sessionId, long blockId) {
     LOG.debug("accessBlock: sessionId={}, blockId={}", sessionId, blockId);
-    Optional<BlockMeta> blockMeta;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      blockMeta = mMetaManager.getBlockMeta(blockId);
-    }
+    Optional<BlockMeta> blockMeta = mMetaManager.getBlockMeta(blockId);
     if (blockMeta.isPresent()) {
       for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
         synchronized (listener) {
@@ -469,10 +650,7 @@ public class TieredBlockStore implements LocalBlockStore {
     mLockManager.cleanupSession(sessionId);
 
     // Collect a list of temp blocks the given session owns and abort all of them with best effort
-    List<TempBlockMeta> tempBlocksToRemove;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      tempBlocksToRemove = mMetaManager.getSessionTempBlocks(sessionId);
-    }
+    List<TempBlockMeta> tempBlocksToRemove = mMetaManager.getSessionTempBlocks(sessionId);
     for (TempBlockMeta tempBlockMeta : tempBlocksToRemove) {
       try {
         LOG.warn("Clean up expired temporary block {} from session {}.", tempBlockMeta.getBlockId(),
@@ -487,39 +665,27 @@ public class TieredBlockStore implements LocalBlockStore {
   @Override
   public boolean hasBlockMeta(long blockId) {
     LOG.debug("hasBlockMeta: blockId={}", blockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.hasBlockMeta(blockId);
-    }
+    return mMetaManager.hasBlockMeta(blockId);
   }
 
   @Override
   public boolean hasTempBlockMeta(long blockId) {
     LOG.debug("hasBlockMeta: blockId={}", blockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.hasTempBlockMeta(blockId);
-    }
+    return mMetaManager.hasTempBlockMeta(blockId);
   }
 
   @Override
   public BlockStoreMeta getBlockStoreMeta() {
     // Removed DEBUG logging because this is very noisy
     // LOG.debug("getBlockStoreMeta:");
-    BlockStoreMeta storeMeta;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      storeMeta = mMetaManager.getBlockStoreMeta();
-    }
-    return storeMeta;
+    return mMetaManager.getBlockStoreMeta();
   }
 
   @Override
   public BlockStoreMeta getBlockStoreMetaFull() {
     // Removed DEBUG logging because this is very noisy
     // LOG.debug("getBlockStoreMetaFull:");
-    BlockStoreMeta storeMeta;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      storeMeta = mMetaManager.getBlockStoreMetaFull();
-    }
-    return storeMeta;
+    return mMetaManager.getBlockStoreMetaFull();
   }
 
   @Override
@@ -529,17 +695,13 @@ public class TieredBlockStore implements LocalBlockStore {
   }
 
   /**
-   * Checks if block id is a temporary block and owned by session id. This method must be enclosed
-   * by {@link #mMetadataLock}.
+   * Checks if block id is a temporary block and owned by session id.
    *
    * @param sessionId the id of session
    * @param blockId the id of block
    */
   private TempBlockMeta checkAndGetTempBlockMeta(long sessionId, long blockId) {
-    Optional<TempBlockMeta> tempBlockMeta;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
-    }
+    Optional<TempBlockMeta> tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
     checkState(tempBlockMeta.isPresent(),
         ExceptionMessage.TEMP_BLOCK_META_NOT_FOUND.getMessage(blockId));
     checkState(tempBlockMeta.get().getSessionId() == sessionId,
@@ -568,12 +730,9 @@ public class TieredBlockStore implements LocalBlockStore {
     checkBlockDoesNotExist(blockId);
     TempBlockMeta tempBlockMeta = checkAndGetTempBlockMeta(sessionId, blockId);
 
-    // The metadata lock is released during heavy IO. The temp block is private to one session, so
-    // we do not lock it.
+    // The temp block is private to one session, so we do not lock it.
     FileUtils.delete(tempBlockMeta.getPath());
-    try (LockResource r = new LockResource(mMetadataWriteLock)) {
-      mMetaManager.abortTempBlockMeta(tempBlockMeta);
-    }
+    mMetaManager.abortTempBlockMeta(tempBlockMeta);
   }
 
   /**
@@ -600,7 +759,7 @@ public class TieredBlockStore implements LocalBlockStore {
     String dstPath = tempBlockMeta.getCommitPath();
     BlockStoreLocation loc = tempBlockMeta.getBlockLocation();
 
-    // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
+    // Heavy IO is guarded by block lock. This may throw IOException.
     try {
       FileUtils.move(srcPath, dstPath);
     } catch (IOException e) {
@@ -608,9 +767,7 @@ public class TieredBlockStore implements LocalBlockStore {
       throw AlluxioRuntimeException.from(e);
     }
 
-    try (LockResource r = new LockResource(mMetadataWriteLock)) {
-      mMetaManager.commitTempBlockMeta(tempBlockMeta);
-    }
+    mMetaManager.commitTempBlockMeta(tempBlockMeta);
 
     // Check if block is pinned on commit
     if (pinOnCreate) {
@@ -713,7 +870,7 @@ public class TieredBlockStore implements LocalBlockStore {
       checkBlockDoesNotExist(blockId);
       checkTempBlockDoesNotExist(blockId);
     }
-    try (LockResource r = new LockResource(mMetadataWriteLock)) {
+    try (LockResource r = new LockResource(mAllocationLock)) {
       // NOTE: a temp block is supposed to be visible for its own writer,
       // unnecessary to acquire block lock here since no sharing.
       // Allocate space.
@@ -853,11 +1010,8 @@ public class TieredBlockStore implements LocalBlockStore {
       AllocateOptions moveOptions) throws IOException {
     try (BlockLock lock =  mLockManager.acquireBlockLock(sessionId, blockId, BlockLockType.WRITE)) {
       checkTempBlockDoesNotExist(blockId);
-      BlockMeta srcBlockMeta;
-      try (LockResource r = new LockResource(mMetadataReadLock)) {
-        srcBlockMeta = mMetaManager.getBlockMeta(blockId).orElseThrow(() ->
+      BlockMeta srcBlockMeta = mMetaManager.getBlockMeta(blockId).orElseThrow(() ->
           new IllegalStateException(ExceptionMessage.BLOCK_META_NOT_FOUND.getMessage(blockId)));
-      }
 
       BlockStoreLocation srcLocation = srcBlockMeta.getBlockLocation();
       String srcFilePath = srcBlockMeta.getPath();
@@ -888,14 +1042,12 @@ public class TieredBlockStore implements LocalBlockStore {
       }
       String dstFilePath = dstTempBlock.getCommitPath();
 
-      // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
+      // Heavy IO is guarded by block lock. This may throw IOException.
       FileUtils.move(srcFilePath, dstFilePath);
 
-      try (LockResource r = new LockResource(mMetadataWriteLock)) {
-        // If this metadata update fails, we panic for now.
-        // TODO(bin): Implement rollback scheme to recover from IO failures.
-        mMetaManager.moveBlockMeta(srcBlockMeta, dstTempBlock);
-      }
+      // If this metadata update fails, we panic for now.
+      // TODO(bin): Implement rollback scheme to recover from IO failures.
+      mMetaManager.moveBlockMeta(srcBlockMeta, dstTempBlock);
       return new MoveBlockResult(true, blockSize, srcLocation, dstLocation);
     }
   }
@@ -955,7 +1107,7 @@ public class TieredBlockStore implements LocalBlockStore {
 
   @Override
   public void removeInaccessibleStorage() {
-    try (LockResource r = new LockResource(mMetadataWriteLock)) {
+    try (LockResource r = new LockResource(mAllocationLock)) {
       for (StorageTier tier : mMetaManager.getTiers()) {
         for (StorageDir dir : tier.getStorageDirs()) {
           String path = dir.getDirPath();
@@ -975,7 +1127,7 @@ public class TieredBlockStore implements LocalBlockStore {
    */
   public void removeDir(StorageDir dir) {
     // TODO(feng): Add a command for manually removing directory
-    try (LockResource r = new LockResource(mMetadataWriteLock)) {
+    try (LockResource r = new LockResource(mAllocationLock)) {
       String tierAlias = dir.getParentTier().getTierAlias();
       dir.getParentTier().removeStorageDir(dir);
       for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
@@ -991,6 +1143,9 @@ public class TieredBlockStore implements LocalBlockStore {
   @Override
   public void close() throws IOException {
     mTaskCoordinator.close();
+    if (mAsyncIoExecutor != null) {
+      mAsyncIoExecutor.shutdownNow();
+    }
   }
 
   /**
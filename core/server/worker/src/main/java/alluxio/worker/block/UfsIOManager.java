@@ -12,6 +12,7 @@
 package alluxio.worker.block;
 
 import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
 import alluxio.exception.runtime.AlluxioRuntimeException;
@@ -31,12 +32,20 @@ import alluxio.util.ThreadFactoryUtils;
 import com.codahale.metrics.Meter;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -44,12 +53,26 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
 /**
  * Control UFS IO.
+ *
+ * When a file is read sequentially, the data following a read is read ahead once the read is
+ * complete, so that the next read of the file is served from memory instead of a new request to
+ * the UFS. A file has at most one read-ahead in progress.
+ * The size of the read-ahead adapts to the measured throughput and latency of the UFS, and the
+ * total size of the data read ahead is bounded by
+ * {@link PropertyKey#UNDERFS_IO_READ_AHEAD_BUFFER_SIZE}.
  */
 public class UfsIOManager implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsIOManager.class);
   private static final int READ_CAPACITY = 1024;
+  private static final long MIN_READ_AHEAD_BYTES = Constants.MB;
+  /** Weight of the latest measurement in the estimates of the UFS throughput and latency. */
+  private static final double ESTIMATE_WEIGHT = 0.2;
   private final UfsManager.UfsClient mUfsClient;
   private final ConcurrentMap<String, Long> mThroughputQuota = new ConcurrentHashMap<>();
   private final UfsInputStreamCache mUfsInstreamCache = new UfsInputStreamCache();
@@ -62,6 +85,24 @@ public class UfsIOManager implements Closeable {
   private final ExecutorService mScheduleExecutor = Executors
       .newSingleThreadExecutor(ThreadFactoryUtils.build("UfsIOManager-Scheduler-%d", true));
 
+  private final long mReadAheadBufferSize =
+      Configuration.getBytes(PropertyKey.UNDERFS_IO_READ_AHEAD_BUFFER_SIZE);
+  private final long mMaxReadAheadSize = Math.min(mReadAheadBufferSize,
+      Configuration.getBytes(PropertyKey.UNDERFS_IO_READ_AHEAD_MAX_SIZE));
+  /** Total size of the data read ahead and not consumed yet. */
+  private final AtomicLong mReadAheadBytes = new AtomicLong();
+  /** Read state of the files recently read, by UFS path. */
+  private final Cache<String, FileReadState> mFileReadStates = CacheBuilder.newBuilder()
+      .maximumSize(READ_CAPACITY)
+      .removalListener((RemovalNotification<String, FileReadState> n) -> n.getValue().remove())
+      .build();
+  /** Estimated UFS read throughput in bytes per second, 0 if unknown. */
+  @GuardedBy("this")
+  private double mThroughputEstimate;
+  /** Estimated UFS request latency in seconds. */
+  @GuardedBy("this")
+  private double mLatencyEstimate;
+
   /**
    * @param ufsClient ufs client
    */
@@ -83,6 +124,7 @@ public class UfsIOManager implements Closeable {
   public void close() {
     mScheduleExecutor.shutdownNow();
     mUfsIoExecutor.shutdownNow();
+    mFileReadStates.invalidateAll();
   }
 
   /**
@@ -164,11 +206,223 @@ public class UfsIOManager implements Closeable {
             MetricsSystem.escape(mUfsClient.getUfsMountPointUri()), MetricInfo.TAG_USER,
             options.getTag()));
 
+    FileReadState state = getFileReadState(ufsPath);
+    if (state != null) {
+      state.addPendingRead(offset);
+    }
     mReadQueue.add(new ReadTask(buf, ufsPath, IdUtils.fileIdFromBlockId(blockId), offset,
-        len, options, future, meter));
+        len, options, future, meter, state));
     return future;
   }
 
+  /**
+   * @param ufsPath the UFS path of a file
+   * @return the read state of the file, or null if read-ahead is disabled
+   */
+  @Nullable
+  private FileReadState getFileReadState(String ufsPath) {
+    if (mMaxReadAheadSize <= 0) {
+      return null;
+    }
+    try {
+      return mFileReadStates.get(ufsPath, FileReadState::new);
+    } catch (Exception e) {
+      // FileReadState::new does not throw
+      throw AlluxioRuntimeException.from(e);
+    }
+  }
+
+  /**
+   * @return the size of the next read-ahead, which is the amount of data the UFS can transfer
+   *         during the latency of a request, so that the latency is amortized over enough data
+   */
+  @VisibleForTesting
+  synchronized long getReadAheadSize() {
+    long size = (long) (mThroughputEstimate * mLatencyEstimate);
+    return Math.min(Math.max(size, MIN_READ_AHEAD_BYTES), mMaxReadAheadSize);
+  }
+
+  /**
+   * Updates the estimates of the UFS throughput and latency with a read.
+   *
+   * @param latencyNs the time to open the stream and get the first bytes
+   * @param bytes the number of bytes read
+   * @param durationNs the total time of the read
+   */
+  private synchronized void updateEstimates(long latencyNs, long bytes, long durationNs) {
+    double latency = latencyNs / (double) Constants.SECOND_NANO;
+    mLatencyEstimate = mThroughputEstimate == 0 ? latency
+        : ESTIMATE_WEIGHT * latency + (1 - ESTIMATE_WEIGHT) * mLatencyEstimate;
+    long transferNs = durationNs - latencyNs;
+    if (transferNs > 0) {
+      double throughput = bytes * (double) Constants.SECOND_NANO / transferNs;
+      mThroughputEstimate = mThroughputEstimate == 0 ? throughput
+          : ESTIMATE_WEIGHT * throughput + (1 - ESTIMATE_WEIGHT) * mThroughputEstimate;
+    }
+  }
+
+  /**
+   * Reserves space for a read-ahead in the read-ahead buffer.
+   *
+   * @param size the size of the read-ahead
+   * @return whether the space is reserved
+   */
+  private boolean reserveReadAhead(long size) {
+    while (true) {
+      long used = mReadAheadBytes.get();
+      if (used + size > mReadAheadBufferSize) {
+        return false;
+      }
+      if (mReadAheadBytes.compareAndSet(used, used + size)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return the total size of the data read ahead and not consumed yet
+   */
+  @VisibleForTesting
+  long getReadAheadBytes() {
+    return mReadAheadBytes.get();
+  }
+
+  /**
+   * @param ufsPath the UFS path of a file
+   * @return whether a read-ahead of the file is in progress
+   */
+  @VisibleForTesting
+  boolean isReadingAhead(String ufsPath) {
+    FileReadState state = mFileReadStates.getIfPresent(ufsPath);
+    return state != null && state.isReadingAhead();
+  }
+
+  /**
+   * Tracks the sequential reads of a file, and holds the data read ahead for the file.
+   */
+  private class FileReadState {
+    /** Offsets of the reads of the file queued or in progress. */
+    @GuardedBy("this")
+    private final Set<Long> mPendingReads = new HashSet<>();
+    /** End offset of the last read of the file. */
+    @GuardedBy("this")
+    private long mLastReadEnd = -1;
+    /** Data read ahead, starting at file offset mReadAheadOffset. */
+    @GuardedBy("this")
+    @Nullable
+    private ByteBuffer mReadAhead;
+    @GuardedBy("this")
+    private long mReadAheadOffset;
+    /** Space reserved for mReadAhead in the read-ahead buffer. */
+    @GuardedBy("this")
+    private long mReadAheadReserved;
+    /** Whether a read-ahead of the file is in progress. */
+    @GuardedBy("this")
+    private boolean mReadingAhead;
+    /** Whether the state is no longer tracked, and must not hold data. */
+    @GuardedBy("this")
+    private boolean mRemoved;
+
+    synchronized boolean isReadingAhead() {
+      return mReadingAhead;
+    }
+
+    synchronized void addPendingRead(long offset) {
+      mPendingReads.add(offset);
+    }
+
+    /**
+     * Copies the data read ahead at the given offset into the buffer.
+     *
+     * @return the number of bytes copied
+     */
+    synchronized int readBuffered(ByteBuffer dst, long offset, long length) {
+      if (mReadAhead == null || offset < mReadAheadOffset
+          || offset >= mReadAheadOffset + mReadAhead.limit()) {
+        return 0;
+      }
+      // data before the offset will not be read again by a sequential reader
+      mReadAhead.position((int) (offset - mReadAheadOffset));
+      int bytes = (int) Math.min(length, mReadAhead.remaining());
+      ByteBuffer slice = mReadAhead.slice();
+      slice.limit(bytes);
+      dst.put(slice);
+      if (bytes == mReadAhead.remaining()) {
+        clear();
+      }
+      return bytes;
+    }
+
+    /**
+     * Completes a read of the file, and decides whether to read ahead of it.
+     *
+     * @param offset the offset of the read
+     * @param end the end offset of the read
+     * @return the number of bytes to read ahead at the end of the read, with the space reserved
+     *         in the read-ahead buffer, or 0 to not read ahead; a read-ahead must be completed
+     *         by {@link #setReadAhead}
+     */
+    synchronized long completeRead(long offset, long end) {
+      boolean sequential = offset == mLastReadEnd;
+      mPendingReads.remove(offset);
+      mLastReadEnd = end;
+      if (!sequential) {
+        // the data read ahead is unlikely to be read by a random reader
+        clear();
+        return 0;
+      }
+      // no read-ahead if the following data is already being read, or read ahead
+      if (mReadingAhead || mPendingReads.contains(end)
+          || (mReadAhead != null && mReadAheadOffset + mReadAhead.limit() > end)) {
+        return 0;
+      }
+      long size = getReadAheadSize();
+      if (!reserveReadAhead(size)) {
+        return 0;
+      }
+      mReadingAhead = true;
+      return size;
+    }
+
+    /**
+     * Sets the data read ahead, replacing the previous one.
+     *
+     * @param offset the file offset of the data
+     * @param data the data read ahead
+     * @param reserved the space reserved for the data in the read-ahead buffer
+     */
+    synchronized void setReadAhead(long offset, ByteBuffer data, long reserved) {
+      mReadingAhead = false;
+      clear();
+      if (mRemoved || !data.hasRemaining()) {
+        mReadAheadBytes.addAndGet(-reserved);
+        return;
+      }
+      mReadAhead = data;
+      mReadAheadOffset = offset;
+      mReadAheadReserved = reserved;
+    }
+
+    /**
+     * Stops tracking the file, and drops the data read ahead.
+     */
+    synchronized void remove() {
+      mRemoved = true;
+      clear();
+    }
+
+    /**
+     * Drops the data read ahead.
+     */
+    synchronized void clear() {
+      if (mReadAhead != null) {
+        mReadAheadBytes.addAndGet(-mReadAheadReserved);
+        mReadAhead = null;
+        mReadAheadReserved = 0;
+      }
+    }
+  }
+
   private class ReadTask implements Runnable {
     private final long mOffset;
     private final long mLength;
@@ -178,9 +432,12 @@ public class UfsIOManager implements Closeable {
     private final Meter mMeter;
     private final long mFileId;
     private final ByteBuffer mBuffuer;
+    @Nullable
+    private final FileReadState mFileReadState;
 
     private ReadTask(ByteBuffer buf, String ufsPath, long fileId, long offset, long length,
-        UfsReadOptions options, CompletableFuture<Integer> future, Meter meter) {
+        UfsReadOptions options, CompletableFuture<Integer> future, Meter meter,
+        @Nullable FileReadState fileReadState) {
       mOptions = options;
       mUfsPath = ufsPath;
       mFileId = fileId;
@@ -189,34 +446,91 @@ public class UfsIOManager implements Closeable {
       mFuture = future;
       mMeter = meter;
       mBuffuer = buf;
+      mFileReadState = fileReadState;
     }
 
     public void run() {
+      long readAheadSize = 0;
       try {
-        mFuture.complete(readInternal());
+        int bytesRead = 0;
+        if (mFileReadState != null) {
+          bytesRead = mFileReadState.readBuffered(mBuffuer, mOffset, mLength);
+          readAheadSize = mFileReadState.completeRead(mOffset, mOffset + mLength);
+        }
+        if (bytesRead < mLength) {
+          // the stream is kept for the read-ahead to continue from where the read stops
+          bytesRead += readUfs(mBuffuer, mOffset + bytesRead, mLength - bytesRead,
+              mOptions.getPositionShort() && readAheadSize == 0);
+        }
+        mFuture.complete(bytesRead);
       } catch (RuntimeException e) {
         mFuture.completeExceptionally(e);
       }
+      if (readAheadSize > 0) {
+        // the read-ahead does not delay the read, which is already complete
+        long size = readAheadSize;
+        try {
+          mUfsIoExecutor.submit(() -> readAhead(size));
+        } catch (RejectedExecutionException e) {
+          mFileReadState.setReadAhead(mOffset + mLength, ByteBuffer.allocate(0), size);
+        }
+      }
     }
 
-    private int readInternal() {
+    /**
+     * Reads ahead the data following the read into the read state of the file.
+     *
+     * @param size the size of the read-ahead, reserved in the read-ahead buffer
+     */
+    private void readAhead(long size) {
+      ByteBuffer buf = ByteBuffer.allocate((int) size);
+      try {
+        readUfs(buf, mOffset + mLength, size, false);
+        buf.flip();
+      } catch (RuntimeException e) {
+        LOG.debug("Failed to read ahead {} at offset {}", mUfsPath, mOffset + mLength, e);
+        buf = ByteBuffer.allocate(0);
+      }
+      mFileReadState.setReadAhead(mOffset + mLength, buf, size);
+    }
+
+    /**
+     * Reads from the UFS into the buffer, until the length is read or the end of the file.
+     *
+     * @param buf the buffer to read into
+     * @param offset the offset in the file
+     * @param length the number of bytes to read
+     * @param positionShort whether the stream is only used for this read
+     * @return the number of bytes read
+     */
+    private int readUfs(ByteBuffer buf, long offset, long length, boolean positionShort) {
       int bytesRead = 0;
       InputStream inStream = null;
+      long startNs = System.nanoTime();
+      long latencyNs = -1;
       try (CloseableResource<UnderFileSystem> ufsResource = mUfsClient.acquireUfsResource()) {
         if (mOptions.hasUser()) {
           // Before interacting with ufs manager, set the user.
           alluxio.security.authentication.AuthenticatedClientUser.set(mOptions.getUser());
         }
         inStream = mUfsInstreamCache.acquire(ufsResource.get(), mUfsPath, mFileId,
-            OpenOptions.defaults().setOffset(mOffset)
-                .setPositionShort(mOptions.getPositionShort()));
-        while (bytesRead < mLength) {
-          int read;
-          read = Channels.newChannel(inStream).read(mBuffuer);
-          if (read == -1) {
-            break;
+            OpenOptions.defaults().setOffset(offset).setPositionShort(positionShort));
+        ReadableByteChannel channel = Channels.newChannel(inStream);
+        int limit = buf.limit();
+        buf.limit((int) Math.min(limit, buf.position() + length));
+        try {
+          while (buf.hasRemaining()) {
+            int read = channel.read(buf);
+            if (latencyNs < 0) {
+              latencyNs = System.nanoTime() - startNs;
+            }
+            if (read == -1) {
+              break;
+            }
+            bytesRead += read;
           }
-          bytesRead += read;
+        } finally {
+          buf.limit(limit);
         }
       } catch (Exception e) {
         throw AlluxioRuntimeException.from(e);
@@ -225,6 +539,9 @@ public class UfsIOManager implements Closeable {
           mUfsInstreamCache.release(inStream);
         }
       }
+      if (latencyNs >= 0) {
+        updateEstimates(latencyNs, bytesRead, System.nanoTime() - startNs);
+      }
       mMeter.mark(bytesRead);
       return bytesRead;
     }
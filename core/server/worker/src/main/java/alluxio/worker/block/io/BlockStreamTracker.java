@@ -88,4 +88,18 @@ public class BlockStreamTracker {
       listener.clientClosed(writer, location);
     }
   }
+
+  /**
+   * Called when a read or write of an open block reader/writer completes.
+   *
+   * @param client block reader or writer
+   * @param location location of read or write
+   * @param durationNanos duration of the read or write in nanoseconds
+   */
+  public static void ioCompleted(BlockClient client, BlockStoreLocation location,
+      long durationNanos) {
+    for (BlockClientListener listener : LISTENERS) {
+      listener.clientIoCompleted(client, location, durationNanos);
+    }
+  }
 }
@@ -13,12 +13,15 @@ package alluxio.worker.block.io;
 
 import alluxio.metrics.MetricKey;
 import alluxio.metrics.MetricsSystem;
+import alluxio.network.protocol.databuffer.DataFileChannel;
 
 import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An reader class with metrics.
@@ -81,6 +84,30 @@ public class MetricAccountingBlockReader extends BlockReader {
     return bytesReadFromCache;
   }
 
+  @Override
+  public Optional<DataFileChannel> getDataFileChannel(long offset, long length) {
+    Optional<DataFileChannel> channel = mBlockReader.getDataFileChannel(offset, length);
+    if (channel.isPresent()) {
+      MetricsSystem.counter(MetricKey.WORKER_BYTES_READ_CACHE.getName()).inc(length);
+    }
+    return channel;
+  }
+
+  @Override
+  public boolean isAsyncReadSupported() {
+    return mBlockReader.isAsyncReadSupported();
+  }
+
+  @Override
+  public CompletableFuture<Integer> readAsync(ByteBuf buf, long offset, int length) {
+    return mBlockReader.readAsync(buf, offset, length).thenApply(bytesReadFromCache -> {
+      if (bytesReadFromCache != -1) {
+        MetricsSystem.counter(MetricKey.WORKER_BYTES_READ_CACHE.getName()).inc(bytesReadFromCache);
+      }
+      return bytesReadFromCache;
+    });
+  }
+
   @Override
   public boolean isClosed() {
     return mBlockReader.isClosed();
@@ -13,7 +13,12 @@ package alluxio.worker.block.io;
 
 import alluxio.worker.block.meta.BlockMeta;
 
+import io.netty.buffer.ByteBuf;
+
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 
 /**
  * A local block reader used by block store.
@@ -33,7 +38,21 @@ public class StoreBlockReader extends LocalFileBlockReader {
    * @throws IOException
    */
   public StoreBlockReader(long sessionId, BlockMeta blockMeta) throws IOException {
-    super(blockMeta.getPath());
+    this(sessionId, blockMeta, null);
+  }
+
+  /**
+   * Creates new block reader for block store, which supports asynchronous reads if an executor
+   * is given.
+   *
+   * @param sessionId session id
+   * @param blockMeta block meta
+   * @param asyncIoExecutor the executor to perform asynchronous reads, or null
+   * @throws IOException
+   */
+  public StoreBlockReader(long sessionId, BlockMeta blockMeta,
+      @Nullable ExecutorService asyncIoExecutor) throws IOException {
+    super(blockMeta.getPath(), asyncIoExecutor);
     mSessionId = sessionId;
     mBlockMeta = blockMeta;
     if (mSessionId > 0) {
@@ -41,6 +60,32 @@ public class StoreBlockReader extends LocalFileBlockReader {
     }
   }
 
+  @Override
+  public int transferTo(ByteBuf buf) throws IOException {
+    if (mSessionId <= 0) {
+      return super.transferTo(buf);
+    }
+    long startNanos = System.nanoTime();
+    int bytesRead = super.transferTo(buf);
+    BlockStreamTracker.ioCompleted(this, mBlockMeta.getBlockLocation(),
+        System.nanoTime() - startNanos);
+    return bytesRead;
+  }
+
+  @Override
+  public CompletableFuture<Integer> readAsync(ByteBuf buf, long offset, int length) {
+    if (mSessionId <= 0) {
+      return super.readAsync(buf, offset, length);
+    }
+    long startNanos = System.nanoTime();
+    return super.readAsync(buf, offset, length).whenComplete((bytesRead, error) -> {
+      if (error == null) {
+        BlockStreamTracker.ioCompleted(this, mBlockMeta.getBlockLocation(),
+            System.nanoTime() - startNanos);
+      }
+    });
+  }
+
   @Override
   public void close() throws IOException {
     if (mSessionId > 0) {
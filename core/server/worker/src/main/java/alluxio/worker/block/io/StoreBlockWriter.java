@@ -13,7 +13,10 @@ package alluxio.worker.block.io;
 
 import alluxio.worker.block.meta.TempBlockMeta;
 
+import io.netty.buffer.ByteBuf;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * A local block writer used by block store.
@@ -37,6 +40,30 @@ public class StoreBlockWriter extends LocalFileBlockWriter {
     }
   }
 
+  @Override
+  public long append(ByteBuffer inputBuf) {
+    if (mBlockMeta.getSessionId() <= 0) {
+      return super.append(inputBuf);
+    }
+    long startNanos = System.nanoTime();
+    long bytesWritten = super.append(inputBuf);
+    BlockStreamTracker.ioCompleted(this, mBlockMeta.getBlockLocation(),
+        System.nanoTime() - startNanos);
+    return bytesWritten;
+  }
+
+  @Override
+  public long append(ByteBuf buf) throws IOException {
+    if (mBlockMeta.getSessionId() <= 0) {
+      return super.append(buf);
+    }
+    long startNanos = System.nanoTime();
+    long bytesWritten = super.append(buf);
+    BlockStreamTracker.ioCompleted(this, mBlockMeta.getBlockLocation(),
+        System.nanoTime() - startNanos);
+    return bytesWritten;
+  }
+
   @Override
   public void close() throws IOException {
     if (mBlockMeta.getSessionId() > 0) {
@@ -12,10 +12,15 @@
 package alluxio.worker.block.management;
 
 import alluxio.Sessions;
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
 import alluxio.worker.block.AllocateOptions;
 import alluxio.worker.block.LocalBlockStore;
 import alluxio.worker.block.evictor.BlockTransferInfo;
+import alluxio.worker.block.meta.BlockMeta;
+import alluxio.worker.grpc.IoClass;
 
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +29,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -37,6 +43,8 @@ public class BlockTransferExecutor {
   private final LocalBlockStore mBlockStore;
   private final StoreLoadTracker mLoadTracker;
   private final int mConcurrencyLimit;
+  /** The max fraction of time a transfer partition keeps moving blocks. */
+  private final double mUtilizationLimit;
   private final BlockTransferPartitioner mPartitioner;
 
   /**
@@ -49,10 +57,29 @@ public class BlockTransferExecutor {
    */
   public BlockTransferExecutor(ExecutorService executor, LocalBlockStore blockStore,
       StoreLoadTracker loadTracker, int concurrencyLimit) {
+    this(executor, blockStore, loadTracker, concurrencyLimit,
+        Configuration.getDouble(PropertyKey.WORKER_MANAGEMENT_BLOCK_TRANSFER_UTILIZATION_MAX));
+  }
+
+  /**
+   * Creates a new instance for executing block transfers.
+   *
+   * @param executor the executor to use
+   * @param blockStore the block store
+   * @param loadTracker the load tracker
+   * @param concurrencyLimit the max concurrent transfers
+   * @param utilizationLimit the max fraction of time each concurrent transfer moves blocks,
+   *                         in (0, 1]
+   */
+  public BlockTransferExecutor(ExecutorService executor, LocalBlockStore blockStore,
+      StoreLoadTracker loadTracker, int concurrencyLimit, double utilizationLimit) {
+    Preconditions.checkArgument(utilizationLimit > 0 && utilizationLimit <= 1,
+        "Invalid block transfer utilization limit: %s", utilizationLimit);
     mExecutor = executor;
     mBlockStore = blockStore;
     mLoadTracker = loadTracker;
     mConcurrencyLimit = concurrencyLimit;
+    mUtilizationLimit = utilizationLimit;
     mPartitioner = new BlockTransferPartitioner();
   }
 
@@ -132,7 +159,12 @@ public class BlockTransferExecutor {
         }
 
         boolean useReservedSpace = transferInfo.isSwap();
+        IoClass.MANAGEMENT.acquireBandwidth(getBlockSize(transferInfo.getSrcBlockId()));
+        if (transferInfo.isSwap()) {
+          IoClass.MANAGEMENT.acquireBandwidth(getBlockSize(transferInfo.getDstBlockId()));
+        }
 
+        long moveStartNanos = System.nanoTime();
         mBlockStore.moveBlock(Sessions.createInternalSessionId(), transferInfo.getSrcBlockId(),
             AllocateOptions.forTierMove(transferInfo.getDstLocation())
                 .setUseReservedSpace(useReservedSpace));
@@ -142,6 +174,10 @@ public class BlockTransferExecutor {
               AllocateOptions.forTierMove(transferInfo.getSrcLocation())
                   .setUseReservedSpace(useReservedSpace));
         }
+        pauseAfterMove(System.nanoTime() - moveStartNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
       } catch (Exception e) {
         LOG.warn("Transfer-order: {} failed. {} ", transferInfo, e.toString());
         failCount++;
@@ -153,4 +189,25 @@ public class BlockTransferExecutor {
 
     return new BlockOperationResult(transferInfos.size(), failCount, backOffCount);
   }
+
+  /**
+   * Pauses after a move, so that the devices are kept busy by the moves for at most the
+   * configured fraction of time.
+   *
+   * @param moveNanos the measured duration of the move
+   */
+  private void pauseAfterMove(long moveNanos) throws InterruptedException {
+    if (mUtilizationLimit >= 1) {
+      return;
+    }
+    long pauseNanos = (long) (moveNanos * (1 - mUtilizationLimit) / mUtilizationLimit);
+    TimeUnit.NANOSECONDS.sleep(pauseNanos);
+  }
+
+  /**
+   * @return the size of a block to move, or 0 if the block is gone
+   */
+  private long getBlockSize(long blockId) {
+    return mBlockStore.getVolatileBlockMeta(blockId).map(BlockMeta::getBlockSize).orElse(0L);
+  }
 }
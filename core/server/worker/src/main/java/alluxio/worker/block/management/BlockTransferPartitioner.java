@@ -11,6 +11,7 @@
 
 package alluxio.worker.block.management;
 
+import alluxio.collections.Pair;
 import alluxio.worker.block.BlockStoreLocation;
 import alluxio.worker.block.evictor.BlockTransferInfo;
 
@@ -57,9 +58,9 @@ public class BlockTransferPartitioner {
       };
     }
 
-    Map<BlockStoreLocation, List<BlockTransferInfo>> transferBuckets = new HashMap<>();
+    Map<Object, List<BlockTransferInfo>> transferBuckets = new HashMap<>();
     for (BlockTransferInfo transferInfo : transferInfos) {
-      BlockStoreLocation keyLoc;
+      Object keyLoc;
       switch (key) {
         case SRC:
           keyLoc = transferInfo.getSrcLocation();
@@ -67,6 +68,9 @@ public class BlockTransferPartitioner {
         case DST:
           keyLoc = transferInfo.getDstLocation();
           break;
+        case PAIR:
+          keyLoc = new Pair<>(transferInfo.getSrcLocation(), transferInfo.getDstLocation());
+          break;
         default:
           throw new IllegalStateException(
               String.format("Unsupported key type for bucketing transfer infos: %s", key.name()));
@@ -163,6 +167,12 @@ public class BlockTransferPartitioner {
       return TransferPartitionKey.NONE;
     }
 
+    // Transfers between the same pair of directories contend for the same devices,
+    // so when all the directories are known, transfers are bucketed per directory pair.
+    if (srcAllocatedCount == transferInfos.size() && dstAllocatedCount == transferInfos.size()) {
+      return TransferPartitionKey.PAIR;
+    }
+
     // Choose the key by masses.
     if (srcAllocatedCount > dstAllocatedCount) {
       return TransferPartitionKey.SRC;
@@ -183,6 +193,6 @@ public class BlockTransferPartitioner {
    * Used to specify how transfers are grouped.
    */
   private enum TransferPartitionKey {
-    SRC, DST, NONE
+    SRC, DST, PAIR, NONE
   }
 }
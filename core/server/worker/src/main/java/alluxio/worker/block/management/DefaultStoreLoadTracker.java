@@ -24,6 +24,7 @@ import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -32,7 +33,8 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Default {@link StoreLoadTracker} that reports load based on open reader/writer streams to the
- * local block store.
+ * local block store. With the {@link BackoffStrategy#LATENCY} strategy, load is reported only
+ * where the latency of the reads and writes of those streams rises over its usual latency.
  *
  * TODO(ggezer): Add a safety net against close calls not being called.
  */
@@ -45,6 +47,12 @@ public class DefaultStoreLoadTracker implements StoreLoadTracker, BlockClientLis
   private final ScheduledExecutorService mScheduler;
   /** For how long, an activity will remain active on load state. */
   private final long mLoadDetectionCoolDownMs;
+  /** Whether load is detected by the latency of user I/O rather than its presence. */
+  private final boolean mLatencyBased;
+  /** The ratio over the usual latency of user I/O that is detected as load. */
+  private final double mLatencyRatio;
+  /** Used to keep the latency of user I/O per location. */
+  private final ConcurrentHashMap<BlockStoreLocation, IoLatency> mIoLatencyPerLocation;
 
   /**
    * Creates the default load tracker instance.
@@ -55,6 +63,11 @@ public class DefaultStoreLoadTracker implements StoreLoadTracker, BlockClientLis
         .newSingleThreadScheduledExecutor(ThreadFactoryUtils.build("load-tracker-thread-%d", true));
     mLoadDetectionCoolDownMs =
         Configuration.getMs(PropertyKey.WORKER_MANAGEMENT_LOAD_DETECTION_COOL_DOWN_TIME);
+    mLatencyBased = Configuration.getEnum(PropertyKey.WORKER_MANAGEMENT_BACKOFF_STRATEGY,
+        BackoffStrategy.class) == BackoffStrategy.LATENCY;
+    mLatencyRatio =
+        Configuration.getDouble(PropertyKey.WORKER_MANAGEMENT_LOAD_DETECTION_LATENCY_RATIO);
+    mIoLatencyPerLocation = new ConcurrentHashMap<>();
 
     // BlockStreamTracker provides stream reader/writer events.
     BlockStreamTracker.registerListener(this);
@@ -62,6 +75,9 @@ public class DefaultStoreLoadTracker implements StoreLoadTracker, BlockClientLis
 
   @Override
   public boolean loadDetected(BlockStoreLocation... locations) {
+    if (mLatencyBased) {
+      return latencyRaised(locations);
+    }
     for (BlockStoreLocation location : locations) {
       for (BlockStoreLocation trackedLocation : mBlockClientsPerLocation.keySet()) {
         if (trackedLocation.belongsTo(location)) {
@@ -102,6 +118,61 @@ public class DefaultStoreLoadTracker implements StoreLoadTracker, BlockClientLis
     }, mLoadDetectionCoolDownMs, TimeUnit.MILLISECONDS);
   }
 
+  @Override
+  public void clientIoCompleted(BlockClient blockClient, BlockStoreLocation location,
+      long durationNanos) {
+    if (mLatencyBased) {
+      mIoLatencyPerLocation.computeIfAbsent(location, k -> new IoLatency()).update(durationNanos);
+    }
+  }
+
+  private boolean latencyRaised(BlockStoreLocation... locations) {
+    long activeSinceNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(
+        mLoadDetectionCoolDownMs);
+    for (BlockStoreLocation location : locations) {
+      for (Map.Entry<BlockStoreLocation, IoLatency> entry : mIoLatencyPerLocation.entrySet()) {
+        if (entry.getKey().belongsTo(location)
+            && entry.getValue().raised(mLatencyRatio, activeSinceNanos)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Latency of the user I/O on a location. It keeps a moving average of the recent latency,
+   * which follows the latency closely, and a moving average of the usual latency, which follows
+   * it slowly, so that the latency rising can be told from the normal latency of the location.
+   */
+  private static final class IoLatency {
+    private static final double RECENT_WEIGHT = 0.2;
+    private static final double USUAL_WEIGHT = 0.01;
+    /** Number of samples needed before the usual latency is trusted. */
+    private static final int MIN_SAMPLES = 32;
+
+    private double mRecentNanos;
+    private double mUsualNanos;
+    private long mSamples;
+    private long mLastUpdateNanos;
+
+    synchronized void update(long durationNanos) {
+      if (mSamples++ == 0) {
+        mRecentNanos = durationNanos;
+        mUsualNanos = durationNanos;
+      } else {
+        mRecentNanos += RECENT_WEIGHT * (durationNanos - mRecentNanos);
+        mUsualNanos += USUAL_WEIGHT * (durationNanos - mUsualNanos);
+      }
+      mLastUpdateNanos = System.nanoTime();
+    }
+
+    synchronized boolean raised(double ratio, long activeSinceNanos) {
+      return mSamples >= MIN_SAMPLES && mLastUpdateNanos - activeSinceNanos > 0
+          && mRecentNanos > mUsualNanos * ratio;
+    }
+  }
+
   /**
    * Stream reader/writer locations are expected to be precise.
    *
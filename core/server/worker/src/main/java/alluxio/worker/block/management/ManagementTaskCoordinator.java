@@ -19,6 +19,8 @@ import alluxio.worker.block.BlockMetadataManager;
 import alluxio.worker.block.BlockStoreLocation;
 import alluxio.worker.block.LocalBlockStore;
 import alluxio.worker.block.management.tier.TierManagementTaskProvider;
+import alluxio.worker.grpc.IoClass;
+import alluxio.worker.grpc.IoClassExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,9 +48,10 @@ public class ManagementTaskCoordinator implements Closeable {
   /** Runner thread for launching management tasks. */
   private final Thread mRunnerThread;
   /** Executor that will run the management tasks. */
-  private final ExecutorService mTaskExecutor = Executors.newFixedThreadPool(
-      Configuration.getInt(PropertyKey.WORKER_MANAGEMENT_TASK_THREAD_COUNT),
-        ThreadFactoryUtils.build("block-management-task-%d", true));
+  private final ExecutorService mTaskExecutor = new IoClassExecutor(IoClass.MANAGEMENT,
+      Executors.newFixedThreadPool(
+          Configuration.getInt(PropertyKey.WORKER_MANAGEMENT_TASK_THREAD_COUNT),
+          ThreadFactoryUtils.build("block-management-task-%d", true)));
 
   private final LocalBlockStore mBlockStore;
   private final BlockMetadataManager mMetadataManager;
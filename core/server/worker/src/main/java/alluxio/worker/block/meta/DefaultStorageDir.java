@@ -18,6 +18,7 @@ import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.runtime.ResourceExhaustedRuntimeException;
+import alluxio.resource.LockResource;
 import alluxio.util.io.FileUtils;
 import alluxio.worker.block.BlockStoreLocation;
 
@@ -30,14 +31,18 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import javax.annotation.concurrent.NotThreadSafe;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Represents a directory in a storage tier. It has a fixed capacity allocated to it on
@@ -47,18 +52,27 @@ import javax.annotation.concurrent.NotThreadSafe;
  * Through {@link StorageDirView}, this space will be reflected as:
  * - committed for user I/Os
  * - available for internal I/Os.
+ *
+ * This class is thread-safe. Block metadata is kept in concurrent maps so that lookups do not
+ * lock, while updates are serialized by a lock local to this dir, so that operations on
+ * different dirs do not contend with each other.
  */
-@NotThreadSafe
+@ThreadSafe
 public final class DefaultStorageDir implements StorageDir {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultStorageDir.class);
 
   private final long mCapacityBytes;
   private final String mDirMedium;
+  /** Lock to guard the updates of the metadata in this dir. */
+  private final Lock mLock = new ReentrantLock();
   /** A map from block id to block metadata. */
-  private final Map<Long, BlockMeta> mBlockIdToBlockMap = new HashMap<>(200);
+  private final Map<Long, BlockMeta> mBlockIdToBlockMap = new ConcurrentHashMap<>(200);
   /** A map from block id to temp block metadata. */
-  private final Map<Long, TempBlockMeta> mBlockIdToTempBlockMap = new HashMap<>(200);
-  /** A map from session id to the set of temp blocks created by this session. */
+  private final Map<Long, TempBlockMeta> mBlockIdToTempBlockMap = new ConcurrentHashMap<>(200);
+  /**
+   * A map from session id to the set of temp blocks created by this session, guarded by
+   * {@link #mLock}.
+   */
   private final Map<Long, Set<Long>> mSessionIdToTempBlockIdsMap = new HashMap<>(200);
   private final AtomicLong mAvailableBytes;
   private final AtomicLong mCommittedBytes;
@@ -226,15 +240,17 @@ public final class DefaultStorageDir implements StorageDir {
     Preconditions.checkNotNull(blockMeta, "blockMeta");
     long blockId = blockMeta.getBlockId();
     long blockSize = blockMeta.getBlockSize();
-    if (getAvailableBytes() + getReservedBytes() < blockSize) {
-      throw new ResourceExhaustedRuntimeException(
-          ExceptionMessage.NO_SPACE_FOR_BLOCK_META.getMessage(blockId, blockSize,
-              getAvailableBytes(), blockMeta.getBlockLocation().tierAlias()), false);
+    try (LockResource r = new LockResource(mLock)) {
+      if (getAvailableBytes() + getReservedBytes() < blockSize) {
+        throw new ResourceExhaustedRuntimeException(
+            ExceptionMessage.NO_SPACE_FOR_BLOCK_META.getMessage(blockId, blockSize,
+                getAvailableBytes(), blockMeta.getBlockLocation().tierAlias()), false);
+      }
+      checkState(!hasBlockMeta(blockId), ExceptionMessage.ADD_EXISTING_BLOCK.getMessage(blockId,
+          blockMeta.getBlockLocation().tierAlias()));
+      mBlockIdToBlockMap.put(blockId, blockMeta);
+      reserveSpace(blockSize, true);
     }
-    checkState(!hasBlockMeta(blockId), ExceptionMessage.ADD_EXISTING_BLOCK.getMessage(blockId,
-        blockMeta.getBlockLocation().tierAlias()));
-    mBlockIdToBlockMap.put(blockId, blockMeta);
-    reserveSpace(blockSize, true);
   }
 
   @Override
@@ -243,30 +259,75 @@ public final class DefaultStorageDir implements StorageDir {
     long sessionId = tempBlockMeta.getSessionId();
     long blockId = tempBlockMeta.getBlockId();
     long blockSize = tempBlockMeta.getBlockSize();
-    if (getAvailableBytes() + getReservedBytes() < blockSize) {
-      throw new ResourceExhaustedRuntimeException(
-          ExceptionMessage.NO_SPACE_FOR_BLOCK_META.getMessage(blockId, blockSize,
-              getAvailableBytes(), tempBlockMeta.getBlockLocation().tierAlias()), false);
+    try (LockResource r = new LockResource(mLock)) {
+      if (getAvailableBytes() + getReservedBytes() < blockSize) {
+        throw new ResourceExhaustedRuntimeException(
+            ExceptionMessage.NO_SPACE_FOR_BLOCK_META.getMessage(blockId, blockSize,
+                getAvailableBytes(), tempBlockMeta.getBlockLocation().tierAlias()), false);
+      }
+      checkState(!hasTempBlockMeta(blockId), ExceptionMessage.ADD_EXISTING_BLOCK.getMessage(
+          blockId, tempBlockMeta.getBlockLocation().tierAlias()));
+      mBlockIdToTempBlockMap.put(blockId, tempBlockMeta);
+      Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+      if (sessionTempBlocks == null) {
+        mSessionIdToTempBlockIdsMap.put(sessionId, Sets.newHashSet(blockId));
+      } else {
+        sessionTempBlocks.add(blockId);
+      }
+      reserveSpace(blockSize, false);
     }
-    checkState(!hasTempBlockMeta(blockId), ExceptionMessage.ADD_EXISTING_BLOCK.getMessage(blockId,
-        tempBlockMeta.getBlockLocation().tierAlias()));
-    mBlockIdToTempBlockMap.put(blockId, tempBlockMeta);
-    Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
-    if (sessionTempBlocks == null) {
-      mSessionIdToTempBlockIdsMap.put(sessionId, Sets.newHashSet(blockId));
-    } else {
-      sessionTempBlocks.add(blockId);
+  }
+
+  @Override
+  public void commitTempBlockMeta(TempBlockMeta tempBlockMeta, BlockMeta blockMeta) {
+    Preconditions.checkNotNull(tempBlockMeta, "tempBlockMeta");
+    Preconditions.checkNotNull(blockMeta, "blockMeta");
+    long tempBlockId = tempBlockMeta.getBlockId();
+    long sessionId = tempBlockMeta.getSessionId();
+    long blockId = blockMeta.getBlockId();
+    long blockSize = blockMeta.getBlockSize();
+    try (LockResource r = new LockResource(mLock)) {
+      checkState(hasTempBlockMeta(tempBlockId),
+          ExceptionMessage.BLOCK_META_NOT_FOUND.getMessage(tempBlockId));
+      Set<Long> sessionBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+      checkState(sessionBlocks != null && sessionBlocks.contains(tempBlockId),
+          ExceptionMessage.BLOCK_NOT_FOUND_FOR_SESSION.getMessage(tempBlockId,
+              mTier.getTierAlias(), sessionId));
+      // the space of the temp block is reused by the committed block
+      if (getAvailableBytes() + getReservedBytes() + tempBlockMeta.getBlockSize() < blockSize) {
+        throw new ResourceExhaustedRuntimeException(
+            ExceptionMessage.NO_SPACE_FOR_BLOCK_META.getMessage(blockId, blockSize,
+                getAvailableBytes(), blockMeta.getBlockLocation().tierAlias()), false);
+      }
+      checkState(!hasBlockMeta(blockId), ExceptionMessage.ADD_EXISTING_BLOCK.getMessage(blockId,
+          blockMeta.getBlockLocation().tierAlias()));
+      // add the block before removing the temp block, so that lookups without the lock always
+      // find one of them
+      mBlockIdToBlockMap.put(blockId, blockMeta);
+      removeTempBlockMeta(tempBlockMeta);
+      reserveSpace(blockSize, true);
     }
-    reserveSpace(blockSize, false);
   }
 
   @Override
   public void removeBlockMeta(BlockMeta blockMeta) {
     Preconditions.checkNotNull(blockMeta, "blockMeta");
     long blockId = blockMeta.getBlockId();
-    BlockMeta deletedBlockMeta = mBlockIdToBlockMap.remove(blockId);
-    if (deletedBlockMeta != null) {
-      reclaimSpace(blockMeta.getBlockSize(), true);
+    try (LockResource r = new LockResource(mLock)) {
+      BlockMeta deletedBlockMeta = mBlockIdToBlockMap.remove(blockId);
+      if (deletedBlockMeta != null) {
+        reclaimSpace(blockMeta.getBlockSize(), true);
+      }
+    }
+  }
+
+  @Override
+  public void removeBlockMetas(Collection<BlockMeta> blockMetas) {
+    // updates the metadata of all the blocks under a single acquisition of the lock
+    try (LockResource r = new LockResource(mLock)) {
+      for (BlockMeta blockMeta : blockMetas) {
+        removeBlockMeta(blockMeta);
+      }
     }
   }
 
@@ -276,17 +337,19 @@ public final class DefaultStorageDir implements StorageDir {
     Preconditions.checkNotNull(tempBlockMeta, "tempBlockMeta");
     final long blockId = tempBlockMeta.getBlockId();
     final long sessionId = tempBlockMeta.getSessionId();
-    TempBlockMeta deletedTempBlockMeta = mBlockIdToTempBlockMap.remove(blockId);
-    checkState(deletedTempBlockMeta != null,
-        ExceptionMessage.BLOCK_META_NOT_FOUND.getMessage(blockId));
-    Set<Long> sessionBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
-    checkState(sessionBlocks != null && sessionBlocks.remove(blockId),
-        ExceptionMessage.BLOCK_NOT_FOUND_FOR_SESSION.getMessage(blockId, mTier.getTierAlias(),
-            sessionId));
-    if (sessionBlocks.isEmpty()) {
-      mSessionIdToTempBlockIdsMap.remove(sessionId);
+    try (LockResource r = new LockResource(mLock)) {
+      TempBlockMeta deletedTempBlockMeta = mBlockIdToTempBlockMap.remove(blockId);
+      checkState(deletedTempBlockMeta != null,
+          ExceptionMessage.BLOCK_META_NOT_FOUND.getMessage(blockId));
+      Set<Long> sessionBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+      checkState(sessionBlocks != null && sessionBlocks.remove(blockId),
+          ExceptionMessage.BLOCK_NOT_FOUND_FOR_SESSION.getMessage(blockId, mTier.getTierAlias(),
+              sessionId));
+      if (sessionBlocks.isEmpty()) {
+        mSessionIdToTempBlockIdsMap.remove(sessionId);
+      }
+      reclaimSpace(tempBlockMeta.getBlockSize(), false);
     }
-    reclaimSpace(tempBlockMeta.getBlockSize(), false);
   }
 
   @Override
@@ -294,53 +357,59 @@ public final class DefaultStorageDir implements StorageDir {
     long oldSize = tempBlockMeta.getBlockSize();
     checkState(oldSize < newSize, "Shrinking block, not supported!");
     if (newSize > oldSize) {
-      reserveSpace(newSize - oldSize, false);
-      tempBlockMeta.setBlockSize(newSize);
+      try (LockResource r = new LockResource(mLock)) {
+        reserveSpace(newSize - oldSize, false);
+        tempBlockMeta.setBlockSize(newSize);
+      }
     }
   }
 
   @Override
   public void cleanupSessionTempBlocks(long sessionId, List<Long> tempBlockIds) {
-    Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
-    // The session's temporary blocks have already been removed.
-    if (sessionTempBlocks == null) {
-      return;
-    }
-    for (Long tempBlockId : tempBlockIds) {
-      if (!mBlockIdToTempBlockMap.containsKey(tempBlockId)) {
-        // This temp block does not exist in this dir, this is expected for some blocks since the
-        // input list is across all dirs
-        continue;
+    try (LockResource r = new LockResource(mLock)) {
+      Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+      // The session's temporary blocks have already been removed.
+      if (sessionTempBlocks == null) {
+        return;
+      }
+      for (Long tempBlockId : tempBlockIds) {
+        if (!mBlockIdToTempBlockMap.containsKey(tempBlockId)) {
+          // This temp block does not exist in this dir, this is expected for some blocks since
+          // the input list is across all dirs
+          continue;
+        }
+        sessionTempBlocks.remove(tempBlockId);
+        TempBlockMeta tempBlockMeta = mBlockIdToTempBlockMap.remove(tempBlockId);
+        if (tempBlockMeta != null) {
+          reclaimSpace(tempBlockMeta.getBlockSize(), false);
+        } else {
+          LOG.error("Cannot find blockId {} when cleanup sessionId {}", tempBlockId, sessionId);
+        }
       }
-      sessionTempBlocks.remove(tempBlockId);
-      TempBlockMeta tempBlockMeta = mBlockIdToTempBlockMap.remove(tempBlockId);
-      if (tempBlockMeta != null) {
-        reclaimSpace(tempBlockMeta.getBlockSize(), false);
+      if (sessionTempBlocks.isEmpty()) {
+        mSessionIdToTempBlockIdsMap.remove(sessionId);
       } else {
-        LOG.error("Cannot find blockId {} when cleanup sessionId {}", tempBlockId, sessionId);
+        // This may happen if the client comes back during clean up and creates more blocks or
+        // some temporary blocks failed to be deleted
+        LOG.warn("Blocks still owned by session {} after cleanup.", sessionId);
       }
     }
-    if (sessionTempBlocks.isEmpty()) {
-      mSessionIdToTempBlockIdsMap.remove(sessionId);
-    } else {
-      // This may happen if the client comes back during clean up and creates more blocks or some
-      // temporary blocks failed to be deleted
-      LOG.warn("Blocks still owned by session {} after cleanup.", sessionId);
-    }
   }
 
   @Override
   public List<TempBlockMeta> getSessionTempBlocks(long sessionId) {
-    Set<Long> sessionTempBlockIds = mSessionIdToTempBlockIdsMap.get(sessionId);
+    try (LockResource r = new LockResource(mLock)) {
+      Set<Long> sessionTempBlockIds = mSessionIdToTempBlockIdsMap.get(sessionId);
 
-    if (sessionTempBlockIds == null || sessionTempBlockIds.isEmpty()) {
-      return Collections.emptyList();
-    }
-    List<TempBlockMeta> sessionTempBlocks = new ArrayList<>();
-    for (long blockId : sessionTempBlockIds) {
-      sessionTempBlocks.add(mBlockIdToTempBlockMap.get(blockId));
+      if (sessionTempBlockIds == null || sessionTempBlockIds.isEmpty()) {
+        return Collections.emptyList();
+      }
+      List<TempBlockMeta> sessionTempBlocks = new ArrayList<>();
+      for (long blockId : sessionTempBlockIds) {
+        sessionTempBlocks.add(mBlockIdToTempBlockMap.get(blockId));
+      }
+      return sessionTempBlocks;
     }
-    return sessionTempBlocks;
   }
 
   @Override
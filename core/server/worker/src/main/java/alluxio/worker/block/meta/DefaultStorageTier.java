@@ -31,17 +31,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Represents a tier of storage, for example memory or SSD. It serves as a container of
  * {@link StorageDir} which actually contains metadata information about blocks stored and space
- * used/available.
+ * used/available. The dirs may be removed concurrently with the lookups.
  */
-@NotThreadSafe
+@ThreadSafe
 public final class DefaultStorageTier implements StorageTier {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultStorageTier.class);
 
@@ -49,15 +50,15 @@ public final class DefaultStorageTier implements StorageTier {
   private final String mTierAlias;
   /** Ordinal value of this tier in tiered storage, the highest level is 0. */
   private final int mTierOrdinal;
-  private final HashMap<Integer, StorageDir> mDirs;
+  private final ConcurrentHashMap<Integer, StorageDir> mDirs;
   /** The lost storage paths that are failed to initialize or lost. */
   private final List<String> mLostStorage;
 
   private DefaultStorageTier(String tierAlias, int tierOrdinal) {
     mTierAlias = tierAlias;
     mTierOrdinal = tierOrdinal;
-    mDirs = new HashMap<>();
-    mLostStorage = new ArrayList<>();
+    mDirs = new ConcurrentHashMap<>();
+    mLostStorage = new CopyOnWriteArrayList<>();
   }
 
   private void initStorageTier(boolean isMultiTier) {
@@ -67,8 +67,11 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>> {
 
   /** The observer for sending response messages. */
   private final StreamObserver<WriteResponse> mResponseObserver;
-  /** The executor for running write tasks asynchronously in the submission order. */
-  private final SerializingExecutor mSerializingExecutor;
+  /**
+   * The executor for running write tasks asynchronously in the submission order, deferring the
+   * writes over the bandwidth limit of {@link IoClass#FOREGROUND_WRITE}.
+   */
+  private final BandwidthThrottledExecutor mSerializingExecutor;
   /** The semaphore to control the number of write tasks queued up in the executor.*/
   private final Semaphore mSemaphore = new Semaphore(
       Configuration.getInt(PropertyKey.WORKER_NETWORK_WRITER_BUFFER_SIZE_MESSAGES), true);
@@ -95,7 +98,9 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>> {
       AuthenticatedUserInfo userInfo) {
     mResponseObserver = responseObserver;
     mUserInfo = userInfo;
-    mSerializingExecutor = new SerializingExecutor(GrpcExecutors.BLOCK_WRITER_EXECUTOR);
+    mSerializingExecutor = new BandwidthThrottledExecutor(IoClass.FOREGROUND_WRITE,
+        new SerializingExecutor(GrpcExecutors.BLOCK_WRITER_EXECUTOR),
+        GrpcExecutors.BANDWIDTH_THROTTLE_SCHEDULER);
   }
 
   /**
@@ -150,7 +155,7 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>> {
       } finally {
         mSemaphore.release();
       }
-    });
+    }, writeRequest.hasChunk() ? writeRequest.getChunk().getData().size() : 0);
   }
 
   /**
@@ -180,7 +185,7 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>> {
         } finally {
           mSemaphore.release();
         }
-      });
+      }, buffer.readableBytes());
     } finally {
       if (releaseBuf) {
         buffer.release();
@@ -0,0 +1,120 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.grpc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An executor handing tasks over to a serial executor in the submission order, deferring the
+ * tasks that read or write data until the bandwidth limit of an {@link IoClass} allows it. A
+ * deferred task is handed over by a task of the scheduler once its wait is over, so no thread
+ * sleeps waiting for the bandwidth. The tasks submitted after a deferred task are deferred with
+ * it to keep their order.
+ */
+@ThreadSafe
+final class BandwidthThrottledExecutor implements Executor {
+  /** The delay before handing a task over again after the serial executor rejected it. */
+  private static final long RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final IoClass mIoClass;
+  private final Executor mExecutor;
+  private final ScheduledExecutorService mScheduler;
+  /** The deferred tasks in the submission order. */
+  @GuardedBy("this")
+  private final Deque<DeferredTask> mDeferred = new ArrayDeque<>();
+
+  /**
+   * @param ioClass the class whose bandwidth limit applies to the tasks
+   * @param executor the serial executor to run the tasks
+   * @param scheduler the scheduler to hand the deferred tasks over
+   */
+  BandwidthThrottledExecutor(IoClass ioClass, Executor executor,
+      ScheduledExecutorService scheduler) {
+    mIoClass = ioClass;
+    mExecutor = executor;
+    mScheduler = scheduler;
+  }
+
+  /**
+   * Runs a task without data. It is only deferred if a task submitted before it is.
+   *
+   * @param task the task
+   */
+  @Override
+  public void execute(Runnable task) {
+    execute(task, 0);
+  }
+
+  /**
+   * Runs a task once the bandwidth limit allows the data it reads or writes.
+   *
+   * @param task the task
+   * @param bytes the number of bytes the task reads or writes
+   */
+  public void execute(Runnable task, long bytes) {
+    long waitNanos = mIoClass.reserveBandwidth(bytes);
+    synchronized (this) {
+      if (mDeferred.isEmpty()) {
+        if (waitNanos == 0) {
+          mExecutor.execute(task);
+          return;
+        }
+        scheduleHandOver(waitNanos);
+      }
+      mDeferred.add(new DeferredTask(task, System.nanoTime() + waitNanos));
+    }
+  }
+
+  /**
+   * Hands the deferred tasks whose wait is over to the serial executor.
+   */
+  private synchronized void handOver() {
+    DeferredTask next;
+    while ((next = mDeferred.peek()) != null) {
+      long waitNanos = next.mDeadlineNanos - System.nanoTime();
+      if (waitNanos > 0) {
+        scheduleHandOver(waitNanos);
+        return;
+      }
+      try {
+        mExecutor.execute(next.mTask);
+      } catch (RejectedExecutionException e) {
+        // the task keeps its place, so the tasks after it cannot overtake it
+        scheduleHandOver(RETRY_NANOS);
+        return;
+      }
+      mDeferred.poll();
+    }
+  }
+
+  @GuardedBy("this")
+  private void scheduleHandOver(long delayNanos) {
+    mScheduler.schedule(this::handOver, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static final class DeferredTask {
+    private final Runnable mTask;
+    private final long mDeadlineNanos;
+
+    private DeferredTask(Runnable task, long deadlineNanos) {
+      mTask = task;
+      mDeadlineNanos = deadlineNanos;
+    }
+  }
+}
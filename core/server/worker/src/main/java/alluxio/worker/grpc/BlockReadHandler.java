@@ -57,9 +57,11 @@ import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
@@ -84,6 +86,8 @@ import javax.annotation.concurrent.NotThreadSafe;
  *    new data chunk, it checks whether there are notifications (e.g. cancel, error), if
  *    there is, handle them properly. See more information about the notifications in the javadoc
  *    of {@link BlockReadRequestContext} about CANCEL, EOF, and ERROR flags.
+ *    If the block reader supports asynchronous reads, the data reader thread is released while
+ *    a chunk is being read, and the data reader is resubmitted once the read completes.
  *
  * @see BlockReadRequestContext
  */
@@ -111,6 +115,7 @@ public class BlockReadHandler implements StreamObserver<alluxio.grpc.ReadRequest
   private final ReentrantLock mLock = new ReentrantLock();
   private final boolean mDomainSocketEnabled;
   private final boolean mIsReaderBufferPooled;
+  private final boolean mAsyncIoEnabled;
 
   private final BlockStoreType mBlockStoreType;
 
@@ -142,6 +147,8 @@ public class BlockReadHandler implements StreamObserver<alluxio.grpc.ReadRequest
     mDomainSocketEnabled = domainSocketEnabled;
     mIsReaderBufferPooled =
         Configuration.getBoolean(PropertyKey.WORKER_NETWORK_READER_BUFFER_POOLED);
+    mAsyncIoEnabled =
+        Configuration.getBoolean(PropertyKey.WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED);
     mBlockStoreType =
         Configuration.getEnum(PropertyKey.WORKER_BLOCK_STORE_TYPE, BlockStoreType.class);
   }
@@ -360,6 +367,8 @@ public class BlockReadHandler implements StreamObserver<alluxio.grpc.ReadRequest
     private final BlockReadRequestContext mContext;
     private final BlockReadRequest mRequest;
     private final long mChunkSize;
+    /** Whether the bandwidth for the next chunk has been reserved while this reader waited. */
+    private boolean mBandwidthReserved;
 
     /**
      * Creates an instance of the {@link DataReader}.
@@ -410,57 +419,29 @@ public class BlockReadHandler implements StreamObserver<alluxio.grpc.ReadRequest
           Preconditions.checkState(chunkSize > 0);
         }
 
-        DataBuffer chunk;
         try {
           // Once we get the data buffer, the lock on the block has been acquired.
           // If there are any stream errors during this time, we must unlock the block
           // before exiting.
-          chunk = getDataBuffer(mContext, start, chunkSize);
-          if (chunk != null) {
-            try (LockResource lr = new LockResource(mLock)) {
-              mContext.setPosToQueue(mContext.getPosToQueue() + chunk.getLength());
+          if (!mBandwidthReserved) {
+            long waitNanos = IoClass.FOREGROUND_READ.reserveBandwidth(chunkSize);
+            if (waitNanos > 0) {
+              // wait for the bandwidth without holding the thread
+              mBandwidthReserved = true;
+              GrpcExecutors.BANDWIDTH_THROTTLE_SCHEDULER.schedule(this::resume, waitNanos,
+                  TimeUnit.NANOSECONDS);
+              return;
             }
           }
-          if (chunk == null || chunk.getLength() < chunkSize || start + chunkSize == mRequest
-              .getEnd()) {
-            // This can happen if the requested read length is greater than the actual length of the
-            // block or file starting from the given offset.
-            setEof();
-          }
-
-          if (chunk != null) {
-            DataBuffer finalChunk = chunk;
-            mSerializingExecutor.execute(() -> {
-              try {
-                ReadResponse response = ReadResponse.newBuilder().setChunk(Chunk.newBuilder()
-                    .setData(UnsafeByteOperations.unsafeWrap(finalChunk.getReadOnlyByteBuffer()))
-                ).build();
-                if (mResponse instanceof DataMessageServerStreamObserver) {
-                  ((DataMessageServerStreamObserver<ReadResponse>) mResponse)
-                      .onNext(new DataMessage<>(response, finalChunk));
-                } else {
-                  mResponse.onNext(response);
-                }
-                incrementMetrics(finalChunk.getLength());
-              } catch (Exception e) {
-                LogUtils.warnWithException(LOG,
-                    "Exception occurred while sending data for read request {}.",
-                    mContext.getRequest(), e);
-                setError(new Error(AlluxioStatusException.fromThrowable(e), true));
-              } finally {
-                finalChunk.release();
-              }
-            });
+          mBandwidthReserved = false;
+          if (mAsyncIoEnabled && isAsyncReadSupported()) {
+            readChunkAsync(start, chunkSize);
+            // the data reader is resubmitted once the chunk has been read
+            return;
           }
+          queueChunk(getDataBuffer(mContext, start, chunkSize), start, chunkSize);
         } catch (Throwable e) {
-          if (isFatalError(e)) {
-            ProcessUtils.fatalError(LOG, e, "Error while reading");
-          }
-          LogUtils.warnWithException(LOG,
-              "Exception occurred while reading data for read request {}. session {}",
-              mContext.getRequest(), mContext.getRequest().getSessionId(),
-              e);
-          setError(new Error(AlluxioStatusException.fromThrowable(e), true));
+          handleReadError(e);
         }
         continue;
       }
@@ -490,6 +471,142 @@ public class BlockReadHandler implements StreamObserver<alluxio.grpc.ReadRequest
       // since the reader is not finished in that case and needs more rounds
     }
 
+    /**
+     * Queues a chunk read from the block to be sent to the client.
+     *
+     * @param chunk the chunk, or null if nothing was read
+     * @param start the offset the chunk was read from
+     * @param chunkSize the number of bytes requested for the chunk
+     */
+    private void queueChunk(@Nullable DataBuffer chunk, long start, int chunkSize) {
+      if (chunk != null) {
+        try (LockResource lr = new LockResource(mLock)) {
+          mContext.setPosToQueue(mContext.getPosToQueue() + chunk.getLength());
+        }
+      }
+      if (chunk == null || chunk.getLength() < chunkSize || start + chunkSize == mRequest
+          .getEnd()) {
+        // This can happen if the requested read length is greater than the actual length of the
+        // block or file starting from the given offset.
+        setEof();
+      }
+
+      if (chunk != null) {
+        DataBuffer finalChunk = chunk;
+        mSerializingExecutor.execute(() -> {
+          try {
+            ReadResponse response = ReadResponse.newBuilder().setChunk(Chunk.newBuilder()
+                .setData(UnsafeByteOperations.unsafeWrap(finalChunk.getReadOnlyByteBuffer()))
+            ).build();
+            if (mResponse instanceof DataMessageServerStreamObserver) {
+              ((DataMessageServerStreamObserver<ReadResponse>) mResponse)
+                  .onNext(new DataMessage<>(response, finalChunk));
+            } else {
+              mResponse.onNext(response);
+            }
+            incrementMetrics(finalChunk.getLength());
+          } catch (Exception e) {
+            LogUtils.warnWithException(LOG,
+                "Exception occurred while sending data for read request {}.",
+                mContext.getRequest(), e);
+            setError(new Error(AlluxioStatusException.fromThrowable(e), true));
+          } finally {
+            finalChunk.release();
+          }
+        });
+      }
+    }
+
+    /**
+     * Handles an error reading a chunk from the block.
+     *
+     * @param e the error
+     */
+    private void handleReadError(Throwable e) {
+      if (isFatalError(e)) {
+        ProcessUtils.fatalError(LOG, e, "Error while reading");
+      }
+      LogUtils.warnWithException(LOG,
+          "Exception occurred while reading data for read request {}. session {}",
+          mContext.getRequest(), mContext.getRequest().getSessionId(),
+          e);
+      setError(new Error(AlluxioStatusException.fromThrowable(e), true));
+    }
+
+    /**
+     * Opens the block if it is not open.
+     *
+     * @return true if the block reader supports asynchronous reads
+     */
+    private boolean isAsyncReadSupported() throws Exception {
+      openBlock(mContext);
+      return mContext.getBlockReader().isAsyncReadSupported();
+    }
+
+    /**
+     * Reads a chunk from the block with {@link BlockReader#readAsync}, which is experimental and
+     * only used when enabled by {@link PropertyKey#WORKER_NETWORK_BLOCK_READER_ASYNC_IO_ENABLED}.
+     * Once the chunk is read, it is queued to be sent to the client and this data reader is
+     * resubmitted to read the next chunk.
+     *
+     * @param start the offset to read the chunk from
+     * @param chunkSize the number of bytes to read
+     */
+    private void readChunkAsync(long start, int chunkSize) {
+      ByteBuf buf = mIsReaderBufferPooled
+          ? PooledByteBufAllocator.DEFAULT.directBuffer(chunkSize, chunkSize)
+          : Unpooled.directBuffer(chunkSize, chunkSize);
+      BlockReader blockReader = mContext.getBlockReader();
+      long startMs = System.currentTimeMillis();
+      CompletableFuture<Integer> read;
+      try {
+        read = blockReader.readAsync(buf, start, chunkSize);
+      } catch (RuntimeException e) {
+        buf.release();
+        throw e;
+      }
+      read.whenComplete((bytesRead, e) -> {
+        try {
+          if (e != null) {
+            buf.release();
+            handleReadError(e);
+          } else if (bytesRead > 0) {
+            queueChunk(new NettyDataBuffer(buf), start, chunkSize);
+          } else {
+            buf.release();
+            queueChunk(null, start, chunkSize);
+          }
+          long durationMs = System.currentTimeMillis() - startMs;
+          if (durationMs >= SLOW_BUFFER_MS) {
+            SLOW_BUFFER_LOG.warn("Asynchronous read for remote read took longer than {} ms. "
+                    + "location: {} bytes: {} durationMs: {}",
+                SLOW_BUFFER_MS, blockReader.getLocation(), chunkSize, durationMs);
+          }
+        } catch (Throwable t) {
+          handleReadError(t);
+        } finally {
+          resume();
+        }
+      });
+    }
+
+    /**
+     * Resubmits this data reader after an asynchronous read or a wait for the bandwidth. The
+     * request fails if the data reader cannot be resubmitted, as the calling thread belongs to the
+     * asynchronous I/O executor or the bandwidth throttle scheduler and must not read the block.
+     */
+    private void resume() {
+      try {
+        mDataReaderExecutor.execute(this);
+      } catch (RejectedExecutionException e) {
+        try (LockResource lr = new LockResource(mLock)) {
+          mContext.setDataReaderActive(false);
+        }
+        handleStreamEndingException(Status.RESOURCE_EXHAUSTED.withCause(e)
+            .withDescription("Failed to resume the data reader"));
+      }
+    }
+
     /**
      * Completes the read request. When the request is closed, we should clean up any temporary
      * state it may have accumulated.
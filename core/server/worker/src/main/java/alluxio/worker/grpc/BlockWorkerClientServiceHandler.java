@@ -15,9 +15,11 @@ import alluxio.RpcUtils;
 import alluxio.annotation.SuppressFBWarnings;
 import alluxio.conf.Configuration;
 import alluxio.conf.PropertyKey;
+import alluxio.exception.runtime.AlluxioRuntimeException;
 import alluxio.grpc.AsyncCacheRequest;
 import alluxio.grpc.AsyncCacheResponse;
 import alluxio.grpc.BlockChecksum;
+import alluxio.grpc.BlockIdStatus;
 import alluxio.grpc.BlockStatus;
 import alluxio.grpc.BlockWorkerGrpc;
 import alluxio.grpc.CacheRequest;
@@ -34,6 +36,8 @@ import alluxio.grpc.LoadRequest;
 import alluxio.grpc.LoadResponse;
 import alluxio.grpc.MoveBlockRequest;
 import alluxio.grpc.MoveBlockResponse;
+import alluxio.grpc.MoveBlocksRequest;
+import alluxio.grpc.MoveBlocksResponse;
 import alluxio.grpc.OpenLocalBlockRequest;
 import alluxio.grpc.OpenLocalBlockResponse;
 import alluxio.grpc.ReadRequest;
@@ -41,6 +45,8 @@ import alluxio.grpc.ReadResponse;
 import alluxio.grpc.ReadResponseMarshaller;
 import alluxio.grpc.RemoveBlockRequest;
 import alluxio.grpc.RemoveBlockResponse;
+import alluxio.grpc.RemoveBlocksRequest;
+import alluxio.grpc.RemoveBlocksResponse;
 import alluxio.grpc.TaskStatus;
 import alluxio.grpc.WriteRequestMarshaller;
 import alluxio.grpc.WriteResponse;
@@ -64,6 +70,7 @@ import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -215,6 +222,54 @@ public class BlockWorkerClientServiceHandler extends BlockWorkerGrpc.BlockWorker
     }, "moveBlock", "request=%s", responseObserver, request);
   }
 
+  @Override
+  public void removeBlocks(RemoveBlocksRequest request,
+      StreamObserver<RemoveBlocksResponse> responseObserver) {
+    long sessionId = IdUtils.createSessionId();
+    RpcUtils.call(LOG, () -> {
+      List<BlockIdStatus> failures = toBlockIdStatus(
+          mBlockWorker.removeBlocks(sessionId, request.getBlockIdsList()));
+      return RemoveBlocksResponse.newBuilder()
+          .setStatus(toTaskStatus(request.getBlockIdsCount(), failures.size()))
+          .addAllBlockStatus(failures).build();
+    }, "removeBlocks", "request=%s", responseObserver, request);
+  }
+
+  @Override
+  public void moveBlocks(MoveBlocksRequest request,
+      StreamObserver<MoveBlocksResponse> responseObserver) {
+    long sessionId = IdUtils.createSessionId();
+    RpcUtils.call(LOG, () -> {
+      List<BlockIdStatus> failures = toBlockIdStatus(mBlockWorker.getBlockStore()
+          .moveBlocks(sessionId, request.getBlockIdsList(),
+              BlockStoreLocation.anyDirInAnyTierWithMedium(request.getMediumType())));
+      return MoveBlocksResponse.newBuilder()
+          .setStatus(toTaskStatus(request.getBlockIdsCount(), failures.size()))
+          .addAllBlockStatus(failures).build();
+    }, "moveBlocks", "request=%s", responseObserver, request);
+  }
+
+  private static List<BlockIdStatus> toBlockIdStatus(Map<Long, Exception> errors) {
+    List<BlockIdStatus> statuses = new ArrayList<>(errors.size());
+    for (Map.Entry<Long, Exception> error : errors.entrySet()) {
+      AlluxioRuntimeException exception = AlluxioRuntimeException.from(error.getValue());
+      BlockIdStatus.Builder builder = BlockIdStatus.newBuilder().setBlockId(error.getKey())
+          .setCode(exception.getStatus().getCode().value()).setRetryable(exception.isRetryable());
+      if (exception.getMessage() != null) {
+        builder.setMessage(exception.getMessage());
+      }
+      statuses.add(builder.build());
+    }
+    return statuses;
+  }
+
+  private static TaskStatus toTaskStatus(int numBlocks, int numFailures) {
+    if (numFailures == 0) {
+      return TaskStatus.SUCCESS;
+    }
+    return numBlocks > numFailures ? TaskStatus.PARTIAL_FAILURE : TaskStatus.FAILURE;
+  }
+
   @Override
   public void freeWorker(FreeWorkerRequest request,
        StreamObserver<FreeWorkerResponse> responseObserver) {
@@ -25,6 +25,7 @@ import alluxio.master.AlluxioExecutorService;
 import alluxio.metrics.MetricKey;
 import alluxio.metrics.MetricsSystem;
 import alluxio.network.ChannelType;
+import alluxio.security.authentication.AuthenticationServer;
 import alluxio.util.network.NettyUtils;
 import alluxio.worker.DataServer;
 import alluxio.worker.WorkerProcess;
@@ -202,6 +203,13 @@ public final class GrpcDataServer implements DataServer {
     }
   }
 
+  /**
+   * @return the server authenticating the channels of the clients
+   */
+  public AuthenticationServer getAuthenticationServer() {
+    return mServer.getAuthenticationServer();
+  }
+
   @Override
   public SocketAddress getBindAddress() {
     if (mDomainSocketAddress != null) {
@@ -32,6 +32,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -54,7 +56,8 @@ public final class GrpcExecutors {
           ThreadFactoryUtils.build("CacheManagerExecutor-%d", true));
   // Async caching is an optimization internal to Alluxio, which can be aborted any time
   public static final ExecutorService CACHE_MANAGER_EXECUTOR =
-      new ImpersonateThreadPoolExecutor(CACHE_MANAGER_THREAD_POOL_EXECUTOR, false);
+      new ImpersonateThreadPoolExecutor(
+          new IoClassExecutor(IoClass.ASYNC_CACHE, CACHE_MANAGER_THREAD_POOL_EXECUTOR), false);
 
   // Used by BlockWorkerClientServiceHandler.readBlock() by DataReader threads,
   // where each DataReader reads a block content for reply.
@@ -65,7 +68,8 @@ public final class GrpcExecutors {
           TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
           ThreadFactoryUtils.build("BlockDataReaderExecutor-%d", true));
   public static final ExecutorService BLOCK_READER_EXECUTOR =
-      new ImpersonateThreadPoolExecutor(BLOCK_READER_THREAD_POOL_EXECUTOR, true);
+      new ImpersonateThreadPoolExecutor(
+          new IoClassExecutor(IoClass.FOREGROUND_READ, BLOCK_READER_THREAD_POOL_EXECUTOR), true);
 
   // Used for replying data to the client in BlockReadHandler.
   // The thread pool has a small queue of a constant size.
@@ -85,7 +89,19 @@ public final class GrpcExecutors {
           TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
           ThreadFactoryUtils.build("BlockDataWriterExecutor-%d", true));
   public static final ExecutorService BLOCK_WRITER_EXECUTOR =
-          new ImpersonateThreadPoolExecutor(BLOCK_WRITE_THREAD_POOL_EXECUTOR, true);
+      new ImpersonateThreadPoolExecutor(
+          new IoClassExecutor(IoClass.FOREGROUND_WRITE, BLOCK_WRITE_THREAD_POOL_EXECUTOR), true);
+  // Used for loading blocks from the UFS, which shares the threads with the block writers
+  // but is limited separately, so that load jobs cannot take all the threads.
+  public static final ExecutorService LOAD_EXECUTOR =
+      new ImpersonateThreadPoolExecutor(
+          new IoClassExecutor(IoClass.LOAD, BLOCK_WRITE_THREAD_POOL_EXECUTOR), true);
+
+  // Used to resume the reads and writes deferred by the bandwidth limits of the I/O classes.
+  // The tasks only hand the deferred I/O over to the executors above.
+  public static final ScheduledExecutorService BANDWIDTH_THROTTLE_SCHEDULER =
+      new ScheduledThreadPoolExecutor(1,
+          ThreadFactoryUtils.build("BandwidthThrottleScheduler-%d", true));
 
   static {
     MetricsSystem.registerCachedGaugeIfAbsent(MetricsSystem.getMetricName(
@@ -0,0 +1,136 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.grpc;
+
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
+
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Classes of the I/O done by a worker. Each class can be given its own concurrency limit
+ * ({@link PropertyKey.Template#WORKER_IO_CLASS_CONCURRENCY_MAX}) and bandwidth limit
+ * ({@link PropertyKey.Template#WORKER_IO_CLASS_BANDWIDTH_MAX}), so that background I/O like
+ * async caching and load jobs cannot starve the reads and writes of the clients.
+ */
+public enum IoClass {
+  /** Reads of blocks by clients. */
+  FOREGROUND_READ("foreground_read"),
+  /** Writes of blocks by clients. */
+  FOREGROUND_WRITE("foreground_write"),
+  /** Async caching of blocks read from the UFS. */
+  ASYNC_CACHE("async_cache"),
+  /** Loading of blocks from the UFS by load jobs. */
+  LOAD("load"),
+  /** Tier management tasks moving blocks between the tiers. */
+  MANAGEMENT("management"),
+  ;
+
+  private final String mName;
+  private final Supplier<Optional<BandwidthLimiter>> mBandwidthLimiter;
+
+  IoClass(String name) {
+    mName = name;
+    mBandwidthLimiter = Suppliers.memoize(() -> {
+      PropertyKey key = PropertyKey.Template.WORKER_IO_CLASS_BANDWIDTH_MAX.format(mName);
+      if (!Configuration.isSet(key)) {
+        return Optional.empty();
+      }
+      long bytesPerSecond = Configuration.getBytes(key);
+      return bytesPerSecond > 0 ? Optional.of(new BandwidthLimiter(bytesPerSecond))
+          : Optional.empty();
+    });
+  }
+
+  /**
+   * @return the name of the class, as used in the property keys and the metrics
+   */
+  public String getName() {
+    return mName;
+  }
+
+  /**
+   * @return the maximum number of tasks of this class running at the same time, or 0 if unlimited
+   */
+  public int getConcurrencyLimit() {
+    PropertyKey key = PropertyKey.Template.WORKER_IO_CLASS_CONCURRENCY_MAX.format(mName);
+    return Configuration.isSet(key) ? Math.max(Configuration.getInt(key), 0) : 0;
+  }
+
+  /**
+   * Reserves the bandwidth to read or write the given number of bytes. The caller must wait for
+   * the returned time before doing the I/O. Callers running on the shared I/O threads should
+   * resume the I/O from a scheduled task rather than sleeping, so that a throttled class does not
+   * hold the threads.
+   *
+   * @param bytes the number of bytes to read or write
+   * @return the time to wait in nanoseconds, 0 if the class has no bandwidth limit
+   */
+  public long reserveBandwidth(long bytes) {
+    Optional<BandwidthLimiter> limiter = mBandwidthLimiter.get();
+    if (!limiter.isPresent() || bytes <= 0) {
+      return 0;
+    }
+    return limiter.get().reserve(bytes);
+  }
+
+  /**
+   * Blocks until the bandwidth limit of this class allows the given number of bytes to be read or
+   * written. Returns immediately if the class has no bandwidth limit. This is meant for threads
+   * dedicated to the background work of the class, other callers should use
+   * {@link #reserveBandwidth(long)}.
+   *
+   * @param bytes the number of bytes to read or write
+   */
+  public void acquireBandwidth(long bytes) {
+    long waitNanos = reserveBandwidth(bytes);
+    if (waitNanos > 0) {
+      Uninterruptibles.sleepUninterruptibly(waitNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return mName;
+  }
+
+  /**
+   * Limits the bandwidth by handing out reservations in order. Each reservation starts when the
+   * previous one ends, so the caller knows how long to wait and the bytes reserved are only
+   * accounted once.
+   */
+  @ThreadSafe
+  private static final class BandwidthLimiter {
+    private final double mNanosPerByte;
+    /** The time the next reservation can start, in {@link System#nanoTime()}. */
+    @GuardedBy("this")
+    private long mNextFreeNanos = System.nanoTime();
+
+    BandwidthLimiter(long bytesPerSecond) {
+      mNanosPerByte = (double) TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+    }
+
+    synchronized long reserve(long bytes) {
+      long now = System.nanoTime();
+      long waitNanos = Math.max(mNextFreeNanos - now, 0);
+      mNextFreeNanos = now + waitNanos + (long) (bytes * mNanosPerByte);
+      return waitNanos;
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.grpc;
+
+import alluxio.metrics.Metric;
+import alluxio.metrics.MetricInfo;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An executor running the tasks of an {@link IoClass} on a shared thread pool. At most
+ * {@link IoClass#getConcurrencyLimit()} tasks of the class run at the same time, the others wait
+ * in a FIFO queue of the class. A task finishing hands its slot over to the next task in the
+ * queue, running it on the same thread. The time the tasks spend in the queue is recorded in the
+ * {@link MetricKey#WORKER_IO_QUEUE_WAIT_TIME} metric of the class. Tasks are never run on the
+ * submitting thread: when the shared pool rejects a task, the caller submitting it gets a
+ * {@link RejectedExecutionException}, and a queued task of another caller stays in the queue.
+ */
+@ThreadSafe
+public final class IoClassExecutor extends AbstractExecutorService {
+  private final IoClass mIoClass;
+  private final ExecutorService mDelegate;
+  /** The maximum number of running tasks, 0 if unlimited. */
+  private final int mConcurrencyLimit;
+  private final Timer mQueueWaitTimer;
+  private final ConcurrentLinkedDeque<Task> mQueue = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger mRunning = new AtomicInteger();
+
+  /**
+   * @param ioClass the class of the tasks
+   * @param delegate the executor to run the tasks on
+   */
+  public IoClassExecutor(IoClass ioClass, ExecutorService delegate) {
+    this(ioClass, delegate, ioClass.getConcurrencyLimit());
+  }
+
+  /**
+   * @param ioClass the class of the tasks
+   * @param delegate the executor to run the tasks on
+   * @param concurrencyLimit the maximum number of running tasks, 0 if unlimited
+   */
+  @VisibleForTesting
+  IoClassExecutor(IoClass ioClass, ExecutorService delegate, int concurrencyLimit) {
+    mIoClass = ioClass;
+    mDelegate = delegate;
+    mConcurrencyLimit = concurrencyLimit;
+    mQueueWaitTimer = MetricsSystem.timer(Metric.getMetricNameWithTags(
+        MetricKey.WORKER_IO_QUEUE_WAIT_TIME.getName(), MetricInfo.TAG_IO_CLASS,
+        ioClass.getName()));
+  }
+
+  /**
+   * @return the class of the tasks
+   */
+  public IoClass getIoClass() {
+    return mIoClass;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Task task = new Task(command);
+    if (mConcurrencyLimit <= 0) {
+      mDelegate.execute(task);
+      return;
+    }
+    if (mQueue.isEmpty() && tryAcquireSlot()) {
+      dispatch(task);
+      return;
+    }
+    mQueue.offer(task);
+    // all the running tasks may have finished before the task was queued
+    while (!mQueue.isEmpty() && tryAcquireSlot()) {
+      Task next = mQueue.poll();
+      if (next == null) {
+        mRunning.decrementAndGet();
+        continue;
+      }
+      try {
+        dispatch(next);
+      } catch (RejectedExecutionException e) {
+        if (next != task) {
+          // the task of another caller keeps its place at the head of the queue
+          mQueue.offerFirst(next);
+          if (!mQueue.remove(task)) {
+            // the task has been dispatched by another thread in the meantime
+            return;
+          }
+        }
+        // the task of the caller is rejected rather than run on the calling thread
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Runs a task holding a slot on the delegate, releasing the slot if the delegate rejects it.
+   */
+  private void dispatch(Task task) {
+    try {
+      mDelegate.execute(task);
+    } catch (RejectedExecutionException e) {
+      mRunning.decrementAndGet();
+      throw e;
+    }
+  }
+
+  private boolean tryAcquireSlot() {
+    while (true) {
+      int running = mRunning.get();
+      if (running >= mConcurrencyLimit) {
+        return false;
+      }
+      if (mRunning.compareAndSet(running, running + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases the slot of a finished task, or hands it over to the next task in the queue.
+   *
+   * @return the next task to run in the slot, or null if the slot is released
+   */
+  private Task nextOrRelease() {
+    while (true) {
+      Task next = mQueue.poll();
+      if (next != null) {
+        return next;
+      }
+      mRunning.decrementAndGet();
+      // a task may have been queued while all the slots were taken
+      if (mQueue.isEmpty() || !tryAcquireSlot()) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * @return the number of running tasks, only tracked with a concurrency limit
+   */
+  @VisibleForTesting
+  int getRunningCount() {
+    return mRunning.get();
+  }
+
+  /**
+   * @return the number of tasks waiting in the queue
+   */
+  @VisibleForTesting
+  int getQueuedCount() {
+    return mQueue.size();
+  }
+
+  @Override
+  public void shutdown() {
+    mDelegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> tasks = new ArrayList<>();
+    for (Task task = mQueue.poll(); task != null; task = mQueue.poll()) {
+      tasks.add(task.mCommand);
+    }
+    tasks.addAll(mDelegate.shutdownNow());
+    return tasks;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return mDelegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return mDelegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return mDelegate.awaitTermination(timeout, unit);
+  }
+
+  private final class Task implements Runnable {
+    private final Runnable mCommand;
+    private final long mQueuedNanos = System.nanoTime();
+
+    private Task(Runnable command) {
+      mCommand = command;
+    }
+
+    @Override
+    public void run() {
+      Task task = this;
+      while (task != null) {
+        mQueueWaitTimer.update(System.nanoTime() - task.mQueuedNanos, TimeUnit.NANOSECONDS);
+        boolean completed = false;
+        try {
+          task.mCommand.run();
+          completed = true;
+        } finally {
+          Task next = mConcurrencyLimit > 0 ? nextOrRelease() : null;
+          if (completed) {
+            task = next;
+          } else if (next != null) {
+            // the error propagates to the delegate, so the next task runs on another thread
+            handOver(next);
+          }
+        }
+      }
+    }
+
+    /**
+     * Runs the next task in the slot of a failed task on the delegate.
+     */
+    private void handOver(Task next) {
+      try {
+        mDelegate.execute(next);
+      } catch (RejectedExecutionException e) {
+        // the next call to execute dispatches the task
+        mQueue.offerFirst(next);
+        mRunning.decrementAndGet();
+      }
+    }
+  }
+}
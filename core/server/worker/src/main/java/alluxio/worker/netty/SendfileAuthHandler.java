@@ -0,0 +1,76 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.exception.status.UnauthenticatedException;
+import alluxio.security.authentication.AuthenticatedUserInfo;
+import alluxio.security.authentication.AuthenticationServer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Authenticates the connections of the {@link SendfileDataServer}. A client starts each
+ * connection with the id of a channel it authenticated with the gRPC data server of the worker,
+ * as two longs. The connection is closed if the channel is not known to the authentication server
+ * of the gRPC data server, otherwise this handler removes itself and passes the rest of the
+ * stream on to the {@link SendfileReadHandler}.
+ */
+@NotThreadSafe
+public final class SendfileAuthHandler extends ByteToMessageDecoder {
+  private static final Logger LOG = LoggerFactory.getLogger(SendfileAuthHandler.class);
+  private static final int CHANNEL_ID_BYTES = 2 * Long.BYTES;
+
+  @Nullable
+  private final AuthenticationServer mAuthenticationServer;
+
+  /**
+   * Creates an instance of {@link SendfileAuthHandler}.
+   *
+   * @param authenticationServer the authentication server of the gRPC data server, or null if
+   *        authentication is disabled, in which case the channel id is not checked
+   */
+  public SendfileAuthHandler(@Nullable AuthenticationServer authenticationServer) {
+    mAuthenticationServer = authenticationServer;
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+    if (in.readableBytes() < CHANNEL_ID_BYTES) {
+      return;
+    }
+    UUID channelId = new UUID(in.readLong(), in.readLong());
+    if (mAuthenticationServer != null) {
+      try {
+        AuthenticatedUserInfo userInfo = mAuthenticationServer.getUserInfoForChannel(channelId);
+        LOG.debug("Sendfile data channel {} authenticated as {} with channel {}", ctx.channel(),
+            userInfo.getAuthorizedUserName(), channelId);
+      } catch (UnauthenticatedException e) {
+        LOG.debug("Closing sendfile data channel {} with unknown channel {}", ctx.channel(),
+            channelId);
+        in.skipBytes(in.readableBytes());
+        ctx.close();
+        return;
+      }
+    }
+    // the bytes left in the buffer are handed to the next handlers
+    ctx.pipeline().remove(this);
+  }
+}
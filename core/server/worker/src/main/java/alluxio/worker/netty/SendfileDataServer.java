@@ -0,0 +1,151 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
+import alluxio.grpc.ReadRequest;
+import alluxio.network.ChannelType;
+import alluxio.security.authentication.AuthType;
+import alluxio.security.authentication.AuthenticationServer;
+import alluxio.util.network.NettyUtils;
+import alluxio.worker.DataServer;
+import alluxio.worker.WorkerProcess;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.DefaultBlockWorker;
+import alluxio.worker.grpc.GrpcExecutors;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Runs a Netty data server that sends the blocks stored in the local tiers to remote clients
+ * with {@link io.netty.channel.FileRegion}s, so that the data goes from the block files to the
+ * socket without being copied into user space. See {@link SendfileReadHandler} for the protocol.
+ *
+ * Connections are authenticated by {@link SendfileAuthHandler} with the channels the clients
+ * authenticated with the gRPC data server of the worker, unless authentication is disabled.
+ */
+@NotThreadSafe
+public final class SendfileDataServer implements DataServer {
+  private static final Logger LOG = LoggerFactory.getLogger(SendfileDataServer.class);
+  private static final long SHUTDOWN_TIMEOUT =
+      Configuration.getMs(PropertyKey.WORKER_NETWORK_SHUTDOWN_TIMEOUT);
+  private static final long SHUTDOWN_QUIET_PERIOD =
+      Configuration.getMs(PropertyKey.WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD);
+
+  private final EventLoopGroup mBossGroup;
+  private final EventLoopGroup mWorkerGroup;
+  private final Channel mChannel;
+
+  /**
+   * Creates a new instance of {@link SendfileDataServer}.
+   *
+   * @param bindAddress the server bind address
+   * @param workerProcess the Alluxio worker process
+   * @param authenticationServer the authentication server of the gRPC data server of the worker
+   */
+  public SendfileDataServer(SocketAddress bindAddress, WorkerProcess workerProcess,
+      AuthenticationServer authenticationServer) {
+    DefaultBlockWorker blockWorker =
+        (DefaultBlockWorker) workerProcess.getWorker(BlockWorker.class);
+    AuthenticationServer channelAuthenticator = Configuration.getEnum(
+        PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.class) == AuthType.NOSASL
+        ? null : authenticationServer;
+    ChannelType type = NettyUtils.getWorkerChannel(Configuration.global());
+    mBossGroup = NettyUtils.createEventLoop(type,
+        Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_BOSS_THREADS),
+        "sendfile-data-server-boss-%d", true);
+    mWorkerGroup = NettyUtils.createEventLoop(type,
+        Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_WORKER_THREADS),
+        "sendfile-data-server-worker-%d", true);
+    ServerBootstrap bootstrap = new ServerBootstrap()
+        .group(mBossGroup, mWorkerGroup)
+        .channel(NettyUtils.getServerChannelClass(false, Configuration.global()))
+        .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+        .childOption(ChannelOption.TCP_NODELAY, true)
+        .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+            (int) Configuration.getBytes(PropertyKey.WORKER_NETWORK_NETTY_WATERMARK_LOW),
+            (int) Configuration.getBytes(PropertyKey.WORKER_NETWORK_NETTY_WATERMARK_HIGH)))
+        .childHandler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel channel) {
+            channel.pipeline()
+                .addLast(new SendfileAuthHandler(channelAuthenticator))
+                .addLast(new ProtobufVarint32FrameDecoder())
+                .addLast(new ProtobufDecoder(ReadRequest.getDefaultInstance()))
+                .addLast(new SendfileReadHandler(blockWorker,
+                    GrpcExecutors.BLOCK_READER_EXECUTOR));
+          }
+        });
+    try {
+      mChannel = bootstrap.bind(bindAddress).syncUninterruptibly().channel();
+    } catch (Exception e) {
+      mBossGroup.shutdownGracefully();
+      mWorkerGroup.shutdownGracefully();
+      String message = String.format(
+          "Alluxio worker sendfile data server failed to start on %s", bindAddress);
+      LOG.error(message, e);
+      throw new RuntimeException(message, e);
+    }
+    LOG.info("Alluxio worker sendfile data server started, listening on {}", bindAddress);
+  }
+
+  @Override
+  public void close() {
+    LOG.info("Shutting down Alluxio worker sendfile data server at {}.", getBindAddress());
+    boolean completed = mChannel.close().awaitUninterruptibly(SHUTDOWN_TIMEOUT);
+    if (!completed) {
+      LOG.warn("Alluxio worker sendfile data server shutdown timed out.");
+    }
+    completed = mBossGroup
+        .shutdownGracefully(SHUTDOWN_QUIET_PERIOD, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)
+        .awaitUninterruptibly(SHUTDOWN_TIMEOUT);
+    if (!completed) {
+      LOG.warn("Forced boss group shutdown because graceful shutdown timed out.");
+    }
+    completed = mWorkerGroup
+        .shutdownGracefully(SHUTDOWN_QUIET_PERIOD, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)
+        .awaitUninterruptibly(SHUTDOWN_TIMEOUT);
+    if (!completed) {
+      LOG.warn("Forced worker group shutdown because graceful shutdown timed out.");
+    }
+  }
+
+  @Override
+  public SocketAddress getBindAddress() {
+    return mChannel.localAddress();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return !mChannel.isOpen();
+  }
+
+  @Override
+  public void awaitTermination() {
+    mChannel.closeFuture().awaitUninterruptibly();
+  }
+}
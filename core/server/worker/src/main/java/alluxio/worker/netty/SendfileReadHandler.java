@@ -0,0 +1,171 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import static alluxio.worker.block.BlockMetadataManager.WORKER_STORAGE_TIER_ASSOC;
+
+import alluxio.grpc.ReadRequest;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.network.protocol.databuffer.DataFileChannel;
+import alluxio.wire.BlockReadRequest;
+import alluxio.worker.block.AllocateOptions;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.DefaultBlockWorker;
+import alluxio.worker.block.io.BlockReader;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * This class handles the {@link ReadRequest}s of the {@link SendfileDataServer}.
+ *
+ * Protocol: Check {@link alluxio.client.block.stream.SendfileDataReader} for the client side.
+ * 0. The connection is first authenticated by the {@link SendfileAuthHandler}.
+ * 1. The client sends a {@link ReadRequest} (block id, offset, length) prefixed by its varint32
+ *    length.
+ * 2. If the block is stored in a local file, the handler replies with the length of the data as
+ *    a long, followed by the data sent as a {@link io.netty.channel.FileRegion}. The length is
+ *    smaller than the requested one if the block ends before.
+ * 3. Otherwise, the handler replies with -1 followed by the length of a message as an int and
+ *    the message in UTF-8, and the client reads the block from the gRPC data server instead.
+ * 4. The client sends the next request only after reading all the data of the previous one, and
+ *    closes the channel to cancel a request.
+ *
+ * Threading model: the block is opened in the block reader executor since it may wait for the
+ * block lock, the data is sent by the Netty event loop of the channel, which releases the block
+ * once the data is sent or the channel is closed.
+ */
+@NotThreadSafe
+public final class SendfileReadHandler extends SimpleChannelInboundHandler<ReadRequest> {
+  private static final Logger LOG = LoggerFactory.getLogger(SendfileReadHandler.class);
+  private static final Counter BYTES_READ =
+      MetricsSystem.counter(MetricKey.WORKER_BYTES_READ_REMOTE.getName());
+  private static final Meter BYTES_READ_THROUGHPUT =
+      MetricsSystem.meter(MetricKey.WORKER_BYTES_READ_REMOTE_THROUGHPUT.getName());
+
+  private final DefaultBlockWorker mWorker;
+  private final ExecutorService mExecutor;
+
+  /**
+   * Creates an instance of {@link SendfileReadHandler}.
+   *
+   * @param blockWorker the block worker
+   * @param executor the executor to open blocks
+   */
+  public SendfileReadHandler(DefaultBlockWorker blockWorker, ExecutorService executor) {
+    mWorker = blockWorker;
+    mExecutor = executor;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, ReadRequest request) {
+    LOG.debug("Received sendfile read request {}.", request);
+    try {
+      mExecutor.execute(() -> readBlock(ctx, request));
+    } catch (RejectedExecutionException e) {
+      replyUnavailable(ctx, "Too many concurrent block reads");
+    }
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOG.debug("Exception caught in sendfile data channel {}, closing it", ctx.channel(), cause);
+    ctx.close();
+  }
+
+  private void readBlock(ChannelHandlerContext ctx, ReadRequest request) {
+    BlockReadRequest readRequest = BlockReadRequest.from(request);
+    BlockReader reader = null;
+    DataFileChannel data;
+    long length;
+    try {
+      if (readRequest.isPromote()) {
+        promoteBlock(readRequest);
+      }
+      // blocks not in the local tiers are read from the UFS through the gRPC data server
+      reader = mWorker.createBlockReader(readRequest.getSessionId(), readRequest.getId(),
+          readRequest.getStart(), readRequest.isPositionShort(), null);
+      length = Math.min(readRequest.getEnd(), reader.getLength()) - readRequest.getStart();
+      Optional<DataFileChannel> channel = length > 0
+          ? reader.getDataFileChannel(readRequest.getStart(), length) : Optional.empty();
+      if (!channel.isPresent()) {
+        closeReader(reader);
+        replyUnavailable(ctx, String.format(
+            "Range [%d, %d) of block %d is not stored in a local file", readRequest.getStart(),
+            readRequest.getEnd(), readRequest.getId()));
+        return;
+      }
+      data = channel.get();
+    } catch (Exception e) {
+      closeReader(reader);
+      replyUnavailable(ctx, e.toString());
+      return;
+    }
+    BlockReader blockReader = reader;
+    ctx.write(ctx.alloc().buffer(Long.BYTES).writeLong(length));
+    ctx.writeAndFlush(data.getNettyOutput()).addListener(future -> {
+      closeReader(blockReader);
+      if (future.isSuccess()) {
+        BYTES_READ.inc(length);
+        BYTES_READ_THROUGHPUT.mark(length);
+      } else {
+        LOG.debug("Failed to send block {} to {}", readRequest.getId(), ctx.channel(),
+            future.cause());
+        ctx.close();
+      }
+    });
+  }
+
+  private void promoteBlock(BlockReadRequest request) {
+    try {
+      mWorker.getBlockStore().moveBlock(request.getSessionId(), request.getId(),
+          AllocateOptions.forMove(BlockStoreLocation.anyDirInTier(
+              WORKER_STORAGE_TIER_ASSOC.getAlias(0))));
+    } catch (Exception e) {
+      LOG.warn("Failed to promote block {}: {}", request.getId(), e.toString());
+    }
+  }
+
+  private static void replyUnavailable(ChannelHandlerContext ctx, String message) {
+    LOG.debug("Cannot send data to {} with sendfile: {}", ctx.channel(), message);
+    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+    ByteBuf reply = ctx.alloc().buffer(Long.BYTES + Integer.BYTES + bytes.length)
+        .writeLong(-1)
+        .writeInt(bytes.length)
+        .writeBytes(bytes);
+    ctx.writeAndFlush(reply);
+  }
+
+  private static void closeReader(@Nullable BlockReader reader) {
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (Exception e) {
+      LOG.warn("Failed to close block reader {}", reader, e);
+    }
+  }
+}
@@ -38,6 +38,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
 
@@ -184,6 +185,12 @@ public class PagedBlockMetaStore implements PageMetaStore {
     return mDelegate.getPageInfo(pageId);
   }
 
+  @Override
+  @GuardedBy("getLock().readLock()")
+  public PageInfo peekPageInfo(PageId pageId) throws PageNotFoundException {
+    return mDelegate.peekPageInfo(pageId);
+  }
+
   @Override
   public ReadWriteLock getLock() {
     return mDelegate.getLock();
@@ -206,8 +213,10 @@ public class PagedBlockMetaStore implements PageMetaStore {
       // the page is being added from external code, typically by cache manager
       // when the worker restarts
       blockPageId = BlockPageId.downcast(pageId);
-      pageInfo = new PageInfo(blockPageId, pageInfo.getPageSize(),
+      PageInfo blockPageInfo = new PageInfo(blockPageId, pageInfo.getPageSize(),
           pageInfo.getScope(), pageInfo.getLocalCacheDir());
+      pageInfo.getChecksum().ifPresent(blockPageInfo::setChecksum);
+      pageInfo = blockPageInfo;
     }
 
     long blockId = blockPageId.getBlockId();
@@ -299,6 +308,12 @@ public class PagedBlockMetaStore implements PageMetaStore {
     return null;
   }
 
+  @Override
+  @GuardedBy("getLock().readLock()")
+  public void forEachPage(Consumer<PageInfo> action) {
+    mDelegate.forEachPage(action);
+  }
+
   @Override
   @GuardedBy("getLock().readLock()")
   public PageInfo evict(CacheScope cacheScope, PageStoreDir pageStoreDir) {
@@ -20,7 +20,6 @@ import alluxio.file.ReadTargetBuffer;
 import alluxio.grpc.ErrorType;
 import alluxio.metrics.MetricKey;
 import alluxio.metrics.MetricsSystem;
-import alluxio.network.protocol.databuffer.NioDirectBufferPool;
 import alluxio.worker.block.io.BlockReader;
 
 import com.google.common.base.Preconditions;
@@ -45,6 +44,7 @@ public class PagedBlockReader extends BlockReader {
   private final CacheManager mCacheManager;
   private final Optional<PagedUfsBlockReader> mUfsBlockReader;
   private final PagedBlockMeta mBlockMeta;
+  private final UfsPageReadCoalescer mUfsReadCoalescer;
   private boolean mClosed = false;
   private boolean mReadFromLocalCache = false;
   private boolean mReadFromUfs = false;
@@ -61,6 +61,23 @@ public class PagedBlockReader extends BlockReader {
    */
   public PagedBlockReader(CacheManager cacheManager, PagedBlockMeta blockMeta, long offset,
       Optional<PagedUfsBlockReader> ufsBlockReader, long pageSize) {
+    this(cacheManager, blockMeta, offset, ufsBlockReader, pageSize, new UfsPageReadCoalescer());
+  }
+
+  /**
+   * Constructor for PagedBlockReader.
+   *
+   * @param cacheManager paging cache manager
+   * @param blockMeta block meta
+   * @param offset initial offset within the block to begin the read from
+   * @param ufsBlockReader ufs block reader
+   * @param pageSize page size
+   * @param ufsReadCoalescer coalescer of the reads of the same page from UFS, shared by the
+   *                         readers of the block store
+   */
+  public PagedBlockReader(CacheManager cacheManager, PagedBlockMeta blockMeta, long offset,
+      Optional<PagedUfsBlockReader> ufsBlockReader, long pageSize,
+      UfsPageReadCoalescer ufsReadCoalescer) {
     Preconditions.checkArgument(offset >= 0 && offset <= blockMeta.getBlockSize(),
         "Attempt to read block %d which is %d bytes long at invalid byte offset %d",
         blockMeta.getBlockId(), blockMeta.getBlockSize(), offset);
@@ -69,6 +86,7 @@ public class PagedBlockReader extends BlockReader {
     mBlockMeta = blockMeta;
     mPageSize = pageSize;
     mPosition = offset;
+    mUfsReadCoalescer = ufsReadCoalescer;
   }
 
   @Override
@@ -135,32 +153,40 @@ public class PagedBlockReader extends BlockReader {
           );
         }
         PagedUfsBlockReader ufsBlockReader = mUfsBlockReader.get();
-        // get the page at pageIndex as a whole from UFS
-        ByteBuffer ufsBuf = NioDirectBufferPool.acquire((int) mPageSize);
-        try {
-          int pageBytesRead = ufsBlockReader.readPageAtIndex(ufsBuf, pageIndex);
-          if (pageBytesRead > 0) {
-            ufsBuf.position(currentPageOffset);
-            ufsBuf.limit(currentPageOffset + bytesLeftInPage);
-            byteBuf.writeBytes(ufsBuf);
-            bytesRead += bytesLeftInPage;
-            MetricsSystem.meter(MetricKey.CLIENT_CACHE_BYTES_REQUESTED_EXTERNAL.getName())
-                .mark(bytesLeftInPage);
-            mReadFromUfs = true;
-            ufsBuf.rewind();
-            ufsBuf.limit(pageBytesRead);
-            if (ufsBlockReader.getUfsReadOptions().isCacheIntoAlluxio()) {
-              mCacheManager.put(pageId, ufsBuf);
-            }
-          }
-        } finally {
-          NioDirectBufferPool.release(ufsBuf);
+        // get the page at pageIndex as a whole from UFS, or from a concurrent read of the page
+        ByteBuffer page = mUfsReadCoalescer.read(pageId,
+            () -> readPageFromUfs(ufsBlockReader, pageId, pageIndex));
+        if (page.hasRemaining()) {
+          page.position(currentPageOffset);
+          page.limit(currentPageOffset + bytesLeftInPage);
+          byteBuf.writeBytes(page);
+          bytesRead += bytesLeftInPage;
+          MetricsSystem.meter(MetricKey.CLIENT_CACHE_BYTES_REQUESTED_EXTERNAL.getName())
+              .mark(bytesLeftInPage);
+          mReadFromUfs = true;
         }
       }
     }
     return bytesRead;
   }
 
+  /**
+   * Reads a page as a whole from UFS, and caches it if required by the read options.
+   *
+   * @return a buffer of the page content, empty if the page is beyond the end of the block
+   */
+  private ByteBuffer readPageFromUfs(PagedUfsBlockReader ufsBlockReader, PageId pageId,
+      long pageIndex) throws IOException {
+    // not pooled, as the page is shared with the concurrent readers of the page
+    ByteBuffer page = ByteBuffer.allocate((int) mPageSize);
+    int pageBytesRead = ufsBlockReader.readPageAtIndex(page, pageIndex);
+    page.flip();
+    if (pageBytesRead > 0 && ufsBlockReader.getUfsReadOptions().isCacheIntoAlluxio()) {
+      mCacheManager.put(pageId, page.duplicate());
+    }
+    return page;
+  }
+
   @Override
   public long getLength() {
     return mBlockMeta.getBlockSize();
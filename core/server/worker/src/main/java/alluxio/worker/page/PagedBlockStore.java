@@ -30,12 +30,14 @@ import alluxio.exception.runtime.BlockDoesNotExistRuntimeException;
 import alluxio.exception.runtime.NotFoundRuntimeException;
 import alluxio.exception.status.DeadlineExceededException;
 import alluxio.grpc.Block;
+import alluxio.grpc.BlockChecksum;
 import alluxio.grpc.BlockStatus;
 import alluxio.grpc.ErrorType;
 import alluxio.grpc.UfsReadOptions;
 import alluxio.proto.dataserver.Protocol;
 import alluxio.resource.LockResource;
 import alluxio.underfs.UfsManager;
+import alluxio.util.CRC64;
 import alluxio.worker.block.AllocateOptions;
 import alluxio.worker.block.BlockLock;
 import alluxio.worker.block.BlockLockManager;
@@ -64,6 +66,7 @@ import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -88,6 +91,7 @@ public class PagedBlockStore implements BlockStore {
   /** A set of pinned inodes updated via periodic master-worker sync. */
   private final Set<Long> mPinnedInodes = new HashSet<>();
   private final UfsInputStreamCache mUfsInStreamCache = new UfsInputStreamCache();
+  private final UfsPageReadCoalescer mUfsReadCoalescer = new UfsPageReadCoalescer();
   private final List<BlockStoreEventListener> mBlockStoreEventListeners =
       new CopyOnWriteArrayList<>();
   private final long mPageSize;
@@ -301,7 +305,8 @@ public class PagedBlockStore implements BlockStore {
     final Optional<PagedUfsBlockReader> ufsBlockReader =
         readOptions.map(opt -> new PagedUfsBlockReader(
                 mUfsManager, mUfsInStreamCache, blockMeta, offset, opt, mPageSize));
-    return new PagedBlockReader(mCacheManager, blockMeta, offset, ufsBlockReader, mPageSize);
+    return new PagedBlockReader(mCacheManager, blockMeta, offset, ufsBlockReader, mPageSize,
+        mUfsReadCoalescer);
   }
 
   @Override
@@ -377,6 +382,35 @@ public class PagedBlockStore implements BlockStore {
         String.format("Cannot overwrite an existing block %d", blockId)));
   }
 
+  @Override
+  public Optional<BlockChecksum> getStoredChecksum(long blockId) {
+    try (LockResource lock = new LockResource(mPageMetaStore.getLock().readLock())) {
+      Optional<PagedBlockMeta> blockMeta = mPageMetaStore.getBlock(blockId);
+      if (!blockMeta.isPresent()) {
+        return Optional.empty();
+      }
+      long blockSize = blockMeta.get().getBlockSize();
+      long checksum = 0;
+      for (long pageIndex = 0; pageIndex * mPageSize < blockSize; pageIndex++) {
+        PageInfo pageInfo;
+        try {
+          pageInfo = mPageMetaStore.peekPageInfo(new BlockPageId(blockId, pageIndex, blockSize));
+        } catch (PageNotFoundException e) {
+          // the block is not fully cached
+          return Optional.empty();
+        }
+        long pageSize = Math.min(mPageSize, blockSize - pageIndex * mPageSize);
+        OptionalLong pageChecksum = pageInfo.getChecksum();
+        if (!pageChecksum.isPresent() || pageInfo.getPageSize() != pageSize) {
+          return Optional.empty();
+        }
+        checksum = CRC64.combine(checksum, pageChecksum.getAsLong(), pageSize);
+      }
+      return Optional.of(BlockChecksum.newBuilder().setBlockId(blockId)
+          .setBlockLength(blockSize).setChecksum(String.valueOf(checksum)).build());
+    }
+  }
+
   /**
    * Return mCacheManager.mState.get() for CommitTest.
    * @return the mState, like READ_ONLY, READ_WRITE, NOT_IN_USE
@@ -226,8 +226,10 @@ public class PagedBlockStoreDir implements PageStoreDir {
         .map(page -> {
           BlockPageId newPageId = new BlockPageId(blockId, page.getPageId().getPageIndex(),
               BlockPageId.parseBlockSize(newFileId));
-          return new PageInfo(newPageId, page.getPageSize(), page.getScope(),
+          PageInfo newPage = new PageInfo(newPageId, page.getPageSize(), page.getScope(),
               page.getLocalCacheDir());
+          page.getChecksum().ifPresent(newPage::setChecksum);
+          return newPage;
         })
         .collect(Collectors.toList());
     mBlockToPagesMap.putAll(blockId, newPages);
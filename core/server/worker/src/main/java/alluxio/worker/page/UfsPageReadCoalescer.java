@@ -0,0 +1,124 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.page;
+
+import alluxio.client.file.cache.PageId;
+import alluxio.metrics.MetricKey;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Coalesces concurrent reads of the same page from the UFS. When many readers miss on a page at
+ * the same time, only the first one fetches the page from the UFS (and caches it), while the
+ * others wait for the fetch in flight and share its result.
+ */
+@ThreadSafe
+public class UfsPageReadCoalescer {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsPageReadCoalescer.class);
+  private static final Counter COALESCED_REQUESTS =
+      MetricsSystem.counter(MetricKey.WORKER_UFS_READ_REQUESTS_COALESCED.getName());
+  private static final Counter COALESCED_BYTES =
+      MetricsSystem.counter(MetricKey.WORKER_BYTES_READ_UFS_COALESCED.getName());
+
+  /** Fetches of pages in flight, removed once a fetch completes. */
+  private final ConcurrentMap<PageId, CompletableFuture<ByteBuffer>> mInFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Fetches a page from the UFS.
+   */
+  @FunctionalInterface
+  public interface PageFetcher {
+    /**
+     * Fetches the page from the UFS, and caches it if needed.
+     *
+     * @return a buffer of the page content, positioned at the start of the page, empty if the
+     *         page is beyond the end of the block
+     */
+    ByteBuffer fetch() throws IOException;
+  }
+
+  /**
+   * Reads a page from the UFS, sharing the fetch with the other concurrent reads of the page.
+   * If the shared fetch fails, the page is fetched again by each waiting read, so that an error
+   * of one reader is not propagated to all of them.
+   *
+   * @param pageId the id of the page
+   * @param fetcher the function to fetch the page, only called if there is no fetch of the page
+   *                in flight
+   * @return a read-only buffer of the page content, which must not be retained by the caller as
+   *         it is shared with the other readers of the page
+   */
+  public ByteBuffer read(PageId pageId, PageFetcher fetcher) throws IOException {
+    CompletableFuture<ByteBuffer> flight = new CompletableFuture<>();
+    CompletableFuture<ByteBuffer> existing = mInFlight.putIfAbsent(pageId, flight);
+    if (existing != null) {
+      ByteBuffer page = join(pageId, existing);
+      if (page != null) {
+        COALESCED_REQUESTS.inc();
+        COALESCED_BYTES.inc(page.remaining());
+        return page;
+      }
+      return fetcher.fetch().asReadOnlyBuffer();
+    }
+    try {
+      ByteBuffer page = fetcher.fetch().asReadOnlyBuffer();
+      flight.complete(page);
+      return page.duplicate();
+    } catch (IOException | RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      mInFlight.remove(pageId, flight);
+    }
+  }
+
+  /**
+   * @return the number of page fetches in flight
+   */
+  @VisibleForTesting
+  int getInFlightCount() {
+    return mInFlight.size();
+  }
+
+  /**
+   * Waits for a fetch in flight.
+   *
+   * @return a duplicate of the page fetched, or null if the fetch failed
+   */
+  private static ByteBuffer join(PageId pageId, CompletableFuture<ByteBuffer> flight)
+      throws IOException {
+    try {
+      return flight.get().duplicate();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(
+          String.format("Interrupted while waiting for page %s to be read from UFS", pageId));
+    } catch (ExecutionException e) {
+      LOG.debug("Shared read of page {} from UFS failed, reading it again", pageId, e.getCause());
+      return null;
+    }
+  }
+}
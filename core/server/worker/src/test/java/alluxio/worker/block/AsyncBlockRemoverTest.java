@@ -12,12 +12,15 @@
 package alluxio.worker.block;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
 
 import alluxio.util.CommonUtils;
 import alluxio.util.WaitForOptions;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -40,6 +43,12 @@ public class AsyncBlockRemoverTest {
       Collections.newSetFromMap(new ConcurrentHashMap<>());
   private final BlockWorker mMockWorker = Mockito.mock(BlockWorker.class);
 
+  @Before
+  public void before() {
+    // the batches of blocks are removed one by one through removeBlock
+    when(mMockWorker.removeBlocks(anyLong(), anyList())).thenCallRealMethod();
+  }
+
   @Test
   public void blockRemove() throws Exception {
     doAnswer(args -> {
@@ -267,6 +267,22 @@ public final class BlockLockManagerTest {
     lockExpectingHang(manager, 2);
   }
 
+  /**
+   * Tests that a block lock is returned to the pool when trying to lock it times out.
+   */
+  @Test(timeout = 10000)
+  public void reuseLockAfterTryLockTimeout() {
+    setMaxLocks(1);
+    BlockLockManager manager = new BlockLockManager();
+    try (BlockLock lock = manager.acquireBlockLock(TEST_SESSION_ID, 1, BlockLockType.WRITE)) {
+      assertFalse(manager.tryAcquireBlockLock(TEST_SESSION_ID2, 1, BlockLockType.READ,
+          10, TimeUnit.MILLISECONDS).isPresent());
+    }
+    manager.validate();
+    // Without releasing the lock on timeout the next lock would hang.
+    manager.acquireBlockLock(TEST_SESSION_ID, 2, BlockLockType.WRITE);
+  }
+
   /**
    * Calls {@link BlockLockManager#acquireBlockLock(long, long, BlockLockType)}
    * and fails if it doesn't hang.
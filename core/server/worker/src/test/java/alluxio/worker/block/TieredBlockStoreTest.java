@@ -39,6 +39,7 @@ import alluxio.worker.block.meta.DefaultTempBlockMeta;
 import alluxio.worker.block.meta.StorageDir;
 import alluxio.worker.block.meta.TempBlockMeta;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import org.junit.Assert;
 import org.junit.Before;
@@ -51,6 +52,7 @@ import org.mockito.invocation.InvocationOnMock;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -268,6 +270,89 @@ public final class TieredBlockStoreTest {
     assertFalse(FileUtils.exists(DefaultBlockMeta.commitPath(mTestDir1, BLOCK_ID2)));
   }
 
+  @Test
+  public void removeBlocks() throws Exception {
+    TieredBlockStoreTestUtils.cache2(SESSION_ID1, BLOCK_ID1, BLOCK_SIZE, mTestDir1, mMetaManager,
+        mBlockIterator);
+    TieredBlockStoreTestUtils.cache2(SESSION_ID1, BLOCK_ID2, BLOCK_SIZE, mTestDir2, mMetaManager,
+        mBlockIterator);
+    TieredBlockStoreTestUtils.createTempBlock(SESSION_ID1, TEMP_BLOCK_ID, BLOCK_SIZE, mTestDir1);
+    Map<Long, Exception> errors = mBlockStore.removeBlocks(SESSION_ID1,
+        ImmutableList.of(BLOCK_ID1, BLOCK_ID2, TEMP_BLOCK_ID));
+    // the uncommitted block fails to be removed without failing the others
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(TEMP_BLOCK_ID) instanceof IllegalStateException);
+    assertFalse(mTestDir1.hasBlockMeta(BLOCK_ID1));
+    assertFalse(mTestDir2.hasBlockMeta(BLOCK_ID2));
+    assertFalse(mBlockStore.hasBlockMeta(BLOCK_ID1));
+    assertFalse(mBlockStore.hasBlockMeta(BLOCK_ID2));
+    assertFalse(FileUtils.exists(DefaultBlockMeta.commitPath(mTestDir1, BLOCK_ID1)));
+    assertFalse(FileUtils.exists(DefaultBlockMeta.commitPath(mTestDir2, BLOCK_ID2)));
+    assertTrue(mTestDir1.hasTempBlockMeta(TEMP_BLOCK_ID));
+    assertEquals(0, mTestDir1.getCommittedBytes());
+    assertEquals(0, mTestDir2.getCommittedBytes());
+  }
+
+  @Test(timeout = 60000)
+  public void removeBlocksMoreThanBlockLocks() throws Exception {
+    int blockLocks = 20;
+    Configuration.set(PropertyKey.WORKER_TIERED_STORE_BLOCK_LOCKS, blockLocks);
+    init(0);
+    List<Long> blockIds = new ArrayList<>();
+    for (long blockId = BLOCK_ID1; blockId < BLOCK_ID1 + 2 * blockLocks; blockId++) {
+      TieredBlockStoreTestUtils.cache2(SESSION_ID1, blockId, 100, mTestDir3, mMetaManager,
+          mBlockIterator);
+      blockIds.add(blockId);
+    }
+    // the batch takes a bounded number of locks at a time, so it cannot exhaust them
+    assertTrue(mBlockStore.removeBlocks(SESSION_ID1, blockIds).isEmpty());
+    for (long blockId : blockIds) {
+      assertFalse(mBlockStore.hasBlockMeta(blockId));
+    }
+    assertEquals(0, mTestDir3.getCommittedBytes());
+    assertTrue(mLockManager.getLockedBlocks().isEmpty());
+  }
+
+  @Test(timeout = 60000)
+  public void moveBlocksMoreThanBlockLocks() throws Exception {
+    int blockLocks = 20;
+    Configuration.set(PropertyKey.WORKER_TIERED_STORE_BLOCK_LOCKS, blockLocks);
+    init(0);
+    List<Long> blockIds = new ArrayList<>();
+    for (long blockId = BLOCK_ID1; blockId < BLOCK_ID1 + 2 * blockLocks; blockId++) {
+      TieredBlockStoreTestUtils.cache2(SESSION_ID1, blockId, 100, mTestDir3, mMetaManager,
+          mBlockIterator);
+      blockIds.add(blockId);
+    }
+    // the batch takes a bounded number of locks at a time, so it cannot exhaust them
+    assertTrue(mBlockStore.moveBlocks(SESSION_ID1, blockIds,
+        mTestDir4.toBlockStoreLocation()).isEmpty());
+    for (long blockId : blockIds) {
+      assertFalse(mTestDir3.hasBlockMeta(blockId));
+      assertTrue(mTestDir4.hasBlockMeta(blockId));
+      assertFalse(FileUtils.exists(DefaultBlockMeta.commitPath(mTestDir3, blockId)));
+      assertTrue(FileUtils.exists(DefaultBlockMeta.commitPath(mTestDir4, blockId)));
+    }
+    assertEquals(0, mTestDir3.getCommittedBytes());
+    assertEquals(2 * blockLocks * 100, mTestDir4.getCommittedBytes());
+    assertTrue(mLockManager.getLockedBlocks().isEmpty());
+  }
+
+  @Test
+  public void moveBlocksSkipsFailedBlocks() throws Exception {
+    TieredBlockStoreTestUtils.cache2(SESSION_ID1, BLOCK_ID1, BLOCK_SIZE, mTestDir1, mMetaManager,
+        mBlockIterator);
+    // BLOCK_ID2 does not exist, which must not fail the move of the rest of the batch
+    Map<Long, Exception> errors = mBlockStore.moveBlocks(SESSION_ID1,
+        ImmutableList.of(BLOCK_ID2, BLOCK_ID1), mTestDir2.toBlockStoreLocation());
+    assertEquals(Sets.newHashSet(BLOCK_ID2), errors.keySet());
+    assertFalse(mTestDir1.hasBlockMeta(BLOCK_ID1));
+    assertTrue(mTestDir2.hasBlockMeta(BLOCK_ID1));
+    assertFalse(mMetaManager.hasTempBlockMeta(BLOCK_ID1));
+    assertTrue(FileUtils.exists(DefaultBlockMeta.commitPath(mTestDir2, BLOCK_ID1)));
+    assertTrue(mLockManager.getLockedBlocks().isEmpty());
+  }
+
   @Test
   public void freeSpace() throws Exception {
     TieredBlockStoreTestUtils.cache2(SESSION_ID1, BLOCK_ID1, BLOCK_SIZE, mTestDir1, mMetaManager,
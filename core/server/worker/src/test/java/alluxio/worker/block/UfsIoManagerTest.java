@@ -11,11 +11,15 @@
 
 package alluxio.worker.block;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import alluxio.AlluxioTestDirectory;
 import alluxio.AlluxioURI;
@@ -27,6 +31,8 @@ import alluxio.grpc.UfsReadOptions;
 import alluxio.underfs.UfsManager.UfsClient;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
 import alluxio.util.io.BufferUtils;
 
 import com.codahale.metrics.Meter;
@@ -138,6 +144,60 @@ public final class UfsIoManagerTest {
     TEST_BUF.clear();
   }
 
+  @Test
+  public void readAheadSequentialReads() throws Exception {
+    int readSize = Constants.MB;
+    ByteBuffer buf = ByteBuffer.allocate(readSize);
+    for (int i = 0; i < 4; i++) {
+      mUfsIOManager.read(buf, (long) i * readSize, readSize, FIRST_BLOCK_ID, mTestFilePath,
+          UfsReadOptions.getDefaultInstance()).get();
+      assertTrue(checkBuf(i * readSize, readSize, buf));
+      buf.clear();
+      if (i == 0) {
+        // the first read of the file is not known to be sequential
+        assertEquals(0, mUfsIOManager.getReadAheadBytes());
+      } else {
+        assertTrue(mUfsIOManager.getReadAheadBytes() > 0);
+      }
+    }
+    CommonUtils.waitFor("read-ahead to complete",
+        () -> !mUfsIOManager.isReadingAhead(mTestFilePath),
+        WaitForOptions.defaults().setTimeoutMs(10000));
+    // a random read is served from the UFS and does not read ahead
+    mUfsIOManager.read(buf, 2, readSize, FIRST_BLOCK_ID, mTestFilePath,
+        UfsReadOptions.getDefaultInstance()).get();
+    assertTrue(checkBuf(2, readSize, buf));
+    assertEquals(0, mUfsIOManager.getReadAheadBytes());
+  }
+
+  @Test
+  public void bufferedReadDoesNotReadUfs() throws Exception {
+    UfsClient client = spy(new UfsClient(() -> UnderFileSystem.Factory.create(mTestFilePath,
+        UnderFileSystemConfiguration.defaults(Configuration.global())),
+        new AlluxioURI(mTestFilePath)));
+    UfsIOManager manager = new UfsIOManager(client);
+    manager.start();
+    try {
+      int readSize = Constants.MB / 2;
+      ByteBuffer buf = ByteBuffer.allocate(readSize);
+      // the second read is sequential, and reads ahead at least 1MB after it
+      for (int i = 0; i < 2; i++) {
+        manager.read(buf, (long) i * readSize, readSize, FIRST_BLOCK_ID, mTestFilePath,
+            UfsReadOptions.getDefaultInstance()).get();
+        buf.clear();
+      }
+      CommonUtils.waitFor("read-ahead to complete", () -> !manager.isReadingAhead(mTestFilePath),
+          WaitForOptions.defaults().setTimeoutMs(10000));
+      clearInvocations(client);
+      manager.read(buf, 2L * readSize, readSize, FIRST_BLOCK_ID, mTestFilePath,
+          UfsReadOptions.getDefaultInstance()).get();
+      assertTrue(checkBuf(2 * readSize, readSize, buf));
+      verify(client, never()).acquireUfsResource();
+    } finally {
+      manager.close();
+    }
+  }
+
   private boolean checkBuf(int start, int len, ByteBuffer buf) {
     buf.rewind();
     for (int k = 0; k < len; k++) {
@@ -65,6 +65,24 @@ public class BlockTransferPartitionerTest {
     }
   }
 
+  @Test
+  public void testPartitioningByDirectoryPair() throws Exception {
+    // Transfers from 2 source directories into 2 destination directories, crossing over:
+    // (src0 -> dst0), (src0 -> dst1), (src1 -> dst1), (src1 -> dst1).
+    List<BlockTransferInfo> transfers =
+        generateTransfers(4, true, true, new int[] {2, 2}, new int[] {1, 3});
+    List<List<BlockTransferInfo>> partitions = mPartitioner.partitionTransfers(transfers, 4);
+    Assert.assertEquals(3, partitions.size());
+    for (List<BlockTransferInfo> partition : partitions) {
+      // Each partition moves blocks between a single pair of directories.
+      for (BlockTransferInfo transfer : partition) {
+        Assert.assertEquals(partition.get(0).getSrcLocation(), transfer.getSrcLocation());
+        Assert.assertEquals(partition.get(0).getDstLocation(), transfer.getDstLocation());
+      }
+    }
+    Assert.assertEquals(4, partitions.stream().mapToInt(List::size).sum());
+  }
+
   /**
    * Generates transfer-lists to validate for when SRC/DST or both are
    * allocated(fully identified) locations.
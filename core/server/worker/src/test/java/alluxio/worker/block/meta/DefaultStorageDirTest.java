@@ -447,6 +447,43 @@ public final class DefaultStorageDirTest {
     assertEquals(TEST_DIR_CAPACITY - TEST_REVERSED_BYTES, mDir.getAvailableBytes());
   }
 
+  /**
+   * Tests the {@link StorageDir#commitTempBlockMeta(TempBlockMeta, BlockMeta)} method.
+   */
+  @Test
+  public void commitTempBlockMeta() throws Exception {
+    mDir.addTempBlockMeta(mTempBlockMeta);
+    BlockMeta blockMeta = new DefaultBlockMeta(TEST_TEMP_BLOCK_ID, TEST_BLOCK_SIZE, mDir);
+    mDir.commitTempBlockMeta(mTempBlockMeta, blockMeta);
+
+    assertFalse(mDir.hasTempBlockMeta(TEST_TEMP_BLOCK_ID));
+    assertEquals(blockMeta, mDir.getBlockMeta(TEST_TEMP_BLOCK_ID).get());
+    assertTrue(mDir.getSessionTempBlocks(TEST_SESSION_ID).isEmpty());
+    assertEquals(TEST_DIR_CAPACITY - TEST_REVERSED_BYTES - TEST_BLOCK_SIZE,
+        mDir.getAvailableBytes());
+    assertEquals(TEST_BLOCK_SIZE, mDir.getCommittedBytes());
+  }
+
+  /**
+   * Tests that an exception is thrown when committing a temporary block which is not owned, and
+   * that the metadata is left unchanged.
+   */
+  @Test
+  public void commitTempBlockMetaNotOwner() {
+    final long wrongSessionId = TEST_SESSION_ID + 1;
+    mDir.addTempBlockMeta(mTempBlockMeta);
+    TempBlockMeta wrongTempBlockMeta =
+        new DefaultTempBlockMeta(wrongSessionId, TEST_TEMP_BLOCK_ID, TEST_TEMP_BLOCK_SIZE, mDir);
+    BlockMeta blockMeta = new DefaultBlockMeta(TEST_TEMP_BLOCK_ID, TEST_BLOCK_SIZE, mDir);
+    assertThrows(IllegalStateException.class,
+        () -> mDir.commitTempBlockMeta(wrongTempBlockMeta, blockMeta));
+
+    assertTrue(mDir.hasTempBlockMeta(TEST_TEMP_BLOCK_ID));
+    assertFalse(mDir.hasBlockMeta(TEST_TEMP_BLOCK_ID));
+    assertEquals(TEST_DIR_CAPACITY - TEST_REVERSED_BYTES - TEST_TEMP_BLOCK_SIZE,
+        mDir.getAvailableBytes());
+  }
+
   /**
    * Tests the {@link StorageDir#resizeTempBlockMeta(TempBlockMeta, long)} method.
    */
@@ -64,4 +64,9 @@ public class GrpcExecutorsTest {
   public void impersonationPassedToAsyncCacheManager() {
     validateAuthenticatedClientUser(GrpcExecutors.CACHE_MANAGER_EXECUTOR);
   }
+
+  @Test
+  public void impersonationPassedToLoad() {
+    validateAuthenticatedClientUser(GrpcExecutors.LOAD_EXECUTOR);
+  }
 }
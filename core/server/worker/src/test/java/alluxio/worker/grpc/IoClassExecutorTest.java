@@ -0,0 +1,130 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.grpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link IoClassExecutor}.
+ */
+public final class IoClassExecutorTest {
+  private final ExecutorService mPool = Executors.newCachedThreadPool();
+
+  @After
+  public void after() {
+    mPool.shutdownNow();
+  }
+
+  @Test
+  public void limitConcurrency() throws Exception {
+    int limit = 2;
+    int tasks = 10;
+    IoClassExecutor executor = new IoClassExecutor(IoClass.LOAD, mPool, limit);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < tasks; i++) {
+      futures.add(executor.submit(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Uninterruptibles.awaitUninterruptibly(blocked);
+        running.decrementAndGet();
+      }));
+    }
+    CommonUtils.waitFor("tasks to start", () -> running.get() == limit,
+        WaitForOptions.defaults().setTimeoutMs(10000));
+    assertEquals(tasks - limit, executor.getQueuedCount());
+    blocked.countDown();
+    for (Future<?> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    assertEquals(limit, maxRunning.get());
+    assertEquals(0, executor.getRunningCount());
+    assertEquals(0, executor.getQueuedCount());
+  }
+
+  @Test
+  public void failedTaskHandsOverSlot() throws Exception {
+    IoClassExecutor executor = new IoClassExecutor(IoClass.LOAD, mPool, 1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+    executor.execute(() -> {
+      Uninterruptibles.awaitUninterruptibly(blocked);
+      throw new IllegalStateException("task failed");
+    });
+    executor.execute(done::countDown);
+    assertEquals(1, executor.getQueuedCount());
+    blocked.countDown();
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    CommonUtils.waitFor("slot to be released", () -> executor.getRunningCount() == 0,
+        WaitForOptions.defaults().setTimeoutMs(10000));
+  }
+
+  @Test
+  public void rejectedTaskNotRunByCaller() throws Exception {
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new SynchronousQueue<>());
+    try {
+      IoClassExecutor executor = new IoClassExecutor(IoClass.LOAD, pool, 2);
+      CountDownLatch blocked = new CountDownLatch(1);
+      executor.execute(() -> Uninterruptibles.awaitUninterruptibly(blocked));
+      AtomicBoolean ran = new AtomicBoolean();
+      assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran.set(true)));
+      assertFalse(ran.get());
+      assertEquals(1, executor.getRunningCount());
+      assertEquals(0, executor.getQueuedCount());
+      blocked.countDown();
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  public void unlimited() throws Exception {
+    IoClassExecutor executor = new IoClassExecutor(IoClass.FOREGROUND_READ, mPool, 0);
+    int tasks = 4;
+    CountDownLatch started = new CountDownLatch(tasks);
+    CountDownLatch blocked = new CountDownLatch(1);
+    for (int i = 0; i < tasks; i++) {
+      executor.execute(() -> {
+        started.countDown();
+        Uninterruptibles.awaitUninterruptibly(blocked);
+      });
+    }
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertEquals(0, executor.getQueuedCount());
+    blocked.countDown();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.exception.status.UnauthenticatedException;
+import alluxio.security.authentication.AuthenticatedUserInfo;
+import alluxio.security.authentication.AuthenticationServer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+
+/**
+ * Unit tests for {@link SendfileAuthHandler}.
+ */
+public final class SendfileAuthHandlerTest {
+  private final UUID mChannelId = UUID.randomUUID();
+  private AuthenticationServer mAuthenticationServer;
+
+  @Before
+  public void before() throws Exception {
+    mAuthenticationServer = Mockito.mock(AuthenticationServer.class);
+    Mockito.when(mAuthenticationServer.getUserInfoForChannel(Mockito.any()))
+        .thenThrow(new UnauthenticatedException("unknown channel"));
+    Mockito.doReturn(new AuthenticatedUserInfo("user"))
+        .when(mAuthenticationServer).getUserInfoForChannel(mChannelId);
+  }
+
+  @Test
+  public void passRequestsOfAuthenticatedChannel() {
+    EmbeddedChannel channel = new EmbeddedChannel(new SendfileAuthHandler(mAuthenticationServer));
+    // the channel id may arrive in pieces, together with the first request
+    channel.writeInbound(Unpooled.buffer().writeLong(mChannelId.getMostSignificantBits()));
+    assertNull(channel.readInbound());
+    channel.writeInbound(Unpooled.buffer().writeLong(mChannelId.getLeastSignificantBits())
+        .writeInt(42));
+    ByteBuf request = channel.readInbound();
+    assertEquals(42, request.readInt());
+    request.release();
+    assertTrue(channel.isOpen());
+    assertNull(channel.pipeline().get(SendfileAuthHandler.class));
+  }
+
+  @Test
+  public void closeUnknownChannel() {
+    EmbeddedChannel channel = new EmbeddedChannel(new SendfileAuthHandler(mAuthenticationServer));
+    UUID unknown = UUID.randomUUID();
+    channel.writeInbound(Unpooled.buffer().writeLong(unknown.getMostSignificantBits())
+        .writeLong(unknown.getLeastSignificantBits()).writeInt(42));
+    assertNull(channel.readInbound());
+    assertFalse(channel.isOpen());
+  }
+
+  @Test
+  public void authenticationDisabled() {
+    EmbeddedChannel channel = new EmbeddedChannel(new SendfileAuthHandler(null));
+    UUID any = UUID.randomUUID();
+    channel.writeInbound(Unpooled.buffer().writeLong(any.getMostSignificantBits())
+        .writeLong(any.getLeastSignificantBits()).writeInt(42));
+    ByteBuf request = channel.readInbound();
+    assertEquals(42, request.readInt());
+    request.release();
+    assertTrue(channel.isOpen());
+  }
+}
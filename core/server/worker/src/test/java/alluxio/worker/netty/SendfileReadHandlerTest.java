@@ -0,0 +1,114 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+import alluxio.exception.runtime.BlockDoesNotExistRuntimeException;
+import alluxio.grpc.ReadRequest;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.DefaultBlockWorker;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.LocalFileBlockReader;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for {@link SendfileReadHandler}.
+ */
+public final class SendfileReadHandlerTest {
+  private static final long BLOCK_ID = 1L;
+  private static final int BLOCK_SIZE = 100;
+
+  private DefaultBlockWorker mBlockWorker;
+  private EmbeddedChannel mChannel;
+  private File mFile;
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  @Before
+  public void before() throws Exception {
+    mFile = mTestFolder.newFile();
+    try (FileOutputStream output = new FileOutputStream(mFile)) {
+      output.write(BufferUtils.getIncreasingByteArray(BLOCK_SIZE));
+    }
+    mBlockWorker = Mockito.mock(DefaultBlockWorker.class);
+    mChannel = new EmbeddedChannel(
+        new SendfileReadHandler(mBlockWorker, MoreExecutors.newDirectExecutorService()));
+  }
+
+  @Test
+  public void sendBlockFile() throws Exception {
+    BlockReader reader = new LocalFileBlockReader(mFile.getPath());
+    Mockito.when(mBlockWorker.createBlockReader(anyLong(), anyLong(), anyLong(), anyBoolean(),
+        any())).thenReturn(reader);
+    // the block ends before the end of the requested region
+    mChannel.writeInbound(buildReadRequest(10, BLOCK_SIZE));
+
+    ByteBuf header = mChannel.readOutbound();
+    assertEquals(BLOCK_SIZE - 10, header.readLong());
+    header.release();
+    FileRegion region = mChannel.readOutbound();
+    assertEquals(10, region.position());
+    assertEquals(BLOCK_SIZE - 10, region.count());
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    WritableByteChannel target = Channels.newChannel(data);
+    while (region.transferred() < region.count()) {
+      region.transferTo(target, region.transferred());
+    }
+    region.release();
+    assertArrayEquals(BufferUtils.getIncreasingByteArray(10, BLOCK_SIZE - 10),
+        data.toByteArray());
+    // the block is released once sent
+    assertTrue(reader.isClosed());
+  }
+
+  @Test
+  public void replyUnavailableForBlockNotInLocalTiers() throws Exception {
+    Mockito.when(mBlockWorker.createBlockReader(anyLong(), anyLong(), anyLong(), anyBoolean(),
+        any())).thenThrow(new BlockDoesNotExistRuntimeException(BLOCK_ID));
+    mChannel.writeInbound(buildReadRequest(0, BLOCK_SIZE));
+
+    ByteBuf reply = mChannel.readOutbound();
+    assertEquals(-1, reply.readLong());
+    byte[] message = new byte[reply.readInt()];
+    reply.readBytes(message);
+    reply.release();
+    assertTrue(new String(message, StandardCharsets.UTF_8).contains(Long.toString(BLOCK_ID)));
+  }
+
+  private static ReadRequest buildReadRequest(long offset, long length) {
+    return ReadRequest.newBuilder().setBlockId(BLOCK_ID).setOffset(offset).setLength(length)
+        .build();
+  }
+}
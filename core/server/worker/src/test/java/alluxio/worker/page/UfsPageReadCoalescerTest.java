@@ -0,0 +1,115 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.page;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.client.file.cache.PageId;
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link UfsPageReadCoalescer}.
+ */
+public final class UfsPageReadCoalescerTest {
+  private static final int PAGE_SIZE = 64;
+  private static final PageId PAGE_ID = new BlockPageId(1L, 0, PAGE_SIZE);
+
+  private final UfsPageReadCoalescer mCoalescer = new UfsPageReadCoalescer();
+  private final ExecutorService mExecutor = Executors.newCachedThreadPool();
+
+  @After
+  public void after() {
+    mExecutor.shutdownNow();
+  }
+
+  @Test
+  public void coalesceConcurrentReads() throws Exception {
+    int readers = 4;
+    AtomicInteger fetches = new AtomicInteger();
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch fetchBlocked = new CountDownLatch(1);
+    Future<ByteBuffer> leader = mExecutor.submit(() -> mCoalescer.read(PAGE_ID, () -> {
+      fetches.incrementAndGet();
+      fetchStarted.countDown();
+      Uninterruptibles.awaitUninterruptibly(fetchBlocked);
+      return ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(PAGE_SIZE));
+    }));
+    fetchStarted.await();
+    List<Future<ByteBuffer>> waiters = new ArrayList<>();
+    for (int i = 0; i < readers; i++) {
+      waiters.add(mExecutor.submit(() -> mCoalescer.read(PAGE_ID, () -> {
+        fetches.incrementAndGet();
+        return ByteBuffer.allocate(0);
+      })));
+    }
+    fetchBlocked.countDown();
+    assertTrue(BufferUtils.equalIncreasingByteBuffer(0, PAGE_SIZE, leader.get()));
+    int joined = 0;
+    for (Future<ByteBuffer> waiter : waiters) {
+      ByteBuffer page = waiter.get();
+      // either joined the fetch in flight, or fetched by itself after it completed
+      if (page.hasRemaining()) {
+        assertTrue(BufferUtils.equalIncreasingByteBuffer(0, PAGE_SIZE, page));
+        joined++;
+      }
+    }
+    assertEquals(readers + 1, fetches.get() + joined);
+    assertEquals(0, mCoalescer.getInFlightCount());
+  }
+
+  @Test
+  public void failedFetchIsNotShared() throws Exception {
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch fetchBlocked = new CountDownLatch(1);
+    Future<ByteBuffer> leader = mExecutor.submit(() -> mCoalescer.read(PAGE_ID, () -> {
+      fetchStarted.countDown();
+      Uninterruptibles.awaitUninterruptibly(fetchBlocked);
+      throw new IOException("failed to read page");
+    }));
+    fetchStarted.await();
+    Future<ByteBuffer> waiter = mExecutor.submit(() -> mCoalescer.read(PAGE_ID,
+        () -> ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(PAGE_SIZE))));
+    fetchBlocked.countDown();
+    Exception e = assertThrows(Exception.class, leader::get);
+    assertTrue(e.getCause() instanceof IOException);
+    // the waiter fetches the page by itself instead of failing with the leader
+    assertTrue(BufferUtils.equalIncreasingByteBuffer(0, PAGE_SIZE, waiter.get()));
+    assertEquals(0, mCoalescer.getInFlightCount());
+  }
+
+  @Test
+  public void readReturnsIndependentBuffers() throws Exception {
+    ByteBuffer first = mCoalescer.read(PAGE_ID,
+        () -> ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(PAGE_SIZE)));
+    first.position(PAGE_SIZE / 2);
+    ByteBuffer second = mCoalescer.read(PAGE_ID,
+        () -> ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(PAGE_SIZE)));
+    assertEquals(PAGE_SIZE, second.remaining());
+    assertTrue(first.isReadOnly());
+  }
+}
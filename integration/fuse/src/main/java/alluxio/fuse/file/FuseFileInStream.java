@@ -16,6 +16,7 @@ import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
 import alluxio.concurrent.LockMode;
+import alluxio.conf.PropertyKey;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.PreconditionMessage;
 import alluxio.exception.runtime.AlluxioRuntimeException;
@@ -24,25 +25,47 @@ import alluxio.exception.runtime.NotFoundRuntimeException;
 import alluxio.exception.runtime.UnimplementedRuntimeException;
 import alluxio.fuse.AlluxioFuseUtils;
 import alluxio.fuse.lock.FuseReadWriteLockManager;
+import alluxio.grpc.OpenFilePOptions;
 import alluxio.resource.CloseableResource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.io.Closer;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * An implementation for {@link FuseFileStream} for read only operations against an Alluxio uri.
+ *
+ * Concurrent reads are served by different underlying streams, opened on demand up to
+ * {@link PropertyKey#FUSE_READ_STREAMS_PER_FILE}. A read prefers an idle stream positioned at its
+ * offset, so that each sequential reader keeps reading from the same stream.
  */
 @ThreadSafe
 public class FuseFileInStream implements FuseFileStream {
-  private final FileInStream mInStream;
+  private final FileSystem mFileSystem;
+  private final URIStatus mStatus;
   private final FileStatus mFileStatus;
   private final AlluxioURI mURI;
   private final CloseableResource<Lock> mLockResource;
+  private final int mMaxStreams;
+  /** All the streams opened, including the ones being read from. */
+  @GuardedBy("this")
+  private final List<FileInStream> mStreams = new ArrayList<>();
+  /** Streams not being read from, the most recently used last. */
+  @GuardedBy("this")
+  private final Deque<FileInStream> mIdleStreams = new ArrayDeque<>();
+  /** Number of streams being opened. */
+  @GuardedBy("this")
+  private int mOpeningStreams = 0;
   private volatile boolean mClosed = false;
 
   /**
@@ -79,8 +102,7 @@ public class FuseFileInStream implements FuseFileStream {
 
       try {
         FileInStream is = fileSystem.openFile(uri);
-        return new FuseFileInStream(is, lockResource,
-            new FileStatus(status.get().getLength()), uri);
+        return new FuseFileInStream(fileSystem, is, lockResource, status.get(), uri);
       } catch (IOException | AlluxioException e) {
         throw new RuntimeException(e);
       }
@@ -90,16 +112,20 @@ public class FuseFileInStream implements FuseFileStream {
     }
   }
 
-  private FuseFileInStream(FileInStream inStream, CloseableResource<Lock> lockResource,
-      FileStatus fileStatus, AlluxioURI uri) {
-    mInStream = Preconditions.checkNotNull(inStream);
+  private FuseFileInStream(FileSystem fileSystem, FileInStream inStream,
+      CloseableResource<Lock> lockResource, URIStatus status, AlluxioURI uri) {
+    mFileSystem = Preconditions.checkNotNull(fileSystem);
     mLockResource = Preconditions.checkNotNull(lockResource);
-    mFileStatus = Preconditions.checkNotNull(fileStatus);
+    mStatus = Preconditions.checkNotNull(status);
+    mFileStatus = new FileStatus(status.getLength());
     mURI = Preconditions.checkNotNull(uri);
+    mMaxStreams = Math.max(1, fileSystem.getConf().getInt(PropertyKey.FUSE_READ_STREAMS_PER_FILE));
+    mStreams.add(Preconditions.checkNotNull(inStream));
+    mIdleStreams.add(inStream);
   }
 
   @Override
-  public synchronized int read(ByteBuffer buf, long size, long offset) {
+  public int read(ByteBuffer buf, long size, long offset) {
     Preconditions.checkArgument(size >= 0 && offset >= 0 && size <= buf.capacity(),
         PreconditionMessage.ERR_BUFFER_STATE.toString(), buf.capacity(), offset, size);
     if (size == 0) {
@@ -111,20 +137,100 @@ public class FuseFileInStream implements FuseFileStream {
     final int sz = (int) size;
     int totalRead = 0;
     int currentRead = 0;
+    FileInStream inStream = acquireStream(offset);
     try {
-      mInStream.seek(offset);
+      inStream.seek(offset);
       while (currentRead >= 0 && totalRead < sz) {
-        currentRead = mInStream.read(buf, totalRead, sz - totalRead);
+        currentRead = inStream.read(buf, totalRead, sz - totalRead);
         if (currentRead > 0) {
           totalRead += currentRead;
         }
       }
     } catch (IOException e) {
       throw AlluxioRuntimeException.from(e);
+    } finally {
+      releaseStream(inStream);
     }
     return totalRead;
   }
 
+  /**
+   * Takes an idle stream, opening a new one or waiting for one to be released if there are none.
+   *
+   * @param offset the offset to read from
+   * @return the stream to read with
+   */
+  private FileInStream acquireStream(long offset) {
+    synchronized (this) {
+      while (true) {
+        if (mClosed) {
+          throw new FailedPreconditionRuntimeException(String
+              .format("Cannot read from closed stream of path %s", mURI));
+        }
+        if (!mIdleStreams.isEmpty()) {
+          for (FileInStream stream : mIdleStreams) {
+            if (getPos(stream) == offset) {
+              mIdleStreams.remove(stream);
+              return stream;
+            }
+          }
+          return mIdleStreams.pollLast();
+        }
+        if (mStreams.size() + mOpeningStreams < mMaxStreams) {
+          mOpeningStreams++;
+          break;
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw AlluxioRuntimeException.from(e);
+        }
+      }
+    }
+    // open the stream without blocking the other reads
+    FileInStream stream = null;
+    try {
+      stream = mFileSystem.openFile(mStatus, OpenFilePOptions.getDefaultInstance());
+      return stream;
+    } catch (IOException | AlluxioException e) {
+      throw AlluxioRuntimeException.from(e);
+    } finally {
+      synchronized (this) {
+        mOpeningStreams--;
+        if (stream != null) {
+          mStreams.add(stream);
+        }
+        notifyAll();
+      }
+    }
+  }
+
+  private synchronized void releaseStream(FileInStream stream) {
+    if (mClosed) {
+      closeStream(stream);
+      return;
+    }
+    mIdleStreams.addLast(stream);
+    notifyAll();
+  }
+
+  private static long getPos(FileInStream stream) {
+    try {
+      return stream.getPos();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private static void closeStream(FileInStream stream) {
+    try {
+      stream.close();
+    } catch (IOException e) {
+      throw AlluxioRuntimeException.from(e);
+    }
+  }
+
   @Override
   public void write(ByteBuffer buf, long size, long offset) {
     throw new FailedPreconditionRuntimeException(String
@@ -151,12 +257,17 @@ public class FuseFileInStream implements FuseFileStream {
       return;
     }
     mClosed = true;
+    notifyAll();
+    // the lock is released last, after all the idle streams are closed even if some fail
+    Closer closer = Closer.create();
+    closer.register(mLockResource);
+    // streams being read from are closed when they are released
+    mIdleStreams.forEach(closer::register);
+    mIdleStreams.clear();
     try {
-      mInStream.close();
+      closer.close();
     } catch (IOException e) {
       throw AlluxioRuntimeException.from(e);
-    } finally {
-      mLockResource.close();
     }
   }
 }
@@ -24,6 +24,11 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This class includes the tests for {@link alluxio.fuse.file.FuseFileInStream}.
@@ -75,6 +80,36 @@ public class InStreamTest extends AbstractStreamTest {
     }
   }
 
+  @Test
+  public void concurrentRandomRead() throws Exception {
+    AlluxioURI alluxioURI = getTestFileUri();
+    writeIncreasingByteArrayToFile(alluxioURI, DEFAULT_FILE_LEN);
+    int numThreads = 8;
+    int readLen = DEFAULT_FILE_LEN / numThreads;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try (FuseFileStream inStream = createStream(alluxioURI)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < numThreads; i++) {
+        // each thread reads the ranges of the file in a different order
+        final int start = i;
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < numThreads; j++) {
+            int offset = ((start + j) % numThreads) * readLen;
+            ByteBuffer buffer = ByteBuffer.allocate(readLen);
+            Assert.assertEquals(readLen, inStream.read(buffer, readLen, offset));
+            Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(offset, readLen, buffer));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test (expected = FailedPreconditionRuntimeException.class)
   public void write() throws Exception {
     AlluxioURI alluxioURI = getTestFileUri();
@@ -0,0 +1,210 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.Constants;
+import alluxio.client.file.cache.evictor.LRUCacheEvictor;
+import alluxio.client.file.cache.filter.DefaultPageAdmissionFilter;
+import alluxio.client.file.cache.filter.TinyLfuPageAdmissionFilter;
+import alluxio.client.file.cache.store.PageStoreType;
+import alluxio.conf.Configuration;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.util.io.BufferUtils;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import site.ycsb.generator.ZipfianGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a page access trace through a {@link LocalCacheManager} to compare the hit ratio with
+ * and without a page admission filter. Each access reads the page and caches it on a miss, the
+ * same way {@link CacheManager#getAndLoad} does. The hit ratio is hits / (hits + misses) as
+ * reported by the secondary results.
+ *
+ * Without a trace file, a synthetic trace is generated which mixes accesses to a hot set of
+ * pages following a Zipfian distribution with sequential scans over pages never accessed again.
+ * A trace file has one "fileId,pageIndex" access per line.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@Threads(1)
+public class CacheAdmissionBench {
+  private static final int SYNTHETIC_TRACE_LENGTH = 1 << 20;
+  private static final int SCAN_LENGTH = 1024;
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+    @Param({"DefaultPageAdmissionFilter", "TinyLfuPageAdmissionFilter"})
+    public String mAdmissionFilter;
+
+    /** Path to the trace file, or empty to replay a synthetic trace. */
+    @Param({""})
+    public String mTrace;
+
+    @Param({"1024"})
+    public int mCacheSizeInPages;
+
+    @Param({"4096"})
+    public int mHotPages;
+
+    /** Fraction of the synthetic trace taken by scans. */
+    @Param({"0.5"})
+    public double mScanRatio;
+
+    @Param({"1024"})
+    public int mPageSize;
+
+    public LocalCacheManager mCacheManager;
+
+    public PageId[] mAccesses;
+
+    public AtomicInteger mNextAccess = new AtomicInteger();
+
+    public byte[] mPage;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      InstancedConfiguration conf = Configuration.copyGlobal();
+      conf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE, mPageSize);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_SIZE,
+          String.valueOf((long) mCacheSizeInPages * mPageSize));
+      conf.set(PropertyKey.USER_CLIENT_CACHE_STORE_TYPE, PageStoreType.MEM);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_EVICTOR_CLASS, LRUCacheEvictor.class.getName());
+      conf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED, false);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_ADMISSION_FILTER_CLASS,
+          mAdmissionFilter.equals("TinyLfuPageAdmissionFilter")
+              ? TinyLfuPageAdmissionFilter.class.getName()
+              : DefaultPageAdmissionFilter.class.getName());
+      CacheManagerOptions options = CacheManagerOptions.create(conf);
+      mCacheManager = LocalCacheManager.create(options, PageMetaStore.create(options));
+      CommonUtils.waitFor("cache manager to be ready",
+          () -> mCacheManager.state() == CacheManager.State.READ_WRITE,
+          WaitForOptions.defaults().setTimeoutMs(10 * Constants.SECOND_MS));
+      mPage = BufferUtils.getIncreasingByteArray(mPageSize);
+      mAccesses = mTrace.isEmpty() ? generateTrace() : readTrace();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+      mCacheManager.close();
+    }
+
+    private PageId[] readTrace() throws Exception {
+      List<PageId> accesses = new ArrayList<>();
+      for (String line : Files.readAllLines(Paths.get(mTrace), StandardCharsets.UTF_8)) {
+        line = line.trim();
+        if (line.isEmpty()) {
+          continue;
+        }
+        int separator = line.lastIndexOf(',');
+        accesses.add(new PageId(line.substring(0, separator).trim(),
+            Long.parseLong(line.substring(separator + 1).trim())));
+      }
+      return accesses.toArray(new PageId[0]);
+    }
+
+    private PageId[] generateTrace() {
+      ZipfianGenerator hot = new ZipfianGenerator(0, mHotPages - 1);
+      PageId[] accesses = new PageId[SYNTHETIC_TRACE_LENGTH];
+      // probability to start a scan such that scans take mScanRatio of the accesses
+      double scanProbability = mScanRatio / (SCAN_LENGTH * (1 - mScanRatio) + mScanRatio);
+      Random random = new Random(0);
+      long scanned = 0;
+      int i = 0;
+      while (i < accesses.length) {
+        if (random.nextDouble() < scanProbability) {
+          for (int j = 0; j < SCAN_LENGTH && i < accesses.length; j++) {
+            accesses[i++] = new PageId("scan", scanned++);
+          }
+        } else {
+          accesses[i++] = new PageId("hot", hot.nextValue());
+        }
+      }
+      return accesses;
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ThreadState {
+    public long mHits;
+
+    public long mMisses;
+
+    // not public, which would make it reported as a counter
+    private byte[] mBuffer;
+
+    @Setup(Level.Trial)
+    public void setup(CacheState cacheState) {
+      mBuffer = new byte[cacheState.mPageSize];
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      mHits = 0;
+      mMisses = 0;
+    }
+  }
+
+  @Benchmark
+  public void replay(CacheState cacheState, ThreadState threadState) {
+    int next = cacheState.mNextAccess.getAndIncrement() & Integer.MAX_VALUE;
+    PageId pageId = cacheState.mAccesses[next % cacheState.mAccesses.length];
+    if (cacheState.mCacheManager.get(pageId, cacheState.mPageSize, threadState.mBuffer, 0) > 0) {
+      threadState.mHits++;
+    } else {
+      threadState.mMisses++;
+      cacheState.mCacheManager.put(pageId, cacheState.mPage);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options argsCli = new CommandLineOptions(args);
+    Options opts = new OptionsBuilder()
+        .parent(argsCli)
+        .include(CacheAdmissionBench.class.getName())
+        .build();
+    new Runner(opts).run();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.Constants;
+import alluxio.client.file.cache.evictor.LRUCacheEvictor;
+import alluxio.client.file.cache.store.PageStoreType;
+import alluxio.conf.Configuration;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.util.io.BufferUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the throughput of cache hits in {@link LocalCacheManager} with the default page meta
+ * store, which takes the global metadata lock on every hit, and with the concurrent page meta
+ * store, which serves hits without it. Run through {@link #main} to sweep 1 to 128 threads.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class LocalCacheManagerHitBench {
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+    @Param({"false", "true"})
+    public boolean mConcurrentMetaStore;
+
+    @Param({"4096"})
+    public int mNumPages;
+
+    @Param({"4096"})
+    public int mPageSize;
+
+    public LocalCacheManager mCacheManager;
+
+    public PageId[] mPageIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      InstancedConfiguration conf = Configuration.copyGlobal();
+      conf.set(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE, mPageSize);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_SIZE,
+          String.valueOf(2L * mNumPages * mPageSize));
+      conf.set(PropertyKey.USER_CLIENT_CACHE_STORE_TYPE, PageStoreType.MEM);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_EVICTOR_CLASS, LRUCacheEvictor.class.getName());
+      conf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_RESTORE_ENABLED, false);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_ASYNC_WRITE_ENABLED, false);
+      conf.set(PropertyKey.USER_CLIENT_CACHE_META_STORE_CONCURRENT_ENABLED,
+          mConcurrentMetaStore);
+      CacheManagerOptions options = CacheManagerOptions.create(conf);
+      mCacheManager = LocalCacheManager.create(options, PageMetaStore.create(options));
+      CommonUtils.waitFor("cache manager to be ready",
+          () -> mCacheManager.state() == CacheManager.State.READ_WRITE,
+          WaitForOptions.defaults().setTimeoutMs(10 * Constants.SECOND_MS));
+
+      byte[] page = BufferUtils.getIncreasingByteArray(mPageSize);
+      mPageIds = new PageId[mNumPages];
+      for (int i = 0; i < mNumPages; i++) {
+        mPageIds[i] = new PageId("file" + (i % 16), i);
+        if (!mCacheManager.put(mPageIds[i], page)) {
+          throw new IllegalStateException("Failed to cache page " + mPageIds[i]);
+        }
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+      mCacheManager.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    public byte[] mBuffer;
+
+    @Setup(Level.Trial)
+    public void setup(CacheState cacheState) {
+      mBuffer = new byte[cacheState.mPageSize];
+    }
+  }
+
+  @Benchmark
+  public int getHit(CacheState cacheState, ThreadState threadState) {
+    PageId pageId =
+        cacheState.mPageIds[ThreadLocalRandom.current().nextInt(cacheState.mNumPages)];
+    return cacheState.mCacheManager.get(pageId, cacheState.mPageSize, threadState.mBuffer, 0);
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options argsCli = new CommandLineOptions(args);
+    for (int threads : THREAD_COUNTS) {
+      Options opts = new OptionsBuilder()
+          .parent(argsCli)
+          .include(LocalCacheManagerHitBench.class.getName())
+          .threads(threads)
+          .result(String.format("results-%d-threads.json", threads))
+          .resultFormat(ResultFormatType.JSON)
+          .build();
+      new Runner(opts).run();
+    }
+  }
+}
@@ -13,6 +13,8 @@ package alluxio.fsmaster;
 
 import alluxio.BaseFileStructure;
 import alluxio.BaseThreadState;
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
 import alluxio.security.authentication.AuthenticatedClientUser;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -38,7 +40,8 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Benchmarks for {@link alluxio.master.file.FileSystemMaster}.
+ * Benchmarks for {@link alluxio.master.file.FileSystemMaster}. Run with many threads, e.g.
+ * {@code -t 32}, to compare the contention of locked and optimistic reads on the inode tree.
  */
 @Fork(value = 1, jvmArgsPrepend = "-server")
 @Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
@@ -67,11 +70,15 @@ public class FileSystemMasterBench {
 
     @Param({"ZIPF"})
     public Distribution mDistribution;
+
+    @Param({"false", "true"})
+    public boolean mOptimisticRead;
     FileSystemMasterBase mBase = new FileSystemMasterBase();
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
       super.init(mDepth, mWidth, mFileCount, mDistribution);
+      Configuration.set(PropertyKey.MASTER_FILE_SYSTEM_OPTIMISTIC_READ_ENABLED, mOptimisticRead);
       mBase.init();
       mBase.createPathDepths(mDepth);
       for (int d = 0; d < mDepth + 1; d++) {
@@ -42,6 +42,7 @@ import alluxio.master.journal.NoopJournalContext;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.caching.CachingInodeStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.master.metrics.MetricsMaster;
 import alluxio.master.metrics.MetricsMasterFactory;
@@ -58,6 +59,7 @@ import java.util.function.Consumer;
 
 class InodeBenchBase {
   public static final String HEAP = "heap";
+  public static final String OFF_HEAP = "offHeap";
   public static final String ROCKS = "rocks";
   public static final String ROCKSCACHE = "rocksCache";
   private static final CreateDirectoryContext DIRECTORY_CONTEXT = CreateDirectoryContext
@@ -106,6 +108,11 @@ class InodeBenchBase {
             String.format("Heap inode store does not expect a configuration for rocksDB,"
                 + " instead should be %s", RocksBenchConfig.JAVA_CONFIG));
         return new HeapInodeStore();
+      case OFF_HEAP:
+        Preconditions.checkArgument(rocksConfig.equals(RocksBenchConfig.JAVA_CONFIG),
+            String.format("Off-heap inode store does not expect a configuration for rocksDB,"
+                + " instead should be %s", RocksBenchConfig.JAVA_CONFIG));
+        return new OffHeapInodeStore();
       case ROCKS:
         String dir =
             AlluxioTestDirectory.createTemporaryDirectory("inode-store-bench").getAbsolutePath();
@@ -11,6 +11,8 @@
 
 package alluxio.inode;
 
+import static alluxio.inode.InodeBenchBase.HEAP;
+import static alluxio.inode.InodeBenchBase.OFF_HEAP;
 import static alluxio.inode.InodeBenchBase.ROCKSCACHE;
 
 import alluxio.BaseFileStructure;
@@ -69,7 +71,7 @@ public class InodeBenchWrite {
     // is used in read benchmark to simulate different file access patterns
     @Param({"ZIPF"})
     public Distribution mDistribution;
-    @Param({ROCKSCACHE})
+    @Param({HEAP, OFF_HEAP, ROCKSCACHE})
     public String mType;
 
     @Param({RocksBenchConfig.JAVA_CONFIG})
@@ -20,6 +20,7 @@ import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.MutableInode;
 import alluxio.master.file.meta.MutableInodeDirectory;
 import alluxio.master.file.meta.MutableInodeFile;
+import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.proto.meta.InodeMeta;
 
@@ -42,6 +43,13 @@ public class RocksBenchBase {
   static final String NO_SER_READ = "noSerRead";
   static final String SER_NO_ALLOC_READ = "serNoAllocRead";
   static final String NO_SER_NO_ALLOC_READ = "noSerNoAllocRead";
+  // point lookups in the edges table, of existing children and of absent children
+  static final String EDGE_READ = "edgeRead";
+  static final String MISSING_EDGE_READ = "missingEdgeRead";
+
+  // the number of children of each directory of the edge benchmarks
+  static final int CHILDREN_PER_DIRECTORY = 100;
+  private static final int EDGE_WRITE_BATCH_SIZE = 10_000;
 
   private final RocksInodeStore mRocksInodeStore;
   // RocksDB resources managed by the RocksInodeStore, no need to close manually
@@ -118,6 +126,33 @@ public class RocksBenchBase {
     writeBytes(nxtId, threadCount, threadId, inode.toProto().toByteArray());
   }
 
+  void writeEdges(long count) {
+    // child i is named i in directory i / CHILDREN_PER_DIRECTORY
+    InodeStore.WriteBatch batch = mRocksInodeStore.createWriteBatch();
+    try {
+      for (long i = 0; i < count; i++) {
+        batch.addChild(i / CHILDREN_PER_DIRECTORY, Long.toString(i), i);
+        if ((i + 1) % EDGE_WRITE_BATCH_SIZE == 0) {
+          batch.commit();
+          batch.close();
+          batch = mRocksInodeStore.createWriteBatch();
+        }
+      }
+      batch.commit();
+    } finally {
+      batch.close();
+    }
+  }
+
+  Optional<Long> readEdge(long childId) {
+    return mRocksInodeStore.getChildId(childId / CHILDREN_PER_DIRECTORY, Long.toString(childId));
+  }
+
+  Optional<Long> readMissingEdge(long childId) {
+    // the directory exists but not the child, which the bloom filter can tell without a read
+    return mRocksInodeStore.getChildId(childId / CHILDREN_PER_DIRECTORY, "missing" + childId);
+  }
+
   long getWriteId(long nxtId, int threadCount, int threadId) {
     return (nxtId * threadCount) + threadId;
   }
@@ -39,6 +39,10 @@ import java.nio.charset.Charset;
  *     and uses block has indices for faster point lookups.
  *     - baseConfig - this is the same as javaConfig, except defined in a string
  *     representing a config file, allowing easy modifications.
+ *     - tunedConfig - this is javaConfig with the table options tuned for point
+ *     lookups: bloom filters on both tables, partitioned index and filters with
+ *     the top level and level 0 blocks pinned, and a block cache shared by the
+ *     inode and edge tables.
 
  */
 public class RocksBenchConfig {
@@ -47,9 +51,13 @@ public class RocksBenchConfig {
   static final String EMPTY_CONFIG = "emptyConfig";
   static final String BLOOM_CONFIG = "bloomConfig";
   static final String BASE_CONFIG = "baseConfig";
+  static final String TUNED_CONFIG = "tunedConfig";
 
   static void setRocksConfig(String confType, String dir,
                              InstancedConfiguration conf) throws IOException {
+    // only set by the tuned config
+    conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE);
+    conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER);
     switch (confType) {
       case EMPTY_CONFIG:
         resetConfig(false, dir, conf);
@@ -63,6 +71,9 @@ public class RocksBenchConfig {
       case BASE_CONFIG:
         setBaseConfig(dir, conf);
         break;
+      case TUNED_CONFIG:
+        setTunedConfig(conf);
+        break;
       default:
         throw new InvalidArgumentException(String.format(
             "Invalid RocksDB config type %s", confType));
@@ -83,13 +94,26 @@ public class RocksBenchConfig {
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOCK_INDEX);
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_INDEX);
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER);
-    conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_CACHE_SIZE);
+    conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_CACHE_SIZE);
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOCK_INDEX);
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_INDEX);
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOOM_FILTER);
     conf.unset(PropertyKey.MASTER_METASTORE_ROCKS_INODE_CACHE_SIZE);
   }
 
+  private static void setTunedConfig(InstancedConfiguration conf) throws IOException {
+    resetConfig(true, null, conf);
+    // the hash index of data blocks saves the binary search within a block on point lookups
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOCK_INDEX,
+        DataBlockIndexType.kDataBlockBinaryAndHash);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER, true);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOCK_INDEX,
+        DataBlockIndexType.kDataBlockBinaryAndHash);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOOM_FILTER, true);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_PARTITIONED_INDEX_FILTER, true);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_STORE_CACHE_SIZE, "128MB");
+  }
+
   private static void setBloomConfig(
       String dir, InstancedConfiguration conf) throws IOException {
     File confFile = new File(dir + "conf");
@@ -100,7 +124,7 @@ public class RocksBenchConfig {
         DataBlockIndexType.kDataBlockBinaryAndHash);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_INDEX, IndexType.kHashSearch);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER, true);
-    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_CACHE_SIZE, 64 * 1024 * 1024);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_CACHE_SIZE, 64 * 1024 * 1024);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOCK_INDEX,
         DataBlockIndexType.kDataBlockBinaryAndHash);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_INDEX, IndexType.kHashSearch);
@@ -118,7 +142,7 @@ public class RocksBenchConfig {
         DataBlockIndexType.kDataBlockBinarySearch);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_INDEX, IndexType.kBinarySearch);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_BLOOM_FILTER, false);
-    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_CACHE_SIZE, 8 * 1024 * 1024);
+    conf.set(PropertyKey.MASTER_METASTORE_ROCKS_EDGE_CACHE_SIZE, 8 * 1024 * 1024);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_BLOCK_INDEX,
         DataBlockIndexType.kDataBlockBinarySearch);
     conf.set(PropertyKey.MASTER_METASTORE_ROCKS_INODE_INDEX, IndexType.kBinarySearch);
@@ -11,6 +11,8 @@
 
 package alluxio.inode;
 
+import static alluxio.inode.RocksBenchBase.EDGE_READ;
+import static alluxio.inode.RocksBenchBase.MISSING_EDGE_READ;
 import static alluxio.inode.RocksBenchBase.NO_SER_NO_ALLOC_READ;
 import static alluxio.inode.RocksBenchBase.NO_SER_READ;
 import static alluxio.inode.RocksBenchBase.SER_NO_ALLOC_READ;
@@ -48,6 +50,11 @@ import java.io.IOException;
  * mUseZipf - if to use a Zipfian distribution when choosing the keys to read.
  *  The more likely keys to be read will be the ones written last,
  *  meaning that they will more likely be in the RocksDB memtable.
+ * mReadType - how inodes are read, or edgeRead and missingEdgeRead to instead look up
+ *  existing and absent children in the edges table, mFileCount being the number of edges.
+ *  Cold lookups on a large dataset, where most reads miss the block cache, are measured with
+ *  e.g. -p mReadType=edgeRead,missingEdgeRead -p mFileCount=100000000
+ *  -p mDistribution=UNIFORM -p mRocksConfig=javaConfig,tunedConfig
  * mRocksConfig - see {@link RocksBenchConfig}
  */
 public class RocksBenchRead {
@@ -78,7 +85,7 @@ public class RocksBenchRead {
     @Param({"false"})
     public boolean mIsDirectory;
 
-    @Param({RocksBenchConfig.JAVA_CONFIG})
+    @Param({RocksBenchConfig.JAVA_CONFIG, RocksBenchConfig.TUNED_CONFIG})
     public String mRocksConfig;
 
     RocksBenchBase mBase;
@@ -88,8 +95,12 @@ public class RocksBenchRead {
       Assert.assertTrue("mFileCount must be > 0", mFileCount > 0);
       super.init(0, mWidth, mFileCount, mDistribution);
 
-      MutableInode<?> inode = genInode(mIsDirectory);
       mBase = new RocksBenchBase(mRocksConfig);
+      if (mReadType.equals(EDGE_READ) || mReadType.equals(MISSING_EDGE_READ)) {
+        mBase.writeEdges(mFileCount);
+        return;
+      }
+      MutableInode<?> inode = genInode(mIsDirectory);
       for (long i = 0; i < mFileCount; i++) {
         mBase.writeInode(i, 1, 0, inode);
       }
@@ -119,6 +130,12 @@ public class RocksBenchRead {
         bh.consume(db.mBase.readInodeBytes(db.mFileCount - 1, id, 0, 1, 0,
             ts.mInodeRead));
         break;
+      case EDGE_READ:
+        bh.consume(db.mBase.readEdge(id % db.mFileCount));
+        break;
+      case MISSING_EDGE_READ:
+        bh.consume(db.mBase.readMissingEdge(id % db.mFileCount));
+        break;
       default:
         throw new RuntimeException("Unknown mReadType");
     }
@@ -163,7 +163,7 @@ public class RocksBenchReadWrite {
     @Param({"20"})
     public int mWritePercentage;
 
-    @Param({RocksBenchConfig.JAVA_CONFIG})
+    @Param({RocksBenchConfig.JAVA_CONFIG, RocksBenchConfig.TUNED_CONFIG})
     public String mRocksConfig;
 
     RocksBenchBase mBase;
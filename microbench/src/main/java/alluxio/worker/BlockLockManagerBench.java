@@ -0,0 +1,110 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker;
+
+import alluxio.worker.block.BlockLock;
+import alluxio.worker.block.BlockLockManager;
+import alluxio.worker.block.BlockLockType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput and the allocation rate of taking and releasing block locks through
+ * the {@link BlockLockManager}. Run with the GC profiler (enabled by {@link #main}) and compare
+ * the gc.alloc.rate.norm metric to see the bytes allocated per lock and unlock.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class BlockLockManagerBench {
+
+  @State(Scope.Benchmark)
+  public static class BenchParams {
+    /** Number of distinct blocks being locked, fewer blocks means more contention. */
+    @Param({"1", "1000"})
+    public int mBlocks;
+
+    public BlockLockManager mLockManager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      mLockManager = new BlockLockManager();
+    }
+  }
+
+  /**
+   * Each benchmark thread acts as its own session, as a session may not take a write lock on a
+   * block it already holds a lock on.
+   */
+  @State(Scope.Thread)
+  public static class ThreadParams {
+    private static final AtomicLong SESSION_ID_GEN = new AtomicLong();
+
+    public final long mSessionId = SESSION_ID_GEN.incrementAndGet();
+  }
+
+  @Benchmark
+  public long readLock(BenchParams params, ThreadParams threadParams) {
+    return lockAndUnlock(params, threadParams.mSessionId, BlockLockType.READ);
+  }
+
+  @Benchmark
+  public long writeLock(BenchParams params, ThreadParams threadParams) {
+    return lockAndUnlock(params, threadParams.mSessionId, BlockLockType.WRITE);
+  }
+
+  private static long lockAndUnlock(BenchParams params, long sessionId, BlockLockType type) {
+    long blockId = ThreadLocalRandom.current().nextInt(params.mBlocks);
+    try (BlockLock lock = params.mLockManager.acquireBlockLock(sessionId, blockId, type)) {
+      return lock.get();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options argsCli = new CommandLineOptions(args);
+    Options opts = new OptionsBuilder()
+        .parent(argsCli)
+        .include(BlockLockManagerBench.class.getName())
+        .addProfiler(GCProfiler.class)
+        .result("results.json")
+        .resultFormat(ResultFormatType.JSON)
+        .build();
+    new Runner(opts).run();
+  }
+}
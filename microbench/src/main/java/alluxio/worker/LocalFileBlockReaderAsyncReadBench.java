@@ -0,0 +1,159 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker;
+
+import alluxio.AlluxioTestDirectory;
+import alluxio.Constants;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.io.LocalFileBlockReader;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the chunk reads of {@link LocalFileBlockReader} done with blocking reads on the
+ * calling thread, like the block reader threads of the data server do by default, with the
+ * reads done by {@link LocalFileBlockReader#readAsync} on an executor, as enabled by
+ * alluxio.worker.network.block.reader.async.io.enabled. Each benchmark thread stands for a
+ * concurrent read request, waiting for its chunk before reading the next one.
+ *
+ * Drop the page cache between runs, e.g. with {@code echo 3 > /proc/sys/vm/drop_caches}, to
+ * measure disk reads rather than memory copies.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class LocalFileBlockReaderAsyncReadBench {
+  @State(Scope.Benchmark)
+  public static class BenchParams {
+    @Param({"false", "true"})
+    public boolean mAsync;
+
+    /** Number of threads of the executor performing the asynchronous reads. */
+    @Param({"16"})
+    public int mAsyncIoThreads;
+
+    @Param({"64"})
+    public int mBlocks;
+
+    @Param({"64"})
+    public int mBlockSizeMB;
+
+    @Param({"1024"})
+    public int mChunkSizeKB;
+
+    public File mDir;
+
+    public ExecutorService mAsyncIoExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      mDir = AlluxioTestDirectory.createTemporaryDirectory("async_read_bench");
+      byte[] data = new byte[mBlockSizeMB * Constants.MB];
+      ThreadLocalRandom.current().nextBytes(data);
+      for (int i = 0; i < mBlocks; i++) {
+        BufferUtils.writeBufferToFile(new File(mDir, String.valueOf(i)).getPath(), data);
+      }
+      mAsyncIoExecutor = Executors.newFixedThreadPool(mAsyncIoThreads);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+      mAsyncIoExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * The readers and the buffer of a benchmark thread, as block readers are not thread safe.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    public LocalFileBlockReader[] mReaders;
+
+    public ByteBuf mBuf;
+
+    @Setup(Level.Trial)
+    public void setup(BenchParams params) throws Exception {
+      mReaders = new LocalFileBlockReader[params.mBlocks];
+      for (int i = 0; i < params.mBlocks; i++) {
+        mReaders[i] = new LocalFileBlockReader(new File(params.mDir, String.valueOf(i)).getPath(),
+            params.mAsync ? params.mAsyncIoExecutor : null);
+      }
+      int chunkSize = params.mChunkSizeKB * Constants.KB;
+      mBuf = Unpooled.directBuffer(chunkSize, chunkSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+      for (LocalFileBlockReader reader : mReaders) {
+        reader.close();
+      }
+      mBuf.release();
+    }
+  }
+
+  @Benchmark
+  public int readChunk(BenchParams params, ThreadState state) throws Exception {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    LocalFileBlockReader reader = state.mReaders[random.nextInt(params.mBlocks)];
+    int chunkSize = state.mBuf.capacity();
+    long offset = (long) random.nextInt(params.mBlockSizeMB * Constants.MB / chunkSize)
+        * chunkSize;
+    state.mBuf.clear();
+    if (params.mAsync) {
+      return reader.readAsync(state.mBuf, offset, chunkSize).get();
+    }
+    return state.mBuf.writeBytes((FileChannel) reader.getChannel(), offset, chunkSize);
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options argsCli = new CommandLineOptions(args);
+    Options opts = new OptionsBuilder()
+        .parent(argsCli)
+        .include(LocalFileBlockReaderAsyncReadBench.class.getName())
+        .result("results.json")
+        .resultFormat(ResultFormatType.JSON)
+        .build();
+    new Runner(opts).run();
+  }
+}
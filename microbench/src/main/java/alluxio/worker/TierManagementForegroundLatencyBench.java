@@ -0,0 +1,243 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker;
+
+import alluxio.AlluxioTestDirectory;
+import alluxio.Constants;
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
+import alluxio.worker.block.AllocateOptions;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.TieredBlockStore;
+import alluxio.worker.block.evictor.BlockTransferInfo;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.BlockStreamTracker;
+import alluxio.worker.block.io.BlockWriter;
+import alluxio.worker.block.management.BackoffStrategy;
+import alluxio.worker.block.management.BlockOperationResult;
+import alluxio.worker.block.management.BlockTransferExecutor;
+import alluxio.worker.block.management.DefaultStoreLoadTracker;
+import alluxio.worker.block.meta.BlockMeta;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures the latency of reading blocks from the top tier of a two-tier
+ * {@link TieredBlockStore}, while blocks are promoted to and demoted from the top tier by a
+ * {@link BlockTransferExecutor} like the tier management tasks do. Compare the latency without
+ * management (NONE) with the latency under the DIRECTORY and LATENCY backoff strategies, and with
+ * different utilization limits of the transfers.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class TierManagementForegroundLatencyBench {
+  private static final long READ_SESSION_ID = 1L;
+  private static final String TOP_TIER = Constants.MEDIUM_MEM;
+  private static final String BOTTOM_TIER = Constants.MEDIUM_SSD;
+
+  @State(Scope.Benchmark)
+  public static class BenchParams {
+    /** The backoff strategy of the management, or NONE to run without management. */
+    @Param({"NONE", "DIRECTORY", "LATENCY"})
+    public String mManagement;
+
+    /** The max fraction of time each concurrent transfer moves blocks. */
+    @Param({"1.0", "0.5"})
+    public double mUtilization;
+
+    @Param({"100"})
+    public int mReadBlocks;
+
+    @Param({"100"})
+    public int mMovedBlocks;
+
+    @Param({"1024"})
+    public int mBlockSizeKB;
+
+    public TieredBlockStore mStore;
+
+    private final AtomicBoolean mStopped = new AtomicBoolean();
+
+    private DefaultStoreLoadTracker mLoadTracker;
+    private ExecutorService mTransferThreads;
+    private Thread mManagementThread;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVELS, 2);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_ALIAS, TOP_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_DIRS_PATH,
+          AlluxioTestDirectory.createTemporaryDirectory("top_tier").getAbsolutePath());
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_DIRS_MEDIUMTYPE, TOP_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_DIRS_QUOTA, "4GB");
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_ALIAS, BOTTOM_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_DIRS_PATH,
+          AlluxioTestDirectory.createTemporaryDirectory("bottom_tier").getAbsolutePath());
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_DIRS_MEDIUMTYPE, BOTTOM_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_DIRS_QUOTA, "4GB");
+      // the blocks are moved by the benchmark instead of the tier management tasks
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_TIER_ALIGN_ENABLED, false);
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_TIER_PROMOTE_ENABLED, false);
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_TIER_SWAP_RESTORE_ENABLED, false);
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_LOAD_DETECTION_COOL_DOWN_TIME, "1sec");
+      mStore = new TieredBlockStore();
+
+      byte[] data = new byte[mBlockSizeKB * Constants.KB];
+      ThreadLocalRandom.current().nextBytes(data);
+      for (long blockId = 0; blockId < mReadBlocks; blockId++) {
+        createBlock(blockId, data, TOP_TIER);
+      }
+      for (long blockId = mReadBlocks; blockId < mReadBlocks + mMovedBlocks; blockId++) {
+        createBlock(blockId, data, BOTTOM_TIER);
+      }
+
+      if (!mManagement.equals("NONE")) {
+        Configuration.set(PropertyKey.WORKER_MANAGEMENT_BACKOFF_STRATEGY,
+            BackoffStrategy.valueOf(mManagement));
+        mLoadTracker = new DefaultStoreLoadTracker();
+        mTransferThreads = Executors.newFixedThreadPool(2);
+        BlockTransferExecutor transferExecutor = new BlockTransferExecutor(mTransferThreads,
+            mStore, mLoadTracker, 2, mUtilization);
+        mManagementThread = new Thread(() -> moveBlocks(transferExecutor),
+            "management-bench");
+        mManagementThread.setDaemon(true);
+        mManagementThread.start();
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+      mStopped.set(true);
+      if (mManagementThread != null) {
+        mManagementThread.join();
+        mTransferThreads.shutdownNow();
+        BlockStreamTracker.unregisterListener(mLoadTracker);
+      }
+      mStore.close();
+      Configuration.reloadProperties();
+    }
+
+    private void createBlock(long blockId, byte[] data, String tier) throws Exception {
+      mStore.createBlock(READ_SESSION_ID, blockId, AllocateOptions.forCreate(data.length,
+          BlockStoreLocation.anyDirInTier(tier)));
+      try (BlockWriter writer = mStore.createBlockWriter(READ_SESSION_ID, blockId)) {
+        writer.append(ByteBuffer.wrap(data));
+      }
+      mStore.commitBlock(READ_SESSION_ID, blockId, false);
+    }
+
+    /**
+     * Keeps promoting the moved blocks to the top tier and demoting them back until stopped.
+     */
+    private void moveBlocks(BlockTransferExecutor transferExecutor) {
+      boolean promote = true;
+      while (!mStopped.get()) {
+        BlockStoreLocation dst = BlockStoreLocation.anyDirInTier(promote ? TOP_TIER : BOTTOM_TIER);
+        List<BlockTransferInfo> transfers = new ArrayList<>(mMovedBlocks);
+        for (long blockId = mReadBlocks; blockId < mReadBlocks + mMovedBlocks; blockId++) {
+          Optional<BlockMeta> meta = mStore.getVolatileBlockMeta(blockId);
+          if (meta.isPresent() && !meta.get().getBlockLocation().belongsTo(dst)) {
+            transfers.add(BlockTransferInfo.createMove(meta.get().getBlockLocation(), blockId,
+                dst));
+          }
+        }
+        BlockOperationResult result = transferExecutor.executeTransferList(transfers);
+        if (result.opCount() == result.backOffCount() + result.failCount()) {
+          try {
+            // every transfer backed off, wait for the user I/O to calm down
+            Thread.sleep(10);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+        if (transfers.isEmpty() || result.backOffCount() == 0) {
+          promote = !promote;
+        }
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadParams {
+    public ByteBuf mBuffer;
+
+    @Setup(Level.Trial)
+    public void setup(BenchParams params) {
+      mBuffer = Unpooled.buffer(params.mBlockSizeKB * Constants.KB);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+      mBuffer.release();
+    }
+  }
+
+  @Benchmark
+  public int readBlock(BenchParams params, ThreadParams threadParams) throws Exception {
+    long blockId = ThreadLocalRandom.current().nextInt(params.mReadBlocks);
+    ByteBuf buf = threadParams.mBuffer;
+    buf.clear();
+    try (BlockReader reader = params.mStore.createBlockReader(READ_SESSION_ID, blockId, 0)) {
+      while (buf.writableBytes() > 0 && reader.transferTo(buf) != -1) {
+        // keep reading until the block is fully read
+      }
+    }
+    return buf.readableBytes();
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options argsCli = new CommandLineOptions(args);
+    Options opts = new OptionsBuilder()
+        .parent(argsCli)
+        .include(TierManagementForegroundLatencyBench.class.getName())
+        .result("results.json")
+        .resultFormat(ResultFormatType.JSON)
+        .build();
+    new Runner(opts).run();
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker;
+
+import alluxio.AlluxioTestDirectory;
+import alluxio.Constants;
+import alluxio.conf.Configuration;
+import alluxio.conf.PropertyKey;
+import alluxio.worker.block.AllocateOptions;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.TieredBlockStore;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.BlockWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures the latency of opening blocks of a two-tier {@link TieredBlockStore}, while
+ * background threads keep moving other blocks between the tiers like the tier management tasks
+ * do. The blocks being read are never moved, so the latency only reflects the contention on the
+ * block metadata.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class TieredBlockStoreConcurrentReadBench {
+  private static final long READ_SESSION_ID = 1L;
+  private static final long MOVE_SESSION_ID = 2L;
+  private static final String TOP_TIER = Constants.MEDIUM_MEM;
+  private static final String BOTTOM_TIER = Constants.MEDIUM_SSD;
+
+  @State(Scope.Benchmark)
+  public static class BenchParams {
+    /** Number of threads moving blocks between the tiers. */
+    @Param({"0", "1", "4"})
+    public int mMoverThreads;
+
+    @Param({"1000"})
+    public int mReadBlocks;
+
+    @Param({"100"})
+    public int mMovedBlocks;
+
+    @Param({"64"})
+    public int mBlockSizeKB;
+
+    public TieredBlockStore mStore;
+
+    private final AtomicBoolean mStopped = new AtomicBoolean();
+
+    private ExecutorService mMovers;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVELS, 2);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_ALIAS, TOP_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_DIRS_PATH,
+          AlluxioTestDirectory.createTemporaryDirectory("top_tier").getAbsolutePath());
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_DIRS_MEDIUMTYPE, TOP_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL0_DIRS_QUOTA, "1GB");
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_ALIAS, BOTTOM_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_DIRS_PATH,
+          AlluxioTestDirectory.createTemporaryDirectory("bottom_tier").getAbsolutePath());
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_DIRS_MEDIUMTYPE, BOTTOM_TIER);
+      Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_DIRS_QUOTA, "1GB");
+      // the blocks are moved by the benchmark instead of the tier management tasks
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_TIER_ALIGN_ENABLED, false);
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_TIER_PROMOTE_ENABLED, false);
+      Configuration.set(PropertyKey.WORKER_MANAGEMENT_TIER_SWAP_RESTORE_ENABLED, false);
+      mStore = new TieredBlockStore();
+
+      byte[] data = new byte[mBlockSizeKB * Constants.KB];
+      ThreadLocalRandom.current().nextBytes(data);
+      for (long blockId = 0; blockId < mReadBlocks + mMovedBlocks; blockId++) {
+        createBlock(blockId, data);
+      }
+
+      mMovers = Executors.newFixedThreadPool(Math.max(mMoverThreads, 1));
+      for (int i = 0; i < mMoverThreads; i++) {
+        int mover = i;
+        mMovers.submit(() -> moveBlocks(mover));
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+      mStopped.set(true);
+      mMovers.shutdown();
+      mMovers.awaitTermination(1, TimeUnit.MINUTES);
+      mStore.close();
+      Configuration.reloadProperties();
+    }
+
+    private void createBlock(long blockId, byte[] data) throws Exception {
+      mStore.createBlock(READ_SESSION_ID, blockId, AllocateOptions.forCreate(data.length,
+          BlockStoreLocation.anyDirInTier(TOP_TIER)));
+      try (BlockWriter writer = mStore.createBlockWriter(READ_SESSION_ID, blockId)) {
+        writer.append(ByteBuffer.wrap(data));
+      }
+      mStore.commitBlock(READ_SESSION_ID, blockId, false);
+    }
+
+    /**
+     * Moves the blocks owned by a mover back and forth between the tiers until stopped.
+     *
+     * @param mover the index of the mover
+     */
+    private void moveBlocks(int mover) {
+      boolean down = true;
+      while (!mStopped.get()) {
+        BlockStoreLocation location =
+            BlockStoreLocation.anyDirInTier(down ? BOTTOM_TIER : TOP_TIER);
+        for (long blockId = mReadBlocks + mover; blockId < mReadBlocks + mMovedBlocks
+            && !mStopped.get(); blockId += mMoverThreads) {
+          try {
+            mStore.moveBlock(MOVE_SESSION_ID, blockId, AllocateOptions.forTierMove(location));
+          } catch (Exception e) {
+            // keep moving the other blocks
+          }
+        }
+        down = !down;
+      }
+    }
+  }
+
+  @Benchmark
+  public long openBlock(BenchParams params) throws Exception {
+    long blockId = ThreadLocalRandom.current().nextInt(params.mReadBlocks);
+    try (BlockReader reader = params.mStore.createBlockReader(READ_SESSION_ID, blockId, 0)) {
+      return reader.getLength();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options argsCli = new CommandLineOptions(args);
+    Options opts = new OptionsBuilder()
+        .parent(argsCli)
+        .include(TieredBlockStoreConcurrentReadBench.class.getName())
+        .result("results.json")
+        .resultFormat(ResultFormatType.JSON)
+        .build();
+    new Runner(opts).run();
+  }
+}
@@ -26,11 +26,16 @@ public enum FuseIOOperation {
    */
   LIST_FILE("ListFile"),
 
-  /*Now only streaming reading is supported, that is, sequentially read the written files. */
+  /*Except for RandomRead, the written files are read sequentially. */
   /**
    * Each job worker, or client, will read the files it wrote through local Fuse mount point.
    */
   LOCAL_READ("LocalRead"),
+  /**
+   * All the threads of a job worker read random ranges of the first file it wrote, through a
+   * single file opened once, to test concurrent positioned reads of the same file.
+   */
+  RANDOM_READ("RandomRead"),
   /**
    * Each job worker will evenly read the files written by other job workers via local Fuse mount
    * point.
@@ -47,6 +52,7 @@ public enum FuseIOOperation {
   public static boolean isRead(FuseIOOperation operation) {
     switch (operation) {
       case LOCAL_READ: // fall through
+      case RANDOM_READ: // fall through
       case REMOTE_READ: // fall through
       case CLUSTER_READ:
         return true;
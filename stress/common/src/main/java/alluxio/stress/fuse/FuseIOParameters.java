@@ -22,8 +22,8 @@ import com.beust.jcommander.Parameter;
  */
 public final class FuseIOParameters extends Parameters {
   @Parameter(names = {"--operation"},
-      description = "The operation to perform. Options are [LocalRead, RemoteRead, ClusterRead, "
-          + "Write, ListFile], where \"ListFile\" are for testing read performance, "
+      description = "The operation to perform. Options are [LocalRead, RandomRead, RemoteRead, "
+          + "ClusterRead, Write, ListFile], where \"ListFile\" are for testing read performance, "
           + "not individual tests.",
       converter = FuseIOOperationConverter.class,
       required = true)
@@ -36,8 +36,11 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -98,6 +102,9 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
             + "through local Fuse mount point.",
         "ClusterRead: Read <numAllFiles>/<numJobWorker> number of files evenly from all "
             + "directories created by all job workers through local Fuse mount point.",
+        "RandomRead: All threads of each job worker read random ranges of buffer size from the "
+            + "first file it wrote, opened once and shared by the threads, to test how "
+            + "concurrent positioned reads of a single open file scale with the threads.",
         "Optionally one can set alluxio.user.metadata.cache.enabled=true when mounting Alluxio "
             + "Fuse and run \"ListFile\" before \"Read\" to cache the metadata of the test files "
             + "and eliminate the effect of metadata operations while getting the reading "
@@ -122,6 +129,10 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
         "$ bin/alluxio runClass alluxio.stress.cli.fuse.FuseIOBench --operation ClusterRead \\",
         "--local-path /mnt/alluxio-fuse/FuseIOTest --num-dirs 32 --num-files-per-dir 10 \\",
         "--file-size 100m --threads 16 --warmup 5s --duration 30s --cluster",
+        "# 16 threads of each worker read random 128KB ranges of a single file",
+        "$ bin/alluxio runClass alluxio.stress.cli.fuse.FuseIOBench --operation RandomRead \\",
+        "--local-path /mnt/alluxio-fuse/FuseIOTest --buffer-size 128k --threads 16 \\",
+        "--warmup 5s --duration 30s --cluster",
         ""
     ));
   }
@@ -134,7 +145,8 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
       return;
     }
     if (mParameters.mThreads > mParameters.mNumDirs
-        && mParameters.mOperation != FuseIOOperation.LIST_FILE) {
+        && mParameters.mOperation != FuseIOOperation.LIST_FILE
+        && mParameters.mOperation != FuseIOOperation.RANDOM_READ) {
       throw new IllegalArgumentException(
           "Some of the threads are not being used. Please set the number of directories to "
               + "be at least the number of threads, preferably a multiple of it.");
@@ -209,17 +221,28 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
       startMs = CommonUtils.getCurrentMs() + 10000;
     }
     long endMs = startMs + warmupMs + durationMs;
-    BenchContext context = new BenchContext(startMs, endMs);
+    FileChannel sharedFile = null;
+    if (mParameters.mOperation == FuseIOOperation.RANDOM_READ) {
+      sharedFile = FileChannel.open(Paths.get(String.format(TEST_FILE_STRING_FORMAT,
+          mParameters.mLocalPath, mBaseParameters.mId, 0, 0)), StandardOpenOption.READ);
+    }
+    BenchContext context = new BenchContext(startMs, endMs, sharedFile);
 
     List<Callable<Void>> callables = new ArrayList<>(mParameters.mThreads);
     for (int i = 0; i < mParameters.mThreads; i++) {
       callables.add(new BenchThread(context, i));
     }
-    service.invokeAll(callables, FormatUtils.parseTimeSize(mBaseParameters.mBenchTimeout),
-        TimeUnit.MILLISECONDS);
-
-    service.shutdownNow();
-    service.awaitTermination(30, TimeUnit.SECONDS);
+    try {
+      service.invokeAll(callables, FormatUtils.parseTimeSize(mBaseParameters.mBenchTimeout),
+          TimeUnit.MILLISECONDS);
+
+      service.shutdownNow();
+      service.awaitTermination(30, TimeUnit.SECONDS);
+    } finally {
+      if (sharedFile != null) {
+        sharedFile.close();
+      }
+    }
 
     FuseIOTaskResult result = context.getResult();
 
@@ -292,13 +315,16 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
   private static final class BenchContext {
     private final long mStartMs;
     private final long mEndMs;
+    /** The file read by all the threads for RandomRead, null for other operations. */
+    private final FileChannel mSharedFile;
 
     /** The results. Access must be synchronized for thread safety. */
     private FuseIOTaskResult mFuseIOTaskResult;
 
-    public BenchContext(long startMs, long endMs) {
+    public BenchContext(long startMs, long endMs, FileChannel sharedFile) {
       mStartMs = startMs;
       mEndMs = endMs;
+      mSharedFile = sharedFile;
     }
 
     public long getStartMs() {
@@ -309,6 +335,10 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
       return mEndMs;
     }
 
+    public FileChannel getSharedFile() {
+      return mSharedFile;
+    }
+
     public synchronized void mergeThreadResult(FuseIOTaskResult threadResult) {
       if (mFuseIOTaskResult == null) {
         mFuseIOTaskResult = threadResult;
@@ -394,11 +424,41 @@ public class FuseIOBench extends Benchmark<FuseIOTaskResult> {
           remoteOrClusterRead();
           break;
         }
+        case RANDOM_READ: {
+          randomRead();
+          break;
+        }
         default:
           throw new IllegalStateException("Unknown operation: " + mParameters.mOperation);
       }
     }
 
+    /**
+     * Reads random ranges of the shared file with positioned reads until the bench ends. The
+     * ranges are aligned to the buffer size.
+     */
+    private void randomRead() throws IOException {
+      FileChannel file = mContext.getSharedFile();
+      ByteBuffer buffer = ByteBuffer.wrap(mBuffer);
+      long numRanges = Math.max(1, file.size() / mBuffer.length);
+      while (!Thread.currentThread().isInterrupted()) {
+        if (CommonUtils.getCurrentMs() > mContext.getEndMs()) {
+          if (mFuseIOTaskResult.getEndMs() == 0L) {
+            mFuseIOTaskResult.setEndMs(CommonUtils.getCurrentMs());
+          }
+          return;
+        }
+        buffer.clear();
+        long offset = ThreadLocalRandom.current().nextLong(numRanges) * mBuffer.length;
+        int bytesRead = file.read(buffer, offset);
+        // start recording after the warmup
+        if (bytesRead > 0 && CommonUtils.getCurrentMs() > mFuseIOTaskResult.getRecordStartMs()
+            && CommonUtils.getCurrentMs() < mContext.getEndMs()) {
+          mFuseIOTaskResult.incrementIOBytes(bytesRead);
+        }
+      }
+    }
+
     private void listFile() {
       for (String nameJobWorkerDir : mJobWorkerDirNames) {
         for (int testDirId = mThreadId; testDirId < mParameters.mNumDirs;